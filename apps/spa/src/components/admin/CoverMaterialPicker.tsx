@@ -81,7 +81,7 @@ export default function CoverMaterialPicker({
                             {selected.usedAsCover ? '已使用' : '未使用'}
                         </Badge>
                     </div>
-                    <img src={resolveMediaUrl(selected.url)} alt="封面预览" className="h-32 w-full rounded-md object-cover md:w-72" />
+                    <img src={resolveMediaUrl(selected.variants?.card || selected.url)} alt="封面预览" className="h-32 w-full rounded-md object-cover md:w-72" />
                     <div className="mt-2">
                         <Button
                             type="button"
@@ -112,7 +112,7 @@ export default function CoverMaterialPicker({
                         onClick={() => onChange(item.photoId)}
                         disabled={disabled}
                     >
-                        <img src={resolveMediaUrl(item.url)} alt={`素材 ${item.photoId}`} className="h-24 w-full object-cover" />
+                        <img src={resolveMediaUrl(item.variants?.thumb || item.url)} alt={`素材 ${item.photoId}`} className="h-24 w-full object-cover" />
                         <div className="flex items-center justify-between bg-[color:var(--paper)] px-2 py-1 text-[11px] text-[color:var(--ink-soft)]">
                             <span>#{item.photoId}</span>
                             <span>{item.usedAsCover ? '已使用' : '未使用'}</span>
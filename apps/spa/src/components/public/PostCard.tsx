@@ -12,6 +12,8 @@ export interface PostCardProps {
     slug: string
     categorySlugPath?: string
     coverImage?: string
+    coverWidth?: number | null
+    coverHeight?: number | null
     tags?: string[]
     publishDate?: string
     readTime?: string
@@ -26,6 +28,8 @@ export function PostCard({
     slug,
     categorySlugPath,
     coverImage,
+    coverWidth,
+    coverHeight,
     tags = [],
     publishDate,
     readTime,
@@ -57,6 +61,8 @@ export function PostCard({
                             <img
                                 src={coverImage}
                                 alt={title}
+                                width={coverWidth ?? undefined}
+                                height={coverHeight ?? undefined}
                                 className="absolute inset-0 h-full w-full object-cover transition-transform duration-700 group-hover:scale-[1.03]"
                             />
                         ) : (
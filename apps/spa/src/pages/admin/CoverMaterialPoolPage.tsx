@@ -6,7 +6,7 @@ import { Input } from '@repo/ui/components/ui/input'
 import { Badge } from '@repo/ui/components/ui/badge'
 import { api, REQUEST_TIMEOUT, unwrapResponse } from '../../lib/api'
 import type { ApiResponse } from '../../lib/api'
-import type { CoverMaterial, PageResult } from '../../types/api'
+import type { CoverMaterial, CoverMaterialUploadResult, PageResult } from '../../types/api'
 import { resolveMediaUrl } from '../../lib/mediaUrl'
 
 const PAGE_SIZE = 24
@@ -54,7 +54,7 @@ const uploadBatchWithRetry = async (batch: File[]) => {
         const formData = new FormData()
         batch.forEach((file) => formData.append('files', file))
         try {
-            const res = await api.post<ApiResponse<CoverMaterial[]>>('/cover-materials/upload', formData, {
+            const res = await api.post<ApiResponse<CoverMaterialUploadResult[]>>('/cover-materials/upload', formData, {
                 timeout: REQUEST_TIMEOUT.upload,
             })
             return unwrapResponse(res.data)
@@ -100,7 +100,7 @@ export default function CoverMaterialPoolPage() {
         mutationFn: async (files: File[]) => {
             const batches = buildUploadBatches(files)
             let cursor = 0
-            const uploaded: CoverMaterial[] = []
+            const uploaded: CoverMaterialUploadResult[] = []
 
             const worker = async () => {
                 while (true) {
@@ -118,8 +118,12 @@ export default function CoverMaterialPoolPage() {
             await Promise.all(Array.from({ length: workerCount }, () => worker()))
             return uploaded
         },
-        onSuccess: () => {
+        onSuccess: (results) => {
             qc.invalidateQueries({ queryKey: ['cover-material-list'] })
+            const failed = results.filter((result) => result.status === 'FAILED')
+            if (failed.length > 0) {
+                alert(`${failed.length} 个文件上传失败：\n${failed.map((result) => `${result.filename || '未命名文件'}：${result.error || '未知错误'}`).join('\n')}`)
+            }
         },
         onError: (error: any) => {
             alert(error?.response?.data?.message || error?.message || '素材上传失败')
@@ -213,7 +217,7 @@ export default function CoverMaterialPoolPage() {
                                     key={item.photoId}
                                     className="overflow-hidden rounded-xl border border-[color:var(--card-border)] bg-[color:var(--paper)]"
                                 >
-                                    <img src={resolveMediaUrl(item.url)} alt={`素材 ${item.photoId}`} className="h-28 w-full object-cover" />
+                                    <img src={resolveMediaUrl(item.variants?.thumb || item.url)} alt={`素材 ${item.photoId}`} className="h-28 w-full object-cover" />
                                     <div className="space-y-2 p-2">
                                         <div className="flex items-center justify-between text-xs text-[color:var(--ink-soft)]">
                                             <span>#{item.photoId}</span>
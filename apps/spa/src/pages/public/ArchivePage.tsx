@@ -25,7 +25,7 @@ const formatDate = (value?: string) => {
     return Number.isNaN(date.getTime()) ? '待发布' : date.toLocaleDateString()
 }
 
-const getArticleCover = (post: ArticleSummary) => resolveMediaUrl(post.coverImage) || coverImageFor(post.id)
+const getArticleCover = (post: ArticleSummary) => resolveMediaUrl(post.coverVariants?.card || post.coverImage) || coverImageFor(post.id)
 
 const normalizePage = (value: string | null) => {
     const page = Number(value ?? '1')
@@ -336,7 +336,9 @@ export default function ArchivePage() {
                                         excerpt={post.summary}
                                         slug={post.slug}
                                         categorySlugPath={post.category?.slugPath}
-                                        coverImage={resolveMediaUrl(post.coverImage) || coverImageFor(post.id)}
+                                        coverImage={resolveMediaUrl(post.coverVariants?.card || post.coverImage) || coverImageFor(post.id)}
+                                        coverWidth={post.coverImage ? post.coverWidth : undefined}
+                                        coverHeight={post.coverImage ? post.coverHeight : undefined}
                                         tags={post.tags?.map((tag) => tag.name)}
                                         publishDate={post.publishedAt}
                                         views={post.views}
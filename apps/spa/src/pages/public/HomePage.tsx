@@ -130,7 +130,7 @@ export default function HomePage() {
     const fallbackHeroPost = featuredPosts.length ? undefined : latestPosts[0]
     const activeHeroPost = featuredPosts.length ? featuredPosts[featuredIndex] : fallbackHeroPost
     const featuredImage = activeHeroPost
-        ? resolveMediaUrl(activeHeroPost.coverImage) || coverImageFor(activeHeroPost.id)
+        ? resolveMediaUrl(activeHeroPost.coverVariants?.hero || activeHeroPost.coverImage) || coverImageFor(activeHeroPost.id)
         : currentImage
     const visibleLatestPosts = useMemo(
         () =>
@@ -561,7 +561,9 @@ export default function HomePage() {
                                         excerpt={post.summary}
                                         slug={post.slug}
                                         categorySlugPath={post.category?.slugPath}
-                                        coverImage={resolveMediaUrl(post.coverImage) || coverImageFor(post.id)}
+                                        coverImage={resolveMediaUrl(post.coverVariants?.card || post.coverImage) || coverImageFor(post.id)}
+                                        coverWidth={post.coverImage ? post.coverWidth : undefined}
+                                        coverHeight={post.coverImage ? post.coverHeight : undefined}
                                         tags={post.tags?.map((tag) => tag.name)}
                                         publishDate={post.publishedAt}
                                         views={post.views}
@@ -14,6 +14,12 @@ export interface Tag {
     name: string;
 }
 
+export interface ImageVariants {
+    thumb: string;
+    card: string;
+    hero: string;
+}
+
 export interface ArticleSummary {
     id: number;
     title: string;
@@ -21,6 +27,9 @@ export interface ArticleSummary {
     summary?: string;
     coverPhotoId?: number | null;
     coverImage?: string;
+    coverVariants?: ImageVariants | null;
+    coverWidth?: number | null;
+    coverHeight?: number | null;
     status: string;
     featuredLevel?: number;
     views: number;
@@ -101,6 +110,16 @@ export interface CoverMaterial {
     url: string;
     uploadedAt?: string;
     usedAsCover: boolean;
+    variants?: ImageVariants | null;
+    width?: number | null;
+    height?: number | null;
+}
+
+export interface CoverMaterialUploadResult {
+    filename?: string;
+    status: 'CREATED' | 'DUPLICATE' | 'FAILED';
+    material?: CoverMaterial;
+    error?: string;
 }
 
 export interface UpdatePasswordRequest {
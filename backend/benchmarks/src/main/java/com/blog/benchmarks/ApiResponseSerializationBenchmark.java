@@ -0,0 +1,69 @@
+package com.blog.benchmarks;
+
+import com.blog.common.ApiResponse;
+import com.blog.dto.article.ArticleSummaryDTO;
+import com.blog.dto.article.ArticleSummaryRowDTO;
+import com.blog.entity.Article;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Jackson serialization of a public list page, the body of {@code GET /api/articles}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ApiResponseSerializationBenchmark {
+
+    @Param({"10", "50"})
+    public int pageSize;
+
+    private ObjectWriter writer;
+    private ApiResponse<Page<ArticleSummaryDTO>> response;
+
+    @Setup
+    public void setUp() {
+        // Same defaults Spring MVC applies to its message converter (JavaTimeModule, no FAIL_ON_EMPTY_BEANS).
+        ObjectMapper mapper = Jackson2ObjectMapperBuilder.json().build();
+        writer = mapper.writer();
+
+        List<Article> articles = new ArrayList<>(pageSize);
+        List<ArticleSummaryRowDTO> rows = new ArrayList<>(pageSize);
+        for (int i = 0; i < pageSize; i++) {
+            Article article = BenchmarkFixtures.article(i + 1L, 4, 0);
+            articles.add(article);
+            rows.add(BenchmarkFixtures.summaryRow(article));
+        }
+        List<ArticleSummaryDTO> content = BenchmarkFixtures.summaryAssembler(articles).toSummaries(rows);
+        PageRequest pageable = PageRequest.of(0, pageSize, Sort.by(Sort.Direction.DESC, "publishedAt"));
+        response = ApiResponse.success(new PageImpl<>(content, pageable, 1_000));
+    }
+
+    @Benchmark
+    public byte[] writePage() throws Exception {
+        return writer.writeValueAsBytes(response);
+    }
+}
@@ -0,0 +1,75 @@
+package com.blog.benchmarks;
+
+import com.blog.dto.article.ArticleDetailDTO;
+import com.blog.dto.article.ArticleSummaryDTO;
+import com.blog.dto.article.ArticleSummaryRowDTO;
+import com.blog.entity.Article;
+import com.blog.service.article.ArticleSummaryAssembler;
+import com.blog.service.impl.ArticleServiceImpl;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.lang.invoke.MethodHandle;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Mapping to list and detail payloads: {@link ArticleSummaryAssembler#toSummaries} over a page of
+ * projection rows, run for every list endpoint, and the entity-to-DTO mapping in
+ * {@link ArticleServiceImpl} run on detail reads.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ArticleConversionBenchmark {
+
+    private static final int PAGE_SIZE = 10;
+
+    @Param({"3", "12"})
+    public int tagCount;
+
+    private MethodHandle toDetail;
+    private ArticleServiceImpl service;
+    private ArticleSummaryAssembler assembler;
+    private List<ArticleSummaryRowDTO> rows;
+    private Article article;
+
+    @Setup
+    public void setUp() {
+        List<Article> page = new ArrayList<>(PAGE_SIZE);
+        rows = new ArrayList<>(PAGE_SIZE);
+        for (int i = 0; i < PAGE_SIZE; i++) {
+            Article pageArticle = BenchmarkFixtures.article(i + 1L, tagCount, 0);
+            page.add(pageArticle);
+            rows.add(BenchmarkFixtures.summaryRow(pageArticle));
+        }
+        assembler = BenchmarkFixtures.summaryAssembler(page);
+
+        service = BenchmarkFixtures.newWithNullDependencies(ArticleServiceImpl.class);
+        toDetail = BenchmarkFixtures.privateMethod(ArticleServiceImpl.class, "convertToDetailDTO", Article.class);
+        article = BenchmarkFixtures.article(42L, tagCount, 8_000);
+    }
+
+    @Benchmark
+    public List<ArticleSummaryDTO> toSummaries() {
+        return assembler.toSummaries(rows);
+    }
+
+    @Benchmark
+    public ArticleDetailDTO convertToDetailDTO() throws Throwable {
+        return (ArticleDetailDTO) toDetail.invoke(service, article);
+    }
+}
@@ -0,0 +1,118 @@
+package com.blog.benchmarks;
+
+import com.blog.dto.article.ArticleSummaryRowDTO;
+import com.blog.dto.article.ArticleTagRowDTO;
+import com.blog.entity.Article;
+import com.blog.entity.Category;
+import com.blog.entity.FootprintPhoto;
+import com.blog.entity.Tag;
+import com.blog.entity.User;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Bytes one list page moves out of the database, entity path vs summary projection path.
+ * <p>
+ * The entity path is the former entity-graph list query: every column of the article (LONGTEXT content
+ * and the three comment-counter subqueries included), its user, category and cover photo, repeated once
+ * per tag by the fetch join. The projection path is one {@link ArticleSummaryRowDTO} per article plus the
+ * {@link ArticleTagRowDTO} rows of the batched tag query. Rows are serialized with Jackson as a stand-in
+ * for wire size; the per-page byte counts are printed once per trial, the benchmarks time the encoding.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ArticleListRowBytesBenchmark {
+
+    private static final int TAG_COUNT = 4;
+
+    @Param({"10", "50"})
+    public int pageSize;
+
+    @Param({"2000", "8000"})
+    public int contentChars;
+
+    private ObjectWriter writer;
+    private List<Object[]> entityRows;
+    private List<Object> projectionRows;
+
+    @Setup
+    public void setUp() throws JsonProcessingException {
+        writer = Jackson2ObjectMapperBuilder.json().build().writer();
+
+        List<Article> articles = new ArrayList<>(pageSize);
+        List<ArticleSummaryRowDTO> summaryRows = new ArrayList<>(pageSize);
+        entityRows = new ArrayList<>(pageSize * TAG_COUNT);
+        for (int i = 0; i < pageSize; i++) {
+            Article article = BenchmarkFixtures.article(i + 1L, TAG_COUNT, contentChars);
+            articles.add(article);
+            summaryRows.add(BenchmarkFixtures.summaryRow(article));
+            for (Tag tag : article.getTags()) {
+                entityRows.add(entityRow(article, tag));
+            }
+        }
+        projectionRows = Arrays.asList(summaryRows, BenchmarkFixtures.tagRows(articles));
+
+        int entityBytes = writer.writeValueAsBytes(entityRows).length;
+        int projectionBytes = writer.writeValueAsBytes(projectionRows).length;
+        System.out.printf("%nrow bytes/page (pageSize=%d, contentChars=%d): entity=%d projection=%d (%.1fx)%n",
+                pageSize, contentChars, entityBytes, projectionBytes, (double) entityBytes / projectionBytes);
+    }
+
+    @Benchmark
+    public byte[] entityPath() throws JsonProcessingException {
+        return writer.writeValueAsBytes(entityRows);
+    }
+
+    @Benchmark
+    public byte[] projectionPath() throws JsonProcessingException {
+        return writer.writeValueAsBytes(projectionRows);
+    }
+
+    /**
+     * One row of the former fetch-join query. Comment counters use the same values as
+     * {@link BenchmarkFixtures#summaryRow(Article)}.
+     */
+    private static Object[] entityRow(Article article, Tag tag) {
+        User user = article.getUser();
+        Category category = article.getCategory();
+        FootprintPhoto cover = article.getCoverPhoto();
+        return new Object[]{
+                article.getId(), article.getTitle(), article.getSlug(), article.getContent(), article.getSummary(),
+                article.getStatus(), article.getFeaturedLevel(), article.getViews(),
+                (int) (article.getId() % 7), (int) (article.getId() % 5), article.getPublishedAt().plusDays(2),
+                article.getPublishedAt(), article.getCreatedAt(), article.getUpdatedAt(),
+                user.getId(), user.getUsername(), user.getEmail(), user.getPasswordHash(), user.getRole(),
+                user.getEnabled(), user.getCreatedAt(),
+                category.getId(), category.getName(), category.getDescription(), category.getSlug(),
+                category.getSlugPath(), category.getParent() == null ? null : category.getParent().getId(),
+                category.getCreatedAt(), category.getUpdatedAt(),
+                cover.getId(), cover.getUrl(), cover.getShotAt(), cover.getTrip(), cover.getNote(), cover.getTags(),
+                cover.getCover(), cover.getSourceType(), cover.getCreatedAt(), cover.getContentHash(),
+                cover.getThumbUrl(), cover.getCardUrl(), cover.getHeroUrl(), cover.getVariantStatus(),
+                cover.getWidth(), cover.getHeight(), cover.getOrientation(), cover.getCameraMake(),
+                cover.getCameraModel(),
+                tag.getId(), tag.getName(), tag.getCreatedAt()
+        };
+    }
+}
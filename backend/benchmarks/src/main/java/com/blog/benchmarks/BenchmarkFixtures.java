@@ -0,0 +1,350 @@
+package com.blog.benchmarks;
+
+import com.blog.dto.article.ArticleSummaryRowDTO;
+import com.blog.dto.article.ArticleTagRowDTO;
+import com.blog.entity.Article;
+import com.blog.entity.Category;
+import com.blog.entity.FootprintPhoto;
+import com.blog.entity.Tag;
+import com.blog.entity.User;
+import com.blog.repository.ArticleRepository;
+import com.blog.service.article.ArticleSummaryAssembler;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.fasterxml.jackson.databind.node.JsonNodeFactory;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.reflect.Constructor;
+import java.lang.reflect.Field;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.Set;
+import java.util.function.Function;
+
+/**
+ * Deterministic synthetic data and reflection helpers shared by the benchmarks.
+ */
+final class BenchmarkFixtures {
+
+    private static final JsonNodeFactory JSON = JsonNodeFactory.instance;
+    private static final LocalDateTime BASE_TIME = LocalDateTime.of(2026, 1, 1, 8, 0);
+    private static final String[] WORDS = {
+            "spring", "boot", "cache", "index", "latency", "throughput", "旅行", "札记", "摄影", "山海",
+            "markdown", "notion", "render", "query", "tree", "blog", "java", "heap", "profile", "编码"
+    };
+    private static final String[] NOTION_TYPES = {
+            "paragraph", "heading_2", "paragraph", "numbered_list_item", "to_do", "quote", "code", "paragraph",
+            "callout", "heading_3", "image", "divider"
+    };
+
+    private BenchmarkFixtures() {
+    }
+
+    /**
+     * Instantiate a {@code @RequiredArgsConstructor} bean with every dependency left {@code null}, for
+     * benchmarking methods that never touch their collaborators.
+     */
+    static <T> T newWithNullDependencies(Class<T> type) {
+        try {
+            Constructor<?> constructor = type.getDeclaredConstructors()[0];
+            return type.cast(constructor.newInstance(new Object[constructor.getParameterCount()]));
+        } catch (ReflectiveOperationException ex) {
+            throw new IllegalStateException("Cannot instantiate " + type.getName(), ex);
+        }
+    }
+
+    static MethodHandle privateMethod(Class<?> owner, String name, Class<?>... parameterTypes) {
+        try {
+            Method method = owner.getDeclaredMethod(name, parameterTypes);
+            return MethodHandles.privateLookupIn(owner, MethodHandles.lookup()).unreflect(method);
+        } catch (ReflectiveOperationException ex) {
+            throw new IllegalStateException("Cannot access " + owner.getSimpleName() + "#" + name, ex);
+        }
+    }
+
+    static void setField(Object target, String name, Object value) {
+        try {
+            Field field = target.getClass().getDeclaredField(name);
+            field.setAccessible(true);
+            field.set(target, value);
+        } catch (ReflectiveOperationException ex) {
+            throw new IllegalStateException("Cannot set " + target.getClass().getSimpleName() + "#" + name, ex);
+        }
+    }
+
+    /**
+     * Repository stub that answers the listed zero-argument queries from memory and rejects anything else.
+     */
+    static <T> T repository(Class<T> type, Map<String, Object> zeroArgResults) {
+        return repository(type, zeroArgResults, Collections.emptyMap());
+    }
+
+    /**
+     * Repository stub that also answers the listed queries with arguments through {@code queries}.
+     */
+    static <T> T repository(Class<T> type, Map<String, Object> zeroArgResults,
+                            Map<String, Function<Object[], Object>> queries) {
+        Object proxy = Proxy.newProxyInstance(type.getClassLoader(), new Class<?>[]{type}, (self, method, args) -> {
+            if (method.getDeclaringClass() == Object.class) {
+                switch (method.getName()) {
+                    case "hashCode":
+                        return System.identityHashCode(self);
+                    case "equals":
+                        return self == args[0];
+                    default:
+                        return type.getSimpleName() + "Stub";
+                }
+            }
+            if ((args == null || args.length == 0) && zeroArgResults.containsKey(method.getName())) {
+                return zeroArgResults.get(method.getName());
+            }
+            if (args != null && args.length > 0 && queries.containsKey(method.getName())) {
+                return queries.get(method.getName()).apply(args);
+            }
+            throw new UnsupportedOperationException(type.getSimpleName() + "#" + method.getName());
+        });
+        return type.cast(proxy);
+    }
+
+    static Article article(long id, int tagCount, int contentChars) {
+        Random random = new Random(id);
+
+        User author = new User();
+        author.setId(1L);
+        author.setUsername("admin");
+        author.setEmail("admin@example.com");
+        author.setPasswordHash("{bcrypt}$2a$10$" + "N9qo8uLOickgx2ZMRZoMyeIjZAgcfl7p92ldGxad68LJZdL17lhWy");
+        author.setRole("OWNER");
+        author.setCreatedAt(BASE_TIME);
+
+        Category parent = new Category();
+        parent.setId(100L);
+        parent.setName("旅行");
+        parent.setSlugPath("travel");
+
+        Category category = new Category();
+        category.setId(100L + (id % 8) + 1);
+        category.setName("旅行札记-" + (id % 8));
+        category.setDescription("Synthetic category " + (id % 8));
+        category.setSlugPath("travel/notes-" + (id % 8));
+        category.setParent(parent);
+        category.setCreatedAt(BASE_TIME);
+
+        FootprintPhoto cover = new FootprintPhoto();
+        cover.setId(1000L + id);
+        cover.setUrl("/uploads/covers/" + id + ".jpg");
+        cover.setThumbUrl("/uploads/covers/" + id + "-thumb.webp");
+        cover.setCardUrl("/uploads/covers/" + id + "-card.webp");
+        cover.setHeroUrl("/uploads/covers/" + id + "-hero.webp");
+        cover.setWidth(1600);
+        cover.setHeight(1067);
+        cover.setVariantStatus("READY");
+        cover.setContentHash(String.format("%064x", id));
+        cover.setCreatedAt(BASE_TIME);
+
+        Set<Tag> tags = new HashSet<>();
+        for (int i = 0; i < tagCount; i++) {
+            Tag tag = new Tag();
+            tag.setId((long) i + 1);
+            tag.setName(WORDS[i % WORDS.length] + "-" + i);
+            tag.setCreatedAt(BASE_TIME);
+            tags.add(tag);
+        }
+
+        Article article = new Article();
+        article.setId(id);
+        article.setTitle("第 " + id + " 篇：" + sentence(random, 6));
+        article.setSlug("article-" + id);
+        article.setSummary(sentence(random, 40));
+        article.setContent(paragraphs(random, contentChars));
+        article.setStatus("PUBLISHED");
+        article.setFeaturedLevel((int) (id % 3));
+        article.setViews(id * 37);
+        article.setPublishedAt(BASE_TIME.plusHours(id));
+        article.setCreatedAt(BASE_TIME.plusHours(id).minusDays(1));
+        article.setUpdatedAt(BASE_TIME.plusHours(id));
+        article.setUser(author);
+        article.setCategory(category);
+        article.setTags(tags);
+        article.setCoverPhoto(cover);
+        return article;
+    }
+
+    /**
+     * The content-free list row the summary projection selects for {@code article}.
+     */
+    static ArticleSummaryRowDTO summaryRow(Article article) {
+        Category category = article.getCategory();
+        FootprintPhoto cover = article.getCoverPhoto();
+        return new ArticleSummaryRowDTO(
+                article.getId(),
+                article.getTitle(),
+                article.getSlug(),
+                article.getSummary(),
+                cover.getId(),
+                cover.getUrl(),
+                article.getStatus(),
+                article.getFeaturedLevel(),
+                article.getViews(),
+                article.getPublishedAt(),
+                article.getCreatedAt(),
+                article.getUser().getUsername(),
+                category.getId(),
+                category.getName(),
+                category.getDescription(),
+                category.getSlugPath(),
+                category.getParent() == null ? null : category.getParent().getId(),
+                (int) (article.getId() % 7),
+                (int) (article.getId() % 5),
+                article.getPublishedAt().plusDays(2),
+                cover.getThumbUrl(),
+                cover.getCardUrl(),
+                cover.getHeroUrl(),
+                cover.getWidth(),
+                cover.getHeight()
+        );
+    }
+
+    /**
+     * The (article, tag) rows {@code findTagRowsByArticleIds} returns for {@code articles}.
+     */
+    static List<ArticleTagRowDTO> tagRows(Collection<Article> articles) {
+        List<ArticleTagRowDTO> rows = new ArrayList<>();
+        for (Article article : articles) {
+            for (Tag tag : article.getTags()) {
+                rows.add(new ArticleTagRowDTO(article.getId(), tag.getId(), tag.getName()));
+            }
+        }
+        return rows;
+    }
+
+    /**
+     * An assembler whose tag query answers with the tags of {@code articles}.
+     */
+    static ArticleSummaryAssembler summaryAssembler(Collection<Article> articles) {
+        List<ArticleTagRowDTO> tagRows = tagRows(articles);
+        ArticleRepository repository = repository(ArticleRepository.class, Collections.emptyMap(),
+                Collections.singletonMap("findTagRowsByArticleIds", args -> tagRows));
+        return new ArticleSummaryAssembler(repository);
+    }
+
+    /**
+     * A category forest of {@code rootCount} roots, each with {@code childrenPerRoot} children. Children
+     * are listed before their root, as an unordered {@code findAll()} may return them.
+     */
+    static List<Category> categoryForest(int rootCount, int childrenPerRoot) {
+        List<Category> all = new ArrayList<>(rootCount * (childrenPerRoot + 1));
+        long nextId = 1;
+        for (int r = 0; r < rootCount; r++) {
+            Category root = category(nextId++, "root-" + r, null);
+            for (int c = 0; c < childrenPerRoot; c++) {
+                all.add(category(nextId++, root.getName() + "-child-" + c, root));
+            }
+            all.add(root);
+        }
+        return all;
+    }
+
+    private static Category category(long id, String name, Category parent) {
+        Category category = new Category();
+        category.setId(id);
+        category.setName(name);
+        category.setDescription("Synthetic category " + name);
+        category.setSlug(name);
+        category.setSlugPath(parent == null ? name : parent.getSlugPath() + "/" + name);
+        category.setParent(parent);
+        category.setCreatedAt(BASE_TIME);
+        return category;
+    }
+
+    /**
+     * A Notion block tree of {@code topLevel} blocks; every fourth block is a list item with
+     * {@code childrenPerParent} nested children. Children are keyed by parent block id in {@code childrenById}.
+     */
+    static List<JsonNode> notionBlocks(int topLevel, int childrenPerParent, Map<String, List<JsonNode>> childrenById) {
+        Random random = new Random(42);
+        List<JsonNode> blocks = new ArrayList<>(topLevel);
+        for (int i = 0; i < topLevel; i++) {
+            String id = "block-" + i;
+            boolean hasChildren = childrenPerParent > 0 && i % 4 == 3;
+            String type = hasChildren ? "bulleted_list_item" : NOTION_TYPES[i % NOTION_TYPES.length];
+            blocks.add(notionBlock(id, type, hasChildren, random));
+            if (hasChildren) {
+                List<JsonNode> children = new ArrayList<>(childrenPerParent);
+                for (int c = 0; c < childrenPerParent; c++) {
+                    children.add(notionBlock(id + "-" + c, "bulleted_list_item", false, random));
+                }
+                childrenById.put(id, children);
+            }
+        }
+        return blocks;
+    }
+
+    private static ObjectNode notionBlock(String id, String type, boolean hasChildren, Random random) {
+        ObjectNode block = JSON.objectNode();
+        block.put("object", "block");
+        block.put("id", id);
+        block.put("type", type);
+        block.put("has_children", hasChildren);
+
+        ObjectNode body = block.putObject(type);
+        if ("image".equals(type)) {
+            body.put("type", "external");
+            body.putObject("external").put("url", "https://example.com/" + id + ".png");
+            return block;
+        }
+        if ("divider".equals(type)) {
+            return block;
+        }
+        ArrayNode richText = body.putArray("rich_text");
+        int spans = 1 + random.nextInt(4);
+        for (int s = 0; s < spans; s++) {
+            ObjectNode span = richText.addObject();
+            span.put("type", "text");
+            span.put("plain_text", sentence(random, 8 + random.nextInt(12)));
+            ObjectNode annotations = span.putObject("annotations");
+            annotations.put("bold", random.nextInt(5) == 0);
+            annotations.put("italic", random.nextInt(7) == 0);
+            annotations.put("code", random.nextInt(11) == 0);
+            annotations.put("strikethrough", false);
+            annotations.put("underline", false);
+        }
+        if ("code".equals(type)) {
+            body.put("language", "java");
+        }
+        if ("to_do".equals(type)) {
+            body.put("checked", random.nextBoolean());
+        }
+        return block;
+    }
+
+    static String sentence(Random random, int words) {
+        StringBuilder builder = new StringBuilder();
+        for (int i = 0; i < words; i++) {
+            if (i > 0) {
+                builder.append(' ');
+            }
+            builder.append(WORDS[random.nextInt(WORDS.length)]);
+        }
+        return builder.toString();
+    }
+
+    private static String paragraphs(Random random, int chars) {
+        StringBuilder builder = new StringBuilder(chars + 64);
+        while (builder.length() < chars) {
+            builder.append("## ").append(sentence(random, 4)).append("\n\n")
+                    .append(sentence(random, 60)).append("\n\n");
+        }
+        return builder.toString();
+    }
+}
@@ -0,0 +1,55 @@
+package com.blog.benchmarks;
+
+import com.blog.dto.category.CategoryDTO;
+import com.blog.entity.Category;
+import com.blog.repository.CategoryRepository;
+import com.blog.service.impl.CategoryServiceImpl;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * {@link CategoryServiceImpl#getAllCategories()} tree building over an in-memory {@code findAll()} result.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class CategoryTreeBenchmark {
+
+    @Param({"10", "100"})
+    public int rootCount;
+
+    @Param({"5"})
+    public int childrenPerRoot;
+
+    private CategoryServiceImpl service;
+
+    @Setup
+    public void setUp() {
+        List<Category> categories = BenchmarkFixtures.categoryForest(rootCount, childrenPerRoot);
+        CategoryRepository repository = BenchmarkFixtures.repository(
+                CategoryRepository.class, Collections.singletonMap("findAll", categories));
+        service = BenchmarkFixtures.newWithNullDependencies(CategoryServiceImpl.class);
+        BenchmarkFixtures.setField(service, "categoryRepository", repository);
+    }
+
+    @Benchmark
+    public List<CategoryDTO> getAllCategories() {
+        return service.getAllCategories();
+    }
+}
@@ -0,0 +1,61 @@
+package com.blog.benchmarks;
+
+import com.blog.service.impl.NotionImportServiceImpl;
+import com.fasterxml.jackson.databind.JsonNode;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.lang.invoke.MethodHandle;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Markdown rendering of a Notion block tree by {@code NotionImportServiceImpl#renderBlocks}. Child blocks are
+ * passed as the prefetched tree that {@code NotionBlockTreeLoader} produces, so this measures rendering and
+ * JSON traversal only, not network round trips.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class NotionRenderBenchmark {
+
+    @Param({"200", "2000"})
+    public int blockCount;
+
+    @Param({"0", "8"})
+    public int childrenPerParent;
+
+    private MethodHandle renderBlocks;
+    private NotionImportServiceImpl service;
+    private List<JsonNode> blocks;
+    private Map<String, List<JsonNode>> childrenById;
+
+    @Setup
+    public void setUp() {
+        childrenById = new HashMap<>();
+        blocks = BenchmarkFixtures.notionBlocks(blockCount, childrenPerParent, childrenById);
+
+        service = BenchmarkFixtures.newWithNullDependencies(NotionImportServiceImpl.class);
+        renderBlocks = BenchmarkFixtures.privateMethod(
+                NotionImportServiceImpl.class, "renderBlocks", List.class, int.class, Map.class);
+    }
+
+    @Benchmark
+    public String renderBlocks() throws Throwable {
+        return (String) renderBlocks.invoke(service, blocks, 0, childrenById);
+    }
+}
@@ -0,0 +1,36 @@
+package com.blog.benchmarks;
+
+import com.blog.util.SlugUtils;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class SlugUtilsBenchmark {
+
+    @Param({
+            "Spring Boot 2.7 Caching Notes",
+            "Crème Brûlée à la Française -- Été 2026",
+            "云南大理 · 洱海骑行札记（上）"
+    })
+    public String title;
+
+    @Benchmark
+    public String slugify() {
+        return SlugUtils.slugify(title, "article");
+    }
+}
@@ -0,0 +1,20 @@
+-- Composite index backing keyset pagination of the public article list.
+-- Category and featured-level lists already seek on
+-- idx_articles_status_category_published_at / idx_articles_status_featured_published_at.
+-- Safe to run repeatedly.
+
+SET @has_status_published_idx := (
+    SELECT COUNT(*)
+    FROM information_schema.STATISTICS
+    WHERE TABLE_SCHEMA = DATABASE()
+      AND TABLE_NAME = 'articles'
+      AND INDEX_NAME = 'idx_articles_status_published_at_id'
+);
+SET @sql_status_published_idx := IF(
+    @has_status_published_idx = 0,
+    'CREATE INDEX idx_articles_status_published_at_id ON articles(status, published_at, id)',
+    'SELECT 1'
+);
+PREPARE stmt_status_published_idx FROM @sql_status_published_idx;
+EXECUTE stmt_status_published_idx;
+DEALLOCATE PREPARE stmt_status_published_idx;
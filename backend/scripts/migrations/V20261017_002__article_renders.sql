@@ -0,0 +1,14 @@
+-- Publish-time render artifacts for articles: HTML, pre-gzipped HTML, TOC and reading stats.
+-- Rows are written on publish and removed on unpublish/delete; published articles without a row
+-- are rendered lazily on first read. Safe to run repeatedly.
+CREATE TABLE IF NOT EXISTS article_renders (
+    article_id BIGINT NOT NULL,
+    html_hash CHAR(64) NOT NULL,
+    html LONGTEXT NOT NULL,
+    html_gzip LONGBLOB NOT NULL,
+    toc_json TEXT NULL,
+    word_count INT NOT NULL,
+    reading_minutes INT NOT NULL,
+    rendered_at DATETIME NOT NULL,
+    PRIMARY KEY (article_id)
+) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_unicode_ci;
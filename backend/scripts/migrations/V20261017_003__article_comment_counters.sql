@@ -0,0 +1,18 @@
+-- Denormalized per-article comment counters, maintained in the same transaction as comment writes and
+-- reconciled periodically against the comments table. Backfills existing articles. Safe to run repeatedly.
+CREATE TABLE IF NOT EXISTS article_comment_counters (
+    article_id BIGINT NOT NULL,
+    comment_count INT NOT NULL DEFAULT 0,
+    approved_count INT NOT NULL DEFAULT 0,
+    last_comment_at DATETIME NULL,
+    PRIMARY KEY (article_id)
+) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_unicode_ci;
+
+INSERT INTO article_comment_counters (article_id, comment_count, approved_count, last_comment_at)
+SELECT article_id, COUNT(*), SUM(status = 'APPROVED'), MAX(created_at)
+FROM comments
+GROUP BY article_id
+ON DUPLICATE KEY UPDATE
+    comment_count = VALUES(comment_count),
+    approved_count = VALUES(approved_count),
+    last_comment_at = VALUES(last_comment_at);
@@ -0,0 +1,19 @@
+-- Composite index backing database-side paging of cover materials
+-- (WHERE source_type = ? ORDER BY created_at DESC, id DESC LIMIT ?).
+-- Safe to run repeatedly.
+
+SET @has_source_created_idx := (
+    SELECT COUNT(*)
+    FROM information_schema.STATISTICS
+    WHERE TABLE_SCHEMA = DATABASE()
+      AND TABLE_NAME = 'footprint_photo'
+      AND INDEX_NAME = 'idx_footprint_photo_source_created_id'
+);
+SET @sql_source_created_idx := IF(
+    @has_source_created_idx = 0,
+    'CREATE INDEX idx_footprint_photo_source_created_id ON footprint_photo(source_type, created_at, id)',
+    'SELECT 1'
+);
+PREPARE stmt_source_created_idx FROM @sql_source_created_idx;
+EXECUTE stmt_source_created_idx;
+DEALLOCATE PREPARE stmt_source_created_idx;
@@ -0,0 +1,34 @@
+-- Content hash of uploaded photos, used to deduplicate cover material uploads.
+-- Rows uploaded before this migration keep NULL. Safe to run repeatedly.
+
+SET @has_content_hash := (
+    SELECT COUNT(*)
+    FROM information_schema.COLUMNS
+    WHERE TABLE_SCHEMA = DATABASE()
+      AND TABLE_NAME = 'footprint_photo'
+      AND COLUMN_NAME = 'content_hash'
+);
+SET @sql_content_hash := IF(
+    @has_content_hash = 0,
+    'ALTER TABLE footprint_photo ADD COLUMN content_hash CHAR(64) NULL',
+    'SELECT 1'
+);
+PREPARE stmt_content_hash FROM @sql_content_hash;
+EXECUTE stmt_content_hash;
+DEALLOCATE PREPARE stmt_content_hash;
+
+SET @has_source_hash_idx := (
+    SELECT COUNT(*)
+    FROM information_schema.STATISTICS
+    WHERE TABLE_SCHEMA = DATABASE()
+      AND TABLE_NAME = 'footprint_photo'
+      AND INDEX_NAME = 'idx_footprint_photo_source_hash'
+);
+SET @sql_source_hash_idx := IF(
+    @has_source_hash_idx = 0,
+    'CREATE INDEX idx_footprint_photo_source_hash ON footprint_photo(source_type, content_hash)',
+    'SELECT 1'
+);
+PREPARE stmt_source_hash_idx FROM @sql_source_hash_idx;
+EXECUTE stmt_source_hash_idx;
+DEALLOCATE PREPARE stmt_source_hash_idx;
@@ -0,0 +1,67 @@
+-- Responsive cover variants (thumb / card / hero) generated in the background after upload.
+-- variant_status stays NULL until generation runs; the backfill job picks those rows up.
+-- Safe to run repeatedly.
+
+SET @has_thumb_url := (
+    SELECT COUNT(*)
+    FROM information_schema.COLUMNS
+    WHERE TABLE_SCHEMA = DATABASE()
+      AND TABLE_NAME = 'footprint_photo'
+      AND COLUMN_NAME = 'thumb_url'
+);
+SET @sql_thumb_url := IF(
+    @has_thumb_url = 0,
+    'ALTER TABLE footprint_photo ADD COLUMN thumb_url VARCHAR(255) NULL',
+    'SELECT 1'
+);
+PREPARE stmt_thumb_url FROM @sql_thumb_url;
+EXECUTE stmt_thumb_url;
+DEALLOCATE PREPARE stmt_thumb_url;
+
+SET @has_card_url := (
+    SELECT COUNT(*)
+    FROM information_schema.COLUMNS
+    WHERE TABLE_SCHEMA = DATABASE()
+      AND TABLE_NAME = 'footprint_photo'
+      AND COLUMN_NAME = 'card_url'
+);
+SET @sql_card_url := IF(
+    @has_card_url = 0,
+    'ALTER TABLE footprint_photo ADD COLUMN card_url VARCHAR(255) NULL',
+    'SELECT 1'
+);
+PREPARE stmt_card_url FROM @sql_card_url;
+EXECUTE stmt_card_url;
+DEALLOCATE PREPARE stmt_card_url;
+
+SET @has_hero_url := (
+    SELECT COUNT(*)
+    FROM information_schema.COLUMNS
+    WHERE TABLE_SCHEMA = DATABASE()
+      AND TABLE_NAME = 'footprint_photo'
+      AND COLUMN_NAME = 'hero_url'
+);
+SET @sql_hero_url := IF(
+    @has_hero_url = 0,
+    'ALTER TABLE footprint_photo ADD COLUMN hero_url VARCHAR(255) NULL',
+    'SELECT 1'
+);
+PREPARE stmt_hero_url FROM @sql_hero_url;
+EXECUTE stmt_hero_url;
+DEALLOCATE PREPARE stmt_hero_url;
+
+SET @has_variant_status := (
+    SELECT COUNT(*)
+    FROM information_schema.COLUMNS
+    WHERE TABLE_SCHEMA = DATABASE()
+      AND TABLE_NAME = 'footprint_photo'
+      AND COLUMN_NAME = 'variant_status'
+);
+SET @sql_variant_status := IF(
+    @has_variant_status = 0,
+    'ALTER TABLE footprint_photo ADD COLUMN variant_status VARCHAR(16) NULL',
+    'SELECT 1'
+);
+PREPARE stmt_variant_status FROM @sql_variant_status;
+EXECUTE stmt_variant_status;
+DEALLOCATE PREPARE stmt_variant_status;
@@ -0,0 +1,83 @@
+-- Header metadata (EXIF shot date, displayed dimensions, orientation, camera) of uploaded photos.
+-- Filled on upload; older rows are filled when the cover variant backfill processes them.
+-- Safe to run repeatedly.
+
+SET @has_width := (
+    SELECT COUNT(*)
+    FROM information_schema.COLUMNS
+    WHERE TABLE_SCHEMA = DATABASE()
+      AND TABLE_NAME = 'footprint_photo'
+      AND COLUMN_NAME = 'width'
+);
+SET @sql_width := IF(
+    @has_width = 0,
+    'ALTER TABLE footprint_photo ADD COLUMN width INT NULL',
+    'SELECT 1'
+);
+PREPARE stmt_width FROM @sql_width;
+EXECUTE stmt_width;
+DEALLOCATE PREPARE stmt_width;
+
+SET @has_height := (
+    SELECT COUNT(*)
+    FROM information_schema.COLUMNS
+    WHERE TABLE_SCHEMA = DATABASE()
+      AND TABLE_NAME = 'footprint_photo'
+      AND COLUMN_NAME = 'height'
+);
+SET @sql_height := IF(
+    @has_height = 0,
+    'ALTER TABLE footprint_photo ADD COLUMN height INT NULL',
+    'SELECT 1'
+);
+PREPARE stmt_height FROM @sql_height;
+EXECUTE stmt_height;
+DEALLOCATE PREPARE stmt_height;
+
+SET @has_orientation := (
+    SELECT COUNT(*)
+    FROM information_schema.COLUMNS
+    WHERE TABLE_SCHEMA = DATABASE()
+      AND TABLE_NAME = 'footprint_photo'
+      AND COLUMN_NAME = 'orientation'
+);
+SET @sql_orientation := IF(
+    @has_orientation = 0,
+    'ALTER TABLE footprint_photo ADD COLUMN orientation TINYINT NULL',
+    'SELECT 1'
+);
+PREPARE stmt_orientation FROM @sql_orientation;
+EXECUTE stmt_orientation;
+DEALLOCATE PREPARE stmt_orientation;
+
+SET @has_camera_make := (
+    SELECT COUNT(*)
+    FROM information_schema.COLUMNS
+    WHERE TABLE_SCHEMA = DATABASE()
+      AND TABLE_NAME = 'footprint_photo'
+      AND COLUMN_NAME = 'camera_make'
+);
+SET @sql_camera_make := IF(
+    @has_camera_make = 0,
+    'ALTER TABLE footprint_photo ADD COLUMN camera_make VARCHAR(100) NULL',
+    'SELECT 1'
+);
+PREPARE stmt_camera_make FROM @sql_camera_make;
+EXECUTE stmt_camera_make;
+DEALLOCATE PREPARE stmt_camera_make;
+
+SET @has_camera_model := (
+    SELECT COUNT(*)
+    FROM information_schema.COLUMNS
+    WHERE TABLE_SCHEMA = DATABASE()
+      AND TABLE_NAME = 'footprint_photo'
+      AND COLUMN_NAME = 'camera_model'
+);
+SET @sql_camera_model := IF(
+    @has_camera_model = 0,
+    'ALTER TABLE footprint_photo ADD COLUMN camera_model VARCHAR(100) NULL',
+    'SELECT 1'
+);
+PREPARE stmt_camera_model FROM @sql_camera_model;
+EXECUTE stmt_camera_model;
+DEALLOCATE PREPARE stmt_camera_model;
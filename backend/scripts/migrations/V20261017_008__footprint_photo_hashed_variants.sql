@@ -0,0 +1,10 @@
+-- Variant files are now named after the hash of their bytes so they can be cached as immutable.
+-- Send rows still pointing at the old <base>-<variant>.<ext> names back to the backfill, which
+-- regenerates them under hashed names. Rows already migrated no longer match, so this is safe to re-run.
+
+UPDATE footprint_photo
+SET variant_status = NULL
+WHERE variant_status = 'READY'
+  AND (thumb_url REGEXP '^/uploads/cover-materials/variants/[^/]+-thumb\\.[a-z]+$'
+    OR card_url REGEXP '^/uploads/cover-materials/variants/[^/]+-card\\.[a-z]+$'
+    OR hero_url REGEXP '^/uploads/cover-materials/variants/[^/]+-hero\\.[a-z]+$');
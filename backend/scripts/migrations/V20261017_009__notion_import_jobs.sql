@@ -0,0 +1,28 @@
+-- Asynchronous batch Notion imports: one row per submitted job and one per share URL, so progress survives
+-- restarts and failed pages can be retried without re-importing the ones that succeeded. Safe to run repeatedly.
+CREATE TABLE IF NOT EXISTS notion_import_jobs (
+    id BIGINT NOT NULL AUTO_INCREMENT,
+    username VARCHAR(50) NOT NULL,
+    auth_mode VARCHAR(20) NULL,
+    category_id BIGINT NULL,
+    tag_ids VARCHAR(500) NULL,
+    publish BIT NOT NULL DEFAULT 0,
+    total_count INT NOT NULL,
+    created_at DATETIME NOT NULL,
+    PRIMARY KEY (id),
+    KEY idx_notion_import_jobs_username (username, id)
+) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_unicode_ci;
+
+CREATE TABLE IF NOT EXISTS notion_import_job_items (
+    id BIGINT NOT NULL AUTO_INCREMENT,
+    job_id BIGINT NOT NULL,
+    position INT NOT NULL,
+    share_url VARCHAR(1000) NOT NULL,
+    status VARCHAR(20) NOT NULL,
+    article_id BIGINT NULL,
+    attempts INT NOT NULL DEFAULT 0,
+    error_message VARCHAR(500) NULL,
+    updated_at DATETIME NULL,
+    PRIMARY KEY (id),
+    KEY idx_notion_import_job_items_job (job_id, position)
+) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_unicode_ci;
@@ -0,0 +1,26 @@
+-- Pending (awaiting review) comments per article, so the dashboard no longer counts moderated spam as pending.
+-- Backfills from comments. Safe to run repeatedly.
+
+SET @has_pending_count := (
+    SELECT COUNT(*)
+    FROM information_schema.COLUMNS
+    WHERE TABLE_SCHEMA = DATABASE()
+      AND TABLE_NAME = 'article_comment_counters'
+      AND COLUMN_NAME = 'pending_count'
+);
+SET @sql_pending_count := IF(
+    @has_pending_count = 0,
+    'ALTER TABLE article_comment_counters ADD COLUMN pending_count INT NOT NULL DEFAULT 0 AFTER approved_count',
+    'SELECT 1'
+);
+PREPARE stmt_pending_count FROM @sql_pending_count;
+EXECUTE stmt_pending_count;
+DEALLOCATE PREPARE stmt_pending_count;
+
+UPDATE article_comment_counters acc
+LEFT JOIN (
+    SELECT article_id, SUM(status = 'PENDING') AS pending_count
+    FROM comments
+    GROUP BY article_id
+) c ON c.article_id = acc.article_id
+SET acc.pending_count = COALESCE(c.pending_count, 0);
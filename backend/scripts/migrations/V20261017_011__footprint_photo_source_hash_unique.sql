@@ -0,0 +1,32 @@
+-- Make (source_type, content_hash) unique so two concurrent uploads of the same file cannot both insert a row.
+-- Existing duplicates keep their rows but later copies lose the hash; the oldest row stays the dedupe target.
+-- Safe to run repeatedly.
+
+UPDATE footprint_photo p
+JOIN (
+    SELECT source_type, content_hash, MIN(id) AS keep_id
+    FROM footprint_photo
+    WHERE content_hash IS NOT NULL
+    GROUP BY source_type, content_hash
+    HAVING COUNT(*) > 1
+) d ON d.source_type = p.source_type AND d.content_hash = p.content_hash
+SET p.content_hash = NULL
+WHERE p.id <> d.keep_id;
+
+SET @source_hash_idx_non_unique := (
+    SELECT MAX(NON_UNIQUE)
+    FROM information_schema.STATISTICS
+    WHERE TABLE_SCHEMA = DATABASE()
+      AND TABLE_NAME = 'footprint_photo'
+      AND INDEX_NAME = 'idx_footprint_photo_source_hash'
+);
+SET @sql_source_hash_unique := CASE
+    WHEN @source_hash_idx_non_unique IS NULL
+        THEN 'CREATE UNIQUE INDEX idx_footprint_photo_source_hash ON footprint_photo(source_type, content_hash)'
+    WHEN @source_hash_idx_non_unique = 1
+        THEN 'ALTER TABLE footprint_photo DROP INDEX idx_footprint_photo_source_hash, ADD UNIQUE INDEX idx_footprint_photo_source_hash (source_type, content_hash)'
+    ELSE 'SELECT 1'
+END;
+PREPARE stmt_source_hash_unique FROM @sql_source_hash_unique;
+EXECUTE stmt_source_hash_unique;
+DEALLOCATE PREPARE stmt_source_hash_unique;
@@ -0,0 +1,5 @@
+-- Renders stored before raw HTML in Markdown was escaped may carry active markup; drop them so every
+-- published article is re-rendered lazily on its next read. Safe to run repeatedly; a rerun only costs
+-- one extra render per article.
+
+DELETE FROM article_renders;
@@ -0,0 +1,27 @@
+package com.blog.common;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * Keyset page: no total count, only an opaque cursor to fetch the next slice.
+ *
+ * @param <T> item type
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class CursorPage<T> {
+
+    private List<T> items;
+
+    /**
+     * Cursor for the following page, {@code null} when {@link #hasMore} is false.
+     */
+    private String nextCursor;
+
+    private boolean hasMore;
+}
@@ -1,20 +1,25 @@
 package com.blog.config;
 
+import com.blog.web.ConditionalGetInterceptor;
+import lombok.RequiredArgsConstructor;
 import org.springframework.context.annotation.Configuration;
-import org.springframework.web.servlet.config.annotation.ResourceHandlerRegistry;
+import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
 import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
 
-import java.nio.file.Paths;
-
 @Configuration
+@RequiredArgsConstructor
 public class WebConfig implements WebMvcConfigurer {
+
+    private final ConditionalGetInterceptor conditionalGetInterceptor;
+
     @Override
-    public void addResourceHandlers(ResourceHandlerRegistry registry) {
-        String uploadPath = Paths.get("uploads").toAbsolutePath().toUri().toString();
-        if (!uploadPath.endsWith("/")) {
-            uploadPath = uploadPath + "/";
-        }
-        registry.addResourceHandler("/uploads/**")
-                .addResourceLocations(uploadPath);
+    public void addInterceptors(InterceptorRegistry registry) {
+        registry.addInterceptor(conditionalGetInterceptor)
+                .addPathPatterns(
+                        "/api/articles", "/api/articles/**",
+                        "/api/categories", "/api/categories/**",
+                        "/api/tags", "/api/tags/**",
+                        "/api/guestbook", "/api/guestbook/**"
+                );
     }
 }
@@ -4,8 +4,12 @@ import com.blog.common.ApiResponse;
 import com.blog.dto.article.ArticleDetailDTO;
 import com.blog.dto.article.ArticleFeaturedLevelUpdateRequest;
 import com.blog.dto.article.ArticleSummaryDTO;
+import com.blog.dto.article.NotionImportJobRequest;
+import com.blog.dto.article.NotionImportJobResponse;
+import com.blog.dto.article.NotionImportJobRetryRequest;
 import com.blog.dto.article.NotionImportPreviewResponse;
 import com.blog.dto.article.NotionImportRequest;
+import com.blog.service.NotionImportJobService;
 import com.blog.service.NotionImportService;
 import com.blog.service.ArticleService;
 import lombok.RequiredArgsConstructor;
@@ -36,6 +40,7 @@ public class AdminArticleController {
 
     private final ArticleService articleService;
     private final NotionImportService notionImportService;
+    private final NotionImportJobService notionImportJobService;
 
     @GetMapping
     @PreAuthorize("hasAnyRole('ADMIN','OWNER')")
@@ -83,4 +88,39 @@ public class AdminArticleController {
         Long articleId = notionImportService.importFromShareUrl(request, username);
         return ResponseEntity.ok(ApiResponse.success(articleId));
     }
+
+    /**
+     * Queue a batch import and return at once; poll the job for per-page progress.
+     */
+    @PostMapping("/import-notion/jobs")
+    @PreAuthorize("hasAnyRole('ADMIN','OWNER')")
+    public ResponseEntity<ApiResponse<NotionImportJobResponse>> submitNotionImportJob(
+            @Valid @RequestBody NotionImportJobRequest request,
+            Authentication authentication) {
+        String username = authentication.getName();
+        NotionImportJobResponse job = notionImportJobService.submit(request, username);
+        return ResponseEntity.accepted().body(ApiResponse.success(job));
+    }
+
+    @GetMapping("/import-notion/jobs/{jobId}")
+    @PreAuthorize("hasAnyRole('ADMIN','OWNER')")
+    public ResponseEntity<ApiResponse<NotionImportJobResponse>> getNotionImportJob(
+            @PathVariable Long jobId,
+            Authentication authentication) {
+        String username = authentication.getName();
+        NotionImportJobResponse job = notionImportJobService.getJob(jobId, username);
+        return ResponseEntity.ok(ApiResponse.success(job));
+    }
+
+    @PostMapping("/import-notion/jobs/{jobId}/retry")
+    @PreAuthorize("hasAnyRole('ADMIN','OWNER')")
+    public ResponseEntity<ApiResponse<NotionImportJobResponse>> retryNotionImportJob(
+            @PathVariable Long jobId,
+            @RequestBody(required = false) NotionImportJobRetryRequest request,
+            Authentication authentication) {
+        String username = authentication.getName();
+        String tokenOverride = request == null ? null : request.getTokenOverride();
+        NotionImportJobResponse job = notionImportJobService.retryFailed(jobId, tokenOverride, username);
+        return ResponseEntity.accepted().body(ApiResponse.success(job));
+    }
 }
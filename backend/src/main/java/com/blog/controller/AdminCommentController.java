@@ -1,6 +1,8 @@
 package com.blog.controller;
 
 import com.blog.common.ApiResponse;
+import com.blog.dto.comment.CommentBulkRequest;
+import com.blog.dto.comment.CommentBulkResultDTO;
 import com.blog.dto.comment.CommentDTO;
 import com.blog.service.CommentService;
 import lombok.RequiredArgsConstructor;
@@ -11,10 +13,14 @@ import org.springframework.data.domain.Pageable;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 
+import javax.validation.Valid;
+
 @RestController
 @RequestMapping("/api/admin/comments")
 @RequiredArgsConstructor
@@ -33,4 +39,19 @@ public class AdminCommentController {
         Page<CommentDTO> comments = commentService.getComments(status, pageable);
         return ResponseEntity.ok(ApiResponse.success(comments));
     }
+
+    @PostMapping("/bulk/approve")
+    public ResponseEntity<ApiResponse<CommentBulkResultDTO>> bulkApprove(@Valid @RequestBody CommentBulkRequest request) {
+        return ResponseEntity.ok(ApiResponse.success(commentService.bulkApprove(request)));
+    }
+
+    @PostMapping("/bulk/spam")
+    public ResponseEntity<ApiResponse<CommentBulkResultDTO>> bulkMarkSpam(@Valid @RequestBody CommentBulkRequest request) {
+        return ResponseEntity.ok(ApiResponse.success(commentService.bulkMarkSpam(request)));
+    }
+
+    @PostMapping("/bulk/delete")
+    public ResponseEntity<ApiResponse<CommentBulkResultDTO>> bulkDelete(@Valid @RequestBody CommentBulkRequest request) {
+        return ResponseEntity.ok(ApiResponse.success(commentService.bulkDelete(request)));
+    }
 }
@@ -0,0 +1,120 @@
+package com.blog.controller;
+
+import com.blog.common.ApiResponse;
+import com.blog.dto.runtime.CacheStatsDTO;
+import com.blog.dto.runtime.CoverMaterialIndexStatsDTO;
+import com.blog.dto.runtime.CoverVariantStatsDTO;
+import com.blog.dto.runtime.LoginThrottleStatsDTO;
+import com.blog.dto.runtime.NotionHttpRouteStatsDTO;
+import com.blog.dto.runtime.PasswordHashingStatsDTO;
+import com.blog.dto.runtime.SearchIndexStatsDTO;
+import com.blog.dto.runtime.UploadGcStatsDTO;
+import com.blog.dto.runtime.UploadServingStatsDTO;
+import com.blog.security.LoginThrottle;
+import com.blog.security.PasswordHasher;
+import com.blog.service.article.ArticleDetailCache;
+import com.blog.service.article.ArticleRenderCache;
+import com.blog.service.cover.CoverMaterialIndex;
+import com.blog.service.cover.CoverVariantGenerator;
+import com.blog.service.cover.UploadGarbageCollector;
+import com.blog.service.notion.NotionHttpClient;
+import com.blog.service.search.ArticleSearchIndex;
+import com.blog.web.UploadFileServer;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.List;
+
+/**
+ * Runtime diagnostics for in-process caches and background workers.
+ */
+@RestController
+@RequestMapping("/api/admin/runtime")
+@RequiredArgsConstructor
+@PreAuthorize("hasAnyRole('ADMIN','OWNER')")
+public class AdminRuntimeController {
+
+    private final ArticleDetailCache articleDetailCache;
+    private final ArticleRenderCache articleRenderCache;
+    private final ArticleSearchIndex articleSearchIndex;
+    private final PasswordHasher passwordHasher;
+    private final LoginThrottle loginThrottle;
+    private final CoverMaterialIndex coverMaterialIndex;
+    private final CoverVariantGenerator coverVariantGenerator;
+    private final UploadFileServer uploadFileServer;
+    private final UploadGarbageCollector uploadGarbageCollector;
+    private final NotionHttpClient notionHttpClient;
+
+    @GetMapping("/article-detail-cache")
+    public ResponseEntity<ApiResponse<CacheStatsDTO>> getArticleDetailCacheStats() {
+        return ResponseEntity.ok(ApiResponse.success(articleDetailCache.stats()));
+    }
+
+    @GetMapping("/article-render-cache")
+    public ResponseEntity<ApiResponse<CacheStatsDTO>> getArticleRenderCacheStats() {
+        return ResponseEntity.ok(ApiResponse.success(articleRenderCache.stats()));
+    }
+
+    @GetMapping("/search-index")
+    public ResponseEntity<ApiResponse<SearchIndexStatsDTO>> getSearchIndexStats() {
+        return ResponseEntity.ok(ApiResponse.success(articleSearchIndex.stats()));
+    }
+
+    @GetMapping("/password-hashing")
+    public ResponseEntity<ApiResponse<PasswordHashingStatsDTO>> getPasswordHashingStats() {
+        return ResponseEntity.ok(ApiResponse.success(passwordHasher.stats()));
+    }
+
+    @GetMapping("/login-throttle")
+    public ResponseEntity<ApiResponse<LoginThrottleStatsDTO>> getLoginThrottleStats() {
+        return ResponseEntity.ok(ApiResponse.success(loginThrottle.stats()));
+    }
+
+    @GetMapping("/cover-material-index")
+    public ResponseEntity<ApiResponse<CoverMaterialIndexStatsDTO>> getCoverMaterialIndexStats() {
+        return ResponseEntity.ok(ApiResponse.success(coverMaterialIndex.stats()));
+    }
+
+    @GetMapping("/cover-variants")
+    public ResponseEntity<ApiResponse<CoverVariantStatsDTO>> getCoverVariantStats() {
+        return ResponseEntity.ok(ApiResponse.success(coverVariantGenerator.stats()));
+    }
+
+    /**
+     * Generate variants for every cover material still missing them, in the background.
+     */
+    @PostMapping("/cover-variants/backfill")
+    public ResponseEntity<ApiResponse<CoverVariantStatsDTO>> startCoverVariantBackfill() {
+        coverVariantGenerator.startBackfill();
+        return ResponseEntity.ok(ApiResponse.success(coverVariantGenerator.stats()));
+    }
+
+    @GetMapping("/uploads")
+    public ResponseEntity<ApiResponse<UploadServingStatsDTO>> getUploadServingStats() {
+        return ResponseEntity.ok(ApiResponse.success(uploadFileServer.stats()));
+    }
+
+    @GetMapping("/upload-gc")
+    public ResponseEntity<ApiResponse<UploadGcStatsDTO>> getUploadGcStats() {
+        return ResponseEntity.ok(ApiResponse.success(uploadGarbageCollector.stats()));
+    }
+
+    /**
+     * Quarantine orphaned uploads and purge expired quarantine now, in the background.
+     */
+    @PostMapping("/upload-gc/run")
+    public ResponseEntity<ApiResponse<UploadGcStatsDTO>> startUploadGc() {
+        uploadGarbageCollector.start();
+        return ResponseEntity.ok(ApiResponse.success(uploadGarbageCollector.stats()));
+    }
+
+    @GetMapping("/notion-http")
+    public ResponseEntity<ApiResponse<List<NotionHttpRouteStatsDTO>>> getNotionHttpStats() {
+        return ResponseEntity.ok(ApiResponse.success(notionHttpClient.stats()));
+    }
+}
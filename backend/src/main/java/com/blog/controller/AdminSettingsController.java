@@ -12,6 +12,7 @@ import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.validation.annotation.Validated;
 import org.springframework.web.bind.annotation.*;
 
+import javax.servlet.http.HttpServletRequest;
 import javax.validation.Valid;
 import java.security.Principal;
 
@@ -27,8 +28,9 @@ public class AdminSettingsController {
     @PreAuthorize("hasRole('OWNER')")
     public ResponseEntity<ApiResponse<Void>> changePassword(
             @Valid @RequestBody ChangePasswordRequest request,
-            Principal principal) {
-        settingsService.changePassword(principal.getName(), request);
+            Principal principal,
+            HttpServletRequest httpRequest) {
+        settingsService.changePassword(principal.getName(), request, httpRequest.getRemoteAddr());
         return ResponseEntity.ok(ApiResponse.success("Password updated. Please log in again.", null));
     }
 
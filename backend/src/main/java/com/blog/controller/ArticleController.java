@@ -1,8 +1,10 @@
 package com.blog.controller;
 
 import com.blog.common.ApiResponse;
+import com.blog.common.CursorPage;
 import com.blog.dto.article.ArticleCreateRequest;
 import com.blog.dto.article.ArticleDetailDTO;
+import com.blog.dto.article.ArticleHtmlDTO;
 import com.blog.dto.article.ArticleSummaryDTO;
 import com.blog.dto.article.ArticleUpdateRequest;
 import com.blog.dto.article.CategoryArticleGroupDTO;
@@ -11,10 +13,14 @@ import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.security.core.Authentication;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 
 import javax.validation.Valid;
 
@@ -26,6 +32,10 @@ import javax.validation.Valid;
 @RequiredArgsConstructor
 public class ArticleController {
 
+    private static final MediaType HTML_UTF8 = MediaType.parseMediaType("text/html;charset=UTF-8");
+    private static final String HTML_CSP =
+            "default-src 'none'; img-src * data:; style-src 'unsafe-inline'; frame-ancestors 'none'; sandbox";
+
     private final ArticleService articleService;
 
     /**
@@ -50,6 +60,26 @@ public class ArticleController {
         return ResponseEntity.ok(ApiResponse.success(articles));
     }
 
+    /**
+     * Cursor-paged published articles for infinite scroll; skips the total count.
+     */
+    @GetMapping("/feed")
+    public ResponseEntity<ApiResponse<CursorPage<ArticleSummaryDTO>>> getArticleFeed(
+            @RequestParam(required = false) String cursor,
+            @RequestParam(required = false) Long categoryId,
+            @RequestParam(required = false) Integer featuredLevel,
+            @RequestParam(required = false, defaultValue = "false") Boolean excludeFeatured,
+            @RequestParam(defaultValue = "10") int size) {
+        CursorPage<ArticleSummaryDTO> articles = articleService.getPublishedArticlesByCursor(
+                cursor,
+                size,
+                categoryId,
+                featuredLevel,
+                excludeFeatured
+        );
+        return ResponseEntity.ok(ApiResponse.success(articles));
+    }
+
     /**
      * Group published articles by category for archive landing page.
      */
@@ -77,6 +107,36 @@ public class ArticleController {
         return ResponseEntity.ok(ApiResponse.success(article));
     }
 
+    /**
+     * Pre-rendered HTML body of a published article. Serves the gzip bytes stored at publish time as-is
+     * when the client accepts gzip; the strong ETag is the content hash, per encoding. Revalidation is
+     * answered from the hash alone, before any body is loaded. The fragment is served with
+     * {@code nosniff} and a CSP that blocks scripts, so it cannot run code on the API origin.
+     */
+    @GetMapping("/{id}/html")
+    public ResponseEntity<byte[]> getArticleHtml(
+            @PathVariable Long id,
+            @RequestHeader(value = HttpHeaders.ACCEPT_ENCODING, required = false) String acceptEncoding,
+            WebRequest webRequest) {
+        boolean gzip = acceptsGzip(acceptEncoding);
+        if (webRequest.checkNotModified(htmlEtag(articleService.getPublishedArticleHtmlHash(id), gzip))) {
+            return null;
+        }
+
+        ArticleHtmlDTO html = articleService.getPublishedArticleHtml(id, gzip);
+        ResponseEntity.BodyBuilder response = ResponseEntity.ok()
+                .contentType(HTML_UTF8)
+                .cacheControl(CacheControl.noCache().cachePublic())
+                .varyBy(HttpHeaders.ACCEPT_ENCODING)
+                .eTag(htmlEtag(html.getHash(), gzip))
+                .header("X-Content-Type-Options", "nosniff")
+                .header("Content-Security-Policy", HTML_CSP);
+        if (gzip) {
+            response.header(HttpHeaders.CONTENT_ENCODING, "gzip");
+        }
+        return response.body(html.getBody());
+    }
+
     /**
      * Create article (admin only).
      */
@@ -123,4 +183,28 @@ public class ArticleController {
         articleService.publishArticle(id, publish);
         return ResponseEntity.ok(ApiResponse.success());
     }
+
+    private static String htmlEtag(String hash, boolean gzip) {
+        return "\"" + hash + (gzip ? "-gz" : "") + "\"";
+    }
+
+    private static boolean acceptsGzip(String acceptEncoding) {
+        if (acceptEncoding == null) {
+            return false;
+        }
+        for (String token : acceptEncoding.split(",")) {
+            String[] parts = token.trim().split(";");
+            if (!"gzip".equalsIgnoreCase(parts[0].trim())) {
+                continue;
+            }
+            for (int i = 1; i < parts.length; i++) {
+                String param = parts[i].trim().replace(" ", "");
+                if (param.equals("q=0") || param.matches("q=0\\.0*")) {
+                    return false;
+                }
+            }
+            return true;
+        }
+        return false;
+    }
 }
@@ -3,6 +3,7 @@ package com.blog.controller;
 import com.blog.common.ApiResponse;
 import com.blog.dto.comment.CommentCreateRequest;
 import com.blog.dto.comment.CommentDTO;
+import com.blog.dto.comment.CommentThreadPageDTO;
 import com.blog.service.CommentService;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.ResponseEntity;
@@ -25,6 +26,16 @@ public class CommentController {
         return ResponseEntity.ok(ApiResponse.success(comments));
     }
 
+    @GetMapping("/articles/{articleId}/comments/threads")
+    public ResponseEntity<ApiResponse<CommentThreadPageDTO>> getCommentThreads(
+            @PathVariable Long articleId,
+            @RequestParam(defaultValue = "0") int page,
+            @RequestParam(defaultValue = "20") int size,
+            @RequestParam(defaultValue = "3") int depth) {
+        CommentThreadPageDTO threads = commentService.getCommentThreads(articleId, page, size, depth);
+        return ResponseEntity.ok(ApiResponse.success(threads));
+    }
+
     @PostMapping("/articles/{articleId}/comments")
     public ResponseEntity<ApiResponse<CommentDTO>> createComment(
             @PathVariable Long articleId,
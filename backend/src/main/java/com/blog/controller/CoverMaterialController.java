@@ -2,6 +2,7 @@ package com.blog.controller;
 
 import com.blog.common.ApiResponse;
 import com.blog.dto.travel.CoverMaterialDTO;
+import com.blog.dto.travel.CoverMaterialUploadResultDTO;
 import com.blog.service.CoverMaterialService;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
@@ -39,7 +40,7 @@ public class CoverMaterialController {
 
     @PostMapping("/upload")
     @PreAuthorize("isAuthenticated()")
-    public ApiResponse<List<CoverMaterialDTO>> upload(@RequestParam("files") MultipartFile[] files) {
+    public ApiResponse<List<CoverMaterialUploadResultDTO>> upload(@RequestParam("files") MultipartFile[] files) {
         return ApiResponse.success(coverMaterialService.uploadCoverMaterials(files));
     }
 
@@ -0,0 +1,29 @@
+package com.blog.controller;
+
+import com.blog.web.UploadFileServer;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Controller;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.util.UrlPathHelper;
+
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+import java.io.IOException;
+
+/**
+ * Public access to uploaded files; see {@link UploadFileServer} for caching and transfer rules.
+ */
+@Controller
+@RequiredArgsConstructor
+public class UploadFileController {
+
+    private static final UrlPathHelper URL_PATH_HELPER = new UrlPathHelper();
+
+    private final UploadFileServer uploadFileServer;
+
+    @GetMapping(UploadFileServer.URL_PREFIX + "**")
+    public void serve(HttpServletRequest request, HttpServletResponse response) throws IOException {
+        String path = URL_PATH_HELPER.getPathWithinApplication(request);
+        uploadFileServer.serve(path.substring(UploadFileServer.URL_PREFIX.length()), request, response);
+    }
+}
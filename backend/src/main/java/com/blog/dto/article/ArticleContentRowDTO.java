@@ -0,0 +1,17 @@
+package com.blog.dto.article;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Internal (id, content) pair for background scans over article bodies.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class ArticleContentRowDTO {
+
+    private Long id;
+    private String content;
+}
@@ -7,6 +7,7 @@ import lombok.Data;
 import lombok.NoArgsConstructor;
 
 import java.time.LocalDateTime;
+import java.util.List;
 import java.util.Set;
 
 /**
@@ -34,4 +35,11 @@ public class ArticleDetailDTO {
     private String authorName;
     private CategoryDTO category;
     private Set<TagDTO> tags;
+
+    /**
+     * 发布时预渲染得到的目录、字数与预计阅读分钟数；未发布文章为空
+     */
+    private List<ArticleTocEntryDTO> toc;
+    private Integer wordCount;
+    private Integer readingMinutes;
 }
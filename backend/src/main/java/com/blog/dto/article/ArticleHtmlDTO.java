@@ -0,0 +1,21 @@
+package com.blog.dto.article;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * 已发布文章的预渲染 HTML 正文，只携带本次响应选用的编码（原文或发布时预压缩的 gzip）
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class ArticleHtmlDTO {
+
+    /**
+     * HTML 的 SHA-256，用作强 ETag
+     */
+    private String hash;
+    private boolean gzip;
+    private byte[] body;
+}
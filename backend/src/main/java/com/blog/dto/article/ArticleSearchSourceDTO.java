@@ -0,0 +1,24 @@
+package com.blog.dto.article;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * Internal projection of the fields fed into the in-process search index.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class ArticleSearchSourceDTO {
+
+    private Long id;
+    private String title;
+    private String summary;
+    private String content;
+    private Long categoryId;
+    private Integer featuredLevel;
+    private LocalDateTime publishedAt;
+}
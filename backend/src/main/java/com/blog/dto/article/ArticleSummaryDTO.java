@@ -2,6 +2,7 @@ package com.blog.dto.article;
 
 import com.blog.dto.category.CategoryDTO;
 import com.blog.dto.tag.TagDTO;
+import com.blog.dto.travel.ImageVariantsDTO;
 import lombok.AllArgsConstructor;
 import lombok.Data;
 import lombok.NoArgsConstructor;
@@ -23,13 +24,37 @@ public class ArticleSummaryDTO {
     private String summary;
     private Long coverPhotoId;
     private String coverImage;
+
+    /**
+     * 封面的缩略图 / 卡片 / 大图变体，列表优先使用 {@code card}；变体尚未生成时为 null，回退到 coverImage
+     */
+    private ImageVariantsDTO coverVariants;
+
+    /**
+     * 封面显示尺寸（像素，已按 EXIF 方向换算），上传时从文件头读取，供前端预留布局；未知时为 null
+     */
+    private Integer coverWidth;
+    private Integer coverHeight;
+
     private String status;
     private Integer featuredLevel;
     private Long views;
     private LocalDateTime publishedAt;
     private LocalDateTime createdAt;
 
+    /**
+     * 评论计数，取自 article_comment_counters，与列表查询同一条 SQL 带出；没有评论时为 0
+     */
+    private Integer commentCount;
+    private Integer approvedCommentCount;
+    private LocalDateTime lastCommentAt;
+
     private String authorName;
     private CategoryDTO category;
     private Set<TagDTO> tags;
+
+    /**
+     * Search excerpt with matched terms wrapped in {@code <mark>}; only set for keyword searches.
+     */
+    private String highlight;
 }
@@ -0,0 +1,43 @@
+package com.blog.dto.article;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * Internal content-free projection backing article list endpoints.
+ * Never selects {@code articles.content}; tags are loaded separately as {@link ArticleTagRowDTO}.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class ArticleSummaryRowDTO {
+
+    private Long id;
+    private String title;
+    private String slug;
+    private String summary;
+    private Long coverPhotoId;
+    private String coverImage;
+    private String status;
+    private Integer featuredLevel;
+    private Long views;
+    private LocalDateTime publishedAt;
+    private LocalDateTime createdAt;
+    private String authorName;
+    private Long categoryId;
+    private String categoryName;
+    private String categoryDescription;
+    private String categorySlugPath;
+    private Long categoryParentId;
+    private Integer commentCount;
+    private Integer approvedCommentCount;
+    private LocalDateTime lastCommentAt;
+    private String coverThumbUrl;
+    private String coverCardUrl;
+    private String coverHeroUrl;
+    private Integer coverWidth;
+    private Integer coverHeight;
+}
@@ -0,0 +1,18 @@
+package com.blog.dto.article;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Internal (article, tag) pair used to batch-load tags for a page of summaries.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class ArticleTagRowDTO {
+
+    private Long articleId;
+    private Long tagId;
+    private String tagName;
+}
@@ -0,0 +1,18 @@
+package com.blog.dto.article;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * 文章目录项，{@code anchor} 对应渲染后 HTML 中标题的 id
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class ArticleTocEntryDTO {
+
+    private int level;
+    private String anchor;
+    private String text;
+}
@@ -0,0 +1,18 @@
+package com.blog.dto.article;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * One row of the windowed top-N-per-category query: an article summary plus the
+ * published total of its category.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class CategoryTopArticleRowDTO {
+
+    private ArticleSummaryRowDTO article;
+    private long categoryTotal;
+}
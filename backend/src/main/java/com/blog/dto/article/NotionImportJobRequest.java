@@ -0,0 +1,33 @@
+package com.blog.dto.article;
+
+import lombok.Data;
+
+import javax.validation.constraints.NotEmpty;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Batch Notion import request: every share URL becomes one article with the shared options below.
+ */
+@Data
+public class NotionImportJobRequest {
+
+    @NotEmpty(message = "Notion 分享链接不能为空")
+    private List<String> shareUrls;
+
+    /**
+     * AUTO | INTEGRATION | OAUTH | PUBLIC
+     */
+    private String authMode;
+
+    /**
+     * Optional token override, kept in memory for this run only and never persisted.
+     */
+    private String tokenOverride;
+
+    private Long categoryId;
+
+    private Set<Long> tagIds;
+
+    private Boolean publish;
+}
@@ -0,0 +1,63 @@
+package com.blog.dto.article;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * Batch Notion import progress.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class NotionImportJobResponse {
+
+    private Long id;
+
+    private LocalDateTime createdAt;
+
+    private int total;
+
+    private int pending;
+
+    private int running;
+
+    private int succeeded;
+
+    private int failed;
+
+    /**
+     * {@code true} once no page is pending or running.
+     */
+    private boolean finished;
+
+    private List<Item> items;
+
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class Item {
+
+        private Long id;
+
+        private Integer position;
+
+        private String shareUrl;
+
+        /**
+         * PENDING | RUNNING | SUCCEEDED | FAILED
+         */
+        private String status;
+
+        private Long articleId;
+
+        private Integer attempts;
+
+        private String errorMessage;
+
+        private LocalDateTime updatedAt;
+    }
+}
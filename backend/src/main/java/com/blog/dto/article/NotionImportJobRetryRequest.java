@@ -0,0 +1,15 @@
+package com.blog.dto.article;
+
+import lombok.Data;
+
+/**
+ * Retry of the failed pages of a batch Notion import.
+ */
+@Data
+public class NotionImportJobRetryRequest {
+
+    /**
+     * Token override for the retried pages; the one given at submission is not persisted.
+     */
+    private String tokenOverride;
+}
@@ -0,0 +1,18 @@
+package com.blog.dto.comment;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Internal (id, title, slug) projection of the article a comment thread belongs to.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class CommentArticleDTO {
+
+    private Long id;
+    private String title;
+    private String slug;
+}
@@ -0,0 +1,34 @@
+package com.blog.dto.comment;
+
+import lombok.Data;
+
+import javax.validation.constraints.Size;
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * Bulk moderation target: explicit ids, filters, or both (ids narrowed by the filters).
+ * At least one of them is required so an empty body never matches every comment.
+ */
+@Data
+public class CommentBulkRequest {
+
+    @Size(max = 1000, message = "At most 1000 ids per request")
+    private List<Long> ids;
+
+    private String status;
+
+    private Long articleId;
+
+    private String authorName;
+
+    /**
+     * Inclusive lower bound on {@code createdAt}.
+     */
+    private LocalDateTime createdFrom;
+
+    /**
+     * Exclusive upper bound on {@code createdAt}.
+     */
+    private LocalDateTime createdTo;
+}
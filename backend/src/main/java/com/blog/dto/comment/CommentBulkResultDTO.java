@@ -0,0 +1,34 @@
+package com.blog.dto.comment;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Outcome of a bulk moderation request.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class CommentBulkResultDTO {
+
+    /**
+     * Comments selected by the request (capped per call, see {@link #hasMore}).
+     */
+    private int matched;
+
+    /**
+     * Rows actually changed; for deletes this includes replies removed with their parents.
+     */
+    private int affected;
+
+    /**
+     * Articles whose comment counters were recounted.
+     */
+    private int articles;
+
+    /**
+     * True when the filters matched more comments than one call processes; repeat the request.
+     */
+    private boolean hasMore;
+}
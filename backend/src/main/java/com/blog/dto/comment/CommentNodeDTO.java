@@ -0,0 +1,31 @@
+package com.blog.dto.comment;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 评论树节点（回复按时间正序）
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class CommentNodeDTO {
+
+    private Long id;
+    private String content;
+    private String authorName;
+    private String status;
+    private LocalDateTime createdAt;
+    private Long parentId;
+    private List<CommentNodeDTO> replies = new ArrayList<>();
+
+    /**
+     * True when this node has replies below the requested depth that were not loaded.
+     */
+    private boolean hasMoreReplies;
+}
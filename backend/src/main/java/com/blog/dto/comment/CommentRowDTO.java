@@ -0,0 +1,35 @@
+package com.blog.dto.comment;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * Internal comment projection used to assemble threads; carries no article columns.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class CommentRowDTO {
+
+    private Long id;
+    private String content;
+    private String authorName;
+    private String status;
+    private LocalDateTime createdAt;
+    private Long parentId;
+
+    /**
+     * 0 for roots, 1 for direct replies, and so on.
+     */
+    private int depth;
+
+    /**
+     * Root row as selected by JPQL constructor expressions.
+     */
+    public CommentRowDTO(Long id, String content, String authorName, String status, LocalDateTime createdAt, Long parentId) {
+        this(id, content, authorName, status, createdAt, parentId, 0);
+    }
+}
@@ -0,0 +1,17 @@
+package com.blog.dto.comment;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Internal (comment id, article id) pair selected for bulk moderation.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class CommentTargetDTO {
+
+    private Long id;
+    private Long articleId;
+}
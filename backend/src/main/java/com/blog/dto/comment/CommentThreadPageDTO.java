@@ -0,0 +1,25 @@
+package com.blog.dto.comment;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * 分页的评论树：一页顶层评论及其限定深度内的回复，文章信息只返回一次
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class CommentThreadPageDTO {
+
+    private Long articleId;
+    private String articleTitle;
+    private String articleSlug;
+    private List<CommentNodeDTO> items;
+    private int page;
+    private int size;
+    private long totalRoots;
+    private boolean hasMore;
+}
@@ -0,0 +1,23 @@
+package com.blog.dto.runtime;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * In-process cache statistics for admin diagnostics.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class CacheStatsDTO {
+
+    private long hits;
+    private long misses;
+    private long evictions;
+    private long invalidations;
+    private int entries;
+    private long weightBytes;
+    private long maxWeightBytes;
+    private double hitRate;
+}
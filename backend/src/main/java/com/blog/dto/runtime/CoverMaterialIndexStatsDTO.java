@@ -0,0 +1,23 @@
+package com.blog.dto.runtime;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * Cover material recommendation index state for admin diagnostics.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class CoverMaterialIndexStatsDTO {
+
+    private boolean ready;
+    private String ranking;
+    private int entries;
+    private int unusedEntries;
+    private long lastRebuildMillis;
+    private LocalDateTime lastRebuiltAt;
+}
@@ -0,0 +1,31 @@
+package com.blog.dto.runtime;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * Cover variant generation pool and backfill state for admin diagnostics.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class CoverVariantStatsDTO {
+
+    private int threads;
+    private int queued;
+    private int inFlight;
+    private long generated;
+    private long failed;
+
+    /**
+     * Uploads left for the backfill because the pool was saturated.
+     */
+    private long deferred;
+
+    private boolean backfillRunning;
+    private int lastBackfillPhotos;
+    private LocalDateTime lastBackfillAt;
+}
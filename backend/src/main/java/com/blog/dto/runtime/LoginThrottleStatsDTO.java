@@ -0,0 +1,18 @@
+package com.blog.dto.runtime;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Login throttle state for admin diagnostics.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class LoginThrottleStatsDTO {
+
+    private int trackedIps;
+    private int trackedUsernames;
+    private long throttled;
+}
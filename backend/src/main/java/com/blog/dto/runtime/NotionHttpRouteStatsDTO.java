@@ -0,0 +1,40 @@
+package com.blog.dto.runtime;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Connection pool and latency of one Notion network route for admin diagnostics.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class NotionHttpRouteStatsDTO {
+
+    private String route;
+    private int leased;
+    private int available;
+
+    /**
+     * Requests waiting for a connection.
+     */
+    private int pending;
+
+    private int maxConnections;
+
+    /**
+     * Attempts, counting each retry separately.
+     */
+    private long requests;
+
+    private long failures;
+    private double averageMillis;
+
+    /**
+     * Over the most recent 256 attempts.
+     */
+    private long p95Millis;
+
+    private long maxMillis;
+}
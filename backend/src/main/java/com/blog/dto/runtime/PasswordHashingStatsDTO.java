@@ -0,0 +1,26 @@
+package com.blog.dto.runtime;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Password hashing pool state and timings for admin diagnostics.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class PasswordHashingStatsDTO {
+
+    private int threads;
+    private int queueCapacity;
+    private int queueDepth;
+    private int activeThreads;
+    private long completed;
+    private long rejected;
+    private long timedOut;
+    private double avgQueueWaitMillis;
+    private double maxQueueWaitMillis;
+    private double avgHashMillis;
+    private double maxHashMillis;
+}
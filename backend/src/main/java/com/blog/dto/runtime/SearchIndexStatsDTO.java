@@ -0,0 +1,22 @@
+package com.blog.dto.runtime;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * Article search index state for admin diagnostics.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class SearchIndexStatsDTO {
+
+    private boolean ready;
+    private int documents;
+    private int terms;
+    private long lastRebuildMillis;
+    private LocalDateTime lastRebuiltAt;
+}
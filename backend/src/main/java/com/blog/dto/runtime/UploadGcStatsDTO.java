@@ -0,0 +1,37 @@
+package com.blog.dto.runtime;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * Orphaned upload collection state for admin diagnostics; counters describe the last finished run.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class UploadGcStatsDTO {
+
+    private boolean running;
+    private LocalDateTime lastRunAt;
+    private long lastRunMillis;
+    private long scanned;
+    private long quarantined;
+    private long quarantinedBytes;
+
+    /**
+     * Quarantined files referenced again and moved back.
+     */
+    private long restored;
+
+    private long purged;
+
+    /**
+     * Bytes freed by the last run: purged quarantine files plus abandoned temp files.
+     */
+    private long reclaimedBytes;
+
+    private long totalReclaimedBytes;
+}
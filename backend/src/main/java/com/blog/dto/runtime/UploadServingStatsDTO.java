@@ -0,0 +1,28 @@
+package com.blog.dto.runtime;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Upload file serving counters and hot-file memory cache state for admin diagnostics.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class UploadServingStatsDTO {
+
+    private CacheStatsDTO memoryCache;
+    private long notModified;
+    private long partial;
+
+    /**
+     * Bodies handed to the connector's sendfile.
+     */
+    private long sendfile;
+
+    /**
+     * Bodies copied with {@code FileChannel.transferTo} because sendfile was unavailable or not worth it.
+     */
+    private long transferred;
+}
@@ -10,6 +10,12 @@ public class CoverMaterialDTO {
     @JsonFormat(pattern = "yyyy-MM-dd HH:mm:ss")
     private LocalDateTime uploadedAt;
     private boolean usedAsCover;
+    private ImageVariantsDTO variants;
+    /**
+     * Displayed size in pixels from the upload's headers; null when unknown.
+     */
+    private Integer width;
+    private Integer height;
 
     public Long getPhotoId() {
         return photoId;
@@ -42,4 +48,28 @@ public class CoverMaterialDTO {
     public void setUsedAsCover(boolean usedAsCover) {
         this.usedAsCover = usedAsCover;
     }
+
+    public ImageVariantsDTO getVariants() {
+        return variants;
+    }
+
+    public void setVariants(ImageVariantsDTO variants) {
+        this.variants = variants;
+    }
+
+    public Integer getWidth() {
+        return width;
+    }
+
+    public void setWidth(Integer width) {
+        this.width = width;
+    }
+
+    public Integer getHeight() {
+        return height;
+    }
+
+    public void setHeight(Integer height) {
+        this.height = height;
+    }
 }
@@ -0,0 +1,69 @@
+package com.blog.dto.travel;
+
+/**
+ * Outcome of one file of a cover material upload. {@code material} is set for {@code CREATED} and
+ * {@code DUPLICATE} (the existing photo with the same content); {@code error} for {@code FAILED}.
+ */
+public class CoverMaterialUploadResultDTO {
+    public static final String STATUS_CREATED = "CREATED";
+    public static final String STATUS_DUPLICATE = "DUPLICATE";
+    public static final String STATUS_FAILED = "FAILED";
+
+    private String filename;
+    private String status;
+    private CoverMaterialDTO material;
+    private String error;
+
+    public static CoverMaterialUploadResultDTO created(String filename, CoverMaterialDTO material) {
+        return of(filename, STATUS_CREATED, material, null);
+    }
+
+    public static CoverMaterialUploadResultDTO duplicate(String filename, CoverMaterialDTO material) {
+        return of(filename, STATUS_DUPLICATE, material, null);
+    }
+
+    public static CoverMaterialUploadResultDTO failed(String filename, String error) {
+        return of(filename, STATUS_FAILED, null, error);
+    }
+
+    private static CoverMaterialUploadResultDTO of(String filename, String status, CoverMaterialDTO material, String error) {
+        CoverMaterialUploadResultDTO dto = new CoverMaterialUploadResultDTO();
+        dto.setFilename(filename);
+        dto.setStatus(status);
+        dto.setMaterial(material);
+        dto.setError(error);
+        return dto;
+    }
+
+    public String getFilename() {
+        return filename;
+    }
+
+    public void setFilename(String filename) {
+        this.filename = filename;
+    }
+
+    public String getStatus() {
+        return status;
+    }
+
+    public void setStatus(String status) {
+        this.status = status;
+    }
+
+    public CoverMaterialDTO getMaterial() {
+        return material;
+    }
+
+    public void setMaterial(CoverMaterialDTO material) {
+        this.material = material;
+    }
+
+    public String getError() {
+        return error;
+    }
+
+    public void setError(String error) {
+        this.error = error;
+    }
+}
@@ -0,0 +1,25 @@
+package com.blog.dto.travel;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * Internal (id, url, createdAt, variant URLs, displayed size) projection of a cover material photo.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class CoverPhotoRowDTO {
+
+    private Long id;
+    private String url;
+    private LocalDateTime createdAt;
+    private String thumbUrl;
+    private String cardUrl;
+    private String heroUrl;
+    private Integer width;
+    private Integer height;
+}
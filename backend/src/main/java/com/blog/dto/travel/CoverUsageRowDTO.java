@@ -0,0 +1,20 @@
+package com.blog.dto.travel;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * Internal per-photo cover usage: how many articles use it and when one of them last changed.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class CoverUsageRowDTO {
+
+    private Long photoId;
+    private Long articleCount;
+    private LocalDateTime lastUsedAt;
+}
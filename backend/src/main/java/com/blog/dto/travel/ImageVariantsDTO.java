@@ -0,0 +1,54 @@
+package com.blog.dto.travel;
+
+/**
+ * Responsive copies of an uploaded image, longest edge at most 320 / 800 / 1600 px. Each URL falls back
+ * to the original when the original is already that small.
+ */
+public class ImageVariantsDTO {
+    private String thumb;
+    private String card;
+    private String hero;
+
+    public ImageVariantsDTO() {
+    }
+
+    public ImageVariantsDTO(String thumb, String card, String hero) {
+        this.thumb = thumb;
+        this.card = card;
+        this.hero = hero;
+    }
+
+    /**
+     * @return {@code null} when the variants have not been generated yet
+     */
+    public static ImageVariantsDTO of(String thumb, String card, String hero) {
+        if (thumb == null && card == null && hero == null) {
+            return null;
+        }
+        return new ImageVariantsDTO(thumb, card, hero);
+    }
+
+    public String getThumb() {
+        return thumb;
+    }
+
+    public void setThumb(String thumb) {
+        this.thumb = thumb;
+    }
+
+    public String getCard() {
+        return card;
+    }
+
+    public void setCard(String card) {
+        this.card = card;
+    }
+
+    public String getHero() {
+        return hero;
+    }
+
+    public void setHero(String hero) {
+        this.hero = hero;
+    }
+}
@@ -0,0 +1,32 @@
+package com.blog.entity;
+
+import lombok.Data;
+
+import javax.persistence.*;
+import java.time.LocalDateTime;
+
+/**
+ * 文章评论计数（反范式化）：随评论写入在同一事务内维护，并由定时任务与 comments 表对账。
+ * 写入统一走 {@link com.blog.service.comment.ArticleCommentCounters}，实体仅用于映射表结构
+ */
+@Entity
+@Table(name = "article_comment_counters")
+@Data
+public class ArticleCommentCounter {
+
+    @Id
+    @Column(name = "article_id")
+    private Long articleId;
+
+    @Column(name = "comment_count", nullable = false)
+    private Integer commentCount = 0;
+
+    @Column(name = "approved_count", nullable = false)
+    private Integer approvedCount = 0;
+
+    @Column(name = "pending_count", nullable = false)
+    private Integer pendingCount = 0;
+
+    @Column(name = "last_comment_at")
+    private LocalDateTime lastCommentAt;
+}
@@ -0,0 +1,43 @@
+package com.blog.entity;
+
+import lombok.Data;
+
+import javax.persistence.*;
+import java.time.LocalDateTime;
+
+/**
+ * 文章发布时生成的渲染产物：HTML、预压缩的 gzip 字节、目录与字数统计
+ */
+@Entity
+@Table(name = "article_renders")
+@Data
+public class ArticleRender {
+
+    @Id
+    @Column(name = "article_id")
+    private Long articleId;
+
+    /**
+     * HTML 的 SHA-256（十六进制），同时用作强 ETag
+     */
+    @Column(name = "html_hash", nullable = false, length = 64)
+    private String htmlHash;
+
+    @Column(nullable = false, columnDefinition = "LONGTEXT")
+    private String html;
+
+    @Column(name = "html_gzip", nullable = false, columnDefinition = "LONGBLOB")
+    private byte[] htmlGzip;
+
+    @Column(name = "toc_json", columnDefinition = "TEXT")
+    private String tocJson;
+
+    @Column(name = "word_count", nullable = false)
+    private Integer wordCount;
+
+    @Column(name = "reading_minutes", nullable = false)
+    private Integer readingMinutes;
+
+    @Column(name = "rendered_at", nullable = false)
+    private LocalDateTime renderedAt;
+}
@@ -38,6 +38,50 @@ public class FootprintPhoto {
 
     private LocalDateTime createdAt;
 
+    /**
+     * SHA-256 of the file content (hex); the stored file is named after it. Null for legacy uploads.
+     */
+    @Column(name = "content_hash", length = 64)
+    private String contentHash;
+
+    /**
+     * Downscaled copies written by {@code CoverVariantGenerator}; equal to {@link #url} when the original is
+     * already within the variant's bounds. All null until {@link #variantStatus} is {@code READY}.
+     */
+    @Column(name = "thumb_url")
+    private String thumbUrl;
+
+    @Column(name = "card_url")
+    private String cardUrl;
+
+    @Column(name = "hero_url")
+    private String heroUrl;
+
+    /**
+     * Null while variants are pending, then {@code READY} or {@code FAILED} (unreadable or unsupported image).
+     */
+    @Column(name = "variant_status", length = 16)
+    private String variantStatus;
+
+    /**
+     * Displayed size in pixels, i.e. already swapped for EXIF orientations 5-8. Read from the file headers
+     * on upload; null when the format carries none.
+     */
+    private Integer width;
+
+    private Integer height;
+
+    /**
+     * EXIF orientation tag (1-8), null when absent.
+     */
+    private Integer orientation;
+
+    @Column(name = "camera_make", length = 100)
+    private String cameraMake;
+
+    @Column(name = "camera_model", length = 100)
+    private String cameraModel;
+
     @PrePersist
     public void prePersist() {
         if (sourceType == null || sourceType.trim().isEmpty()) {
@@ -119,4 +163,84 @@ public class FootprintPhoto {
     public void setCreatedAt(LocalDateTime createdAt) {
         this.createdAt = createdAt;
     }
+
+    public String getContentHash() {
+        return contentHash;
+    }
+
+    public void setContentHash(String contentHash) {
+        this.contentHash = contentHash;
+    }
+
+    public String getThumbUrl() {
+        return thumbUrl;
+    }
+
+    public void setThumbUrl(String thumbUrl) {
+        this.thumbUrl = thumbUrl;
+    }
+
+    public String getCardUrl() {
+        return cardUrl;
+    }
+
+    public void setCardUrl(String cardUrl) {
+        this.cardUrl = cardUrl;
+    }
+
+    public String getHeroUrl() {
+        return heroUrl;
+    }
+
+    public void setHeroUrl(String heroUrl) {
+        this.heroUrl = heroUrl;
+    }
+
+    public String getVariantStatus() {
+        return variantStatus;
+    }
+
+    public void setVariantStatus(String variantStatus) {
+        this.variantStatus = variantStatus;
+    }
+
+    public Integer getWidth() {
+        return width;
+    }
+
+    public void setWidth(Integer width) {
+        this.width = width;
+    }
+
+    public Integer getHeight() {
+        return height;
+    }
+
+    public void setHeight(Integer height) {
+        this.height = height;
+    }
+
+    public Integer getOrientation() {
+        return orientation;
+    }
+
+    public void setOrientation(Integer orientation) {
+        this.orientation = orientation;
+    }
+
+    public String getCameraMake() {
+        return cameraMake;
+    }
+
+    public void setCameraMake(String cameraMake) {
+        this.cameraMake = cameraMake;
+    }
+
+    public String getCameraModel() {
+        return cameraModel;
+    }
+
+    public void setCameraModel(String cameraModel) {
+        this.cameraModel = cameraModel;
+    }
 }
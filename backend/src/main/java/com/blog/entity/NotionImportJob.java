@@ -0,0 +1,50 @@
+package com.blog.entity;
+
+import lombok.Data;
+import org.springframework.data.annotation.CreatedDate;
+import org.springframework.data.jpa.domain.support.AuditingEntityListener;
+
+import javax.persistence.*;
+import java.time.LocalDateTime;
+
+/**
+ * 批量 Notion 导入任务：提交者与所有页面共用的导入选项，逐页状态见 {@link NotionImportJobItem}
+ */
+@Entity
+@Table(name = "notion_import_jobs", indexes = @Index(name = "idx_notion_import_jobs_username", columnList = "username, id"))
+@Data
+@EntityListeners(AuditingEntityListener.class)
+public class NotionImportJob {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(nullable = false, length = 50)
+    private String username;
+
+    /**
+     * AUTO | INTEGRATION | OAUTH | PUBLIC，为空时按 AUTO 处理
+     */
+    @Column(name = "auth_mode", length = 20)
+    private String authMode;
+
+    @Column(name = "category_id")
+    private Long categoryId;
+
+    /**
+     * 逗号分隔的标签 id
+     */
+    @Column(name = "tag_ids", length = 500)
+    private String tagIds;
+
+    @Column(nullable = false)
+    private Boolean publish = false;
+
+    @Column(name = "total_count", nullable = false)
+    private Integer totalCount;
+
+    @CreatedDate
+    @Column(name = "created_at", nullable = false, updatable = false)
+    private LocalDateTime createdAt;
+}
@@ -0,0 +1,51 @@
+package com.blog.entity;
+
+import lombok.Data;
+
+import javax.persistence.*;
+import java.time.LocalDateTime;
+
+/**
+ * 批量导入任务中的单个分享链接及其导入状态
+ */
+@Entity
+@Table(name = "notion_import_job_items", indexes = @Index(name = "idx_notion_import_job_items_job", columnList = "job_id, position"))
+@Data
+public class NotionImportJobItem {
+
+    public static final String STATUS_PENDING = "PENDING";
+    public static final String STATUS_RUNNING = "RUNNING";
+    public static final String STATUS_SUCCEEDED = "SUCCEEDED";
+    public static final String STATUS_FAILED = "FAILED";
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "job_id", nullable = false)
+    private Long jobId;
+
+    /**
+     * 在提交列表中的顺序，从 0 开始
+     */
+    @Column(nullable = false)
+    private Integer position;
+
+    @Column(name = "share_url", nullable = false, length = 1000)
+    private String shareUrl;
+
+    @Column(nullable = false, length = 20)
+    private String status = STATUS_PENDING; // PENDING, RUNNING, SUCCEEDED, FAILED
+
+    @Column(name = "article_id")
+    private Long articleId;
+
+    @Column(nullable = false)
+    private Integer attempts = 0;
+
+    @Column(name = "error_message", length = 500)
+    private String errorMessage;
+
+    @Column(name = "updated_at")
+    private LocalDateTime updatedAt;
+}
@@ -0,0 +1,25 @@
+package com.blog.repository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * Keyset (seek) queries over published articles; implemented by {@link ArticleKeysetRepositoryImpl}.
+ */
+public interface ArticleKeysetRepository {
+
+    /**
+     * Ids of published articles strictly after the given position in {@code (publishedAt DESC, id DESC)} order.
+     * Runs a single {@code LIMIT} query without the count query that {@code Page} results require.
+     *
+     * @param afterPublishedAt cursor position, {@code null} for the first page
+     * @param afterId          cursor tie-breaker, ignored when {@code afterPublishedAt} is {@code null}
+     */
+    List<Long> findPublishedIdsAfter(
+            Long categoryId,
+            Integer featuredLevel,
+            boolean excludeFeatured,
+            LocalDateTime afterPublishedAt,
+            Long afterId,
+            int limit);
+}
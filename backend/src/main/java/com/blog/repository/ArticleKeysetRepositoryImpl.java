@@ -0,0 +1,66 @@
+package com.blog.repository;
+
+import com.blog.entity.Article;
+
+import javax.persistence.EntityManager;
+import javax.persistence.PersistenceContext;
+import javax.persistence.criteria.CriteriaBuilder;
+import javax.persistence.criteria.CriteriaQuery;
+import javax.persistence.criteria.Predicate;
+import javax.persistence.criteria.Root;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Criteria-based keyset queries; predicates line up with the {@code (status, [category_id|featured_level],
+ * published_at, id)} composite indexes so MySQL can seek instead of scanning an OFFSET.
+ */
+public class ArticleKeysetRepositoryImpl implements ArticleKeysetRepository {
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Override
+    public List<Long> findPublishedIdsAfter(
+            Long categoryId,
+            Integer featuredLevel,
+            boolean excludeFeatured,
+            LocalDateTime afterPublishedAt,
+            Long afterId,
+            int limit) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<Long> query = cb.createQuery(Long.class);
+        Root<Article> root = query.from(Article.class);
+
+        List<Predicate> predicates = new ArrayList<>();
+        predicates.add(cb.equal(root.get("status"), "PUBLISHED"));
+        predicates.add(cb.isNotNull(root.get("publishedAt")));
+        if (categoryId != null) {
+            predicates.add(cb.equal(root.get("category").get("id"), categoryId));
+        }
+        if (featuredLevel != null) {
+            predicates.add(cb.equal(root.get("featuredLevel"), featuredLevel));
+        }
+        if (excludeFeatured) {
+            predicates.add(cb.equal(root.get("featuredLevel"), 0));
+        }
+        if (afterPublishedAt != null) {
+            predicates.add(cb.or(
+                    cb.lessThan(root.get("publishedAt"), afterPublishedAt),
+                    cb.and(
+                            cb.equal(root.get("publishedAt"), afterPublishedAt),
+                            cb.lessThan(root.get("id"), afterId)
+                    )
+            ));
+        }
+
+        query.select(root.get("id"))
+                .where(predicates.toArray(new Predicate[0]))
+                .orderBy(cb.desc(root.get("publishedAt")), cb.desc(root.get("id")));
+
+        return entityManager.createQuery(query)
+                .setMaxResults(limit)
+                .getResultList();
+    }
+}
@@ -0,0 +1,50 @@
+package com.blog.repository;
+
+import com.blog.entity.ArticleRender;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.util.Optional;
+
+public interface ArticleRenderRepository extends JpaRepository<ArticleRender, Long> {
+
+    /**
+     * Detail pages only need the TOC and counts; skip the HTML and gzip columns.
+     */
+    @Query("SELECT r.tocJson AS tocJson, r.wordCount AS wordCount, r.readingMinutes AS readingMinutes " +
+            "FROM ArticleRender r WHERE r.articleId = :articleId")
+    Optional<RenderMeta> findMetaByArticleId(@Param("articleId") Long articleId);
+
+    /**
+     * Conditional requests only need the ETag; never touch the LONGTEXT or LONGBLOB columns.
+     */
+    @Query("SELECT r.htmlHash FROM ArticleRender r WHERE r.articleId = :articleId")
+    Optional<String> findHashByArticleId(@Param("articleId") Long articleId);
+
+    @Query("SELECT r.htmlHash AS htmlHash, r.html AS html FROM ArticleRender r WHERE r.articleId = :articleId")
+    Optional<HtmlBody> findHtmlByArticleId(@Param("articleId") Long articleId);
+
+    @Query("SELECT r.htmlHash AS htmlHash, r.htmlGzip AS htmlGzip FROM ArticleRender r WHERE r.articleId = :articleId")
+    Optional<GzipBody> findGzipByArticleId(@Param("articleId") Long articleId);
+
+    interface RenderMeta {
+        String getTocJson();
+
+        Integer getWordCount();
+
+        Integer getReadingMinutes();
+    }
+
+    interface HtmlBody {
+        String getHtmlHash();
+
+        String getHtml();
+    }
+
+    interface GzipBody {
+        String getHtmlHash();
+
+        byte[] getHtmlGzip();
+    }
+}
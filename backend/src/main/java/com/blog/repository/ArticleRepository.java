@@ -1,17 +1,20 @@
 package com.blog.repository;
 
-import com.blog.dto.article.CategoryArticleGroupMetaDTO;
+import com.blog.dto.article.ArticleContentRowDTO;
+import com.blog.dto.article.ArticleSearchSourceDTO;
+import com.blog.dto.article.ArticleTagRowDTO;
+import com.blog.dto.comment.CommentArticleDTO;
+import com.blog.dto.travel.CoverUsageRowDTO;
 import com.blog.entity.Article;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
-import org.springframework.data.jpa.domain.Specification;
 import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
-import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -19,11 +22,8 @@ import java.util.Optional;
  * 鏂囩珷Repository
  */
 @Repository
-public interface ArticleRepository extends JpaRepository<Article, Long>, JpaSpecificationExecutor<Article> {
-
-    @Override
-    @EntityGraph(attributePaths = { "user", "category", "tags", "coverPhoto" })
-    Page<Article> findAll(Specification<Article> spec, Pageable pageable);
+public interface ArticleRepository extends JpaRepository<Article, Long>,
+        ArticleKeysetRepository, ArticleSummaryRepository {
 
     /**
      * 鏍规嵁Slug鏌ユ壘鏂囩珷
@@ -38,31 +38,12 @@ public interface ArticleRepository extends JpaRepository<Article, Long>, JpaSpec
     @Query("SELECT a FROM Article a WHERE a.status = 'PUBLISHED' ORDER BY a.publishedAt DESC, a.id DESC")
     Page<Article> findPublishedArticles(Pageable pageable);
 
-    /**
-     * 鏍规嵁鍒嗙被ID鏌ユ壘宸插彂甯冪殑鏂囩珷锛堝垎椤碉級
-     */
-    @EntityGraph(attributePaths = { "user", "category", "tags", "coverPhoto" })
-    @Query("SELECT a FROM Article a WHERE a.status = 'PUBLISHED' AND a.category.id = :categoryId ORDER BY a.publishedAt DESC, a.id DESC")
-    Page<Article> findPublishedArticlesByCategory(@Param("categoryId") Long categoryId, Pageable pageable);
-
     /**
      * 鎼滅储宸插彂甯冪殑鏂囩珷锛堟爣棰樻垨鍐呭鍖呭惈鍏抽敭璇嶏級
      */
     @EntityGraph(attributePaths = { "user", "category", "tags", "coverPhoto" })
     @Query("SELECT a FROM Article a WHERE a.status = 'PUBLISHED' AND (a.title LIKE %:keyword% OR a.summary LIKE %:keyword% OR a.content LIKE %:keyword%) ORDER BY a.publishedAt DESC, a.id DESC")
     Page<Article> searchPublishedArticles(@Param("keyword") String keyword, Pageable pageable);
-
-    @EntityGraph(attributePaths = { "user", "category", "tags", "coverPhoto" })
-    @Query("SELECT a FROM Article a ORDER BY CASE WHEN a.publishedAt IS NULL THEN a.createdAt ELSE a.publishedAt END DESC, a.id DESC")
-    Page<Article> findAllOrderByVisibleDate(Pageable pageable);
-
-    @Query("SELECT new com.blog.dto.article.CategoryArticleGroupMetaDTO(" +
-            "c.id, c.name, c.description, c.slugPath, c.parent.id, COUNT(a), MAX(a.publishedAt)) " +
-            "FROM Article a JOIN a.category c " +
-            "WHERE a.status = 'PUBLISHED' " +
-            "GROUP BY c.id, c.name, c.description, c.slugPath, c.parent.id " +
-            "ORDER BY MAX(a.publishedAt) DESC, c.id DESC")
-    List<CategoryArticleGroupMetaDTO> findPublishedCategoryGroupMetas();
 
     /**
      * 鏍规嵁ID鏌ユ壘鏂囩珷骞跺姞杞藉叧鑱斿疄浣?     */
@@ -90,10 +71,10 @@ public interface ArticleRepository extends JpaRepository<Article, Long>, JpaSpec
     Long getTotalViews();
 
     /**
-     * 鑾峰彇鐑棬鏂囩珷锛堟寜娴忚閲忔帓搴忥級
+     * 热门文章的 id、标题、浏览量（不加载正文，不做 count）
      */
-    @Query("SELECT a FROM Article a WHERE a.status = 'PUBLISHED' ORDER BY a.views DESC")
-    Page<Article> findTopArticlesByViews(Pageable pageable);
+    @Query("SELECT a.id, a.title, a.views FROM Article a WHERE a.status = 'PUBLISHED' ORDER BY a.views DESC, a.id DESC")
+    List<Object[]> findTopArticleStatsByViews(Pageable pageable);
 
     /**
      * 鎸夊垎绫荤粺璁℃枃绔犳暟
@@ -101,8 +82,45 @@ public interface ArticleRepository extends JpaRepository<Article, Long>, JpaSpec
     @Query("SELECT c.name, COUNT(a) FROM Article a JOIN a.category c WHERE a.status = 'PUBLISHED' GROUP BY c.id, c.name")
     List<Object[]> countArticlesByCategory();
 
-    @Query("SELECT DISTINCT a.coverPhoto.id FROM Article a WHERE a.coverPhoto IS NOT NULL")
-    List<Long> findDistinctCoverPhotoIds();
+    /**
+     * Batch-load tags for a page of summaries in one query instead of a fetch join per page.
+     */
+    @Query("SELECT new com.blog.dto.article.ArticleTagRowDTO(a.id, t.id, t.name) " +
+            "FROM Article a JOIN a.tags t WHERE a.id IN :articleIds")
+    List<ArticleTagRowDTO> findTagRowsByArticleIds(@Param("articleIds") Collection<Long> articleIds);
+
+    @Query("SELECT a.id FROM Article a WHERE a.status = 'PUBLISHED'")
+    List<Long> findPublishedArticleIds();
+
+    @Query("SELECT new com.blog.dto.article.ArticleSearchSourceDTO(" +
+            "a.id, a.title, a.summary, a.content, c.id, a.featuredLevel, a.publishedAt) " +
+            "FROM Article a LEFT JOIN a.category c " +
+            "WHERE a.status = 'PUBLISHED' AND a.id IN :ids")
+    List<ArticleSearchSourceDTO> findPublishedSearchSources(@Param("ids") Collection<Long> ids);
 
     boolean existsByCoverPhotoId(Long coverPhotoId);
+
+    @Query("SELECT a.views FROM Article a WHERE a.id = :id")
+    Optional<Long> findViewsById(@Param("id") Long id);
+
+    @Query("SELECT a.id FROM Article a WHERE a.coverPhoto.id = :photoId")
+    List<Long> findIdsByCoverPhotoId(@Param("photoId") Long photoId);
+
+    /**
+     * Keyset page of article bodies, for background scans that must not hold every body at once.
+     */
+    @Query("SELECT new com.blog.dto.article.ArticleContentRowDTO(a.id, a.content) " +
+            "FROM Article a WHERE a.id > :afterId ORDER BY a.id")
+    List<ArticleContentRowDTO> findContentRowsAfter(@Param("afterId") Long afterId, Pageable pageable);
+
+    @Query("SELECT new com.blog.dto.travel.CoverUsageRowDTO(a.coverPhoto.id, COUNT(a), MAX(a.updatedAt)) " +
+            "FROM Article a WHERE a.coverPhoto IS NOT NULL GROUP BY a.coverPhoto.id")
+    List<CoverUsageRowDTO> findCoverUsage();
+
+    @Query("SELECT new com.blog.dto.travel.CoverUsageRowDTO(a.coverPhoto.id, COUNT(a), MAX(a.updatedAt)) " +
+            "FROM Article a WHERE a.coverPhoto.id IN :photoIds GROUP BY a.coverPhoto.id")
+    List<CoverUsageRowDTO> findCoverUsageByPhotoIds(@Param("photoIds") Collection<Long> photoIds);
+
+    @Query("SELECT new com.blog.dto.comment.CommentArticleDTO(a.id, a.title, a.slug) FROM Article a WHERE a.id = :id")
+    Optional<CommentArticleDTO> findCommentArticleById(@Param("id") Long id);
 }
@@ -0,0 +1,42 @@
+package com.blog.repository;
+
+import com.blog.dto.article.ArticleSummaryRowDTO;
+import com.blog.dto.article.CategoryTopArticleRowDTO;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * Content-free summary queries for list endpoints; implemented by {@link ArticleSummaryRepositoryImpl}.
+ */
+public interface ArticleSummaryRepository {
+
+    /**
+     * Published summaries ordered by the pageable sort. {@code keyword} is the SQL {@code LIKE} fallback
+     * used while the in-process search index is unavailable.
+     */
+    Page<ArticleSummaryRowDTO> findPublishedSummaries(
+            String keyword,
+            Long categoryId,
+            Integer featuredLevel,
+            boolean excludeFeatured,
+            Pageable pageable);
+
+    /**
+     * All summaries for the admin list, newest visible date first, optionally filtered by keyword.
+     */
+    Page<ArticleSummaryRowDTO> findAdminSummaries(String keyword, Pageable pageable);
+
+    /**
+     * Summaries for the given ids in no particular order.
+     */
+    List<ArticleSummaryRowDTO> findSummariesByIds(Collection<Long> ids);
+
+    /**
+     * The newest {@code perCategoryLimit} published articles of every category in one windowed query,
+     * grouped by category (most recently published category first) and newest article first within a group.
+     */
+    List<CategoryTopArticleRowDTO> findPublishedTopPerCategory(int perCategoryLimit);
+}
@@ -0,0 +1,260 @@
+package com.blog.repository;
+
+import com.blog.dto.article.ArticleSummaryRowDTO;
+import com.blog.dto.article.CategoryTopArticleRowDTO;
+import com.blog.entity.Article;
+import com.blog.entity.ArticleCommentCounter;
+import com.blog.entity.Category;
+import com.blog.entity.FootprintPhoto;
+import com.blog.entity.User;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.query.QueryUtils;
+import org.springframework.data.support.PageableExecutionUtils;
+import org.springframework.util.StringUtils;
+
+import javax.persistence.EntityManager;
+import javax.persistence.PersistenceContext;
+import javax.persistence.TypedQuery;
+import javax.persistence.criteria.CriteriaBuilder;
+import javax.persistence.criteria.CriteriaQuery;
+import javax.persistence.criteria.Join;
+import javax.persistence.criteria.JoinType;
+import javax.persistence.criteria.Predicate;
+import javax.persistence.criteria.Root;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Criteria implementation of {@link ArticleSummaryRepository}.
+ * <p>
+ * Every query selects a constructor projection over to-one joins only, so result sets never carry the
+ * LONGTEXT content and never multiply rows through the tags collection. Comment counters come from an
+ * explicit primary-key join on {@code article_comment_counters}, as in {@code TOP_PER_CATEGORY_SQL}. Because no collection is
+ * joined, counts are a plain {@code COUNT(a)} instead of {@code COUNT(DISTINCT a)}.
+ */
+public class ArticleSummaryRepositoryImpl implements ArticleSummaryRepository {
+
+    /**
+     * MySQL 8 window functions; JPQL has no equivalent, so this is the one native query here.
+     */
+    private static final String TOP_PER_CATEGORY_SQL =
+            "SELECT ranked.* FROM (" +
+            " SELECT a.id, a.title, a.slug, a.summary, p.id AS cover_photo_id, p.url AS cover_image," +
+            " a.status, a.featured_level, a.views, a.published_at, a.created_at, u.username," +
+            " c.id AS category_id, c.name AS category_name, c.description AS category_description," +
+            " c.slug_path AS category_slug_path, c.parent_id AS category_parent_id," +
+            " acc.comment_count, acc.approved_count, acc.last_comment_at," +
+            " p.thumb_url, p.card_url, p.hero_url, p.width AS cover_width, p.height AS cover_height," +
+            " ROW_NUMBER() OVER (PARTITION BY a.category_id ORDER BY a.published_at DESC, a.id DESC) AS rn," +
+            " COUNT(*) OVER (PARTITION BY a.category_id) AS category_total," +
+            " MAX(a.published_at) OVER (PARTITION BY a.category_id) AS category_latest" +
+            " FROM articles a" +
+            " JOIN categories c ON c.id = a.category_id" +
+            " LEFT JOIN users u ON u.id = a.user_id" +
+            " LEFT JOIN footprint_photo p ON p.id = a.cover_photo_id" +
+            " LEFT JOIN article_comment_counters acc ON acc.article_id = a.id" +
+            " WHERE a.status = 'PUBLISHED'" +
+            ") ranked" +
+            " WHERE ranked.rn <= :perCategoryLimit" +
+            " ORDER BY ranked.category_latest DESC, ranked.category_id DESC, ranked.rn";
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Override
+    public Page<ArticleSummaryRowDTO> findPublishedSummaries(
+            String keyword,
+            Long categoryId,
+            Integer featuredLevel,
+            boolean excludeFeatured,
+            Pageable pageable) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+
+        CriteriaQuery<ArticleSummaryRowDTO> query = cb.createQuery(ArticleSummaryRowDTO.class);
+        Root<Article> root = query.from(Article.class);
+        selectSummary(cb, query, root);
+        query.where(publishedPredicates(cb, root, keyword, categoryId, featuredLevel, excludeFeatured));
+        query.orderBy(QueryUtils.toOrders(pageable.getSort(), root, cb));
+
+        List<ArticleSummaryRowDTO> content = page(entityManager.createQuery(query), pageable);
+        return PageableExecutionUtils.getPage(content, pageable, () -> {
+            CriteriaQuery<Long> countQuery = cb.createQuery(Long.class);
+            Root<Article> countRoot = countQuery.from(Article.class);
+            countQuery.select(cb.count(countRoot))
+                    .where(publishedPredicates(cb, countRoot, keyword, categoryId, featuredLevel, excludeFeatured));
+            return entityManager.createQuery(countQuery).getSingleResult();
+        });
+    }
+
+    @Override
+    public Page<ArticleSummaryRowDTO> findAdminSummaries(String keyword, Pageable pageable) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+
+        CriteriaQuery<ArticleSummaryRowDTO> query = cb.createQuery(ArticleSummaryRowDTO.class);
+        Root<Article> root = query.from(Article.class);
+        selectSummary(cb, query, root);
+        query.where(keywordPredicates(cb, root, keyword));
+        query.orderBy(
+                cb.desc(cb.coalesce(root.get("publishedAt"), root.get("createdAt"))),
+                cb.desc(root.get("id"))
+        );
+
+        List<ArticleSummaryRowDTO> content = page(entityManager.createQuery(query), pageable);
+        return PageableExecutionUtils.getPage(content, pageable, () -> {
+            CriteriaQuery<Long> countQuery = cb.createQuery(Long.class);
+            Root<Article> countRoot = countQuery.from(Article.class);
+            countQuery.select(cb.count(countRoot)).where(keywordPredicates(cb, countRoot, keyword));
+            return entityManager.createQuery(countQuery).getSingleResult();
+        });
+    }
+
+    @Override
+    public List<ArticleSummaryRowDTO> findSummariesByIds(Collection<Long> ids) {
+        if (ids == null || ids.isEmpty()) {
+            return Collections.emptyList();
+        }
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<ArticleSummaryRowDTO> query = cb.createQuery(ArticleSummaryRowDTO.class);
+        Root<Article> root = query.from(Article.class);
+        selectSummary(cb, query, root);
+        query.where(root.get("id").in(ids));
+        return entityManager.createQuery(query).getResultList();
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public List<CategoryTopArticleRowDTO> findPublishedTopPerCategory(int perCategoryLimit) {
+        List<Object[]> rows = entityManager.createNativeQuery(TOP_PER_CATEGORY_SQL)
+                .setParameter("perCategoryLimit", perCategoryLimit)
+                .getResultList();
+        List<CategoryTopArticleRowDTO> result = new ArrayList<>(rows.size());
+        for (Object[] row : rows) {
+            ArticleSummaryRowDTO summary = new ArticleSummaryRowDTO(
+                    toLong(row[0]),
+                    (String) row[1],
+                    (String) row[2],
+                    (String) row[3],
+                    toLong(row[4]),
+                    (String) row[5],
+                    (String) row[6],
+                    row[7] == null ? null : ((Number) row[7]).intValue(),
+                    toLong(row[8]),
+                    toDateTime(row[9]),
+                    toDateTime(row[10]),
+                    (String) row[11],
+                    toLong(row[12]),
+                    (String) row[13],
+                    (String) row[14],
+                    (String) row[15],
+                    toLong(row[16]),
+                    row[17] == null ? null : ((Number) row[17]).intValue(),
+                    row[18] == null ? null : ((Number) row[18]).intValue(),
+                    toDateTime(row[19]),
+                    (String) row[20],
+                    (String) row[21],
+                    (String) row[22],
+                    row[23] == null ? null : ((Number) row[23]).intValue(),
+                    row[24] == null ? null : ((Number) row[24]).intValue()
+            );
+            result.add(new CategoryTopArticleRowDTO(summary, toLong(row[26])));
+        }
+        return result;
+    }
+
+    private void selectSummary(CriteriaBuilder cb, CriteriaQuery<ArticleSummaryRowDTO> query, Root<Article> root) {
+        Join<Article, User> user = root.join("user", JoinType.LEFT);
+        Join<Article, Category> category = root.join("category", JoinType.LEFT);
+        Join<Category, Category> parent = category.join("parent", JoinType.LEFT);
+        Join<Article, FootprintPhoto> coverPhoto = root.join("coverPhoto", JoinType.LEFT);
+        Join<Article, ArticleCommentCounter> counters = root.join("commentCounter", JoinType.LEFT);
+
+        query.select(cb.construct(
+                ArticleSummaryRowDTO.class,
+                root.get("id"),
+                root.get("title"),
+                root.get("slug"),
+                root.get("summary"),
+                coverPhoto.get("id"),
+                coverPhoto.get("url"),
+                root.get("status"),
+                root.get("featuredLevel"),
+                root.get("views"),
+                root.get("publishedAt"),
+                root.get("createdAt"),
+                user.get("username"),
+                category.get("id"),
+                category.get("name"),
+                category.get("description"),
+                category.get("slugPath"),
+                parent.get("id"),
+                counters.get("commentCount"),
+                counters.get("approvedCount"),
+                counters.get("lastCommentAt"),
+                coverPhoto.get("thumbUrl"),
+                coverPhoto.get("cardUrl"),
+                coverPhoto.get("heroUrl"),
+                coverPhoto.get("width"),
+                coverPhoto.get("height")
+        ));
+    }
+
+    private Predicate[] publishedPredicates(
+            CriteriaBuilder cb,
+            Root<Article> root,
+            String keyword,
+            Long categoryId,
+            Integer featuredLevel,
+            boolean excludeFeatured) {
+        List<Predicate> predicates = new ArrayList<>();
+        predicates.add(cb.equal(root.get("status"), "PUBLISHED"));
+        predicates.addAll(List.of(keywordPredicates(cb, root, keyword)));
+        if (categoryId != null) {
+            predicates.add(cb.equal(root.get("category").get("id"), categoryId));
+        }
+        if (featuredLevel != null) {
+            predicates.add(cb.equal(root.get("featuredLevel"), featuredLevel));
+        }
+        if (excludeFeatured) {
+            predicates.add(cb.equal(root.get("featuredLevel"), 0));
+        }
+        return predicates.toArray(new Predicate[0]);
+    }
+
+    private Predicate[] keywordPredicates(CriteriaBuilder cb, Root<Article> root, String keyword) {
+        if (!StringUtils.hasText(keyword)) {
+            return new Predicate[0];
+        }
+        String likeKeyword = "%" + keyword.trim() + "%";
+        return new Predicate[] {
+                cb.or(
+                        cb.like(root.get("title"), likeKeyword),
+                        cb.like(root.get("summary"), likeKeyword),
+                        cb.like(root.get("content"), likeKeyword)
+                )
+        };
+    }
+
+    private static Long toLong(Object value) {
+        return value == null ? null : ((Number) value).longValue();
+    }
+
+    private static LocalDateTime toDateTime(Object value) {
+        if (value instanceof Timestamp) {
+            return ((Timestamp) value).toLocalDateTime();
+        }
+        return (LocalDateTime) value;
+    }
+
+    private static <T> List<T> page(TypedQuery<T> query, Pageable pageable) {
+        if (pageable.isPaged()) {
+            query.setFirstResult((int) pageable.getOffset());
+            query.setMaxResults(pageable.getPageSize());
+        }
+        return query.getResultList();
+    }
+}
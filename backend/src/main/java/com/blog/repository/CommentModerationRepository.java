@@ -0,0 +1,30 @@
+package com.blog.repository;
+
+import com.blog.dto.comment.CommentTargetDTO;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * Target selection for bulk comment moderation; implemented by {@link CommentModerationRepositoryImpl}.
+ */
+public interface CommentModerationRepository {
+
+    /**
+     * Up to {@code limit} comments matching every non-null criterion, lowest id first.
+     */
+    List<CommentTargetDTO> findModerationTargets(
+            Collection<Long> ids,
+            String status,
+            Long articleId,
+            String authorName,
+            LocalDateTime createdFrom,
+            LocalDateTime createdTo,
+            int limit);
+
+    /**
+     * The given comments together with all of their replies, at any depth.
+     */
+    List<CommentTargetDTO> findSubtreeTargets(Collection<Long> rootIds);
+}
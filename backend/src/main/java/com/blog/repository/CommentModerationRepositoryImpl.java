@@ -0,0 +1,98 @@
+package com.blog.repository;
+
+import com.blog.dto.comment.CommentTargetDTO;
+import com.blog.entity.Comment;
+import org.springframework.util.StringUtils;
+
+import javax.persistence.EntityManager;
+import javax.persistence.PersistenceContext;
+import javax.persistence.criteria.CriteriaBuilder;
+import javax.persistence.criteria.CriteriaQuery;
+import javax.persistence.criteria.Predicate;
+import javax.persistence.criteria.Root;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * Criteria/native implementation of {@link CommentModerationRepository}.
+ */
+public class CommentModerationRepositoryImpl implements CommentModerationRepository {
+
+    /**
+     * MySQL 8 recursive CTE: the roots plus every reply below them, in a single round trip.
+     */
+    private static final String SUBTREE_SQL =
+            "WITH RECURSIVE subtree (id, article_id) AS (" +
+            " SELECT c.id, c.article_id FROM comments c WHERE c.id IN (:rootIds)" +
+            " UNION DISTINCT" +
+            " SELECT c.id, c.article_id FROM comments c JOIN subtree s ON c.parent_id = s.id" +
+            ")" +
+            " SELECT id, article_id FROM subtree ORDER BY id";
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Override
+    public List<CommentTargetDTO> findModerationTargets(
+            Collection<Long> ids,
+            String status,
+            Long articleId,
+            String authorName,
+            LocalDateTime createdFrom,
+            LocalDateTime createdTo,
+            int limit) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<CommentTargetDTO> query = cb.createQuery(CommentTargetDTO.class);
+        Root<Comment> root = query.from(Comment.class);
+        query.select(cb.construct(CommentTargetDTO.class, root.get("id"), root.get("article").get("id")));
+
+        List<Predicate> predicates = new ArrayList<>();
+        if (ids != null && !ids.isEmpty()) {
+            predicates.add(root.get("id").in(ids));
+        }
+        if (StringUtils.hasText(status)) {
+            predicates.add(cb.equal(root.get("status"), status.trim()));
+        }
+        if (articleId != null) {
+            predicates.add(cb.equal(root.get("article").get("id"), articleId));
+        }
+        if (StringUtils.hasText(authorName)) {
+            predicates.add(cb.equal(root.get("authorName"), authorName.trim()));
+        }
+        if (createdFrom != null) {
+            predicates.add(cb.greaterThanOrEqualTo(root.get("createdAt"), createdFrom));
+        }
+        if (createdTo != null) {
+            predicates.add(cb.lessThan(root.get("createdAt"), createdTo));
+        }
+        query.where(predicates.toArray(new Predicate[0]));
+        query.orderBy(cb.asc(root.get("id")));
+
+        return entityManager.createQuery(query)
+                .setMaxResults(limit)
+                .getResultList();
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public List<CommentTargetDTO> findSubtreeTargets(Collection<Long> rootIds) {
+        if (rootIds.isEmpty()) {
+            return List.of();
+        }
+        List<Object[]> rows = entityManager.createNativeQuery(SUBTREE_SQL)
+                .setParameter("rootIds", rootIds)
+                .getResultList();
+
+        List<CommentTargetDTO> result = new ArrayList<>(rows.size());
+        for (Object[] row : rows) {
+            result.add(new CommentTargetDTO(toLong(row[0]), toLong(row[1])));
+        }
+        return result;
+    }
+
+    private static Long toLong(Object value) {
+        return value == null ? null : ((Number) value).longValue();
+    }
+}
@@ -1,23 +1,45 @@
 package com.blog.repository;
 
+import com.blog.dto.comment.CommentDTO;
+import com.blog.dto.comment.CommentRowDTO;
 import com.blog.entity.Comment;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
 
 /**
  * Comment repository
  */
 @Repository
-public interface CommentRepository extends JpaRepository<Comment, Long> {
+public interface CommentRepository extends JpaRepository<Comment, Long>, CommentThreadRepository, CommentModerationRepository {
 
     /**
-     * 根据文章ID查询评论（包含待审核），按时间倒序
+     * 根据文章ID查询已通过审核的评论，按时间倒序；扁平投影，一次查询带出文章标题与 slug，不触发懒加载
      */
-    List<Comment> findByArticleIdOrderByCreatedAtDesc(Long articleId);
+    @Query("SELECT new com.blog.dto.comment.CommentDTO(" +
+            "c.id, c.content, c.authorName, c.status, c.createdAt, p.id, a.id, a.title, a.slug) " +
+            "FROM Comment c JOIN c.article a LEFT JOIN c.parent p " +
+            "WHERE a.id = :articleId AND c.status = 'APPROVED' ORDER BY c.createdAt DESC, c.id DESC")
+    List<CommentDTO> findDtosByArticleId(@Param("articleId") Long articleId);
+
+    /**
+     * 一页已通过审核的顶层评论（投影，不含文章列），最新在前；总数同样只统计已通过的顶层评论
+     */
+    @Query(value = "SELECT new com.blog.dto.comment.CommentRowDTO(" +
+            "c.id, c.content, c.authorName, c.status, c.createdAt, p.id) " +
+            "FROM Comment c LEFT JOIN c.parent p " +
+            "WHERE c.article.id = :articleId AND c.parent IS NULL AND c.status = 'APPROVED' " +
+            "ORDER BY c.createdAt DESC, c.id DESC",
+            countQuery = "SELECT COUNT(c) FROM Comment c " +
+                    "WHERE c.article.id = :articleId AND c.parent IS NULL AND c.status = 'APPROVED'")
+    Page<CommentRowDTO> findRootRowsByArticleId(@Param("articleId") Long articleId, Pageable pageable);
 
     /**
      * 统计指定状态评论数量
@@ -29,6 +51,27 @@ public interface CommentRepository extends JpaRepository<Comment, Long> {
      */
     void deleteByArticleId(Long articleId);
 
+    /**
+     * 批量改状态（单条 UPDATE），已是目标状态的行不计入返回值
+     */
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("UPDATE Comment c SET c.status = :status WHERE c.id IN :ids AND c.status <> :status")
+    int updateStatusByIdIn(@Param("ids") Collection<Long> ids, @Param("status") String status);
+
+    /**
+     * 断开父子关联，使同一批待删评论可在一条 DELETE 内删除而不触发自引用外键
+     */
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("UPDATE Comment c SET c.parent = NULL WHERE c.id IN :ids AND c.parent IS NOT NULL")
+    int detachParentsByIdIn(@Param("ids") Collection<Long> ids);
+
+    /**
+     * 批量删除（单条 DELETE）
+     */
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("DELETE FROM Comment c WHERE c.id IN :ids")
+    int deleteByIdIn(@Param("ids") Collection<Long> ids);
+
     /**
      * 按状态分页查询评论
      */
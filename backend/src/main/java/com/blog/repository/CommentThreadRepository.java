@@ -0,0 +1,18 @@
+package com.blog.repository;
+
+import com.blog.dto.comment.CommentRowDTO;
+
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * Reply-tree queries for threaded comments; implemented by {@link CommentThreadRepositoryImpl}.
+ */
+public interface CommentThreadRepository {
+
+    /**
+     * Every approved reply below the given roots down to {@code maxDepth} levels (1 = direct replies), oldest
+     * first. Replies under a reply that is not approved are left out.
+     */
+    List<CommentRowDTO> findRepliesUnderRoots(Collection<Long> rootIds, int maxDepth);
+}
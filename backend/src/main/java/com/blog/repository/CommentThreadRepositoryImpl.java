@@ -0,0 +1,73 @@
+package com.blog.repository;
+
+import com.blog.dto.comment.CommentRowDTO;
+
+import javax.persistence.EntityManager;
+import javax.persistence.PersistenceContext;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * Native implementation of {@link CommentThreadRepository}.
+ */
+public class CommentThreadRepositoryImpl implements CommentThreadRepository {
+
+    /**
+     * MySQL 8 recursive CTE: walks down from one page of roots, bounded by depth, in a single round trip.
+     * Only approved replies are followed, so a pending or spam reply hides its whole subtree.
+     */
+    private static final String REPLIES_SQL =
+            "WITH RECURSIVE thread (id, content, author_name, status, created_at, parent_id, depth) AS (" +
+            " SELECT c.id, c.content, c.author_name, c.status, c.created_at, c.parent_id, 1" +
+            " FROM comments c WHERE c.parent_id IN (:rootIds) AND c.status = 'APPROVED'" +
+            " UNION ALL" +
+            " SELECT c.id, c.content, c.author_name, c.status, c.created_at, c.parent_id, t.depth + 1" +
+            " FROM comments c JOIN thread t ON c.parent_id = t.id" +
+            " WHERE t.depth < :maxDepth AND c.status = 'APPROVED'" +
+            ")" +
+            " SELECT id, content, author_name, status, created_at, parent_id, depth" +
+            " FROM thread ORDER BY created_at, id";
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public List<CommentRowDTO> findRepliesUnderRoots(Collection<Long> rootIds, int maxDepth) {
+        if (rootIds.isEmpty() || maxDepth < 1) {
+            return List.of();
+        }
+        List<Object[]> rows = entityManager.createNativeQuery(REPLIES_SQL)
+                .setParameter("rootIds", rootIds)
+                .setParameter("maxDepth", maxDepth)
+                .getResultList();
+
+        List<CommentRowDTO> result = new ArrayList<>(rows.size());
+        for (Object[] row : rows) {
+            result.add(new CommentRowDTO(
+                    toLong(row[0]),
+                    (String) row[1],
+                    (String) row[2],
+                    (String) row[3],
+                    toDateTime(row[4]),
+                    toLong(row[5]),
+                    ((Number) row[6]).intValue()
+            ));
+        }
+        return result;
+    }
+
+    private static Long toLong(Object value) {
+        return value == null ? null : ((Number) value).longValue();
+    }
+
+    private static LocalDateTime toDateTime(Object value) {
+        if (value instanceof Timestamp) {
+            return ((Timestamp) value).toLocalDateTime();
+        }
+        return (LocalDateTime) value;
+    }
+}
@@ -0,0 +1,44 @@
+package com.blog.repository;
+
+import com.blog.dto.travel.CoverMaterialDTO;
+import com.blog.entity.FootprintPhoto;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * Cover material listings with the {@code usedAsCover} flag computed in SQL; implemented by
+ * {@link CoverMaterialRepositoryImpl}.
+ */
+public interface CoverMaterialRepository {
+
+    /**
+     * One page of photos of the given source type, newest first.
+     */
+    Page<CoverMaterialDTO> findCoverMaterials(String sourceType, Pageable pageable);
+
+    /**
+     * A single photo of the given source type by primary key.
+     */
+    Optional<CoverMaterialDTO> findCoverMaterial(String sourceType, Long photoId);
+
+    /**
+     * Photos of the given source type whose content hash is in {@code contentHashes}, keyed by hash. The
+     * unique {@code (source_type, content_hash)} index allows at most one row per hash.
+     */
+    Map<String, CoverMaterialDTO> findCoverMaterialsByContentHash(String sourceType, Collection<String> contentHashes);
+
+    /**
+     * Insert the photos with one JDBC batch and assign their generated ids. Bypasses the persistence
+     * context: the photos are not managed afterwards and no lifecycle callbacks run, so {@code createdAt}
+     * and {@code sourceType} must already be set. A content hash that already exists fails the whole batch
+     * with a {@link org.springframework.dao.DataIntegrityViolationException}.
+     */
+    @Transactional
+    void insertAll(List<FootprintPhoto> photos);
+}
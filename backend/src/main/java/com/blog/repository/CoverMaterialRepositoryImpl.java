@@ -0,0 +1,178 @@
+package com.blog.repository;
+
+import com.blog.dto.travel.CoverMaterialDTO;
+import com.blog.dto.travel.ImageVariantsDTO;
+import com.blog.entity.FootprintPhoto;
+import org.hibernate.Session;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.support.PageableExecutionUtils;
+
+import javax.persistence.EntityManager;
+import javax.persistence.PersistenceContext;
+import javax.persistence.Query;
+import java.sql.Date;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.Statement;
+import java.sql.Timestamp;
+import java.sql.Types;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * Native implementation of {@link CoverMaterialRepository}.
+ * <p>
+ * Pages seek on {@code idx_footprint_photo_source_created_id (source_type, created_at, id)}; the used
+ * flag is a correlated {@code EXISTS} on the {@code articles.cover_photo_id} foreign-key index, evaluated
+ * only for the rows of the requested page. Upload deduplication probes the unique
+ * {@code idx_footprint_photo_source_hash (source_type, content_hash)}.
+ */
+public class CoverMaterialRepositoryImpl implements CoverMaterialRepository {
+
+    private static final String SELECT_SQL =
+            "SELECT p.id, p.url, p.created_at," +
+            " EXISTS (SELECT 1 FROM articles a WHERE a.cover_photo_id = p.id) AS used_as_cover," +
+            " p.thumb_url, p.card_url, p.hero_url, p.width, p.height" +
+            " FROM footprint_photo p";
+
+    private static final String PAGE_SQL = SELECT_SQL +
+            " WHERE p.source_type = :sourceType" +
+            " ORDER BY p.created_at DESC, p.id DESC";
+
+    private static final String BY_ID_SQL = SELECT_SQL +
+            " WHERE p.id = :photoId AND p.source_type = :sourceType";
+
+    private static final String BY_HASH_SQL =
+            "SELECT p.id, p.url, p.created_at," +
+            " EXISTS (SELECT 1 FROM articles a WHERE a.cover_photo_id = p.id) AS used_as_cover," +
+            " p.thumb_url, p.card_url, p.hero_url, p.width, p.height, p.content_hash" +
+            " FROM footprint_photo p" +
+            " WHERE p.source_type = :sourceType AND p.content_hash IN (:hashes)" +
+            " ORDER BY p.id";
+
+    private static final String INSERT_SQL =
+            "INSERT INTO footprint_photo (url, cover, source_type, created_at, content_hash," +
+            " shot_at, width, height, orientation, camera_make, camera_model)" +
+            " VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?)";
+
+    private static final String COUNT_SQL =
+            "SELECT COUNT(*) FROM footprint_photo p WHERE p.source_type = :sourceType";
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Override
+    public Page<CoverMaterialDTO> findCoverMaterials(String sourceType, Pageable pageable) {
+        Query query = entityManager.createNativeQuery(PAGE_SQL)
+                .setParameter("sourceType", sourceType);
+        if (pageable.isPaged()) {
+            query.setFirstResult((int) pageable.getOffset());
+            query.setMaxResults(pageable.getPageSize());
+        }
+        List<CoverMaterialDTO> content = toDtos(query);
+        return PageableExecutionUtils.getPage(content, pageable, () -> ((Number) entityManager
+                .createNativeQuery(COUNT_SQL)
+                .setParameter("sourceType", sourceType)
+                .getSingleResult()).longValue());
+    }
+
+    @Override
+    public Optional<CoverMaterialDTO> findCoverMaterial(String sourceType, Long photoId) {
+        Query query = entityManager.createNativeQuery(BY_ID_SQL)
+                .setParameter("photoId", photoId)
+                .setParameter("sourceType", sourceType);
+        return toDtos(query).stream().findFirst();
+    }
+
+    @Override
+    public Map<String, CoverMaterialDTO> findCoverMaterialsByContentHash(String sourceType, Collection<String> contentHashes) {
+        Map<String, CoverMaterialDTO> result = new LinkedHashMap<>();
+        if (contentHashes == null || contentHashes.isEmpty()) {
+            return result;
+        }
+        @SuppressWarnings("unchecked")
+        List<Object[]> rows = entityManager.createNativeQuery(BY_HASH_SQL)
+                .setParameter("sourceType", sourceType)
+                .setParameter("hashes", contentHashes)
+                .getResultList();
+        for (Object[] row : rows) {
+            result.putIfAbsent((String) row[9], toDto(row));
+        }
+        return result;
+    }
+
+    @Override
+    public void insertAll(List<FootprintPhoto> photos) {
+        if (photos.isEmpty()) {
+            return;
+        }
+        // Flush first so pending JPA writes land before the batch, which goes straight to JDBC.
+        entityManager.flush();
+        entityManager.unwrap(Session.class).doWork(connection -> {
+            try (PreparedStatement statement = connection.prepareStatement(INSERT_SQL, Statement.RETURN_GENERATED_KEYS)) {
+                for (FootprintPhoto photo : photos) {
+                    statement.setString(1, photo.getUrl());
+                    statement.setBoolean(2, Boolean.TRUE.equals(photo.getCover()));
+                    statement.setString(3, photo.getSourceType());
+                    statement.setTimestamp(4, Timestamp.valueOf(photo.getCreatedAt()));
+                    statement.setString(5, photo.getContentHash());
+                    statement.setObject(6, photo.getShotAt() == null ? null : Date.valueOf(photo.getShotAt()), Types.DATE);
+                    statement.setObject(7, photo.getWidth(), Types.INTEGER);
+                    statement.setObject(8, photo.getHeight(), Types.INTEGER);
+                    statement.setObject(9, photo.getOrientation(), Types.INTEGER);
+                    statement.setString(10, photo.getCameraMake());
+                    statement.setString(11, photo.getCameraModel());
+                    statement.addBatch();
+                }
+                statement.executeBatch();
+                try (ResultSet keys = statement.getGeneratedKeys()) {
+                    for (FootprintPhoto photo : photos) {
+                        if (!keys.next()) {
+                            throw new IllegalStateException("Missing generated key for " + photo.getUrl());
+                        }
+                        photo.setId(keys.getLong(1));
+                    }
+                }
+            }
+        });
+    }
+
+    @SuppressWarnings("unchecked")
+    private static List<CoverMaterialDTO> toDtos(Query query) {
+        List<Object[]> rows = query.getResultList();
+        List<CoverMaterialDTO> result = new ArrayList<>(rows.size());
+        for (Object[] row : rows) {
+            result.add(toDto(row));
+        }
+        return result;
+    }
+
+    private static CoverMaterialDTO toDto(Object[] row) {
+        CoverMaterialDTO dto = new CoverMaterialDTO();
+        dto.setPhotoId(((Number) row[0]).longValue());
+        dto.setUrl((String) row[1]);
+        dto.setUploadedAt(toDateTime(row[2]));
+        dto.setUsedAsCover(((Number) row[3]).intValue() != 0);
+        dto.setVariants(ImageVariantsDTO.of((String) row[4], (String) row[5], (String) row[6]));
+        dto.setWidth(toInteger(row[7]));
+        dto.setHeight(toInteger(row[8]));
+        return dto;
+    }
+
+    private static Integer toInteger(Object value) {
+        return value == null ? null : ((Number) value).intValue();
+    }
+
+    private static LocalDateTime toDateTime(Object value) {
+        if (value instanceof Timestamp) {
+            return ((Timestamp) value).toLocalDateTime();
+        }
+        return (LocalDateTime) value;
+    }
+}
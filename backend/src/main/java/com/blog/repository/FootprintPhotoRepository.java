@@ -1,10 +1,80 @@
 package com.blog.repository;
 
+import com.blog.dto.travel.CoverPhotoRowDTO;
 import com.blog.entity.FootprintPhoto;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDate;
+import java.util.Collection;
 import java.util.List;
 
-public interface FootprintPhotoRepository extends JpaRepository<FootprintPhoto, Long> {
+public interface FootprintPhotoRepository extends JpaRepository<FootprintPhoto, Long>, CoverMaterialRepository {
     List<FootprintPhoto> findBySourceTypeOrderByCreatedAtDescIdDesc(String sourceType);
+
+    @Query("SELECT new com.blog.dto.travel.CoverPhotoRowDTO(p.id, p.url, p.createdAt, p.thumbUrl, p.cardUrl, p.heroUrl, p.width, p.height) " +
+            "FROM FootprintPhoto p WHERE p.sourceType = :sourceType")
+    List<CoverPhotoRowDTO> findCoverPhotoRows(@Param("sourceType") String sourceType);
+
+    @Query("SELECT new com.blog.dto.travel.CoverPhotoRowDTO(p.id, p.url, p.createdAt, p.thumbUrl, p.cardUrl, p.heroUrl, p.width, p.height) " +
+            "FROM FootprintPhoto p WHERE p.sourceType = :sourceType AND p.id IN :ids")
+    List<CoverPhotoRowDTO> findCoverPhotoRowsByIds(
+            @Param("sourceType") String sourceType,
+            @Param("ids") Collection<Long> ids);
+
+    /**
+     * Keyset page of photos whose responsive variants have not been generated yet.
+     */
+    @Query("SELECT new com.blog.dto.travel.CoverPhotoRowDTO(p.id, p.url, p.createdAt, p.thumbUrl, p.cardUrl, p.heroUrl, p.width, p.height) " +
+            "FROM FootprintPhoto p WHERE p.sourceType = :sourceType AND p.variantStatus IS NULL AND p.id > :afterId " +
+            "ORDER BY p.id")
+    List<CoverPhotoRowDTO> findVariantPendingRows(
+            @Param("sourceType") String sourceType,
+            @Param("afterId") Long afterId,
+            Pageable pageable);
+
+    /**
+     * Keyset page over every photo regardless of source type, for cross-checking files on disk.
+     */
+    @Query("SELECT new com.blog.dto.travel.CoverPhotoRowDTO(p.id, p.url, p.createdAt, p.thumbUrl, p.cardUrl, p.heroUrl, p.width, p.height) " +
+            "FROM FootprintPhoto p WHERE p.id > :afterId ORDER BY p.id")
+    List<CoverPhotoRowDTO> findPhotoRowsAfter(@Param("afterId") Long afterId, Pageable pageable);
+
+    @Query("SELECT COUNT(p) > 0 FROM FootprintPhoto p " +
+            "WHERE p.url = :url OR p.thumbUrl = :url OR p.cardUrl = :url OR p.heroUrl = :url")
+    boolean isUrlReferenced(@Param("url") String url);
+
+    @Modifying
+    @Transactional
+    @Query("UPDATE FootprintPhoto p SET p.thumbUrl = :thumbUrl, p.cardUrl = :cardUrl, p.heroUrl = :heroUrl, " +
+            "p.variantStatus = :status WHERE p.id = :id")
+    int updateVariants(
+            @Param("id") Long id,
+            @Param("thumbUrl") String thumbUrl,
+            @Param("cardUrl") String cardUrl,
+            @Param("heroUrl") String heroUrl,
+            @Param("status") String status);
+
+    /**
+     * Set header metadata only where the row has none yet, so values captured on upload are never replaced.
+     */
+    @Modifying
+    @Transactional
+    @Query("UPDATE FootprintPhoto p SET p.shotAt = COALESCE(p.shotAt, :shotAt), " +
+            "p.width = COALESCE(p.width, :width), p.height = COALESCE(p.height, :height), " +
+            "p.orientation = COALESCE(p.orientation, :orientation), " +
+            "p.cameraMake = COALESCE(p.cameraMake, :cameraMake), p.cameraModel = COALESCE(p.cameraModel, :cameraModel) " +
+            "WHERE p.id = :id")
+    int fillMissingMetadata(
+            @Param("id") Long id,
+            @Param("shotAt") LocalDate shotAt,
+            @Param("width") Integer width,
+            @Param("height") Integer height,
+            @Param("orientation") Integer orientation,
+            @Param("cameraMake") String cameraMake,
+            @Param("cameraModel") String cameraModel);
 }
@@ -0,0 +1,53 @@
+package com.blog.repository;
+
+import com.blog.entity.NotionImportJobItem;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+
+@Repository
+public interface NotionImportJobItemRepository extends JpaRepository<NotionImportJobItem, Long> {
+
+    List<NotionImportJobItem> findByJobIdOrderByPositionAsc(Long jobId);
+
+    /**
+     * Move one item from {@code from} to {@code to}; the row count tells the caller whether it won the item.
+     */
+    @Modifying
+    @Transactional
+    @Query("UPDATE NotionImportJobItem i SET i.status = :to, i.attempts = i.attempts + 1, i.updatedAt = :now " +
+            "WHERE i.id = :id AND i.status = :from")
+    int claim(@Param("id") Long id, @Param("from") String from, @Param("to") String to,
+              @Param("now") LocalDateTime now);
+
+    @Modifying
+    @Transactional
+    @Query("UPDATE NotionImportJobItem i SET i.status = :status, i.articleId = :articleId, " +
+            "i.errorMessage = :errorMessage, i.updatedAt = :now WHERE i.id = :id")
+    int finish(@Param("id") Long id, @Param("status") String status, @Param("articleId") Long articleId,
+               @Param("errorMessage") String errorMessage, @Param("now") LocalDateTime now);
+
+    @Modifying
+    @Transactional
+    @Query("UPDATE NotionImportJobItem i SET i.status = :to, i.errorMessage = :errorMessage, i.updatedAt = :now " +
+            "WHERE i.jobId = :jobId AND i.status = :from")
+    int updateStatusByJobId(@Param("jobId") Long jobId, @Param("from") String from, @Param("to") String to,
+                            @Param("errorMessage") String errorMessage, @Param("now") LocalDateTime now);
+
+    /**
+     * Items a previous process left unfinished, across all jobs.
+     */
+    @Modifying
+    @Transactional
+    @Query("UPDATE NotionImportJobItem i SET i.status = :to, i.errorMessage = :errorMessage, i.updatedAt = :now " +
+            "WHERE i.status IN :from")
+    int updateStatusIn(@Param("from") Collection<String> from, @Param("to") String to,
+                       @Param("errorMessage") String errorMessage, @Param("now") LocalDateTime now);
+}
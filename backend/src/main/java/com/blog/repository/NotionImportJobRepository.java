@@ -0,0 +1,13 @@
+package com.blog.repository;
+
+import com.blog.entity.NotionImportJob;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+import java.util.Optional;
+
+@Repository
+public interface NotionImportJobRepository extends JpaRepository<NotionImportJob, Long> {
+
+    Optional<NotionImportJob> findByIdAndUsername(Long id, String username);
+}
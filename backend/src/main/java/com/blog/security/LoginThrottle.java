@@ -0,0 +1,113 @@
+package com.blog.security;
+
+import com.blog.dto.runtime.LoginThrottleStatsDTO;
+import com.blog.exception.BusinessException;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpStatus;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * In-memory token buckets for credential endpoints, keyed by client IP and by username.
+ * <p>
+ * Checked before any password is hashed, so a flood of attempts is turned away with 429 without
+ * reaching {@link PasswordHasher}. Buckets that have refilled completely carry no state and are
+ * swept periodically.
+ */
+@Component
+public class LoginThrottle {
+
+    @Value("${app.auth.login-throttle.ip.capacity:20}")
+    private int ipCapacity;
+
+    @Value("${app.auth.login-throttle.ip.refill-per-minute:10}")
+    private int ipRefillPerMinute;
+
+    @Value("${app.auth.login-throttle.username.capacity:5}")
+    private int usernameCapacity;
+
+    @Value("${app.auth.login-throttle.username.refill-per-minute:5}")
+    private int usernameRefillPerMinute;
+
+    private final Map<String, Bucket> ipBuckets = new ConcurrentHashMap<>();
+    private final Map<String, Bucket> usernameBuckets = new ConcurrentHashMap<>();
+    private final LongAdder throttled = new LongAdder();
+
+    /**
+     * Take one token for the client IP and, when given, for the username.
+     *
+     * @throws BusinessException with 429 when either bucket is empty
+     */
+    public void acquire(String clientIp, String username) {
+        long now = System.nanoTime();
+        if (clientIp != null && !take(ipBuckets, clientIp, ipCapacity, ipRefillPerMinute, now)) {
+            throw tooManyAttempts();
+        }
+        if (username != null && !username.isBlank()) {
+            String key = username.trim().toLowerCase(Locale.ROOT);
+            if (!take(usernameBuckets, key, usernameCapacity, usernameRefillPerMinute, now)) {
+                throw tooManyAttempts();
+            }
+        }
+    }
+
+    public LoginThrottleStatsDTO stats() {
+        return new LoginThrottleStatsDTO(ipBuckets.size(), usernameBuckets.size(), throttled.sum());
+    }
+
+    @Scheduled(fixedDelayString = "${app.auth.login-throttle.sweep-interval-ms:60000}")
+    public void sweep() {
+        long now = System.nanoTime();
+        ipBuckets.values().removeIf(bucket -> bucket.isFull(ipCapacity, ipRefillPerMinute, now));
+        usernameBuckets.values().removeIf(bucket -> bucket.isFull(usernameCapacity, usernameRefillPerMinute, now));
+    }
+
+    private boolean take(Map<String, Bucket> buckets, String key, int capacity, int refillPerMinute, long now) {
+        Bucket bucket = buckets.computeIfAbsent(key, k -> new Bucket(capacity, now));
+        if (bucket.tryTake(capacity, refillPerMinute, now)) {
+            return true;
+        }
+        throttled.increment();
+        return false;
+    }
+
+    private BusinessException tooManyAttempts() {
+        return new BusinessException("Too many attempts, please retry later", HttpStatus.TOO_MANY_REQUESTS);
+    }
+
+    private static final class Bucket {
+        private double tokens;
+        private long refilledAt;
+
+        private Bucket(int capacity, long now) {
+            this.tokens = capacity;
+            this.refilledAt = now;
+        }
+
+        synchronized boolean tryTake(int capacity, int refillPerMinute, long now) {
+            refill(capacity, refillPerMinute, now);
+            if (tokens < 1D) {
+                return false;
+            }
+            tokens -= 1D;
+            return true;
+        }
+
+        synchronized boolean isFull(int capacity, int refillPerMinute, long now) {
+            refill(capacity, refillPerMinute, now);
+            return tokens >= capacity;
+        }
+
+        private void refill(int capacity, int refillPerMinute, long now) {
+            double minutes = (now - refilledAt) / (double) TimeUnit.MINUTES.toNanos(1);
+            tokens = Math.min(capacity, tokens + minutes * refillPerMinute);
+            refilledAt = now;
+        }
+    }
+}
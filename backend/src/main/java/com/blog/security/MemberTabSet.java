@@ -0,0 +1,81 @@
+package com.blog.security;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Immutable set of {@link AdminTabCodes#ASSIGNABLE_MEMBER_TABS} packed into an {@code int} bitmask.
+ * <p>
+ * Bit {@code i} stands for the i-th assignable tab. Membership tests are a map lookup plus a bit test,
+ * and the code list is built once at construction, ordered by tab code like the database query it
+ * replaces.
+ */
+public final class MemberTabSet {
+
+    private static final Map<String, Integer> BIT_INDEX = new HashMap<>();
+    private static final int[] BITS_BY_CODE_ORDER;
+
+    static {
+        List<String> tabs = AdminTabCodes.ASSIGNABLE_MEMBER_TABS;
+        if (tabs.size() > Integer.SIZE) {
+            throw new IllegalStateException("Too many assignable tabs for an int bitmask");
+        }
+        for (int i = 0; i < tabs.size(); i++) {
+            BIT_INDEX.put(tabs.get(i), i);
+        }
+        BITS_BY_CODE_ORDER = tabs.stream()
+                .sorted(Comparator.naturalOrder())
+                .mapToInt(BIT_INDEX::get)
+                .toArray();
+    }
+
+    public static final MemberTabSet EMPTY = new MemberTabSet(0);
+
+    private final int bits;
+    private final List<String> codes;
+
+    private MemberTabSet(int bits) {
+        this.bits = bits;
+        List<String> list = new ArrayList<>(Integer.bitCount(bits));
+        for (int index : BITS_BY_CODE_ORDER) {
+            if ((bits & (1 << index)) != 0) {
+                list.add(AdminTabCodes.ASSIGNABLE_MEMBER_TABS.get(index));
+            }
+        }
+        this.codes = List.copyOf(list);
+    }
+
+    /**
+     * Set of the assignable codes among {@code tabCodes}; unknown codes are ignored.
+     */
+    public static MemberTabSet of(Collection<String> tabCodes) {
+        int bits = 0;
+        for (String code : tabCodes) {
+            Integer index = code == null ? null : BIT_INDEX.get(code);
+            if (index != null) {
+                bits |= 1 << index;
+            }
+        }
+        return bits == 0 ? EMPTY : new MemberTabSet(bits);
+    }
+
+    public boolean contains(String tabCode) {
+        Integer index = tabCode == null ? null : BIT_INDEX.get(tabCode);
+        return index != null && (bits & (1 << index)) != 0;
+    }
+
+    /**
+     * Tab codes in the set, ordered by code.
+     */
+    public List<String> codes() {
+        return codes;
+    }
+
+    public int bits() {
+        return bits;
+    }
+}
@@ -0,0 +1,104 @@
+package com.blog.security;
+
+import com.blog.service.account.UserAccountChangedEvent;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.security.core.userdetails.UserDetailsService;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Short-TTL LRU cache of {@link UserDetails} keyed by username, so authenticated requests don't
+ * query the user table on every call.
+ * <p>
+ * Entries are dropped when a {@link UserAccountChangedEvent} commits; the TTL bounds staleness for
+ * changes made outside the account services (e.g. direct SQL). Lookup misses are not cached.
+ */
+@Component
+public class PrincipalCache {
+
+    @Value("${app.auth.principal-cache.ttl-seconds:60}")
+    private long ttlSeconds;
+
+    @Value("${app.auth.principal-cache.max-entries:1000}")
+    private int maxEntries;
+
+    private final UserDetailsService userDetailsService;
+
+    private final Object lock = new Object();
+    private final LinkedHashMap<String, Entry> entries = new LinkedHashMap<>(16, 0.75f, true);
+
+    private long generation;
+
+    public PrincipalCache(UserDetailsService userDetailsService) {
+        this.userDetailsService = userDetailsService;
+    }
+
+    /**
+     * Cached principal for {@code username}, loading it through the {@link UserDetailsService} on a miss.
+     *
+     * @throws org.springframework.security.core.userdetails.UsernameNotFoundException if the user is gone
+     */
+    public UserDetails load(String username) {
+        long now = System.nanoTime();
+        long stamp;
+        synchronized (lock) {
+            Entry entry = entries.get(username);
+            if (entry != null && now - entry.loadedAtNanos < ttlNanos()) {
+                return entry.principal;
+            }
+            if (entry != null) {
+                entries.remove(username);
+            }
+            stamp = generation;
+        }
+
+        UserDetails principal = userDetailsService.loadUserByUsername(username);
+        synchronized (lock) {
+            // A change committed while we were loading may not be visible in what we read; skip caching it.
+            if (stamp == generation) {
+                entries.put(username, new Entry(principal, now));
+                evictOverflow();
+            }
+        }
+        return principal;
+    }
+
+    public void invalidate(String username) {
+        synchronized (lock) {
+            generation++;
+            entries.remove(username);
+        }
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onUserAccountChanged(UserAccountChangedEvent event) {
+        invalidate(event.getUsername());
+    }
+
+    private long ttlNanos() {
+        return ttlSeconds * 1_000_000_000L;
+    }
+
+    private void evictOverflow() {
+        Iterator<Map.Entry<String, Entry>> eldest = entries.entrySet().iterator();
+        while (entries.size() > maxEntries && eldest.hasNext()) {
+            eldest.next();
+            eldest.remove();
+        }
+    }
+
+    private static final class Entry {
+        private final UserDetails principal;
+        private final long loadedAtNanos;
+
+        private Entry(UserDetails principal, long loadedAtNanos) {
+            this.principal = principal;
+            this.loadedAtNanos = loadedAtNanos;
+        }
+    }
+}
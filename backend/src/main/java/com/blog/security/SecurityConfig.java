@@ -68,7 +68,8 @@ public class SecurityConfig {
                 .antMatchers(HttpMethod.GET, "/api/categories/**", "/api/tags/**").permitAll()
                 .antMatchers(HttpMethod.GET, "/api/guestbook/**").permitAll()
                 .antMatchers(HttpMethod.POST, "/api/guestbook/**").permitAll()
-                .antMatchers(HttpMethod.GET, "/api/articles/*/comments").permitAll()
+                .antMatchers(HttpMethod.GET, "/api/articles/*/comments", "/api/articles/*/comments/threads").permitAll()
+                .antMatchers(HttpMethod.GET, "/api/articles/*/html").permitAll()
                 .antMatchers(HttpMethod.POST, "/api/articles/*/comments").permitAll()
                 .antMatchers("/uploads/**").permitAll()
                 .antMatchers("/api/cover-materials/**").authenticated()
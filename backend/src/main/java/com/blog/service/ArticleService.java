@@ -1,7 +1,9 @@
 package com.blog.service;
 
+import com.blog.common.CursorPage;
 import com.blog.dto.article.ArticleCreateRequest;
 import com.blog.dto.article.ArticleDetailDTO;
+import com.blog.dto.article.ArticleHtmlDTO;
 import com.blog.dto.article.ArticleSummaryDTO;
 import com.blog.dto.article.ArticleUpdateRequest;
 import com.blog.dto.article.CategoryArticleGroupDTO;
@@ -30,6 +32,16 @@ public interface ArticleService {
             Boolean excludeFeatured,
             Pageable pageable);
 
+    /**
+     * 按游标获取已发布文章（keyset 分页，不统计总数），可按分类或精选等级筛选。
+     */
+    CursorPage<ArticleSummaryDTO> getPublishedArticlesByCursor(
+            String cursor,
+            int size,
+            Long categoryId,
+            Integer featuredLevel,
+            Boolean excludeFeatured);
+
     /**
      * 根据分类获取已发布的文章（分页）
      */
@@ -64,6 +76,16 @@ public interface ArticleService {
      */
     ArticleDetailDTO getArticleBySlug(String slug);
 
+    /**
+     * 获取已发布文章预渲染 HTML 的内容哈希，用于条件请求校验（不加载正文）
+     */
+    String getPublishedArticleHtmlHash(Long id);
+
+    /**
+     * 获取已发布文章的预渲染 HTML 正文，只加载所选编码（不增加浏览量）
+     */
+    ArticleHtmlDTO getPublishedArticleHtml(Long id, boolean gzip);
+
     /**
      * 管理端按 ID 获取文章详情（不增加浏览量）
      */
@@ -13,14 +13,16 @@ public interface AuthService {
      * 用户登录
      * 
      * @param request 登录请求
+     * @param clientIp 客户端 IP，用于登录限流
      * @return 认证响应（包含token和用户信息）
      */
-    AuthResponse login(LoginRequest request);
+    AuthResponse login(LoginRequest request, String clientIp);
 
     /**
      * 用户注册
      * 
      * @param request 注册请求
+     * @param clientIp 客户端 IP，用于注册限流
      */
-    void register(RegisterRequest request);
+    void register(RegisterRequest request, String clientIp);
 }
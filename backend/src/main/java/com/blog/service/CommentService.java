@@ -1,7 +1,10 @@
 package com.blog.service;
 
+import com.blog.dto.comment.CommentBulkRequest;
+import com.blog.dto.comment.CommentBulkResultDTO;
 import com.blog.dto.comment.CommentCreateRequest;
 import com.blog.dto.comment.CommentDTO;
+import com.blog.dto.comment.CommentThreadPageDTO;
 
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
@@ -18,6 +21,11 @@ public interface CommentService {
      */
     List<CommentDTO> getCommentsByArticleId(Long articleId);
 
+    /**
+     * 分页获取文章评论树：一页顶层评论（最新在前）及其 depth 层以内的回复（按时间正序）
+     */
+    CommentThreadPageDTO getCommentThreads(Long articleId, int page, int size, int depth);
+
     /**
      * 管理端按状态分页获取评论，status 为空则查询全部
      */
@@ -37,4 +45,19 @@ public interface CommentService {
      * 批准评论 (管理员)
      */
     void approveComment(Long commentId);
+
+    /**
+     * 批量批准 (管理员)：按 ID 列表和/或筛选条件，分块 UPDATE
+     */
+    CommentBulkResultDTO bulkApprove(CommentBulkRequest request);
+
+    /**
+     * 批量标记为垃圾评论 (管理员)
+     */
+    CommentBulkResultDTO bulkMarkSpam(CommentBulkRequest request);
+
+    /**
+     * 批量删除 (管理员)：连同所有下级回复一起删除
+     */
+    CommentBulkResultDTO bulkDelete(CommentBulkRequest request);
 }
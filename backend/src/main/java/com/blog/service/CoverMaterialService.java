@@ -1,6 +1,7 @@
 package com.blog.service;
 
 import com.blog.dto.travel.CoverMaterialDTO;
+import com.blog.dto.travel.CoverMaterialUploadResultDTO;
 import org.springframework.data.domain.Page;
 import org.springframework.web.multipart.MultipartFile;
 
@@ -11,7 +12,7 @@ public interface CoverMaterialService {
 
     List<CoverMaterialDTO> recommendCoverMaterials(int size, Long photoId);
 
-    List<CoverMaterialDTO> uploadCoverMaterials(MultipartFile[] files);
+    List<CoverMaterialUploadResultDTO> uploadCoverMaterials(MultipartFile[] files);
 
     void deleteCoverMaterial(Long photoId);
 }
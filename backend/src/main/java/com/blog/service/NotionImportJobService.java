@@ -0,0 +1,19 @@
+package com.blog.service;
+
+import com.blog.dto.article.NotionImportJobRequest;
+import com.blog.dto.article.NotionImportJobResponse;
+
+/**
+ * Asynchronous batch Notion import.
+ */
+public interface NotionImportJobService {
+
+    NotionImportJobResponse submit(NotionImportJobRequest request, String username);
+
+    NotionImportJobResponse getJob(Long jobId, String username);
+
+    /**
+     * Queue the failed pages of a job again; pages that succeeded are left alone.
+     */
+    NotionImportJobResponse retryFailed(Long jobId, String tokenOverride, String username);
+}
@@ -7,7 +7,10 @@ import com.blog.dto.settings.SiteConfigResponse;
 
 public interface SettingsService {
 
-    void changePassword(String username, ChangePasswordRequest request);
+    /**
+     * @param clientIp 客户端 IP，用于限流
+     */
+    void changePassword(String username, ChangePasswordRequest request, String clientIp);
 
     AdminProfileResponse getProfile(String username);
 
@@ -9,6 +9,11 @@ public interface UserPermissionService {
 
     List<String> resolveVisibleTabs(User user);
 
+    /**
+     * Whether the user may see the given admin tab; served from the cached permission snapshot.
+     */
+    boolean hasTab(User user, String tabCode);
+
     List<String> replaceMemberTabs(User user, Collection<String> requestedTabs);
 
     List<String> normalizeMemberTabs(Collection<String> requestedTabs);
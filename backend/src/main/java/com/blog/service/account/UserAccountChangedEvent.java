@@ -0,0 +1,19 @@
+package com.blog.service.account;
+
+import lombok.Getter;
+
+/**
+ * Published after a user's credentials, role, enabled flag or tab permissions change, or the user is deleted.
+ * Holders of cached principals listen for it to drop the stale entry.
+ */
+@Getter
+public class UserAccountChangedEvent {
+
+    private final Long userId;
+    private final String username;
+
+    public UserAccountChangedEvent(Long userId, String username) {
+        this.userId = userId;
+        this.username = username;
+    }
+}
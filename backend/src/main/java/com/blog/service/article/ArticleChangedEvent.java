@@ -0,0 +1,55 @@
+package com.blog.service.article;
+
+import lombok.Getter;
+
+/**
+ * Published after an article (or the taxonomy embedded in article payloads) changes.
+ * Read-side caches and indexes listen for it to invalidate or refresh their state.
+ */
+@Getter
+public class ArticleChangedEvent {
+
+    public enum Type {
+        CREATED,
+        UPDATED,
+        PUBLISHED,
+        UNPUBLISHED,
+        FEATURED_LEVEL_CHANGED,
+        DELETED,
+        /**
+         * Variants or metadata of the article's cover photo changed; only cover fields of the payload differ.
+         */
+        COVER_CHANGED,
+        /**
+         * The article's comment counters changed; only the counts in summary payloads differ.
+         */
+        COMMENTS_CHANGED,
+        /**
+         * Category or tag data changed; every article payload may be affected.
+         */
+        TAXONOMY_CHANGED
+    }
+
+    /**
+     * Affected article, or {@code null} when the change spans all articles.
+     */
+    private final Long articleId;
+    private final Type type;
+
+    private ArticleChangedEvent(Long articleId, Type type) {
+        this.articleId = articleId;
+        this.type = type;
+    }
+
+    public static ArticleChangedEvent of(Long articleId, Type type) {
+        return new ArticleChangedEvent(articleId, type);
+    }
+
+    public static ArticleChangedEvent taxonomyChanged() {
+        return new ArticleChangedEvent(null, Type.TAXONOMY_CHANGED);
+    }
+
+    public boolean affectsAllArticles() {
+        return articleId == null;
+    }
+}
@@ -0,0 +1,55 @@
+package com.blog.service.article;
+
+import com.blog.exception.BusinessException;
+import lombok.Getter;
+import org.springframework.http.HttpStatus;
+import org.springframework.util.StringUtils;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+
+/**
+ * Opaque keyset position over {@code (publishedAt DESC, id DESC)}, the public article ordering.
+ */
+@Getter
+public final class ArticleCursor {
+
+    private static final char SEPARATOR = '|';
+
+    private final LocalDateTime publishedAt;
+    private final Long id;
+
+    public ArticleCursor(LocalDateTime publishedAt, Long id) {
+        this.publishedAt = publishedAt;
+        this.id = id;
+    }
+
+    public String encode() {
+        String raw = publishedAt + String.valueOf(SEPARATOR) + id;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * Decode a client-supplied cursor; blank means "first page" and yields {@code null}.
+     */
+    public static ArticleCursor decode(String cursor) {
+        if (!StringUtils.hasText(cursor)) {
+            return null;
+        }
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(cursor.trim()), StandardCharsets.UTF_8);
+            int separator = raw.lastIndexOf(SEPARATOR);
+            if (separator <= 0) {
+                throw new IllegalArgumentException("missing separator");
+            }
+            return new ArticleCursor(
+                    LocalDateTime.parse(raw.substring(0, separator)),
+                    Long.parseLong(raw.substring(separator + 1))
+            );
+        } catch (IllegalArgumentException | DateTimeParseException ex) {
+            throw new BusinessException("cursor 无效", HttpStatus.BAD_REQUEST);
+        }
+    }
+}
@@ -0,0 +1,277 @@
+package com.blog.service.article;
+
+import com.blog.dto.article.ArticleDetailDTO;
+import com.blog.dto.runtime.CacheStatsDTO;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.LocalDateTime;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * Size-aware LRU cache of published article detail payloads, addressable by id and by slug.
+ * <p>
+ * Entries are weighted by the estimated heap size of their text fields (dominated by the LONGTEXT
+ * content) and evicted once the configured byte budget is exceeded. The cached {@code views} field
+ * holds the baseline from {@link ArticleViewCounter#flushedViews(Long)}; callers add the live
+ * recorded count on every read.
+ */
+@Component
+public class ArticleDetailCache {
+
+    private static final long ENTRY_OVERHEAD_BYTES = 512L;
+
+    @Value("${app.article.detail-cache.max-bytes:67108864}")
+    private long maxWeightBytes;
+
+    private final Object lock = new Object();
+    private final LinkedHashMap<Long, Entry> entriesById = new LinkedHashMap<>(64, 0.75f, true);
+    private final Map<String, Long> idsBySlug = new HashMap<>();
+
+    private long weightBytes;
+    private long generation;
+    private long hits;
+    private long misses;
+    private long evictions;
+    private long invalidations;
+
+    /**
+     * Stamp to take before loading from the database; pass it back to {@link #put(ArticleDetailDTO, long)}
+     * so a load that raced with an invalidation is not cached.
+     */
+    public long stamp() {
+        synchronized (lock) {
+            return generation;
+        }
+    }
+
+    public Optional<ArticleDetailDTO> getById(Long id) {
+        if (id == null) {
+            return Optional.empty();
+        }
+        synchronized (lock) {
+            return lookup(entriesById.get(id));
+        }
+    }
+
+    public Optional<ArticleDetailDTO> getBySlug(String slug) {
+        if (slug == null) {
+            return Optional.empty();
+        }
+        synchronized (lock) {
+            Long id = idsBySlug.get(slug);
+            return lookup(id == null ? null : entriesById.get(id));
+        }
+    }
+
+    /**
+     * Validator fields of a cached entry, read without copying the payload or counting a lookup.
+     */
+    public Optional<CachedVersion> peekVersionById(Long id) {
+        if (id == null) {
+            return Optional.empty();
+        }
+        synchronized (lock) {
+            return versionOf(entriesById.get(id));
+        }
+    }
+
+    public Optional<CachedVersion> peekVersionBySlug(String slug) {
+        if (slug == null) {
+            return Optional.empty();
+        }
+        synchronized (lock) {
+            Long id = idsBySlug.get(slug);
+            return versionOf(id == null ? null : entriesById.get(id));
+        }
+    }
+
+    public void put(ArticleDetailDTO detail, long stamp) {
+        if (detail == null || detail.getId() == null || !"PUBLISHED".equalsIgnoreCase(detail.getStatus())) {
+            return;
+        }
+        long weight = weigh(detail);
+        if (weight > maxWeightBytes) {
+            return;
+        }
+        synchronized (lock) {
+            if (stamp != generation) {
+                return;
+            }
+            removeEntry(detail.getId());
+            entriesById.put(detail.getId(), new Entry(copyOf(detail), weight));
+            if (detail.getSlug() != null) {
+                idsBySlug.put(detail.getSlug(), detail.getId());
+            }
+            weightBytes += weight;
+            evictOverflow();
+        }
+    }
+
+    public void invalidate(Long id) {
+        synchronized (lock) {
+            generation++;
+            invalidations++;
+            removeEntry(id);
+        }
+    }
+
+    public void invalidateAll() {
+        synchronized (lock) {
+            generation++;
+            invalidations++;
+            entriesById.clear();
+            idsBySlug.clear();
+            weightBytes = 0L;
+        }
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onArticleChanged(ArticleChangedEvent event) {
+        if (event.getType() == ArticleChangedEvent.Type.COMMENTS_CHANGED) {
+            // Details carry no comment counts.
+            return;
+        }
+        if (event.affectsAllArticles()) {
+            invalidateAll();
+        } else {
+            invalidate(event.getArticleId());
+        }
+    }
+
+    public CacheStatsDTO stats() {
+        synchronized (lock) {
+            long lookups = hits + misses;
+            return new CacheStatsDTO(
+                    hits,
+                    misses,
+                    evictions,
+                    invalidations,
+                    entriesById.size(),
+                    weightBytes,
+                    maxWeightBytes,
+                    lookups == 0 ? 0D : (double) hits / lookups
+            );
+        }
+    }
+
+    private Optional<ArticleDetailDTO> lookup(Entry entry) {
+        if (entry == null) {
+            misses++;
+            return Optional.empty();
+        }
+        hits++;
+        return Optional.of(copyOf(entry.detail));
+    }
+
+    private static Optional<CachedVersion> versionOf(Entry entry) {
+        if (entry == null) {
+            return Optional.empty();
+        }
+        ArticleDetailDTO detail = entry.detail;
+        return Optional.of(new CachedVersion(detail.getId(), detail.getUpdatedAt(), detail.getPublishedAt()));
+    }
+
+    private void removeEntry(Long id) {
+        Entry removed = entriesById.remove(id);
+        if (removed == null) {
+            return;
+        }
+        weightBytes -= removed.weight;
+        String slug = removed.detail.getSlug();
+        if (slug != null && id.equals(idsBySlug.get(slug))) {
+            idsBySlug.remove(slug);
+        }
+    }
+
+    private void evictOverflow() {
+        Iterator<Map.Entry<Long, Entry>> eldest = entriesById.entrySet().iterator();
+        while (weightBytes > maxWeightBytes && eldest.hasNext()) {
+            Map.Entry<Long, Entry> candidate = eldest.next();
+            eldest.remove();
+            weightBytes -= candidate.getValue().weight;
+            String slug = candidate.getValue().detail.getSlug();
+            if (slug != null && candidate.getKey().equals(idsBySlug.get(slug))) {
+                idsBySlug.remove(slug);
+            }
+            evictions++;
+        }
+    }
+
+    static long weigh(ArticleDetailDTO detail) {
+        long chars = length(detail.getContent())
+                + length(detail.getTitle())
+                + length(detail.getSummary())
+                + length(detail.getSlug())
+                + length(detail.getCoverImage())
+                + length(detail.getAuthorName());
+        return ENTRY_OVERHEAD_BYTES + chars * 2L;
+    }
+
+    private static long length(String value) {
+        return value == null ? 0L : value.length();
+    }
+
+    private static ArticleDetailDTO copyOf(ArticleDetailDTO source) {
+        return new ArticleDetailDTO(
+                source.getId(),
+                source.getTitle(),
+                source.getSlug(),
+                source.getContent(),
+                source.getSummary(),
+                source.getCoverPhotoId(),
+                source.getCoverImage(),
+                source.getStatus(),
+                source.getFeaturedLevel(),
+                source.getViews(),
+                source.getPublishedAt(),
+                source.getCreatedAt(),
+                source.getUpdatedAt(),
+                source.getAuthorName(),
+                source.getCategory(),
+                source.getTags(),
+                source.getToc(),
+                source.getWordCount(),
+                source.getReadingMinutes()
+        );
+    }
+
+    public static final class CachedVersion {
+        private final Long id;
+        private final LocalDateTime updatedAt;
+        private final LocalDateTime publishedAt;
+
+        private CachedVersion(Long id, LocalDateTime updatedAt, LocalDateTime publishedAt) {
+            this.id = id;
+            this.updatedAt = updatedAt;
+            this.publishedAt = publishedAt;
+        }
+
+        public Long getId() {
+            return id;
+        }
+
+        public LocalDateTime getUpdatedAt() {
+            return updatedAt;
+        }
+
+        public LocalDateTime getPublishedAt() {
+            return publishedAt;
+        }
+    }
+
+    private static final class Entry {
+        private final ArticleDetailDTO detail;
+        private final long weight;
+
+        private Entry(ArticleDetailDTO detail, long weight) {
+            this.detail = detail;
+            this.weight = weight;
+        }
+    }
+}
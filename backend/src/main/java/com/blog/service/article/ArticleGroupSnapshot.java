@@ -0,0 +1,176 @@
+package com.blog.service.article;
+
+import com.blog.dto.article.ArticleSummaryDTO;
+import com.blog.dto.article.ArticleSummaryRowDTO;
+import com.blog.dto.article.CategoryArticleGroupDTO;
+import com.blog.dto.article.CategoryTopArticleRowDTO;
+import com.blog.repository.ArticleRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import javax.annotation.PreDestroy;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Precomputed payload of the public grouped archive ({@code /api/articles/grouped}).
+ * <p>
+ * One windowed query loads the newest {@code max-per-category} articles of every category; the result is
+ * kept as an immutable snapshot and served from memory, truncated to the requested per-category limit.
+ * Article changes mark the snapshot stale and schedule a rebuild on a single background thread; requests
+ * keep reading the previous snapshot until the new one is swapped in. Limits above the snapshot size go
+ * straight to the database.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class ArticleGroupSnapshot {
+
+    private final ArticleRepository articleRepository;
+    private final ArticleSummaryAssembler summaryAssembler;
+
+    @Value("${app.article.grouped-snapshot.max-per-category:12}")
+    private int maxPerCategory;
+
+    private final AtomicBoolean rebuildScheduled = new AtomicBoolean();
+    private final AtomicLong changes = new AtomicLong();
+    private final ExecutorService rebuilder = Executors.newSingleThreadExecutor(daemonThreadFactory());
+
+    private volatile Snapshot snapshot;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void onApplicationReady() {
+        scheduleRebuild();
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onArticleChanged(ArticleChangedEvent event) {
+        // Every change type can alter a group: membership, order, titles, featured badges or category labels.
+        scheduleRebuild();
+    }
+
+    public List<CategoryArticleGroupDTO> get(int perCategoryLimit) {
+        if (perCategoryLimit > maxPerCategory) {
+            return load(perCategoryLimit);
+        }
+        Snapshot current = snapshot;
+        if (current == null) {
+            current = rebuild();
+        }
+        return current.view(perCategoryLimit);
+    }
+
+    /**
+     * Change count the snapshot serving {@code perCategoryLimit} was built from, or {@code -1} when that
+     * limit bypasses the snapshot or no snapshot exists yet. Lets HTTP validators follow the served
+     * content rather than the latest commit, since rebuilds lag behind changes.
+     */
+    public long version(int perCategoryLimit) {
+        Snapshot current = snapshot;
+        if (perCategoryLimit > maxPerCategory || current == null) {
+            return -1L;
+        }
+        return current.builtFromChanges;
+    }
+
+    private void scheduleRebuild() {
+        changes.incrementAndGet();
+        if (!rebuildScheduled.compareAndSet(false, true)) {
+            return;
+        }
+        rebuilder.execute(() -> {
+            // Clear first so that a change committed while rebuilding schedules another pass.
+            rebuildScheduled.set(false);
+            try {
+                rebuild();
+            } catch (RuntimeException ex) {
+                log.warn("Failed to rebuild grouped article snapshot, serving previous one: {}", ex.getMessage());
+            }
+        });
+    }
+
+    private Snapshot rebuild() {
+        long seenChanges = changes.get();
+        Snapshot rebuilt = new Snapshot(load(maxPerCategory), seenChanges);
+        // A request-thread load racing a later change must not replace the fresher background result.
+        if (snapshot == null || changes.get() == seenChanges) {
+            snapshot = rebuilt;
+        }
+        return rebuilt;
+    }
+
+    List<CategoryArticleGroupDTO> load(int perCategoryLimit) {
+        List<CategoryTopArticleRowDTO> rows = articleRepository.findPublishedTopPerCategory(perCategoryLimit);
+        List<ArticleSummaryRowDTO> summaryRows = new ArrayList<>(rows.size());
+        for (CategoryTopArticleRowDTO row : rows) {
+            summaryRows.add(row.getArticle());
+        }
+        List<ArticleSummaryDTO> summaries = summaryAssembler.toSummaries(summaryRows);
+
+        // Rows arrive grouped and ordered; a linked map keeps the category order.
+        Map<Long, CategoryArticleGroupDTO> groups = new LinkedHashMap<>();
+        for (int i = 0; i < rows.size(); i++) {
+            CategoryTopArticleRowDTO row = rows.get(i);
+            ArticleSummaryDTO summary = summaries.get(i);
+            groups.computeIfAbsent(row.getArticle().getCategoryId(), categoryId -> new CategoryArticleGroupDTO(
+                    summary.getCategory(),
+                    row.getCategoryTotal(),
+                    new ArrayList<>()
+            )).getArticles().add(summary);
+        }
+        return new ArrayList<>(groups.values());
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        rebuilder.shutdownNow();
+    }
+
+    private static CustomizableThreadFactory daemonThreadFactory() {
+        CustomizableThreadFactory threadFactory = new CustomizableThreadFactory("article-group-snapshot-");
+        threadFactory.setDaemon(true);
+        return threadFactory;
+    }
+
+    private static final class Snapshot {
+        private final List<CategoryArticleGroupDTO> groups;
+        private final long builtFromChanges;
+        private final Map<Integer, List<CategoryArticleGroupDTO>> views = new ConcurrentHashMap<>();
+
+        private Snapshot(List<CategoryArticleGroupDTO> groups, long builtFromChanges) {
+            this.groups = groups;
+            this.builtFromChanges = builtFromChanges;
+        }
+
+        private List<CategoryArticleGroupDTO> view(int perCategoryLimit) {
+            return views.computeIfAbsent(perCategoryLimit, this::truncate);
+        }
+
+        private List<CategoryArticleGroupDTO> truncate(int perCategoryLimit) {
+            List<CategoryArticleGroupDTO> truncated = new ArrayList<>(groups.size());
+            for (CategoryArticleGroupDTO group : groups) {
+                List<ArticleSummaryDTO> articles = group.getArticles();
+                truncated.add(new CategoryArticleGroupDTO(
+                        group.getCategory(),
+                        group.getTotalCount(),
+                        Collections.unmodifiableList(articles.subList(0, Math.min(perCategoryLimit, articles.size())))
+                ));
+            }
+            return Collections.unmodifiableList(truncated);
+        }
+    }
+}
@@ -0,0 +1,202 @@
+package com.blog.service.article;
+
+import com.blog.dto.runtime.CacheStatsDTO;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * Size-aware LRU cache of hot article renders: the content hash used as ETag, plus whichever encodings
+ * of the HTML body have been served.
+ * <p>
+ * Conditional requests are answered from the hash alone, so an entry starts with only a hash and gains
+ * the identity or gzip bytes on the first full response in that encoding. Entries are weighted by the
+ * bytes they hold and evicted once the configured budget is exceeded. Cached byte arrays are shared and
+ * must not be modified by callers.
+ */
+@Component
+public class ArticleRenderCache {
+
+    private static final long ENTRY_OVERHEAD_BYTES = 256L;
+
+    @Value("${app.article.render-cache.max-bytes:33554432}")
+    private long maxWeightBytes;
+
+    private final Object lock = new Object();
+    private final LinkedHashMap<Long, Entry> entries = new LinkedHashMap<>(64, 0.75f, true);
+
+    private long weightBytes;
+    private long generation;
+    private long hits;
+    private long misses;
+    private long evictions;
+    private long invalidations;
+
+    /**
+     * Stamp to take before reading from the database; pass it back to the {@code put} methods so a read
+     * that raced with an invalidation is not cached.
+     */
+    public long stamp() {
+        synchronized (lock) {
+            return generation;
+        }
+    }
+
+    public Optional<String> getHash(Long articleId) {
+        synchronized (lock) {
+            Entry entry = entries.get(articleId);
+            if (entry == null) {
+                misses++;
+                return Optional.empty();
+            }
+            hits++;
+            return Optional.of(entry.hash);
+        }
+    }
+
+    /**
+     * Cached body in the requested encoding; the returned hash is the one the body was rendered with.
+     */
+    public Optional<Body> getBody(Long articleId, boolean gzip) {
+        synchronized (lock) {
+            Entry entry = entries.get(articleId);
+            byte[] bytes = entry == null ? null : (gzip ? entry.gzip : entry.html);
+            if (bytes == null) {
+                misses++;
+                return Optional.empty();
+            }
+            hits++;
+            return Optional.of(new Body(entry.hash, bytes));
+        }
+    }
+
+    public void putHash(Long articleId, String hash, long stamp) {
+        put(articleId, hash, null, null, stamp);
+    }
+
+    public void putBody(Long articleId, String hash, boolean gzip, byte[] bytes, long stamp) {
+        put(articleId, hash, gzip ? null : bytes, gzip ? bytes : null, stamp);
+    }
+
+    public void invalidate(Long articleId) {
+        synchronized (lock) {
+            generation++;
+            invalidations++;
+            Entry removed = entries.remove(articleId);
+            if (removed != null) {
+                weightBytes -= removed.weight;
+            }
+        }
+    }
+
+    public void invalidateAll() {
+        synchronized (lock) {
+            generation++;
+            invalidations++;
+            entries.clear();
+            weightBytes = 0L;
+        }
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onArticleChanged(ArticleChangedEvent event) {
+        if (event.getType() == ArticleChangedEvent.Type.COVER_CHANGED
+                || event.getType() == ArticleChangedEvent.Type.COMMENTS_CHANGED) {
+            // The body render includes neither the cover nor comment counts.
+            return;
+        }
+        if (event.affectsAllArticles()) {
+            invalidateAll();
+        } else {
+            invalidate(event.getArticleId());
+        }
+    }
+
+    public CacheStatsDTO stats() {
+        synchronized (lock) {
+            long lookups = hits + misses;
+            return new CacheStatsDTO(
+                    hits,
+                    misses,
+                    evictions,
+                    invalidations,
+                    entries.size(),
+                    weightBytes,
+                    maxWeightBytes,
+                    lookups == 0 ? 0D : (double) hits / lookups
+            );
+        }
+    }
+
+    private void put(Long articleId, String hash, byte[] html, byte[] gzip, long stamp) {
+        if (articleId == null || hash == null) {
+            return;
+        }
+        synchronized (lock) {
+            if (stamp != generation) {
+                return;
+            }
+            Entry existing = entries.get(articleId);
+            Entry entry = existing != null && existing.hash.equals(hash)
+                    ? new Entry(hash, html != null ? html : existing.html, gzip != null ? gzip : existing.gzip)
+                    : new Entry(hash, html, gzip);
+            if (entry.weight > maxWeightBytes) {
+                return;
+            }
+            if (existing != null) {
+                weightBytes -= existing.weight;
+            }
+            entries.put(articleId, entry);
+            weightBytes += entry.weight;
+            evictOverflow();
+        }
+    }
+
+    private void evictOverflow() {
+        Iterator<Map.Entry<Long, Entry>> eldest = entries.entrySet().iterator();
+        while (weightBytes > maxWeightBytes && eldest.hasNext()) {
+            weightBytes -= eldest.next().getValue().weight;
+            eldest.remove();
+            evictions++;
+        }
+    }
+
+    public static final class Body {
+        private final String hash;
+        private final byte[] bytes;
+
+        private Body(String hash, byte[] bytes) {
+            this.hash = hash;
+            this.bytes = bytes;
+        }
+
+        public String getHash() {
+            return hash;
+        }
+
+        public byte[] getBytes() {
+            return bytes;
+        }
+    }
+
+    private static final class Entry {
+        private final String hash;
+        private final byte[] html;
+        private final byte[] gzip;
+        private final long weight;
+
+        private Entry(String hash, byte[] html, byte[] gzip) {
+            this.hash = hash;
+            this.html = html;
+            this.gzip = gzip;
+            this.weight = ENTRY_OVERHEAD_BYTES + hash.length() * 2L
+                    + (html == null ? 0L : html.length)
+                    + (gzip == null ? 0L : gzip.length);
+        }
+    }
+}
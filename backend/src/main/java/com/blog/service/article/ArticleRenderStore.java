@@ -0,0 +1,206 @@
+package com.blog.service.article;
+
+import com.blog.dto.article.ArticleDetailDTO;
+import com.blog.dto.article.ArticleHtmlDTO;
+import com.blog.dto.article.ArticleTocEntryDTO;
+import com.blog.entity.Article;
+import com.blog.entity.ArticleRender;
+import com.blog.repository.ArticleRenderRepository;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataAccessException;
+import org.springframework.stereotype.Component;
+import org.springframework.util.StringUtils;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+import java.util.function.Supplier;
+import java.util.zip.Deflater;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * Persists {@link ArticleRenderer} output per article, together with gzip bytes compressed once at the
+ * highest level so reads never pay for rendering or compression.
+ * <p>
+ * Published articles cannot be edited, so a render written at publish time stays valid until the
+ * article is unpublished or deleted. Articles published before renders existed are rendered lazily on
+ * first read. Hashes and served bodies of hot articles are kept in {@link ArticleRenderCache}.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class ArticleRenderStore {
+
+    private static final TypeReference<List<ArticleTocEntryDTO>> TOC_TYPE = new TypeReference<>() {
+    };
+
+    private final ArticleRenderRepository articleRenderRepository;
+    private final ArticleRenderer articleRenderer;
+    private final ObjectMapper objectMapper;
+    private final ArticleRenderCache articleRenderCache;
+
+    public ArticleRender refresh(Article article) {
+        ArticleRenderer.Rendered rendered = articleRenderer.render(article.getContent());
+        byte[] html = rendered.getHtml().getBytes(StandardCharsets.UTF_8);
+
+        ArticleRender render = new ArticleRender();
+        render.setArticleId(article.getId());
+        render.setHtml(rendered.getHtml());
+        render.setHtmlHash(sha256Hex(html));
+        render.setHtmlGzip(gzip(html));
+        render.setTocJson(writeToc(rendered.getToc()));
+        render.setWordCount(rendered.getWordCount());
+        render.setReadingMinutes(rendered.getReadingMinutes());
+        render.setRenderedAt(LocalDateTime.now());
+        ArticleRender saved = articleRenderRepository.save(render);
+        log.debug("Rendered article {}: {} bytes html, {} bytes gzip", article.getId(), html.length, render.getHtmlGzip().length);
+        return saved;
+    }
+
+    public void remove(Long articleId) {
+        articleRenderCache.invalidate(articleId);
+        if (articleRenderRepository.existsById(articleId)) {
+            articleRenderRepository.deleteById(articleId);
+        }
+    }
+
+    /**
+     * Content hash of an article's render without loading any body, rendering and storing it first when
+     * missing. {@code loader} must only return published articles.
+     */
+    public String findOrRenderHash(Long articleId, Supplier<Article> loader) {
+        Optional<String> cached = articleRenderCache.getHash(articleId);
+        if (cached.isPresent()) {
+            return cached.get();
+        }
+        long stamp = articleRenderCache.stamp();
+        Optional<String> hash = articleRenderRepository.findHashByArticleId(articleId);
+        if (hash.isPresent()) {
+            articleRenderCache.putHash(articleId, hash.get(), stamp);
+            return hash.get();
+        }
+        ArticleRender render = lazyRefresh(loader.get());
+        String rendered = render.getHtmlHash();
+        articleRenderCache.putBody(articleId, rendered, false, render.getHtml().getBytes(StandardCharsets.UTF_8), stamp);
+        articleRenderCache.putBody(articleId, rendered, true, render.getHtmlGzip(), stamp);
+        return rendered;
+    }
+
+    /**
+     * Body of an article's render in one encoding, loading only that column. {@code loader} must only
+     * return published articles.
+     */
+    public ArticleHtmlDTO findOrRenderBody(Long articleId, boolean gzip, Supplier<Article> loader) {
+        Optional<ArticleRenderCache.Body> cached = articleRenderCache.getBody(articleId, gzip);
+        if (cached.isPresent()) {
+            return new ArticleHtmlDTO(cached.get().getHash(), gzip, cached.get().getBytes());
+        }
+        long stamp = articleRenderCache.stamp();
+        String hash = null;
+        byte[] bytes = null;
+        if (gzip) {
+            Optional<ArticleRenderRepository.GzipBody> stored = articleRenderRepository.findGzipByArticleId(articleId);
+            if (stored.isPresent()) {
+                hash = stored.get().getHtmlHash();
+                bytes = stored.get().getHtmlGzip();
+            }
+        } else {
+            Optional<ArticleRenderRepository.HtmlBody> stored = articleRenderRepository.findHtmlByArticleId(articleId);
+            if (stored.isPresent()) {
+                hash = stored.get().getHtmlHash();
+                bytes = stored.get().getHtml().getBytes(StandardCharsets.UTF_8);
+            }
+        }
+        if (bytes == null) {
+            ArticleRender render = lazyRefresh(loader.get());
+            hash = render.getHtmlHash();
+            bytes = gzip ? render.getHtmlGzip() : render.getHtml().getBytes(StandardCharsets.UTF_8);
+        }
+        articleRenderCache.putBody(articleId, hash, gzip, bytes, stamp);
+        return new ArticleHtmlDTO(hash, gzip, bytes);
+    }
+
+    /**
+     * Fill TOC, word count and reading time on a published article's detail, rendering it first if needed.
+     */
+    public void applyMeta(Article article, ArticleDetailDTO detail) {
+        Optional<ArticleRenderRepository.RenderMeta> meta = articleRenderRepository.findMetaByArticleId(article.getId());
+        if (meta.isPresent()) {
+            detail.setToc(readToc(meta.get().getTocJson()));
+            detail.setWordCount(meta.get().getWordCount());
+            detail.setReadingMinutes(meta.get().getReadingMinutes());
+            return;
+        }
+        ArticleRender render = lazyRefresh(article);
+        detail.setToc(readToc(render.getTocJson()));
+        detail.setWordCount(render.getWordCount());
+        detail.setReadingMinutes(render.getReadingMinutes());
+    }
+
+    private ArticleRender lazyRefresh(Article article) {
+        try {
+            return refresh(article);
+        } catch (DataAccessException ex) {
+            // A concurrent reader stored the same render first; the values are identical.
+            log.debug("Lazy render of article {} lost a race: {}", article.getId(), ex.getMessage());
+            return articleRenderRepository.findById(article.getId()).orElseThrow(() -> ex);
+        }
+    }
+
+    private String writeToc(List<ArticleTocEntryDTO> toc) {
+        try {
+            return objectMapper.writeValueAsString(toc);
+        } catch (JsonProcessingException ex) {
+            throw new IllegalStateException("Failed to serialize article toc", ex);
+        }
+    }
+
+    private List<ArticleTocEntryDTO> readToc(String tocJson) {
+        if (!StringUtils.hasText(tocJson)) {
+            return List.of();
+        }
+        try {
+            return objectMapper.readValue(tocJson, TOC_TYPE);
+        } catch (JsonProcessingException ex) {
+            log.warn("Ignoring unreadable article toc: {}", ex.getMessage());
+            return List.of();
+        }
+    }
+
+    static byte[] gzip(byte[] data) {
+        ByteArrayOutputStream buffer = new ByteArrayOutputStream(Math.max(64, data.length / 3));
+        try (GZIPOutputStream out = new GZIPOutputStream(buffer) {
+            {
+                def.setLevel(Deflater.BEST_COMPRESSION);
+            }
+        }) {
+            out.write(data);
+        } catch (IOException ex) {
+            throw new UncheckedIOException(ex);
+        }
+        return buffer.toByteArray();
+    }
+
+    private static String sha256Hex(byte[] data) {
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(data);
+            StringBuilder hex = new StringBuilder(digest.length * 2);
+            for (byte b : digest) {
+                hex.append(Character.forDigit((b >> 4) & 0xF, 16)).append(Character.forDigit(b & 0xF, 16));
+            }
+            return hex.toString();
+        } catch (NoSuchAlgorithmException ex) {
+            throw new IllegalStateException("SHA-256 not available", ex);
+        }
+    }
+}
@@ -0,0 +1,204 @@
+package com.blog.service.article;
+
+import com.blog.dto.article.ArticleTocEntryDTO;
+import org.commonmark.Extension;
+import org.commonmark.ext.gfm.strikethrough.StrikethroughExtension;
+import org.commonmark.ext.gfm.tables.TablesExtension;
+import org.commonmark.node.AbstractVisitor;
+import org.commonmark.node.Code;
+import org.commonmark.node.Heading;
+import org.commonmark.node.Node;
+import org.commonmark.node.Text;
+import org.commonmark.parser.Parser;
+import org.commonmark.renderer.html.HtmlRenderer;
+import org.commonmark.renderer.text.TextContentRenderer;
+import org.springframework.stereotype.Component;
+
+import java.text.Normalizer;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Renders article Markdown into the artifact stored at publish time: HTML with stable heading anchors,
+ * a table of contents, a word count and an estimated reading time.
+ * <p>
+ * CommonMark plus GFM tables and strikethrough. Raw HTML in the Markdown (including Notion imports) is
+ * escaped and unsafe link schemes are dropped, so the output is safe to serve as a document. Parser and
+ * renderers are immutable and shared; each call builds its own anchor map, so rendering is thread-safe.
+ */
+@Component
+public class ArticleRenderer {
+
+    /**
+     * Reading speed for CJK text, in characters per minute.
+     */
+    private static final int CJK_CHARS_PER_MINUTE = 400;
+    /**
+     * Reading speed for Latin-script text, in words per minute.
+     */
+    private static final int WORDS_PER_MINUTE = 220;
+
+    private static final List<Extension> EXTENSIONS = List.of(
+            TablesExtension.create(),
+            StrikethroughExtension.create()
+    );
+
+    private final Parser parser = Parser.builder().extensions(EXTENSIONS).build();
+    private final TextContentRenderer textRenderer = TextContentRenderer.builder().extensions(EXTENSIONS).build();
+
+    public Rendered render(String markdown) {
+        Node document = parser.parse(markdown == null ? "" : markdown);
+
+        Map<Node, String> anchors = new IdentityHashMap<>();
+        List<ArticleTocEntryDTO> toc = new ArrayList<>();
+        Set<String> usedAnchors = new HashSet<>();
+        document.accept(new AbstractVisitor() {
+            @Override
+            public void visit(Heading heading) {
+                String text = headingText(heading);
+                String anchor = uniqueAnchor(text, usedAnchors);
+                anchors.put(heading, anchor);
+                toc.add(new ArticleTocEntryDTO(heading.getLevel(), anchor, text));
+            }
+        });
+
+        String html = HtmlRenderer.builder()
+                .extensions(EXTENSIONS)
+                .escapeHtml(true)
+                .sanitizeUrls(true)
+                .attributeProviderFactory(context -> (node, tagName, attributes) -> {
+                    String anchor = anchors.get(node);
+                    if (anchor != null) {
+                        attributes.put("id", anchor);
+                    }
+                })
+                .build()
+                .render(document);
+
+        int[] counts = countWords(textRenderer.render(document));
+        return new Rendered(html, toc, counts[0] + counts[1], readingMinutes(counts[0], counts[1]));
+    }
+
+    private static String headingText(Heading heading) {
+        StringBuilder text = new StringBuilder();
+        heading.accept(new AbstractVisitor() {
+            @Override
+            public void visit(Text node) {
+                text.append(node.getLiteral());
+            }
+
+            @Override
+            public void visit(Code node) {
+                text.append(node.getLiteral());
+            }
+        });
+        return text.toString().trim();
+    }
+
+    /**
+     * Lower-cased letters and digits (CJK kept as-is) joined by hyphens, suffixed on collision.
+     */
+    static String uniqueAnchor(String text, Set<String> used) {
+        String normalized = Normalizer.normalize(text, Normalizer.Form.NFKC).toLowerCase(Locale.ROOT);
+        StringBuilder slug = new StringBuilder();
+        boolean pendingHyphen = false;
+        for (int offset = 0; offset < normalized.length(); ) {
+            int codePoint = normalized.codePointAt(offset);
+            offset += Character.charCount(codePoint);
+            if (Character.isLetterOrDigit(codePoint)) {
+                if (pendingHyphen && slug.length() > 0) {
+                    slug.append('-');
+                }
+                slug.appendCodePoint(codePoint);
+                pendingHyphen = false;
+            } else {
+                pendingHyphen = true;
+            }
+        }
+        String base = slug.length() == 0 ? "section" : slug.toString();
+        String anchor = base;
+        Map<String, Integer> suffixes = new HashMap<>();
+        while (!used.add(anchor)) {
+            int next = suffixes.merge(base, 1, Integer::sum);
+            anchor = base + "-" + next;
+        }
+        return anchor;
+    }
+
+    /**
+     * Returns {CJK characters, other words}. Each CJK character reads as one word.
+     */
+    static int[] countWords(String text) {
+        int cjk = 0;
+        int words = 0;
+        boolean inWord = false;
+        for (int offset = 0; offset < text.length(); ) {
+            int codePoint = text.codePointAt(offset);
+            offset += Character.charCount(codePoint);
+            if (isCjk(codePoint)) {
+                cjk++;
+                inWord = false;
+            } else if (Character.isLetterOrDigit(codePoint)) {
+                if (!inWord) {
+                    words++;
+                    inWord = true;
+                }
+            } else {
+                inWord = false;
+            }
+        }
+        return new int[] {cjk, words};
+    }
+
+    static int readingMinutes(int cjkChars, int words) {
+        if (cjkChars == 0 && words == 0) {
+            return 0;
+        }
+        double minutes = (double) cjkChars / CJK_CHARS_PER_MINUTE + (double) words / WORDS_PER_MINUTE;
+        return Math.max(1, (int) Math.ceil(minutes));
+    }
+
+    private static boolean isCjk(int codePoint) {
+        Character.UnicodeScript script = Character.UnicodeScript.of(codePoint);
+        return script == Character.UnicodeScript.HAN
+                || script == Character.UnicodeScript.HIRAGANA
+                || script == Character.UnicodeScript.KATAKANA
+                || script == Character.UnicodeScript.HANGUL;
+    }
+
+    public static final class Rendered {
+        private final String html;
+        private final List<ArticleTocEntryDTO> toc;
+        private final int wordCount;
+        private final int readingMinutes;
+
+        private Rendered(String html, List<ArticleTocEntryDTO> toc, int wordCount, int readingMinutes) {
+            this.html = html;
+            this.toc = toc;
+            this.wordCount = wordCount;
+            this.readingMinutes = readingMinutes;
+        }
+
+        public String getHtml() {
+            return html;
+        }
+
+        public List<ArticleTocEntryDTO> getToc() {
+            return toc;
+        }
+
+        public int getWordCount() {
+            return wordCount;
+        }
+
+        public int getReadingMinutes() {
+            return readingMinutes;
+        }
+    }
+}
@@ -0,0 +1,86 @@
+package com.blog.service.article;
+
+import com.blog.dto.article.ArticleSummaryDTO;
+import com.blog.dto.article.ArticleSummaryRowDTO;
+import com.blog.dto.article.ArticleTagRowDTO;
+import com.blog.dto.category.CategoryDTO;
+import com.blog.dto.tag.TagDTO;
+import com.blog.dto.travel.ImageVariantsDTO;
+import com.blog.repository.ArticleRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * Turns content-free {@link ArticleSummaryRowDTO} rows into list payloads, loading the tags of a whole
+ * batch in one extra query.
+ */
+@Component
+@RequiredArgsConstructor
+public class ArticleSummaryAssembler {
+
+    private final ArticleRepository articleRepository;
+
+    public Page<ArticleSummaryDTO> toPage(Page<ArticleSummaryRowDTO> rows) {
+        return new PageImpl<>(toSummaries(rows.getContent()), rows.getPageable(), rows.getTotalElements());
+    }
+
+    /**
+     * Build summaries in row order.
+     */
+    public List<ArticleSummaryDTO> toSummaries(List<ArticleSummaryRowDTO> rows) {
+        if (rows.isEmpty()) {
+            return new ArrayList<>();
+        }
+        List<Long> ids = rows.stream().map(ArticleSummaryRowDTO::getId).collect(Collectors.toList());
+        Map<Long, Set<TagDTO>> tagsByArticle = new HashMap<>();
+        for (ArticleTagRowDTO tagRow : articleRepository.findTagRowsByArticleIds(ids)) {
+            tagsByArticle.computeIfAbsent(tagRow.getArticleId(), key -> new HashSet<>())
+                    .add(new TagDTO(tagRow.getTagId(), tagRow.getTagName()));
+        }
+
+        List<ArticleSummaryDTO> summaries = new ArrayList<>(rows.size());
+        for (ArticleSummaryRowDTO row : rows) {
+            ArticleSummaryDTO dto = new ArticleSummaryDTO();
+            dto.setId(row.getId());
+            dto.setTitle(row.getTitle());
+            dto.setSlug(row.getSlug());
+            dto.setSummary(row.getSummary());
+            dto.setCoverPhotoId(row.getCoverPhotoId());
+            dto.setCoverImage(row.getCoverImage());
+            dto.setCoverVariants(ImageVariantsDTO.of(row.getCoverThumbUrl(), row.getCoverCardUrl(), row.getCoverHeroUrl()));
+            dto.setCoverWidth(row.getCoverWidth());
+            dto.setCoverHeight(row.getCoverHeight());
+            dto.setStatus(row.getStatus());
+            dto.setFeaturedLevel(row.getFeaturedLevel());
+            dto.setViews(row.getViews());
+            dto.setPublishedAt(row.getPublishedAt());
+            dto.setCreatedAt(row.getCreatedAt());
+            dto.setCommentCount(row.getCommentCount() != null ? row.getCommentCount() : 0);
+            dto.setApprovedCommentCount(row.getApprovedCommentCount() != null ? row.getApprovedCommentCount() : 0);
+            dto.setLastCommentAt(row.getLastCommentAt());
+            dto.setAuthorName(row.getAuthorName());
+            if (row.getCategoryId() != null) {
+                dto.setCategory(new CategoryDTO(
+                        row.getCategoryId(),
+                        row.getCategoryName(),
+                        row.getCategoryDescription(),
+                        row.getCategorySlugPath(),
+                        row.getCategoryParentId(),
+                        null));
+            }
+            dto.setTags(tagsByArticle.getOrDefault(row.getId(), new HashSet<>()));
+            summaries.add(dto);
+        }
+        return summaries;
+    }
+}
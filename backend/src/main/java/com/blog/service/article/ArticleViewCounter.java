@@ -0,0 +1,195 @@
+package com.blog.service.article;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import javax.annotation.PreDestroy;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.LongSupplier;
+
+/**
+ * Write-behind article view counter.
+ * <p>
+ * Public detail reads only bump an in-memory {@link LongAdder}; pending deltas are flushed
+ * periodically as one batched {@code UPDATE articles SET views = views + ?} and drained on shutdown,
+ * so detail reads never dirty-check or lock the article row.
+ * <p>
+ * Besides the pending deltas it keeps per-article totals of views recorded and flushed by this
+ * process, which lets cached detail payloads derive a live view count without reloading the row.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class ArticleViewCounter {
+
+    private static final String FLUSH_SQL = "UPDATE articles SET views = views + ? WHERE id = ?";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    private final Map<Long, LongAdder> pending = new ConcurrentHashMap<>();
+    private final Map<Long, LongAdder> recorded = new ConcurrentHashMap<>();
+    private final Map<Long, LongAdder> flushed = new ConcurrentHashMap<>();
+    private final Object flushLock = new Object();
+    /**
+     * Odd while a flush is writing; lets {@link #baseline} detect a flush that overlapped a row read.
+     */
+    private final AtomicLong flushSequence = new AtomicLong();
+
+    /**
+     * Record one view and return the total number of views recorded by this process for the article.
+     */
+    public long increment(Long articleId) {
+        if (articleId == null) {
+            return 0L;
+        }
+        addPending(articleId, 1L);
+        LongAdder total = recorded.computeIfAbsent(articleId, id -> new LongAdder());
+        total.increment();
+        return total.sum();
+    }
+
+    /**
+     * Views recorded by this process for the article, flushed or not.
+     */
+    public long recordedViews(Long articleId) {
+        return sumOf(recorded, articleId);
+    }
+
+    /**
+     * Views this process has already written to {@code articles.views}.
+     * <p>
+     * {@code persistedViews - flushedViews(id)} is a stable baseline: adding {@link #recordedViews(Long)}
+     * to it always yields the live count, no matter how many flushes happen afterwards.
+     */
+    public long flushedViews(Long articleId) {
+        return sumOf(flushed, articleId);
+    }
+
+    /**
+     * Stamp to take before reading an article row whose views are passed to {@link #baseline}.
+     */
+    public long stamp() {
+        return flushSequence.get();
+    }
+
+    /**
+     * {@code persistedViews - flushedViews(articleId)}, with both terms covering the same flushes.
+     * <p>
+     * A flush that lands between the row read and the {@code flushedViews} read would otherwise be subtracted
+     * without being included in the row. If any flush overlapped since {@code stamp}, the views are read again
+     * with {@code reread} under the flush lock, where no flush can interleave.
+     */
+    public long baseline(Long articleId, long persistedViews, long stamp, LongSupplier reread) {
+        if ((stamp & 1L) == 0L) {
+            long flushedViews = flushedViews(articleId);
+            if (flushSequence.get() == stamp) {
+                return persistedViews - flushedViews;
+            }
+        }
+        synchronized (flushLock) {
+            return reread.getAsLong() - flushedViews(articleId);
+        }
+    }
+
+    /**
+     * Views recorded in memory but not yet flushed for the given article.
+     */
+    public long pendingViews(Long articleId) {
+        return sumOf(pending, articleId);
+    }
+
+    public void discard(Long articleId) {
+        if (articleId != null) {
+            pending.remove(articleId);
+            recorded.remove(articleId);
+            flushed.remove(articleId);
+        }
+    }
+
+    @Scheduled(
+            fixedDelayString = "${app.article.view-counter.flush-interval-ms:5000}",
+            initialDelayString = "${app.article.view-counter.flush-interval-ms:5000}"
+    )
+    public void scheduledFlush() {
+        flush();
+    }
+
+    @PreDestroy
+    public void drain() {
+        int flushed = flush();
+        if (flushed > 0) {
+            log.info("Drained pending view counts for {} articles on shutdown", flushed);
+        }
+    }
+
+    /**
+     * Write all pending deltas in one JDBC batch.
+     *
+     * @return number of articles whose counters were written
+     */
+    public int flush() {
+        synchronized (flushLock) {
+            List<Object[]> batch = new ArrayList<>();
+            for (Map.Entry<Long, LongAdder> entry : pending.entrySet()) {
+                LongAdder counter = entry.getValue();
+                long delta = counter.sumThenReset();
+                if (delta > 0) {
+                    batch.add(new Object[] { delta, entry.getKey() });
+                } else {
+                    // Idle counters are pruned so the map only tracks recently viewed articles. The check runs
+                    // under the same per-key lock as addPending, so a racing view is never left on a detached adder.
+                    pending.computeIfPresent(entry.getKey(), (id, current) -> current.sum() == 0 ? null : current);
+                }
+            }
+            if (batch.isEmpty()) {
+                return 0;
+            }
+
+            flushSequence.incrementAndGet();
+            try {
+                jdbcTemplate.batchUpdate(FLUSH_SQL, batch);
+                for (Object[] row : batch) {
+                    flushed.computeIfAbsent((Long) row[1], id -> new LongAdder()).add((Long) row[0]);
+                }
+                log.debug("Flushed view counts for {} articles", batch.size());
+                return batch.size();
+            } catch (RuntimeException ex) {
+                // Put the deltas back so the next flush retries them instead of losing views.
+                for (Object[] row : batch) {
+                    addPending((Long) row[1], (Long) row[0]);
+                }
+                log.warn("Failed to flush view counts for {} articles, will retry: {}", batch.size(), ex.getMessage());
+                return 0;
+            } finally {
+                flushSequence.incrementAndGet();
+            }
+        }
+    }
+
+    /**
+     * Add to the pending delta inside {@code compute}, so it cannot interleave with pruning in {@link #flush()}.
+     */
+    private void addPending(Long articleId, long delta) {
+        pending.compute(articleId, (id, current) -> {
+            LongAdder counter = current == null ? new LongAdder() : current;
+            counter.add(delta);
+            return counter;
+        });
+    }
+
+    private static long sumOf(Map<Long, LongAdder> counters, Long articleId) {
+        if (articleId == null) {
+            return 0L;
+        }
+        LongAdder counter = counters.get(articleId);
+        return counter == null ? 0L : counter.sum();
+    }
+}
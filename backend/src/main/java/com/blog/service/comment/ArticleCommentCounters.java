@@ -0,0 +1,175 @@
+package com.blog.service.comment;
+
+import com.blog.service.article.ArticleChangedEvent;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.LinkedHashSet;
+import java.util.List;
+
+/**
+ * Maintains {@code article_comment_counters}, the denormalized per-article comment totals read by article
+ * lists and the dashboard.
+ * <p>
+ * Writes join the caller's transaction, so a counter change commits or rolls back with the comment write
+ * that caused it. New comments bump the row with an atomic upsert; moderation and deletes recount the
+ * affected articles from {@code comments}, which also covers replies removed along with their parent. A periodic
+ * reconciliation recounts every article to repair drift from writes that bypass this class.
+ * <p>
+ * Every counted change publishes a {@code COMMENTS_CHANGED} {@link ArticleChangedEvent} per article, so
+ * list ETags and the grouped snapshot pick up the new counts once the transaction commits.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class ArticleCommentCounters {
+
+    private static final String INCREMENT_SQL =
+            "INSERT INTO article_comment_counters" +
+            " (article_id, comment_count, approved_count, pending_count, last_comment_at)" +
+            " VALUES (?, 1, ?, ?, ?)" +
+            " ON DUPLICATE KEY UPDATE" +
+            " comment_count = comment_count + 1," +
+            " approved_count = approved_count + VALUES(approved_count)," +
+            " pending_count = pending_count + VALUES(pending_count)," +
+            " last_comment_at = GREATEST(COALESCE(last_comment_at, VALUES(last_comment_at)), VALUES(last_comment_at))";
+
+    private static final String RECOUNT_SQL =
+            "INSERT INTO article_comment_counters" +
+            " (article_id, comment_count, approved_count, pending_count, last_comment_at)" +
+            " SELECT ?, COUNT(*), COALESCE(SUM(c.status = 'APPROVED'), 0), COALESCE(SUM(c.status = 'PENDING'), 0)," +
+            " MAX(c.created_at)" +
+            " FROM comments c WHERE c.article_id = ?" +
+            " ON DUPLICATE KEY UPDATE" +
+            " comment_count = VALUES(comment_count)," +
+            " approved_count = VALUES(approved_count)," +
+            " pending_count = VALUES(pending_count)," +
+            " last_comment_at = VALUES(last_comment_at)";
+
+    private static final String RECOUNT_MANY_SQL =
+            "INSERT INTO article_comment_counters" +
+            " (article_id, comment_count, approved_count, pending_count, last_comment_at)" +
+            " SELECT c.article_id, COUNT(*), SUM(c.status = 'APPROVED'), SUM(c.status = 'PENDING'), MAX(c.created_at)" +
+            " FROM comments c WHERE c.article_id IN (%s) GROUP BY c.article_id";
+
+    private static final String RECONCILE_SQL =
+            "INSERT INTO article_comment_counters" +
+            " (article_id, comment_count, approved_count, pending_count, last_comment_at)" +
+            " SELECT c.article_id, COUNT(*), SUM(c.status = 'APPROVED'), SUM(c.status = 'PENDING'), MAX(c.created_at)" +
+            " FROM comments c GROUP BY c.article_id" +
+            " ON DUPLICATE KEY UPDATE" +
+            " comment_count = VALUES(comment_count)," +
+            " approved_count = VALUES(approved_count)," +
+            " pending_count = VALUES(pending_count)," +
+            " last_comment_at = VALUES(last_comment_at)";
+
+    private static final String PRUNE_SQL =
+            "DELETE acc FROM article_comment_counters acc" +
+            " LEFT JOIN comments c ON c.article_id = acc.article_id" +
+            " WHERE c.id IS NULL";
+
+    private static final String TOTALS_SQL =
+            "SELECT COALESCE(SUM(comment_count), 0), COALESCE(SUM(approved_count), 0), COALESCE(SUM(pending_count), 0)" +
+            " FROM article_comment_counters";
+
+    private static final int RECOUNT_CHUNK_SIZE = 500;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final ApplicationEventPublisher eventPublisher;
+
+    /**
+     * Count one new comment. Does not read {@code comments}, so the comment need not be flushed yet.
+     */
+    public void commentAdded(Long articleId, String status, LocalDateTime createdAt) {
+        jdbcTemplate.update(INCREMENT_SQL,
+                articleId,
+                "APPROVED".equals(status) ? 1 : 0,
+                "PENDING".equals(status) ? 1 : 0,
+                Timestamp.valueOf(createdAt != null ? createdAt : LocalDateTime.now()));
+        publishChanged(articleId);
+    }
+
+    /**
+     * Recount one article from {@code comments}. Pending JPA changes must be flushed first, since this
+     * statement bypasses the persistence context.
+     */
+    public void recount(Long articleId) {
+        jdbcTemplate.update(RECOUNT_SQL, articleId, articleId);
+        publishChanged(articleId);
+    }
+
+    /**
+     * Recount a set of articles with two set-based statements per chunk: drop their rows, then re-insert
+     * the grouped totals of those that still have comments. Same flushing rule as {@link #recount(Long)}.
+     */
+    public void recount(Collection<Long> articleIds) {
+        List<Long> ids = new ArrayList<>(new LinkedHashSet<>(articleIds));
+        for (int from = 0; from < ids.size(); from += RECOUNT_CHUNK_SIZE) {
+            Object[] chunk = ids.subList(from, Math.min(from + RECOUNT_CHUNK_SIZE, ids.size())).toArray();
+            String placeholders = String.join(",", Collections.nCopies(chunk.length, "?"));
+            jdbcTemplate.update("DELETE FROM article_comment_counters WHERE article_id IN (" + placeholders + ")", chunk);
+            jdbcTemplate.update(String.format(RECOUNT_MANY_SQL, placeholders), chunk);
+        }
+        ids.forEach(this::publishChanged);
+    }
+
+    public void remove(Long articleId) {
+        jdbcTemplate.update("DELETE FROM article_comment_counters WHERE article_id = ?", articleId);
+    }
+
+    /**
+     * Site-wide totals summed over the counter rows instead of scanning {@code comments}.
+     */
+    public Totals totals() {
+        return jdbcTemplate.queryForObject(TOTALS_SQL,
+                (rs, rowNum) -> new Totals(rs.getLong(1), rs.getLong(2), rs.getLong(3)));
+    }
+
+    @Scheduled(
+            fixedDelayString = "${app.comment.counters.reconcile-interval-ms:3600000}",
+            initialDelayString = "${app.comment.counters.reconcile-interval-ms:3600000}"
+    )
+    public void scheduledReconcile() {
+        try {
+            reconcile();
+        } catch (RuntimeException ex) {
+            log.warn("Failed to reconcile article comment counters, will retry: {}", ex.getMessage());
+        }
+    }
+
+    /**
+     * Recount every article and drop rows of articles that no longer have comments.
+     */
+    public void reconcile() {
+        int upserted = jdbcTemplate.update(RECONCILE_SQL);
+        int pruned = jdbcTemplate.update(PRUNE_SQL);
+        log.debug("Reconciled article comment counters: {} rows upserted, {} pruned", upserted, pruned);
+    }
+
+    private void publishChanged(Long articleId) {
+        eventPublisher.publishEvent(ArticleChangedEvent.of(articleId, ArticleChangedEvent.Type.COMMENTS_CHANGED));
+    }
+
+    @Getter
+    @RequiredArgsConstructor
+    public static class Totals {
+
+        private final long comments;
+        private final long approved;
+
+        /**
+         * Awaiting review; spam is moderated, so it counts in neither this nor {@code approved}.
+         */
+        private final long pending;
+    }
+}
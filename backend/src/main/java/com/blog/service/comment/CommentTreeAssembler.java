@@ -0,0 +1,63 @@
+package com.blog.service.comment;
+
+import com.blog.dto.comment.CommentNodeDTO;
+import com.blog.dto.comment.CommentRowDTO;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Builds comment trees from flat projection rows in a single pass over each list.
+ */
+public final class CommentTreeAssembler {
+
+    private CommentTreeAssembler() {
+    }
+
+    /**
+     * Attach {@code replies} under {@code roots}, keeping the order of both lists.
+     * <p>
+     * Replies must be ordered so that a parent precedes its children (creation order does that). Rows
+     * deeper than {@code maxDepth} are not attached; their parent is flagged
+     * {@link CommentNodeDTO#isHasMoreReplies()} instead, so callers can load one level more than they
+     * return to learn whether a thread continues.
+     */
+    public static List<CommentNodeDTO> assemble(List<CommentRowDTO> roots, List<CommentRowDTO> replies, int maxDepth) {
+        Map<Long, CommentNodeDTO> nodes = new HashMap<>(Math.max(16, (roots.size() + replies.size()) * 2));
+        List<CommentNodeDTO> result = new ArrayList<>(roots.size());
+        for (CommentRowDTO row : roots) {
+            CommentNodeDTO node = toNode(row);
+            nodes.put(row.getId(), node);
+            result.add(node);
+        }
+        for (CommentRowDTO row : replies) {
+            CommentNodeDTO parent = nodes.get(row.getParentId());
+            if (parent == null) {
+                continue;
+            }
+            if (row.getDepth() > maxDepth) {
+                parent.setHasMoreReplies(true);
+                continue;
+            }
+            CommentNodeDTO node = toNode(row);
+            nodes.put(row.getId(), node);
+            parent.getReplies().add(node);
+        }
+        return result;
+    }
+
+    private static CommentNodeDTO toNode(CommentRowDTO row) {
+        return new CommentNodeDTO(
+                row.getId(),
+                row.getContent(),
+                row.getAuthorName(),
+                row.getStatus(),
+                row.getCreatedAt(),
+                row.getParentId(),
+                new ArrayList<>(),
+                false
+        );
+    }
+}
@@ -0,0 +1,50 @@
+package com.blog.service.cover;
+
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import lombok.ToString;
+
+import java.time.LocalDateTime;
+
+/**
+ * Immutable ranking entry of {@link CoverMaterialIndex}. Changes replace the entry rather than mutating
+ * it, because its position in the ranked set depends on every field.
+ */
+@Getter
+@ToString
+@EqualsAndHashCode
+@RequiredArgsConstructor
+public final class CoverMaterialCandidate {
+
+    private final long photoId;
+    private final String url;
+    private final LocalDateTime uploadedAt;
+
+    /**
+     * Articles currently using this photo as cover.
+     */
+    private final int useCount;
+
+    /**
+     * Latest update time among those articles, {@code null} when unused.
+     */
+    private final LocalDateTime lastUsedAt;
+
+    /**
+     * Responsive variant URLs, {@code null} until generated.
+     */
+    private final String thumbUrl;
+    private final String cardUrl;
+    private final String heroUrl;
+
+    /**
+     * Displayed size in pixels, {@code null} when unknown.
+     */
+    private final Integer width;
+    private final Integer height;
+
+    public boolean isUsed() {
+        return useCount > 0;
+    }
+}
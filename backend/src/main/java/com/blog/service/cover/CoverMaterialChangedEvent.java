@@ -0,0 +1,38 @@
+package com.blog.service.cover;
+
+import lombok.Getter;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+import java.util.Objects;
+import java.util.stream.Collectors;
+
+/**
+ * Published when cover material photos are uploaded or deleted, or when an article starts or stops using
+ * them as cover. {@link CoverMaterialIndex} reloads exactly these photos.
+ */
+@Getter
+public class CoverMaterialChangedEvent {
+
+    private final List<Long> photoIds;
+
+    private CoverMaterialChangedEvent(List<Long> photoIds) {
+        this.photoIds = photoIds;
+    }
+
+    public static CoverMaterialChangedEvent of(Collection<Long> photoIds) {
+        return new CoverMaterialChangedEvent(photoIds.stream()
+                .filter(Objects::nonNull)
+                .distinct()
+                .collect(Collectors.toList()));
+    }
+
+    public static CoverMaterialChangedEvent of(Long... photoIds) {
+        return of(Arrays.asList(photoIds));
+    }
+
+    public boolean isEmpty() {
+        return photoIds.isEmpty();
+    }
+}
@@ -0,0 +1,238 @@
+package com.blog.service.cover;
+
+import com.blog.dto.runtime.CoverMaterialIndexStatsDTO;
+import com.blog.dto.travel.CoverPhotoRowDTO;
+import com.blog.dto.travel.CoverUsageRowDTO;
+import com.blog.entity.FootprintPhoto;
+import com.blog.repository.ArticleRepository;
+import com.blog.repository.FootprintPhotoRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import javax.annotation.PreDestroy;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeSet;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * In-process ranking of cover materials backing {@code /api/cover-materials/recommendations}.
+ * <p>
+ * Candidates live in a sorted set ordered by the configured {@link CoverMaterialRanking}, so a top-K
+ * query walks K entries instead of loading and sorting the whole pool. The set is built once at startup;
+ * afterwards {@link CoverMaterialChangedEvent}s reload only the photos they name, on a single background
+ * thread, each in O(log n). Requests arriving before the first build trigger it synchronously.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class CoverMaterialIndex {
+
+    private static final String COVER_MATERIAL_SOURCE = FootprintPhoto.SOURCE_TYPE_COVER_MATERIAL;
+
+    private final FootprintPhotoRepository footprintPhotoRepository;
+    private final ArticleRepository articleRepository;
+
+    @Value("${app.cover-material.recommendation.ranking:NEVER_USED}")
+    private CoverMaterialRanking ranking = CoverMaterialRanking.NEVER_USED;
+
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    /**
+     * Serializes rebuilds and refreshes, so a rebuild that read the database before a change can never
+     * overwrite the refresh applying that change.
+     */
+    private final Object updateLock = new Object();
+    private final ExecutorService updater = Executors.newSingleThreadExecutor(daemonThreadFactory());
+
+    private TreeSet<CoverMaterialCandidate> ranked;
+    private Map<Long, CoverMaterialCandidate> byId = new HashMap<>();
+    private volatile boolean ready;
+    private volatile long lastRebuildMillis;
+    private volatile LocalDateTime lastRebuiltAt;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void onApplicationReady() {
+        updater.execute(this::rebuildSafely);
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onCoverMaterialChanged(CoverMaterialChangedEvent event) {
+        if (!event.isEmpty()) {
+            updater.execute(() -> refresh(event.getPhotoIds()));
+        }
+    }
+
+    /**
+     * The best {@code limit} candidates; {@code pinnedPhotoId}, when indexed, comes first regardless of rank.
+     */
+    public List<CoverMaterialCandidate> top(int limit, Long pinnedPhotoId) {
+        if (!ready) {
+            rebuild();
+        }
+        List<CoverMaterialCandidate> result = new ArrayList<>(Math.max(limit, 0));
+        lock.readLock().lock();
+        try {
+            CoverMaterialCandidate pinned = pinnedPhotoId == null ? null : byId.get(pinnedPhotoId);
+            if (pinned != null && limit > 0) {
+                result.add(pinned);
+            }
+            for (CoverMaterialCandidate candidate : ranked) {
+                if (result.size() >= limit) {
+                    break;
+                }
+                if (candidate != pinned) {
+                    result.add(candidate);
+                }
+            }
+        } finally {
+            lock.readLock().unlock();
+        }
+        return result;
+    }
+
+    public CoverMaterialIndexStatsDTO stats() {
+        lock.readLock().lock();
+        try {
+            int unused = 0;
+            for (CoverMaterialCandidate candidate : byId.values()) {
+                if (!candidate.isUsed()) {
+                    unused++;
+                }
+            }
+            return new CoverMaterialIndexStatsDTO(
+                    ready,
+                    ranking.name(),
+                    byId.size(),
+                    unused,
+                    lastRebuildMillis,
+                    lastRebuiltAt
+            );
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Rebuild the whole index from the database and swap it in atomically.
+     */
+    void rebuild() {
+        synchronized (updateLock) {
+            long startedAt = System.nanoTime();
+            Map<Long, CoverUsageRowDTO> usage = new HashMap<>();
+            for (CoverUsageRowDTO row : articleRepository.findCoverUsage()) {
+                usage.put(row.getPhotoId(), row);
+            }
+
+            TreeSet<CoverMaterialCandidate> rebuiltRanked = new TreeSet<>(ranking.comparator());
+            Map<Long, CoverMaterialCandidate> rebuiltById = new HashMap<>();
+            for (CoverPhotoRowDTO photo : footprintPhotoRepository.findCoverPhotoRows(COVER_MATERIAL_SOURCE)) {
+                CoverMaterialCandidate candidate = toCandidate(photo, usage.get(photo.getId()));
+                rebuiltRanked.add(candidate);
+                rebuiltById.put(candidate.getPhotoId(), candidate);
+            }
+
+            lock.writeLock().lock();
+            try {
+                ranked = rebuiltRanked;
+                byId = rebuiltById;
+            } finally {
+                lock.writeLock().unlock();
+            }
+            ready = true;
+            lastRebuildMillis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startedAt);
+            lastRebuiltAt = LocalDateTime.now();
+            log.info("Cover material index rebuilt: {} candidates ranked by {} in {}ms",
+                    rebuiltById.size(), ranking, lastRebuildMillis);
+        }
+    }
+
+    /**
+     * Reload the given photos: present ones are re-ranked with fresh usage, missing ones are dropped.
+     */
+    void refresh(List<Long> photoIds) {
+        synchronized (updateLock) {
+            if (!ready) {
+                // The first build has not run yet and will read the change anyway.
+                return;
+            }
+            try {
+                Map<Long, CoverUsageRowDTO> usage = new HashMap<>();
+                for (CoverUsageRowDTO row : articleRepository.findCoverUsageByPhotoIds(photoIds)) {
+                    usage.put(row.getPhotoId(), row);
+                }
+                Map<Long, CoverMaterialCandidate> fresh = new HashMap<>();
+                for (CoverPhotoRowDTO photo : footprintPhotoRepository.findCoverPhotoRowsByIds(COVER_MATERIAL_SOURCE, photoIds)) {
+                    fresh.put(photo.getId(), toCandidate(photo, usage.get(photo.getId())));
+                }
+
+                lock.writeLock().lock();
+                try {
+                    for (Long photoId : photoIds) {
+                        CoverMaterialCandidate previous = byId.remove(photoId);
+                        if (previous != null) {
+                            ranked.remove(previous);
+                        }
+                        CoverMaterialCandidate candidate = fresh.get(photoId);
+                        if (candidate != null) {
+                            ranked.add(candidate);
+                            byId.put(photoId, candidate);
+                        }
+                    }
+                } finally {
+                    lock.writeLock().unlock();
+                }
+            } catch (RuntimeException ex) {
+                // A stale index only degrades recommendations; force a full rebuild on next use.
+                ready = false;
+                log.warn("Failed to refresh cover material index for photos {}: {}", photoIds, ex.getMessage());
+            }
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        updater.shutdownNow();
+    }
+
+    private void rebuildSafely() {
+        try {
+            rebuild();
+        } catch (RuntimeException ex) {
+            log.error("Cover material index rebuild failed, will retry on first use", ex);
+        }
+    }
+
+    private static CoverMaterialCandidate toCandidate(CoverPhotoRowDTO photo, CoverUsageRowDTO usage) {
+        return new CoverMaterialCandidate(
+                photo.getId(),
+                photo.getUrl(),
+                photo.getCreatedAt(),
+                usage == null ? 0 : usage.getArticleCount().intValue(),
+                usage == null ? null : usage.getLastUsedAt(),
+                photo.getThumbUrl(),
+                photo.getCardUrl(),
+                photo.getHeroUrl(),
+                photo.getWidth(),
+                photo.getHeight()
+        );
+    }
+
+    private static CustomizableThreadFactory daemonThreadFactory() {
+        CustomizableThreadFactory threadFactory = new CustomizableThreadFactory("cover-material-index-");
+        threadFactory.setDaemon(true);
+        return threadFactory;
+    }
+}
@@ -0,0 +1,44 @@
+package com.blog.service.cover;
+
+import java.time.LocalDateTime;
+import java.util.Comparator;
+
+/**
+ * Orderings available to {@link CoverMaterialIndex}, selected with
+ * {@code app.cover-material.recommendation.ranking}. Every ordering ends on the photo id so it is total,
+ * as required by the sorted set backing the index.
+ */
+public enum CoverMaterialRanking {
+
+    /**
+     * Newest upload first, regardless of use.
+     */
+    RECENCY(Comparator.comparing(CoverMaterialCandidate::getUploadedAt, newestFirst())),
+
+    /**
+     * Never-used photos first, newest upload first within each group.
+     */
+    NEVER_USED(Comparator.comparing(CoverMaterialCandidate::isUsed)
+            .thenComparing(CoverMaterialCandidate::getUploadedAt, newestFirst())),
+
+    /**
+     * Never-used photos first, then photos whose covering articles changed longest ago.
+     */
+    LEAST_RECENTLY_USED(Comparator.comparing(CoverMaterialCandidate::isUsed)
+            .thenComparing(CoverMaterialCandidate::getLastUsedAt, Comparator.nullsFirst(Comparator.<LocalDateTime>naturalOrder()))
+            .thenComparing(CoverMaterialCandidate::getUploadedAt, newestFirst()));
+
+    private final Comparator<CoverMaterialCandidate> comparator;
+
+    CoverMaterialRanking(Comparator<CoverMaterialCandidate> order) {
+        this.comparator = order.thenComparing(CoverMaterialCandidate::getPhotoId, Comparator.reverseOrder());
+    }
+
+    public Comparator<CoverMaterialCandidate> comparator() {
+        return comparator;
+    }
+
+    private static Comparator<LocalDateTime> newestFirst() {
+        return Comparator.nullsLast(Comparator.reverseOrder());
+    }
+}
@@ -0,0 +1,193 @@
+package com.blog.service.cover;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.util.StringUtils;
+import org.springframework.web.multipart.MultipartFile;
+
+import javax.annotation.PostConstruct;
+import javax.annotation.PreDestroy;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.FileAlreadyExistsException;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.attribute.FileTime;
+import java.security.DigestInputStream;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Locale;
+import java.util.UUID;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.regex.Pattern;
+
+/**
+ * Content-addressed storage for cover material files.
+ * <p>
+ * Each upload is streamed once: bytes go to a temporary file while SHA-256 is computed over the same
+ * stream, and the file is then moved to {@code <sha256>.<ext>}. Identical content therefore always lands
+ * on the same path and is never written twice. Header metadata is then read from the stored file by
+ * {@link PhotoMetadataExtractor} without decoding pixels. Files are processed on a small bounded pool; when
+ * its queue is full the submitting request thread stores the file itself instead of failing.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class CoverMaterialStorage {
+
+    public static final String URL_PREFIX = "/uploads/cover-materials/";
+
+    private static final Path UPLOAD_DIR = Paths.get("uploads", "cover-materials");
+    private static final Pattern SAFE_EXTENSION = Pattern.compile("[a-z0-9]{1,10}");
+
+    private final PhotoMetadataExtractor photoMetadataExtractor;
+
+    @Value("${app.cover-material.upload.threads:4}")
+    private int threads;
+
+    @Value("${app.cover-material.upload.queue-capacity:100}")
+    private int queueCapacity;
+
+    private ThreadPoolExecutor executor;
+
+    @PostConstruct
+    void start() {
+        int poolSize = Math.max(1, threads);
+        AtomicInteger sequence = new AtomicInteger();
+        executor = new ThreadPoolExecutor(
+                poolSize,
+                poolSize,
+                0L,
+                TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(Math.max(1, queueCapacity)),
+                runnable -> {
+                    Thread thread = new Thread(runnable, "cover-material-upload-" + sequence.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                },
+                new ThreadPoolExecutor.CallerRunsPolicy());
+    }
+
+    @PreDestroy
+    void stop() {
+        executor.shutdownNow();
+    }
+
+    /**
+     * Store the file on the upload pool.
+     */
+    public Future<StoredFile> storeAsync(MultipartFile file) {
+        return executor.submit(() -> store(file));
+    }
+
+    /**
+     * Stream the file to disk under its content hash.
+     */
+    public StoredFile store(MultipartFile file) {
+        try {
+            Files.createDirectories(UPLOAD_DIR);
+            Path temp = UPLOAD_DIR.resolve(".upload-" + UUID.randomUUID().toString().replace("-", ""));
+            MessageDigest digest = sha256();
+            long size;
+            try (InputStream in = new DigestInputStream(file.getInputStream(), digest);
+                 OutputStream out = Files.newOutputStream(temp)) {
+                size = in.transferTo(out);
+            } catch (IOException | RuntimeException ex) {
+                Files.deleteIfExists(temp);
+                throw ex;
+            }
+
+            String hash = toHex(digest.digest());
+            String filename = hash + extensionOf(file.getOriginalFilename());
+            Path target = UPLOAD_DIR.resolve(filename);
+            boolean created = moveIntoPlace(temp, target);
+            log.debug("Stored cover material {} ({} bytes, {})", filename, size, created ? "new" : "existing");
+            return new StoredFile(hash, URL_PREFIX + filename, size, file.getOriginalFilename(),
+                    photoMetadataExtractor.extract(target));
+        } catch (IOException ex) {
+            throw new UncheckedIOException("Upload failed: " + ex.getMessage(), ex);
+        }
+    }
+
+    /**
+     * An existing file with the same content is touched rather than rewritten, so {@link UploadGarbageCollector}
+     * treats it as fresh until the row about to reference it has been inserted.
+     *
+     * @return {@code false} when a file with the same content already existed and the temp file was dropped
+     */
+    private static boolean moveIntoPlace(Path temp, Path target) throws IOException {
+        if (touch(target)) {
+            Files.deleteIfExists(temp);
+            return false;
+        }
+        try {
+            Files.move(temp, target, StandardCopyOption.ATOMIC_MOVE);
+        } catch (AtomicMoveNotSupportedException ex) {
+            try {
+                Files.move(temp, target);
+            } catch (FileAlreadyExistsException raced) {
+                Files.deleteIfExists(temp);
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static boolean touch(Path target) throws IOException {
+        try {
+            Files.setLastModifiedTime(target, FileTime.fromMillis(System.currentTimeMillis()));
+            return true;
+        } catch (NoSuchFileException ex) {
+            return false;
+        }
+    }
+
+    private static String extensionOf(String originalFilename) {
+        String extension = StringUtils.getFilenameExtension(originalFilename);
+        if (!StringUtils.hasText(extension)) {
+            return "";
+        }
+        extension = extension.toLowerCase(Locale.ROOT);
+        return SAFE_EXTENSION.matcher(extension).matches() ? "." + extension : "";
+    }
+
+    static MessageDigest sha256() {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException ex) {
+            throw new IllegalStateException("SHA-256 not available", ex);
+        }
+    }
+
+    static String toHex(byte[] bytes) {
+        StringBuilder builder = new StringBuilder(bytes.length * 2);
+        for (byte b : bytes) {
+            builder.append(Character.forDigit((b >> 4) & 0xF, 16)).append(Character.forDigit(b & 0xF, 16));
+        }
+        return builder.toString();
+    }
+
+    @Getter
+    @RequiredArgsConstructor
+    public static class StoredFile {
+
+        private final String contentHash;
+        private final String url;
+        private final long size;
+        private final String originalFilename;
+        private final PhotoMetadata metadata;
+    }
+}
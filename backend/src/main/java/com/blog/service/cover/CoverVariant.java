@@ -0,0 +1,27 @@
+package com.blog.service.cover;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+import java.util.Locale;
+
+/**
+ * Responsive sizes generated for every cover material, largest first so each one can be scaled down from
+ * the previous instead of from the full-size original.
+ */
+@Getter
+@RequiredArgsConstructor
+public enum CoverVariant {
+    HERO(1600),
+    CARD(800),
+    THUMB(320);
+
+    /**
+     * Upper bound of the longest edge, in pixels.
+     */
+    private final int maxEdge;
+
+    public String suffix() {
+        return name().toLowerCase(Locale.ROOT);
+    }
+}
@@ -0,0 +1,495 @@
+package com.blog.service.cover;
+
+import com.blog.dto.runtime.CoverVariantStatsDTO;
+import com.blog.dto.travel.CoverPhotoRowDTO;
+import com.blog.entity.FootprintPhoto;
+import com.blog.repository.ArticleRepository;
+import com.blog.repository.FootprintPhotoRepository;
+import com.blog.service.article.ArticleChangedEvent;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Component;
+
+import javax.annotation.PostConstruct;
+import javax.annotation.PreDestroy;
+import javax.imageio.IIOImage;
+import javax.imageio.ImageIO;
+import javax.imageio.ImageReadParam;
+import javax.imageio.ImageReader;
+import javax.imageio.ImageWriteParam;
+import javax.imageio.ImageWriter;
+import javax.imageio.stream.ImageInputStream;
+import javax.imageio.stream.ImageOutputStream;
+import java.awt.Color;
+import java.awt.Graphics2D;
+import java.awt.RenderingHints;
+import java.awt.geom.AffineTransform;
+import java.awt.image.BufferedImage;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.security.DigestInputStream;
+import java.security.MessageDigest;
+import java.time.LocalDateTime;
+import java.util.EnumMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Generates the {@link CoverVariant} copies of cover materials with {@code javax.imageio} on a bounded pool.
+ * <p>
+ * Uploads submit their new photos right after insert. When the pool is saturated the photo is simply left
+ * pending ({@code variant_status IS NULL}); the periodic backfill walks those rows by id and, running on
+ * its own thread, generates inline whenever the pool is full. Large originals are decoded with source
+ * subsampling so a 20MB photo never materializes at full resolution, rotated upright per the EXIF
+ * orientation (variants carry no EXIF), and each variant is scaled from the next larger one. The same
+ * header read fills {@link PhotoMetadata} columns still missing on rows uploaded before extraction
+ * existed. PNG stays PNG to keep transparency; everything else becomes JPEG. Variant files are
+ * written under a temporary name and moved into place as {@code <base>-<variant>-<hash16>.<ext>}, where
+ * the last segment is the SHA-256 prefix of the encoded bytes: a half-written file is never served and a
+ * regenerated variant with different bytes always gets a new, immutable URL. Once recorded, articles using
+ * the photo as cover get an {@link ArticleChangedEvent} so cached payloads and list ETags pick up the new
+ * variants and dimensions.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class CoverVariantGenerator {
+
+    public static final String STATUS_READY = "READY";
+    public static final String STATUS_FAILED = "FAILED";
+
+    private static final String COVER_MATERIAL_SOURCE = FootprintPhoto.SOURCE_TYPE_COVER_MATERIAL;
+    private static final String UPLOAD_URL_PREFIX = "/uploads/";
+    private static final String VARIANT_URL_PREFIX = "/uploads/cover-materials/variants/";
+    private static final Path VARIANT_DIR = Paths.get("uploads", "cover-materials", "variants");
+    private static final int BACKFILL_PAGE_SIZE = 200;
+    private static final int VARIANT_HASH_LENGTH = 16;
+    private static final float JPEG_QUALITY = 0.82f;
+
+    private final FootprintPhotoRepository footprintPhotoRepository;
+    private final ArticleRepository articleRepository;
+    private final ApplicationEventPublisher eventPublisher;
+    private final PhotoMetadataExtractor photoMetadataExtractor;
+
+    @Value("${app.cover-material.variants.threads:2}")
+    private int threads;
+
+    @Value("${app.cover-material.variants.queue-capacity:64}")
+    private int queueCapacity;
+
+    private final ExecutorService backfiller = Executors.newSingleThreadExecutor(daemonThreadFactory("cover-variant-backfill-"));
+    private final Set<Long> inFlight = ConcurrentHashMap.newKeySet();
+    private final AtomicBoolean backfillRunning = new AtomicBoolean();
+    private final AtomicLong generated = new AtomicLong();
+    private final AtomicLong failed = new AtomicLong();
+    private final AtomicLong deferred = new AtomicLong();
+
+    private ThreadPoolExecutor executor;
+    private volatile LocalDateTime lastBackfillAt;
+    private volatile int lastBackfillPhotos;
+
+    @PostConstruct
+    void start() {
+        int poolSize = Math.max(1, threads);
+        executor = new ThreadPoolExecutor(
+                poolSize,
+                poolSize,
+                0L,
+                TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(Math.max(1, queueCapacity)),
+                daemonThreadFactory("cover-variant-"),
+                new ThreadPoolExecutor.AbortPolicy());
+    }
+
+    @PreDestroy
+    void stop() {
+        backfiller.shutdownNow();
+        executor.shutdownNow();
+    }
+
+    /**
+     * Queue variant generation for a photo.
+     *
+     * @return {@code false} when the pool is saturated; the photo stays pending for the next backfill
+     */
+    public boolean submit(Long photoId, String url) {
+        if (photoId == null || !inFlight.add(photoId)) {
+            return true;
+        }
+        try {
+            executor.execute(() -> {
+                try {
+                    generate(photoId, url);
+                } finally {
+                    inFlight.remove(photoId);
+                }
+            });
+            return true;
+        } catch (RejectedExecutionException ex) {
+            inFlight.remove(photoId);
+            deferred.incrementAndGet();
+            log.debug("Cover variant pool saturated, photo {} left for backfill", photoId);
+            return false;
+        }
+    }
+
+    @Scheduled(
+            fixedDelayString = "${app.cover-material.variants.backfill-interval-ms:3600000}",
+            initialDelayString = "${app.cover-material.variants.backfill-initial-delay-ms:60000}"
+    )
+    public void scheduledBackfill() {
+        startBackfill();
+    }
+
+    /**
+     * Start a backfill over every pending cover material on the backfill thread, unless one is running.
+     *
+     * @return {@code false} when a backfill is already running
+     */
+    public boolean startBackfill() {
+        if (!backfillRunning.compareAndSet(false, true)) {
+            return false;
+        }
+        try {
+            backfiller.execute(() -> {
+                try {
+                    backfill();
+                } catch (RuntimeException ex) {
+                    log.warn("Cover variant backfill failed, will retry: {}", ex.getMessage());
+                } finally {
+                    backfillRunning.set(false);
+                }
+            });
+            return true;
+        } catch (RejectedExecutionException ex) {
+            backfillRunning.set(false);
+            return false;
+        }
+    }
+
+    public CoverVariantStatsDTO stats() {
+        return new CoverVariantStatsDTO(
+                executor.getMaximumPoolSize(),
+                executor.getQueue().size(),
+                inFlight.size(),
+                generated.get(),
+                failed.get(),
+                deferred.get(),
+                backfillRunning.get(),
+                lastBackfillPhotos,
+                lastBackfillAt
+        );
+    }
+
+    /**
+     * Walk pending photos in id order. Runs on the backfill thread, which does the work itself when the
+     * pool is full instead of dropping the photo again.
+     */
+    void backfill() {
+        long afterId = 0L;
+        int photos = 0;
+        while (true) {
+            List<CoverPhotoRowDTO> rows = footprintPhotoRepository.findVariantPendingRows(
+                    COVER_MATERIAL_SOURCE, afterId, PageRequest.of(0, BACKFILL_PAGE_SIZE));
+            if (rows.isEmpty()) {
+                break;
+            }
+            for (CoverPhotoRowDTO row : rows) {
+                afterId = row.getId();
+                photos++;
+                if (!submit(row.getId(), row.getUrl())) {
+                    generate(row.getId(), row.getUrl());
+                }
+            }
+        }
+        lastBackfillPhotos = photos;
+        lastBackfillAt = LocalDateTime.now();
+        if (photos > 0) {
+            log.info("Cover variant backfill submitted {} photos", photos);
+        }
+    }
+
+    /**
+     * Generate and record every variant of one photo; never throws.
+     */
+    void generate(Long photoId, String url) {
+        PhotoMetadata metadata = PhotoMetadata.EMPTY;
+        Map<CoverVariant, String> urls;
+        try {
+            Path source = localPath(url);
+            if (source == null || !Files.isRegularFile(source)) {
+                throw new IOException("Original not found on local disk");
+            }
+            metadata = photoMetadataExtractor.extract(source);
+            urls = writeVariants(source, url, metadata.getOrientation());
+        } catch (IOException | RuntimeException ex) {
+            failed.incrementAndGet();
+            log.warn("Failed to generate cover variants for photo {} ({}): {}", photoId, url, ex.getMessage());
+            recordSafely(photoId, null, STATUS_FAILED, metadata);
+            return;
+        }
+        generated.incrementAndGet();
+        recordSafely(photoId, urls, STATUS_READY, metadata);
+    }
+
+    private void recordSafely(Long photoId, Map<CoverVariant, String> urls, String status, PhotoMetadata metadata) {
+        try {
+            if (!PhotoMetadata.EMPTY.equals(metadata)) {
+                footprintPhotoRepository.fillMissingMetadata(
+                        photoId,
+                        metadata.getShotAt(),
+                        metadata.getWidth(),
+                        metadata.getHeight(),
+                        metadata.getOrientation(),
+                        metadata.getCameraMake(),
+                        metadata.getCameraModel());
+            }
+            footprintPhotoRepository.updateVariants(
+                    photoId,
+                    urls == null ? null : urls.get(CoverVariant.THUMB),
+                    urls == null ? null : urls.get(CoverVariant.CARD),
+                    urls == null ? null : urls.get(CoverVariant.HERO),
+                    status);
+            if (urls != null) {
+                eventPublisher.publishEvent(CoverMaterialChangedEvent.of(photoId));
+            }
+            if (urls != null || !PhotoMetadata.EMPTY.equals(metadata)) {
+                for (Long articleId : articleRepository.findIdsByCoverPhotoId(photoId)) {
+                    eventPublisher.publishEvent(ArticleChangedEvent.of(articleId, ArticleChangedEvent.Type.COVER_CHANGED));
+                }
+            }
+        } catch (RuntimeException ex) {
+            // Row stays pending and is retried by the next backfill.
+            log.warn("Failed to record cover variants for photo {}: {}", photoId, ex.getMessage());
+        }
+    }
+
+    private Map<CoverVariant, String> writeVariants(Path source, String url, Integer orientation) throws IOException {
+        Map<CoverVariant, String> urls = new EnumMap<>(CoverVariant.class);
+        try (ImageInputStream in = ImageIO.createImageInputStream(source.toFile())) {
+            Iterator<ImageReader> readers = in == null ? null : ImageIO.getImageReaders(in);
+            if (readers == null || !readers.hasNext()) {
+                throw new IOException("Unsupported image format");
+            }
+            ImageReader reader = readers.next();
+            try {
+                reader.setInput(in, true, true);
+                int width = reader.getWidth(0);
+                int height = reader.getHeight(0);
+                int longestEdge = Math.max(width, height);
+                boolean png = "png".equalsIgnoreCase(reader.getFormatName());
+                String baseName = baseName(source);
+
+                BufferedImage current = null;
+                for (CoverVariant variant : CoverVariant.values()) {
+                    if (longestEdge <= variant.getMaxEdge()) {
+                        urls.put(variant, url);
+                        continue;
+                    }
+                    if (current == null) {
+                        current = orient(decode(reader, longestEdge), orientation);
+                    }
+                    current = scale(current, variant.getMaxEdge(), png);
+                    String filename = write(current, baseName + "-" + variant.suffix(), png);
+                    urls.put(variant, VARIANT_URL_PREFIX + filename);
+                }
+            } finally {
+                reader.dispose();
+            }
+        }
+        return urls;
+    }
+
+    /**
+     * Decode with the coarsest subsampling that still leaves at least twice the hero size.
+     */
+    private static BufferedImage decode(ImageReader reader, int longestEdge) throws IOException {
+        ImageReadParam param = reader.getDefaultReadParam();
+        int subsampling = Math.max(1, longestEdge / (CoverVariant.HERO.getMaxEdge() * 2));
+        if (subsampling > 1) {
+            param.setSourceSubsampling(subsampling, subsampling, 0, 0);
+        }
+        return reader.read(0, param);
+    }
+
+    /**
+     * Turn a decoded image upright according to its EXIF orientation (1-8); rotations swap the dimensions.
+     */
+    static BufferedImage orient(BufferedImage image, Integer orientation) {
+        if (orientation == null || orientation <= 1 || orientation > 8) {
+            return image;
+        }
+        int w = image.getWidth();
+        int h = image.getHeight();
+        AffineTransform transform;
+        switch (orientation) {
+            case 2: // mirrored horizontally
+                transform = new AffineTransform(-1, 0, 0, 1, w, 0);
+                break;
+            case 3: // rotated 180
+                transform = new AffineTransform(-1, 0, 0, -1, w, h);
+                break;
+            case 4: // mirrored vertically
+                transform = new AffineTransform(1, 0, 0, -1, 0, h);
+                break;
+            case 5: // transposed
+                transform = new AffineTransform(0, 1, 1, 0, 0, 0);
+                break;
+            case 6: // needs 90 clockwise
+                transform = new AffineTransform(0, 1, -1, 0, h, 0);
+                break;
+            case 7: // transversed
+                transform = new AffineTransform(0, -1, -1, 0, h, w);
+                break;
+            default: // 8, needs 90 counter-clockwise
+                transform = new AffineTransform(0, -1, 1, 0, 0, w);
+                break;
+        }
+        boolean swap = PhotoMetadata.swapsDimensions(orientation);
+        int type = image.getColorModel().hasAlpha() ? BufferedImage.TYPE_INT_ARGB : BufferedImage.TYPE_INT_RGB;
+        BufferedImage oriented = new BufferedImage(swap ? h : w, swap ? w : h, type);
+        Graphics2D graphics = oriented.createGraphics();
+        try {
+            graphics.drawImage(image, transform, null);
+        } finally {
+            graphics.dispose();
+        }
+        return oriented;
+    }
+
+    /**
+     * Fit within {@code maxEdge} by repeated halving, which keeps bilinear filtering from aliasing.
+     */
+    static BufferedImage scale(BufferedImage source, int maxEdge, boolean keepAlpha) {
+        int sourceWidth = source.getWidth();
+        int sourceHeight = source.getHeight();
+        double ratio = Math.min(1.0, (double) maxEdge / Math.max(sourceWidth, sourceHeight));
+        int targetWidth = Math.max(1, (int) Math.round(sourceWidth * ratio));
+        int targetHeight = Math.max(1, (int) Math.round(sourceHeight * ratio));
+        int type = keepAlpha ? BufferedImage.TYPE_INT_ARGB : BufferedImage.TYPE_INT_RGB;
+
+        BufferedImage current = source;
+        int width = sourceWidth;
+        int height = sourceHeight;
+        do {
+            width = Math.max(targetWidth, width / 2);
+            height = Math.max(targetHeight, height / 2);
+            BufferedImage next = new BufferedImage(width, height, type);
+            Graphics2D graphics = next.createGraphics();
+            try {
+                if (!keepAlpha) {
+                    graphics.setColor(Color.WHITE);
+                    graphics.fillRect(0, 0, width, height);
+                }
+                graphics.setRenderingHint(RenderingHints.KEY_INTERPOLATION, RenderingHints.VALUE_INTERPOLATION_BILINEAR);
+                graphics.setRenderingHint(RenderingHints.KEY_RENDERING, RenderingHints.VALUE_RENDER_QUALITY);
+                graphics.drawImage(current, 0, 0, width, height, null);
+            } finally {
+                graphics.dispose();
+            }
+            current = next;
+        } while (width != targetWidth || height != targetHeight);
+        return current;
+    }
+
+    /**
+     * Encode into a temp file, then move it to {@code <stem>-<hash16>.<ext>} named after the encoded bytes.
+     *
+     * @return the final file name
+     */
+    private static String write(BufferedImage image, String stem, boolean png) throws IOException {
+        Files.createDirectories(VARIANT_DIR);
+        Path temp = VARIANT_DIR.resolve(".variant-" + UUID.randomUUID().toString().replace("-", ""));
+        try {
+            if (png) {
+                if (!ImageIO.write(image, "png", temp.toFile())) {
+                    throw new IOException("No PNG writer available");
+                }
+            } else {
+                writeJpeg(image, temp);
+            }
+            String filename = stem + "-" + contentHash(temp).substring(0, VARIANT_HASH_LENGTH) + (png ? ".png" : ".jpg");
+            Path target = VARIANT_DIR.resolve(filename);
+            try {
+                Files.move(temp, target, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+            } catch (AtomicMoveNotSupportedException ex) {
+                Files.move(temp, target, StandardCopyOption.REPLACE_EXISTING);
+            }
+            return filename;
+        } finally {
+            Files.deleteIfExists(temp);
+        }
+    }
+
+    private static String contentHash(Path file) throws IOException {
+        MessageDigest digest = CoverMaterialStorage.sha256();
+        try (InputStream in = new DigestInputStream(Files.newInputStream(file), digest)) {
+            in.transferTo(OutputStream.nullOutputStream());
+        }
+        return CoverMaterialStorage.toHex(digest.digest());
+    }
+
+    private static void writeJpeg(BufferedImage image, Path target) throws IOException {
+        Iterator<ImageWriter> writers = ImageIO.getImageWritersByFormatName("jpeg");
+        if (!writers.hasNext()) {
+            throw new IOException("No JPEG writer available");
+        }
+        ImageWriter writer = writers.next();
+        try (ImageOutputStream out = ImageIO.createImageOutputStream(target.toFile())) {
+            writer.setOutput(out);
+            ImageWriteParam param = writer.getDefaultWriteParam();
+            param.setCompressionMode(ImageWriteParam.MODE_EXPLICIT);
+            param.setCompressionQuality(JPEG_QUALITY);
+            writer.write(null, new IIOImage(image, null, null), param);
+        } finally {
+            writer.dispose();
+        }
+    }
+
+    /**
+     * Local file behind an {@code /uploads/...} URL, or {@code null} for external or escaping URLs.
+     */
+    static Path localPath(String url) {
+        if (url == null || !url.startsWith(UPLOAD_URL_PREFIX)) {
+            return null;
+        }
+        Path root = Paths.get("uploads").toAbsolutePath().normalize();
+        Path path = root.resolve(url.substring(UPLOAD_URL_PREFIX.length())).normalize();
+        return path.startsWith(root) ? path : null;
+    }
+
+    private static String baseName(Path source) {
+        String filename = source.getFileName().toString();
+        int dot = filename.lastIndexOf('.');
+        return dot > 0 ? filename.substring(0, dot) : filename;
+    }
+
+    private static CustomizableThreadFactory daemonThreadFactory(String prefix) {
+        CustomizableThreadFactory threadFactory = new CustomizableThreadFactory(prefix);
+        threadFactory.setDaemon(true);
+        return threadFactory;
+    }
+}
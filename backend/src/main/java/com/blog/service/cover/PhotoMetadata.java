@@ -0,0 +1,40 @@
+package com.blog.service.cover;
+
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import lombok.ToString;
+
+import java.time.LocalDate;
+
+/**
+ * Header metadata of an uploaded photo, as read by {@link PhotoMetadataExtractor}. Every field may be
+ * {@code null}; width and height are the displayed size, already swapped for rotated orientations.
+ */
+@Getter
+@ToString
+@EqualsAndHashCode
+@RequiredArgsConstructor
+public final class PhotoMetadata {
+
+    public static final PhotoMetadata EMPTY = new PhotoMetadata(null, null, null, null, null, null);
+
+    private final Integer width;
+    private final Integer height;
+
+    /**
+     * EXIF orientation (1-8).
+     */
+    private final Integer orientation;
+
+    private final LocalDate shotAt;
+    private final String cameraMake;
+    private final String cameraModel;
+
+    /**
+     * EXIF orientations 5-8 store the image rotated by 90 degrees.
+     */
+    public static boolean swapsDimensions(Integer orientation) {
+        return orientation != null && orientation >= 5 && orientation <= 8;
+    }
+}
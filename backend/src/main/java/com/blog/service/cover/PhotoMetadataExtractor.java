@@ -0,0 +1,141 @@
+package com.blog.service.cover;
+
+import com.drew.imaging.ImageMetadataReader;
+import com.drew.imaging.ImageProcessingException;
+import com.drew.metadata.Directory;
+import com.drew.metadata.Metadata;
+import com.drew.metadata.bmp.BmpHeaderDirectory;
+import com.drew.metadata.exif.ExifIFD0Directory;
+import com.drew.metadata.exif.ExifSubIFDDirectory;
+import com.drew.metadata.gif.GifHeaderDirectory;
+import com.drew.metadata.jpeg.JpegDirectory;
+import com.drew.metadata.png.PngDirectory;
+import com.drew.metadata.webp.WebpDirectory;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.io.BufferedInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDate;
+import java.time.format.DateTimeParseException;
+import java.util.List;
+
+/**
+ * Reads shot date, dimensions, orientation and camera from image headers with metadata-extractor.
+ * <p>
+ * Only metadata segments are parsed: for JPEG the reader stops at the start of the compressed scan, and
+ * no format is ever decoded to pixels, so this costs a few kilobytes of IO even for a 20MB photo. Missing
+ * or malformed metadata yields {@code null} fields rather than an error.
+ */
+@Component
+@Slf4j
+public class PhotoMetadataExtractor {
+
+    private static final int MAX_TEXT_LENGTH = 100;
+
+    /**
+     * Where each format keeps its pixel size, most authoritative first; the EXIF copy is a last resort
+     * because editors often leave it stale after cropping.
+     */
+    private static final List<DimensionTags> DIMENSION_TAGS = List.of(
+            new DimensionTags(JpegDirectory.class, JpegDirectory.TAG_IMAGE_WIDTH, JpegDirectory.TAG_IMAGE_HEIGHT),
+            new DimensionTags(PngDirectory.class, PngDirectory.TAG_IMAGE_WIDTH, PngDirectory.TAG_IMAGE_HEIGHT),
+            new DimensionTags(GifHeaderDirectory.class, GifHeaderDirectory.TAG_IMAGE_WIDTH, GifHeaderDirectory.TAG_IMAGE_HEIGHT),
+            new DimensionTags(WebpDirectory.class, WebpDirectory.TAG_IMAGE_WIDTH, WebpDirectory.TAG_IMAGE_HEIGHT),
+            new DimensionTags(BmpHeaderDirectory.class, BmpHeaderDirectory.TAG_IMAGE_WIDTH, BmpHeaderDirectory.TAG_IMAGE_HEIGHT),
+            new DimensionTags(ExifSubIFDDirectory.class, ExifSubIFDDirectory.TAG_EXIF_IMAGE_WIDTH, ExifSubIFDDirectory.TAG_EXIF_IMAGE_HEIGHT)
+    );
+
+    public PhotoMetadata extract(Path file) {
+        try (InputStream in = new BufferedInputStream(Files.newInputStream(file))) {
+            return extract(ImageMetadataReader.readMetadata(in));
+        } catch (ImageProcessingException | IOException | RuntimeException ex) {
+            log.debug("No readable metadata in {}: {}", file.getFileName(), ex.getMessage());
+            return PhotoMetadata.EMPTY;
+        }
+    }
+
+    PhotoMetadata extract(Metadata metadata) {
+        ExifIFD0Directory ifd0 = metadata.getFirstDirectoryOfType(ExifIFD0Directory.class);
+        ExifSubIFDDirectory subIfd = metadata.getFirstDirectoryOfType(ExifSubIFDDirectory.class);
+
+        Integer orientation = ifd0 == null ? null : ifd0.getInteger(ExifIFD0Directory.TAG_ORIENTATION);
+        if (orientation != null && (orientation < 1 || orientation > 8)) {
+            orientation = null;
+        }
+
+        int[] size = pixelSize(metadata);
+        Integer width = size == null ? null : size[0];
+        Integer height = size == null ? null : size[1];
+        if (PhotoMetadata.swapsDimensions(orientation)) {
+            Integer swapped = width;
+            width = height;
+            height = swapped;
+        }
+
+        LocalDate shotAt = subIfd == null ? null : parseExifDate(subIfd.getString(ExifSubIFDDirectory.TAG_DATETIME_ORIGINAL));
+        if (shotAt == null && ifd0 != null) {
+            shotAt = parseExifDate(ifd0.getString(ExifIFD0Directory.TAG_DATETIME));
+        }
+
+        return new PhotoMetadata(
+                width,
+                height,
+                orientation,
+                shotAt,
+                ifd0 == null ? null : text(ifd0.getString(ExifIFD0Directory.TAG_MAKE)),
+                ifd0 == null ? null : text(ifd0.getString(ExifIFD0Directory.TAG_MODEL))
+        );
+    }
+
+    private static int[] pixelSize(Metadata metadata) {
+        for (DimensionTags tags : DIMENSION_TAGS) {
+            for (Directory directory : metadata.getDirectoriesOfType(tags.type)) {
+                Integer width = directory.getInteger(tags.widthTag);
+                Integer height = directory.getInteger(tags.heightTag);
+                if (width != null && height != null && width > 0 && height > 0) {
+                    return new int[]{width, height};
+                }
+            }
+        }
+        return null;
+    }
+
+    /**
+     * EXIF dates are {@code yyyy:MM:dd HH:mm:ss} in camera local time; only the date is kept.
+     */
+    static LocalDate parseExifDate(String value) {
+        if (value == null || value.length() < 10) {
+            return null;
+        }
+        try {
+            LocalDate date = LocalDate.parse(value.substring(0, 10).replace(':', '-'));
+            return date.getYear() < 1900 ? null : date;
+        } catch (DateTimeParseException ex) {
+            return null;
+        }
+    }
+
+    private static String text(String value) {
+        if (value == null) {
+            return null;
+        }
+        String trimmed = value.replace('\u0000', ' ').trim();
+        if (trimmed.isEmpty()) {
+            return null;
+        }
+        return trimmed.length() > MAX_TEXT_LENGTH ? trimmed.substring(0, MAX_TEXT_LENGTH) : trimmed;
+    }
+
+    @RequiredArgsConstructor
+    private static final class DimensionTags {
+
+        private final Class<? extends Directory> type;
+        private final int widthTag;
+        private final int heightTag;
+    }
+}
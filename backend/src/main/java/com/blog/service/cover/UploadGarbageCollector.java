@@ -0,0 +1,381 @@
+package com.blog.service.cover;
+
+import com.blog.dto.article.ArticleContentRowDTO;
+import com.blog.dto.runtime.UploadGcStatsDTO;
+import com.blog.dto.travel.CoverPhotoRowDTO;
+import com.blog.repository.ArticleRepository;
+import com.blog.repository.FootprintPhotoRepository;
+import com.blog.web.UploadFileServer;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Component;
+
+import javax.annotation.PreDestroy;
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.LinkOption;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.nio.file.attribute.FileTime;
+import java.time.LocalDateTime;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Moves cover material files that no row references into {@code uploads/.quarantine/} and deletes them
+ * once they have sat there for the retention period.
+ * <p>
+ * A run first collects every referenced URL by walking {@code footprint_photo} in id batches, and every
+ * upload file name linked from an article body by walking {@code articles} the same way, then streams
+ * each managed directory with {@link Files#newDirectoryStream} one entry at a time. Files younger than the
+ * minimum age are skipped, which covers uploads whose row is not inserted yet (dedupe hits touch the
+ * existing file for the same reason). Abandoned {@code .upload-*} / {@code .variant-*} temp files are deleted
+ * directly; any other unreferenced file that no article body mentions is quarantined. Before a quarantined
+ * file is deleted it is checked against the database again and moved back if something references it.
+ * Quarantine lives under a dot directory, so {@link UploadFileServer} never serves it. The whole run is
+ * paced to {@code max-files-per-second} so it cannot saturate the disk shared with request traffic.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class UploadGarbageCollector {
+
+    private static final Path ROOT = Paths.get("uploads");
+    private static final Path QUARANTINE_ROOT = ROOT.resolve(".quarantine");
+    private static final List<Path> MANAGED_DIRS = List.of(
+            Paths.get("cover-materials"),
+            Paths.get("cover-materials", "variants"));
+    private static final int REFERENCE_PAGE_SIZE = 1000;
+    private static final int CONTENT_PAGE_SIZE = 100;
+    private static final Pattern UPLOAD_LINK = Pattern.compile("cover-materials/(?:variants/)?([A-Za-z0-9][A-Za-z0-9._-]*)");
+
+    private final FootprintPhotoRepository footprintPhotoRepository;
+    private final ArticleRepository articleRepository;
+    private final UploadFileServer uploadFileServer;
+
+    @Value("${app.uploads.gc.enabled:true}")
+    private boolean enabled;
+
+    @Value("${app.uploads.gc.min-age-seconds:3600}")
+    private long minAgeSeconds;
+
+    @Value("${app.uploads.gc.quarantine-retention-hours:168}")
+    private long quarantineRetentionHours;
+
+    @Value("${app.uploads.gc.max-files-per-second:200}")
+    private int maxFilesPerSecond;
+
+    private final ExecutorService worker = Executors.newSingleThreadExecutor(daemonThreadFactory("upload-gc-"));
+    private final AtomicBoolean running = new AtomicBoolean();
+    private final AtomicLong totalReclaimedBytes = new AtomicLong();
+
+    private volatile Sweep lastSweep;
+
+    @PreDestroy
+    void stop() {
+        worker.shutdownNow();
+    }
+
+    @Scheduled(
+            fixedDelayString = "${app.uploads.gc.interval-ms:86400000}",
+            initialDelayString = "${app.uploads.gc.initial-delay-ms:600000}"
+    )
+    public void scheduledRun() {
+        if (enabled) {
+            start();
+        }
+    }
+
+    /**
+     * Start a collection on the GC thread, unless one is running.
+     *
+     * @return {@code false} when a collection is already running
+     */
+    public boolean start() {
+        if (!running.compareAndSet(false, true)) {
+            return false;
+        }
+        try {
+            worker.execute(() -> {
+                try {
+                    run();
+                } catch (IOException | RuntimeException ex) {
+                    log.warn("Upload garbage collection failed, will retry: {}", ex.getMessage());
+                } catch (InterruptedException ex) {
+                    Thread.currentThread().interrupt();
+                } finally {
+                    running.set(false);
+                }
+            });
+            return true;
+        } catch (RejectedExecutionException ex) {
+            running.set(false);
+            return false;
+        }
+    }
+
+    public UploadGcStatsDTO stats() {
+        Sweep sweep = lastSweep;
+        if (sweep == null) {
+            return new UploadGcStatsDTO(running.get(), null, 0L, 0L, 0L, 0L, 0L, 0L, 0L, totalReclaimedBytes.get());
+        }
+        return new UploadGcStatsDTO(
+                running.get(),
+                sweep.finishedAt,
+                sweep.millis,
+                sweep.scanned,
+                sweep.quarantined,
+                sweep.quarantinedBytes,
+                sweep.restored,
+                sweep.purged,
+                sweep.reclaimedBytes,
+                totalReclaimedBytes.get()
+        );
+    }
+
+    void run() throws IOException, InterruptedException {
+        long startedAt = System.currentTimeMillis();
+        Sweep sweep = new Sweep(startedAt);
+        Set<String> referenced = referencedUrls();
+        Set<String> linkedFromArticles = linkedFromArticles();
+        long youngerThan = startedAt - TimeUnit.SECONDS.toMillis(minAgeSeconds);
+        for (Path dir : MANAGED_DIRS) {
+            collect(dir, referenced, linkedFromArticles, youngerThan, sweep);
+        }
+        long quarantinedBefore = startedAt - TimeUnit.HOURS.toMillis(quarantineRetentionHours);
+        for (Path dir : MANAGED_DIRS) {
+            purge(dir, linkedFromArticles, quarantinedBefore, sweep);
+        }
+
+        sweep.millis = System.currentTimeMillis() - startedAt;
+        sweep.finishedAt = LocalDateTime.now();
+        totalReclaimedBytes.addAndGet(sweep.reclaimedBytes);
+        lastSweep = sweep;
+        if (sweep.quarantined > 0 || sweep.restored > 0 || sweep.purged > 0 || sweep.reclaimedBytes > 0) {
+            log.info("Upload GC scanned {} files: quarantined {} ({} bytes), restored {}, purged {}, reclaimed {} bytes in {} ms",
+                    sweep.scanned, sweep.quarantined, sweep.quarantinedBytes, sweep.restored, sweep.purged,
+                    sweep.reclaimedBytes, sweep.millis);
+        }
+    }
+
+    /**
+     * Every upload URL held by a photo row, read in id order one page at a time.
+     */
+    private Set<String> referencedUrls() {
+        Set<String> urls = new HashSet<>();
+        long afterId = 0L;
+        while (true) {
+            List<CoverPhotoRowDTO> rows = footprintPhotoRepository.findPhotoRowsAfter(
+                    afterId, PageRequest.of(0, REFERENCE_PAGE_SIZE));
+            if (rows.isEmpty()) {
+                return urls;
+            }
+            for (CoverPhotoRowDTO row : rows) {
+                afterId = row.getId();
+                addIfPresent(urls, row.getUrl());
+                addIfPresent(urls, row.getThumbUrl());
+                addIfPresent(urls, row.getCardUrl());
+                addIfPresent(urls, row.getHeroUrl());
+            }
+        }
+    }
+
+    /**
+     * File names of every managed upload linked from an article body, read in id order one page at a time
+     * so only a page of bodies is held at once.
+     */
+    private Set<String> linkedFromArticles() {
+        Set<String> filenames = new HashSet<>();
+        long afterId = 0L;
+        while (true) {
+            List<ArticleContentRowDTO> rows = articleRepository.findContentRowsAfter(
+                    afterId, PageRequest.of(0, CONTENT_PAGE_SIZE));
+            if (rows.isEmpty()) {
+                return filenames;
+            }
+            for (ArticleContentRowDTO row : rows) {
+                afterId = row.getId();
+                addLinkedFilenames(row.getContent(), filenames);
+            }
+        }
+    }
+
+    static void addLinkedFilenames(String content, Set<String> filenames) {
+        if (content == null) {
+            return;
+        }
+        Matcher matcher = UPLOAD_LINK.matcher(content);
+        while (matcher.find()) {
+            String filename = matcher.group(1);
+            int end = filename.length();
+            while (end > 0 && filename.charAt(end - 1) == '.') {
+                end--;
+            }
+            filenames.add(filename.substring(0, end));
+        }
+    }
+
+    private void collect(Path dir, Set<String> referenced, Set<String> linkedFromArticles, long youngerThan,
+                         Sweep sweep) throws IOException, InterruptedException {
+        Path absolute = ROOT.resolve(dir);
+        if (!Files.isDirectory(absolute)) {
+            return;
+        }
+        try (DirectoryStream<Path> entries = Files.newDirectoryStream(absolute)) {
+            for (Path entry : entries) {
+                BasicFileAttributes attributes = attributesOf(entry);
+                if (attributes == null || !attributes.isRegularFile()) {
+                    continue;
+                }
+                pace(++sweep.scanned, sweep.startedAt);
+                if (attributes.lastModifiedTime().toMillis() > youngerThan) {
+                    continue;
+                }
+                String filename = entry.getFileName().toString();
+                if (filename.startsWith(".upload-") || filename.startsWith(".variant-")) {
+                    if (Files.deleteIfExists(entry)) {
+                        sweep.reclaimedBytes += attributes.size();
+                    }
+                    continue;
+                }
+                if (filename.startsWith(".")) {
+                    continue;
+                }
+                Path relative = dir.resolve(filename);
+                if (referenced.contains(urlOf(relative)) || linkedFromArticles.contains(filename)) {
+                    continue;
+                }
+                quarantine(relative);
+                sweep.quarantined++;
+                sweep.quarantinedBytes += attributes.size();
+            }
+        }
+    }
+
+    private void purge(Path dir, Set<String> linkedFromArticles, long quarantinedBefore, Sweep sweep)
+            throws IOException, InterruptedException {
+        Path absolute = QUARANTINE_ROOT.resolve(dir);
+        if (!Files.isDirectory(absolute)) {
+            return;
+        }
+        try (DirectoryStream<Path> entries = Files.newDirectoryStream(absolute)) {
+            for (Path entry : entries) {
+                BasicFileAttributes attributes = attributesOf(entry);
+                if (attributes == null || !attributes.isRegularFile()) {
+                    continue;
+                }
+                pace(++sweep.scanned, sweep.startedAt);
+                String filename = entry.getFileName().toString();
+                Path relative = dir.resolve(filename);
+                if (linkedFromArticles.contains(filename)
+                        || footprintPhotoRepository.isUrlReferenced(urlOf(relative))) {
+                    restore(entry, ROOT.resolve(relative));
+                    sweep.restored++;
+                    continue;
+                }
+                if (attributes.lastModifiedTime().toMillis() < quarantinedBefore && Files.deleteIfExists(entry)) {
+                    sweep.purged++;
+                    sweep.reclaimedBytes += attributes.size();
+                }
+            }
+        }
+    }
+
+    /**
+     * Move into quarantine and stamp the move time, which starts the retention clock.
+     */
+    private void quarantine(Path relative) throws IOException {
+        Path target = QUARANTINE_ROOT.resolve(relative);
+        Files.createDirectories(target.getParent());
+        try {
+            Files.move(ROOT.resolve(relative), target, StandardCopyOption.REPLACE_EXISTING);
+        } catch (NoSuchFileException ex) {
+            return;
+        }
+        Files.setLastModifiedTime(target, FileTime.fromMillis(System.currentTimeMillis()));
+        uploadFileServer.evict(relative.toString());
+        log.debug("Quarantined orphaned upload {}", relative);
+    }
+
+    private static void restore(Path quarantined, Path original) throws IOException {
+        if (Files.exists(original)) {
+            Files.deleteIfExists(quarantined);
+            return;
+        }
+        Files.move(quarantined, original);
+        log.info("Restored quarantined upload {}", original);
+    }
+
+    /**
+     * Sleep as needed so the run has examined at most {@code maxFilesPerSecond} files per second.
+     */
+    private void pace(long examined, long startedAt) throws InterruptedException {
+        if (maxFilesPerSecond <= 0) {
+            return;
+        }
+        long due = startedAt + examined * 1000L / maxFilesPerSecond;
+        long wait = due - System.currentTimeMillis();
+        if (wait > 0) {
+            Thread.sleep(wait);
+        }
+    }
+
+    private static BasicFileAttributes attributesOf(Path entry) throws IOException {
+        try {
+            return Files.readAttributes(entry, BasicFileAttributes.class, LinkOption.NOFOLLOW_LINKS);
+        } catch (NoSuchFileException ex) {
+            return null;
+        }
+    }
+
+    static String urlOf(Path relative) {
+        return UploadFileServer.URL_PREFIX + relative.toString().replace(File.separatorChar, '/');
+    }
+
+    private static void addIfPresent(Set<String> urls, String url) {
+        if (url != null) {
+            urls.add(url);
+        }
+    }
+
+    private static CustomizableThreadFactory daemonThreadFactory(String prefix) {
+        CustomizableThreadFactory threadFactory = new CustomizableThreadFactory(prefix);
+        threadFactory.setDaemon(true);
+        return threadFactory;
+    }
+
+    private static final class Sweep {
+
+        private final long startedAt;
+        private long scanned;
+        private long quarantined;
+        private long quarantinedBytes;
+        private long restored;
+        private long purged;
+        private long reclaimedBytes;
+        private long millis;
+        private LocalDateTime finishedAt;
+
+        private Sweep(long startedAt) {
+            this.startedAt = startedAt;
+        }
+    }
+}
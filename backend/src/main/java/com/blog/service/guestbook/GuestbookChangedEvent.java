@@ -0,0 +1,7 @@
+package com.blog.service.guestbook;
+
+/**
+ * Published after the set of public guestbook entries changes.
+ */
+public class GuestbookChangedEvent {
+}
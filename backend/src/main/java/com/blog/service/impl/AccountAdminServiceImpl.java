@@ -6,13 +6,16 @@ import com.blog.exception.BusinessException;
 import com.blog.repository.UserRepository;
 import com.blog.repository.UserTabPermissionRepository;
 import com.blog.security.AdminTabCodes;
+import com.blog.security.PasswordHasher;
 import com.blog.service.AccountAdminService;
 import com.blog.service.UserPermissionService;
+import com.blog.service.account.UserAccountChangedEvent;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.http.HttpStatus;
-import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 
 import java.util.Comparator;
 import java.util.List;
@@ -27,9 +30,11 @@ public class AccountAdminServiceImpl implements AccountAdminService {
     private static final String OWNER_USERNAME = "shyl";
 
     private final UserRepository userRepository;
-    private final PasswordEncoder passwordEncoder;
+    private final PasswordHasher passwordHasher;
     private final UserPermissionService userPermissionService;
     private final UserTabPermissionRepository userTabPermissionRepository;
+    private final ApplicationEventPublisher eventPublisher;
+    private final TransactionTemplate transactionTemplate;
 
     @Override
     @Transactional(readOnly = true)
@@ -41,17 +46,26 @@ public class AccountAdminServiceImpl implements AccountAdminService {
                 .collect(Collectors.toList());
     }
 
+    /**
+     * The password is hashed before the transaction opens, so waiting for the bounded hashing pool never
+     * holds a database connection; the account and its tabs are then written in one transaction.
+     */
     @Override
-    @Transactional
     public AccountSummaryDTO createAccount(String operatorUsername, AccountCreateRequest request) {
-        assertOwnerOperator(operatorUsername);
-
         String username = normalizeRequired(request.getUsername(), "username");
         String email = normalizeRequired(request.getEmail(), "email");
 
         if (OWNER_USERNAME.equalsIgnoreCase(username)) {
             throw new BusinessException("Reserved username is not allowed", HttpStatus.CONFLICT);
         }
+
+        String passwordHash = passwordHasher.encode(request.getPassword());
+        return transactionTemplate.execute(status -> insertAccount(operatorUsername, request, username, email, passwordHash));
+    }
+
+    private AccountSummaryDTO insertAccount(
+            String operatorUsername, AccountCreateRequest request, String username, String email, String passwordHash) {
+        assertOwnerOperator(operatorUsername);
         if (userRepository.existsByUsername(username)) {
             throw new BusinessException("Username already exists", HttpStatus.CONFLICT);
         }
@@ -64,9 +78,10 @@ public class AccountAdminServiceImpl implements AccountAdminService {
         user.setEmail(email);
         user.setRole("MEMBER");
         user.setEnabled(request.getEnabled() == null || request.getEnabled());
-        user.setPasswordHash(passwordEncoder.encode(request.getPassword()));
+        user.setPasswordHash(passwordHash);
         User saved = userRepository.save(user);
         userPermissionService.replaceMemberTabs(saved, request.getTabCodes());
+        eventPublisher.publishEvent(new UserAccountChangedEvent(saved.getId(), saved.getUsername()));
         return toSummary(saved);
     }
 
@@ -90,6 +105,7 @@ public class AccountAdminServiceImpl implements AccountAdminService {
         }
         User saved = userRepository.save(target);
         userPermissionService.replaceMemberTabs(saved, request.getTabCodes());
+        eventPublisher.publishEvent(new UserAccountChangedEvent(saved.getId(), saved.getUsername()));
         return toSummary(saved);
     }
 
@@ -102,24 +118,32 @@ public class AccountAdminServiceImpl implements AccountAdminService {
         assertNotOwnerTarget(target);
         target.setEnabled(enabled);
         User saved = userRepository.save(target);
+        eventPublisher.publishEvent(new UserAccountChangedEvent(saved.getId(), saved.getUsername()));
         return toSummary(saved);
     }
 
+    /**
+     * Hashes before the transaction opens, like {@link #createAccount}.
+     */
     @Override
-    @Transactional
     public void resetPassword(String operatorUsername, Long userId, AccountPasswordResetRequest request) {
-        assertOwnerOperator(operatorUsername);
-        User target = userRepository.findById(userId)
-                .orElseThrow(() -> new BusinessException("User not found", HttpStatus.NOT_FOUND));
-        assertNotOwnerTarget(target);
         if (!Objects.equals(request.getNewPassword(), request.getConfirmPassword())) {
             throw new BusinessException("Confirm password does not match", HttpStatus.BAD_REQUEST);
         }
         if (request.getNewPassword().length() < 8) {
             throw new BusinessException("Password must be at least 8 characters", HttpStatus.BAD_REQUEST);
         }
-        target.setPasswordHash(passwordEncoder.encode(request.getNewPassword()));
-        userRepository.save(target);
+
+        String passwordHash = passwordHasher.encode(request.getNewPassword());
+        transactionTemplate.executeWithoutResult(status -> {
+            assertOwnerOperator(operatorUsername);
+            User target = userRepository.findById(userId)
+                    .orElseThrow(() -> new BusinessException("User not found", HttpStatus.NOT_FOUND));
+            assertNotOwnerTarget(target);
+            target.setPasswordHash(passwordHash);
+            userRepository.save(target);
+            eventPublisher.publishEvent(new UserAccountChangedEvent(target.getId(), target.getUsername()));
+        });
     }
 
     @Override
@@ -131,6 +155,7 @@ public class AccountAdminServiceImpl implements AccountAdminService {
         assertNotOwnerTarget(target);
         userTabPermissionRepository.deleteByUserId(target.getId());
         userRepository.delete(target);
+        eventPublisher.publishEvent(new UserAccountChangedEvent(target.getId(), target.getUsername()));
     }
 
     @Override
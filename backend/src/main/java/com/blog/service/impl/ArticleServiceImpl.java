@@ -1,12 +1,15 @@
 package com.blog.service.impl;
 
+import com.blog.common.CursorPage;
 import com.blog.dto.article.ArticleCreateRequest;
 import com.blog.dto.article.ArticleDetailDTO;
+import com.blog.dto.article.ArticleHtmlDTO;
 import com.blog.dto.article.ArticleSummaryDTO;
 import com.blog.dto.article.ArticleUpdateRequest;
 import com.blog.dto.article.CategoryArticleGroupDTO;
 import com.blog.dto.category.CategoryDTO;
 import com.blog.dto.tag.TagDTO;
+import com.blog.dto.travel.ImageVariantsDTO;
 import com.blog.entity.Article;
 import com.blog.entity.Category;
 import com.blog.entity.FootprintPhoto;
@@ -20,26 +23,42 @@ import com.blog.repository.FootprintPhotoRepository;
 import com.blog.repository.TagRepository;
 import com.blog.repository.UserRepository;
 import com.blog.service.ArticleService;
+import com.blog.service.article.ArticleChangedEvent;
+import com.blog.service.article.ArticleCursor;
+import com.blog.service.article.ArticleDetailCache;
+import com.blog.service.article.ArticleGroupSnapshot;
+import com.blog.service.article.ArticleRenderStore;
+import com.blog.service.article.ArticleSummaryAssembler;
+import com.blog.service.article.ArticleViewCounter;
+import com.blog.service.comment.ArticleCommentCounters;
+import com.blog.service.cover.CoverMaterialChangedEvent;
+import com.blog.service.search.ArticleSearchIndex;
+import com.blog.service.search.SearchFilter;
+import com.blog.service.search.SearchHits;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
-import org.springframework.data.jpa.domain.Specification;
 import org.springframework.http.HttpStatus;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.util.StringUtils;
 
 import javax.persistence.EntityNotFoundException;
-import javax.persistence.criteria.JoinType;
-import javax.persistence.criteria.Predicate;
 import java.time.LocalDateTime;
 import java.util.ArrayList;
 import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
 import java.util.Set;
+import java.util.function.Function;
+import java.util.function.Supplier;
 import java.util.stream.Collectors;
 
 /**
@@ -50,6 +69,8 @@ import java.util.stream.Collectors;
 @Slf4j
 public class ArticleServiceImpl implements ArticleService {
 
+    private static final int MAX_CURSOR_PAGE_SIZE = 100;
+
     private static final Sort PUBLIC_ARTICLE_SORT = Sort.by(
             Sort.Order.desc("publishedAt"),
             Sort.Order.desc("id")
@@ -61,6 +82,14 @@ public class ArticleServiceImpl implements ArticleService {
     private final TagRepository tagRepository;
     private final CommentRepository commentRepository;
     private final FootprintPhotoRepository footprintPhotoRepository;
+    private final ArticleViewCounter articleViewCounter;
+    private final ArticleDetailCache articleDetailCache;
+    private final ApplicationEventPublisher eventPublisher;
+    private final ArticleSearchIndex articleSearchIndex;
+    private final ArticleSummaryAssembler summaryAssembler;
+    private final ArticleGroupSnapshot articleGroupSnapshot;
+    private final ArticleRenderStore articleRenderStore;
+    private final ArticleCommentCounters articleCommentCounters;
 
     @Override
     public Page<ArticleSummaryDTO> getPublishedArticles(Pageable pageable) {
@@ -83,22 +112,61 @@ public class ArticleServiceImpl implements ArticleService {
                 excludeFeatured
         );
         validateFeaturedLevel(featuredLevel);
-        Specification<Article> specification = buildPublishedArticleSpecification(
+        if (StringUtils.hasText(keyword) && articleSearchIndex.isReady()) {
+            return searchPublishedArticlesInIndex(keyword.trim(), categoryId, featuredLevel, excludeFeatured, pageable);
+        }
+        return summaryAssembler.toPage(articleRepository.findPublishedSummaries(
                 keyword,
                 categoryId,
                 featuredLevel,
-                excludeFeatured
+                Boolean.TRUE.equals(excludeFeatured),
+                buildPublicPageable(pageable)
+        ));
+    }
+
+    @Override
+    public CursorPage<ArticleSummaryDTO> getPublishedArticlesByCursor(
+            String cursor,
+            int size,
+            Long categoryId,
+            Integer featuredLevel,
+            Boolean excludeFeatured) {
+        if (size <= 0 || size > MAX_CURSOR_PAGE_SIZE) {
+            throw new BusinessException("size 必须在 1 到 " + MAX_CURSOR_PAGE_SIZE + " 之间", HttpStatus.BAD_REQUEST);
+        }
+        validateFeaturedLevel(featuredLevel);
+        ArticleCursor position = ArticleCursor.decode(cursor);
+        log.info("Fetching published articles by cursor, size={}, categoryId={}, featuredLevel={}, excludeFeatured={}",
+                size, categoryId, featuredLevel, excludeFeatured);
+
+        // Fetch one extra id to learn whether another page exists without a count query.
+        List<Long> ids = articleRepository.findPublishedIdsAfter(
+                categoryId,
+                featuredLevel,
+                Boolean.TRUE.equals(excludeFeatured),
+                position == null ? null : position.getPublishedAt(),
+                position == null ? null : position.getId(),
+                size + 1
         );
-        return articleRepository.findAll(specification, buildPublicPageable(pageable))
-                .map(this::convertToSummaryDTO);
+        boolean hasMore = ids.size() > size;
+        List<Long> pageIds = hasMore ? ids.subList(0, size) : ids;
+        if (pageIds.isEmpty()) {
+            return new CursorPage<>(new ArrayList<>(), null, false);
+        }
+
+        List<ArticleSummaryDTO> items = loadSummariesInOrder(pageIds);
+        ArticleSummaryDTO last = items.isEmpty() ? null : items.get(items.size() - 1);
+        String nextCursor = hasMore && last != null
+                ? new ArticleCursor(last.getPublishedAt(), last.getId()).encode()
+                : null;
+        return new CursorPage<>(items, nextCursor, nextCursor != null);
     }
 
     @Override
     public Page<ArticleSummaryDTO> getAllArticles(Pageable pageable) {
         log.info("Fetching all articles (admin), page {}", pageable.getPageNumber());
         Pageable orderedPageable = PageRequest.of(pageable.getPageNumber(), pageable.getPageSize());
-        return articleRepository.findAllOrderByVisibleDate(orderedPageable)
-                .map(this::convertToSummaryDTO);
+        return summaryAssembler.toPage(articleRepository.findAdminSummaries(null, orderedPageable));
     }
 
     @Override
@@ -108,10 +176,8 @@ public class ArticleServiceImpl implements ArticleService {
         }
 
         log.info("Fetching admin articles with keyword={}, page={}", keyword, pageable.getPageNumber());
-        Specification<Article> specification = buildAdminArticleSpecification(keyword);
         Pageable adminPageable = PageRequest.of(pageable.getPageNumber(), pageable.getPageSize());
-        return articleRepository.findAll(specification, adminPageable)
-                .map(this::convertToSummaryDTO);
+        return summaryAssembler.toPage(articleRepository.findAdminSummaries(keyword, adminPageable));
     }
 
     @Override
@@ -127,25 +193,7 @@ public class ArticleServiceImpl implements ArticleService {
         }
         log.info("Fetching published article groups, perCategoryLimit={}", perCategoryLimit);
 
-        Pageable groupPageable = PageRequest.of(0, perCategoryLimit);
-        return articleRepository.findPublishedCategoryGroupMetas().stream()
-                .map(meta -> new CategoryArticleGroupDTO(
-                        new CategoryDTO(
-                                meta.getCategoryId(),
-                                meta.getCategoryName(),
-                                meta.getCategoryDescription(),
-                                meta.getCategorySlugPath(),
-                                meta.getParentId(),
-                                null
-                        ),
-                        meta.getTotalCount(),
-                        articleRepository.findPublishedArticlesByCategory(meta.getCategoryId(), groupPageable)
-                                .getContent()
-                                .stream()
-                                .map(this::convertToSummaryDTO)
-                                .collect(Collectors.toList())
-                ))
-                .collect(Collectors.toList());
+        return articleGroupSnapshot.get(perCategoryLimit);
     }
 
     @Override
@@ -154,27 +202,31 @@ public class ArticleServiceImpl implements ArticleService {
     }
 
     @Override
-    @Transactional
     public ArticleDetailDTO getArticleById(Long id) {
         log.info("Fetching article detail by id: {}", id);
 
-        Article article = articleRepository.findWithDetailsById(id)
-                .orElseThrow(() -> new EntityNotFoundException("Article not found"));
-
-        increaseViewCount(article);
-        return convertToDetailDTO(article);
+        ArticleDetailDTO detail = articleDetailCache.getById(id)
+                .orElseGet(() -> loadDetail(() -> articleRepository.findWithDetailsById(id)));
+        return recordView(detail);
     }
 
     @Override
-    @Transactional
     public ArticleDetailDTO getArticleBySlug(String slug) {
         log.info("Fetching article detail by slug: {}", slug);
 
-        Article article = articleRepository.findWithDetailsBySlug(slug)
-                .orElseThrow(() -> new EntityNotFoundException("Article not found"));
+        ArticleDetailDTO detail = articleDetailCache.getBySlug(slug)
+                .orElseGet(() -> loadDetail(() -> articleRepository.findWithDetailsBySlug(slug)));
+        return recordView(detail);
+    }
+
+    @Override
+    public String getPublishedArticleHtmlHash(Long id) {
+        return articleRenderStore.findOrRenderHash(id, () -> loadPublished(id));
+    }
 
-        increaseViewCount(article);
-        return convertToDetailDTO(article);
+    @Override
+    public ArticleHtmlDTO getPublishedArticleHtml(Long id, boolean gzip) {
+        return articleRenderStore.findOrRenderBody(id, gzip, () -> loadPublished(id));
     }
 
     @Override
@@ -185,7 +237,9 @@ public class ArticleServiceImpl implements ArticleService {
         Article article = articleRepository.findWithDetailsById(id)
                 .orElseThrow(() -> new EntityNotFoundException("Article not found"));
 
-        return convertToDetailDTO(article);
+        ArticleDetailDTO detail = convertToDetailDTO(article);
+        detail.setViews(detail.getViews() + articleViewCounter.pendingViews(id));
+        return detail;
     }
 
     @Override
@@ -221,6 +275,8 @@ public class ArticleServiceImpl implements ArticleService {
 
         Article saved = articleRepository.save(article);
         log.info("Article created with id {}", saved.getId());
+        eventPublisher.publishEvent(ArticleChangedEvent.of(saved.getId(), ArticleChangedEvent.Type.CREATED));
+        eventPublisher.publishEvent(CoverMaterialChangedEvent.of(coverPhotoIdOf(saved)));
         return saved.getId();
     }
 
@@ -264,9 +320,13 @@ public class ArticleServiceImpl implements ArticleService {
         if (request.getTagIds() != null) {
             article.setTags(request.getTagIds().isEmpty() ? new HashSet<>() : loadTags(request.getTagIds()));
         }
+        Long previousCoverPhotoId = coverPhotoIdOf(article);
         article.setCoverPhoto(resolveCoverPhoto(request.getCoverPhotoId()));
 
         articleRepository.save(article);
+        eventPublisher.publishEvent(ArticleChangedEvent.of(id, ArticleChangedEvent.Type.UPDATED));
+        // Both covers change rank: the old one may become unused, and either one's last use moves.
+        eventPublisher.publishEvent(CoverMaterialChangedEvent.of(previousCoverPhotoId, coverPhotoIdOf(article)));
     }
 
     @Override
@@ -279,7 +339,9 @@ public class ArticleServiceImpl implements ArticleService {
                 .orElseThrow(() -> new EntityNotFoundException("Article not found"));
         article.setFeaturedLevel(featuredLevel);
 
-        return convertToSummaryDTO(articleRepository.save(article));
+        Article saved = articleRepository.save(article);
+        eventPublisher.publishEvent(ArticleChangedEvent.of(id, ArticleChangedEvent.Type.FEATURED_LEVEL_CHANGED));
+        return convertToSummaryDTO(saved);
     }
 
     @Override
@@ -296,12 +358,18 @@ public class ArticleServiceImpl implements ArticleService {
 
         // 清理评论
         commentRepository.deleteByArticleId(id);
+        articleCommentCounters.remove(id);
         // 清理标签关联
         if (article.getTags() != null) {
             article.getTags().clear();
         }
 
+        Long coverPhotoId = coverPhotoIdOf(article);
         articleRepository.delete(article);
+        articleRenderStore.remove(id);
+        articleViewCounter.discard(id);
+        eventPublisher.publishEvent(ArticleChangedEvent.of(id, ArticleChangedEvent.Type.DELETED));
+        eventPublisher.publishEvent(CoverMaterialChangedEvent.of(coverPhotoId));
     }
 
     @Override
@@ -323,6 +391,22 @@ public class ArticleServiceImpl implements ArticleService {
         }
 
         articleRepository.save(article);
+        // 发布时一次性渲染并压缩正文，已发布文章不可编辑，产物在取消发布前始终有效
+        if (publish) {
+            articleRenderStore.refresh(article);
+        } else {
+            articleRenderStore.remove(id);
+        }
+        eventPublisher.publishEvent(ArticleChangedEvent.of(
+                id,
+                publish ? ArticleChangedEvent.Type.PUBLISHED : ArticleChangedEvent.Type.UNPUBLISHED
+        ));
+    }
+
+    private Article loadPublished(Long id) {
+        return articleRepository.findById(id)
+                .filter(article -> "PUBLISHED".equalsIgnoreCase(article.getStatus()))
+                .orElseThrow(() -> new EntityNotFoundException("Article not found"));
     }
 
     private Set<Tag> loadTags(Set<Long> tagIds) {
@@ -335,70 +419,75 @@ public class ArticleServiceImpl implements ArticleService {
         return tags;
     }
 
-    private void increaseViewCount(Article article) {
-        article.setViews(article.getViews() + 1);
-        articleRepository.save(article);
-    }
+    /**
+     * Load a detail payload and offer it to the detail cache. The returned {@code views} is the
+     * baseline (persisted views minus views this process already flushed); see {@link #recordView}.
+     */
+    private ArticleDetailDTO loadDetail(Supplier<Optional<Article>> loader) {
+        long stamp = articleDetailCache.stamp();
+        long viewStamp = articleViewCounter.stamp();
+        Article article = loader.get()
+                .orElseThrow(() -> new EntityNotFoundException("Article not found"));
 
-    private Pageable buildPublicPageable(Pageable pageable) {
-        return PageRequest.of(pageable.getPageNumber(), pageable.getPageSize(), PUBLIC_ARTICLE_SORT);
+        ArticleDetailDTO detail = convertToDetailDTO(article);
+        if ("PUBLISHED".equalsIgnoreCase(article.getStatus())) {
+            articleRenderStore.applyMeta(article, detail);
+        }
+        long persistedViews = detail.getViews();
+        // The reread is a scalar query: re-running the entity query would return the managed, stale instance.
+        detail.setViews(articleViewCounter.baseline(article.getId(), persistedViews, viewStamp,
+                () -> articleRepository.findViewsById(article.getId()).orElse(persistedViews)));
+        articleDetailCache.put(detail, stamp);
+        return detail;
     }
 
-    private Specification<Article> buildAdminArticleSpecification(String keyword) {
-        return (root, query, cb) -> {
-            List<Predicate> predicates = new ArrayList<>();
-
-            if (StringUtils.hasText(keyword)) {
-                String likeKeyword = "%" + keyword.trim() + "%";
-                predicates.add(cb.or(
-                        cb.like(root.get("title"), likeKeyword),
-                        cb.like(root.get("summary"), likeKeyword),
-                        cb.like(root.get("content"), likeKeyword)
-                ));
-            }
-
-            query.distinct(true);
-            query.orderBy(
-                    cb.desc(cb.coalesce(root.get("publishedAt"), root.get("createdAt"))),
-                    cb.desc(root.get("id"))
-            );
-            return cb.and(predicates.toArray(new Predicate[0]));
-        };
+    private ArticleDetailDTO recordView(ArticleDetailDTO detail) {
+        long baseline = detail.getViews() == null ? 0L : detail.getViews();
+        detail.setViews(baseline + articleViewCounter.increment(detail.getId()));
+        return detail;
     }
 
-    private Specification<Article> buildPublishedArticleSpecification(
+    /**
+     * Rank keyword matches with the in-process index, then hydrate only the requested page from the database.
+     */
+    private Page<ArticleSummaryDTO> searchPublishedArticlesInIndex(
             String keyword,
             Long categoryId,
             Integer featuredLevel,
-            Boolean excludeFeatured) {
-        return (root, query, cb) -> {
-            List<Predicate> predicates = new ArrayList<>();
-            predicates.add(cb.equal(root.get("status"), "PUBLISHED"));
-
-            if (StringUtils.hasText(keyword)) {
-                String likeKeyword = "%" + keyword.trim() + "%";
-                predicates.add(cb.or(
-                        cb.like(root.get("title"), likeKeyword),
-                        cb.like(root.get("summary"), likeKeyword),
-                        cb.like(root.get("content"), likeKeyword)
-                ));
-            }
-
-            if (categoryId != null) {
-                predicates.add(cb.equal(root.join("category", JoinType.LEFT).get("id"), categoryId));
-            }
-
-            if (featuredLevel != null) {
-                predicates.add(cb.equal(root.get("featuredLevel"), featuredLevel));
-            }
+            Boolean excludeFeatured,
+            Pageable pageable) {
+        Pageable rankedPageable = PageRequest.of(pageable.getPageNumber(), pageable.getPageSize());
+        SearchHits result = articleSearchIndex.search(
+                keyword,
+                new SearchFilter(categoryId, featuredLevel, Boolean.TRUE.equals(excludeFeatured)),
+                (int) rankedPageable.getOffset(),
+                rankedPageable.getPageSize()
+        );
+        if (result.getHits().isEmpty()) {
+            return new PageImpl<>(new ArrayList<>(), rankedPageable, result.getTotal());
+        }
 
-            if (Boolean.TRUE.equals(excludeFeatured)) {
-                predicates.add(cb.equal(root.get("featuredLevel"), 0));
+        List<Long> ids = result.getHits().stream()
+                .map(SearchHits.Hit::getArticleId)
+                .collect(Collectors.toList());
+        Map<Long, ArticleSummaryDTO> summaries = summaryAssembler.toSummaries(articleRepository.findSummariesByIds(ids)).stream()
+                .collect(Collectors.toMap(ArticleSummaryDTO::getId, Function.identity()));
+
+        List<ArticleSummaryDTO> content = new ArrayList<>(ids.size());
+        for (SearchHits.Hit hit : result.getHits()) {
+            ArticleSummaryDTO dto = summaries.get(hit.getArticleId());
+            if (dto == null || !"PUBLISHED".equalsIgnoreCase(dto.getStatus())) {
+                // Unpublished between ranking and hydration; the index catches up asynchronously.
+                continue;
             }
+            dto.setHighlight(hit.getHighlight());
+            content.add(dto);
+        }
+        return new PageImpl<>(content, rankedPageable, result.getTotal());
+    }
 
-            query.distinct(true);
-            return cb.and(predicates.toArray(new Predicate[0]));
-        };
+    private Pageable buildPublicPageable(Pageable pageable) {
+        return PageRequest.of(pageable.getPageNumber(), pageable.getPageSize(), PUBLIC_ARTICLE_SORT);
     }
 
     private void validateFeaturedLevel(Integer featuredLevel) {
@@ -418,6 +507,12 @@ public class ArticleServiceImpl implements ArticleService {
         dto.setSummary(article.getSummary());
         dto.setCoverPhotoId(article.getCoverPhoto() == null ? null : article.getCoverPhoto().getId());
         dto.setCoverImage(article.getCoverPhoto() == null ? null : article.getCoverPhoto().getUrl());
+        dto.setCoverVariants(article.getCoverPhoto() == null ? null : ImageVariantsDTO.of(
+                article.getCoverPhoto().getThumbUrl(),
+                article.getCoverPhoto().getCardUrl(),
+                article.getCoverPhoto().getHeroUrl()));
+        dto.setCoverWidth(article.getCoverPhoto() == null ? null : article.getCoverPhoto().getWidth());
+        dto.setCoverHeight(article.getCoverPhoto() == null ? null : article.getCoverPhoto().getHeight());
         dto.setStatus(article.getStatus());
         dto.setFeaturedLevel(article.getFeaturedLevel());
         dto.setViews(article.getViews());
@@ -448,6 +543,16 @@ public class ArticleServiceImpl implements ArticleService {
         return dto;
     }
 
+    private List<ArticleSummaryDTO> loadSummariesInOrder(List<Long> ids) {
+        Map<Long, ArticleSummaryDTO> summaries = summaryAssembler.toSummaries(articleRepository.findSummariesByIds(ids))
+                .stream()
+                .collect(Collectors.toMap(ArticleSummaryDTO::getId, Function.identity()));
+        return ids.stream()
+                .map(summaries::get)
+                .filter(Objects::nonNull)
+                .collect(Collectors.toList());
+    }
+
     private ArticleDetailDTO convertToDetailDTO(Article article) {
         ArticleDetailDTO dto = new ArticleDetailDTO();
         dto.setId(article.getId());
@@ -488,6 +593,10 @@ public class ArticleServiceImpl implements ArticleService {
         return dto;
     }
 
+    private static Long coverPhotoIdOf(Article article) {
+        return article.getCoverPhoto() == null ? null : article.getCoverPhoto().getId();
+    }
+
     private FootprintPhoto resolveCoverPhoto(Long coverPhotoId) {
         if (coverPhotoId == null) {
             return null;
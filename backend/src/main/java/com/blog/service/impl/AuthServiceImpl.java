@@ -6,15 +6,16 @@ import com.blog.dto.auth.RegisterRequest;
 import com.blog.entity.User;
 import com.blog.exception.BusinessException;
 import com.blog.repository.UserRepository;
+import com.blog.security.LoginThrottle;
+import com.blog.security.PasswordHasher;
 import com.blog.service.AuthService;
 import com.blog.service.UserPermissionService;
 import com.blog.util.JwtUtil;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.http.HttpStatus;
-import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Transactional;
 
 @Service
 @RequiredArgsConstructor
@@ -22,13 +23,15 @@ import org.springframework.transaction.annotation.Transactional;
 public class AuthServiceImpl implements AuthService {
 
     private final UserRepository userRepository;
-    private final PasswordEncoder passwordEncoder;
+    private final PasswordHasher passwordHasher;
+    private final LoginThrottle loginThrottle;
     private final JwtUtil jwtUtil;
     private final UserPermissionService userPermissionService;
 
     @Override
-    public AuthResponse login(LoginRequest request) {
+    public AuthResponse login(LoginRequest request, String clientIp) {
         log.info("User login attempt: {}", request.getUsername());
+        loginThrottle.acquire(clientIp, request.getUsername());
 
         User user = userRepository.findByUsername(request.getUsername())
                 .orElseThrow(() -> new BusinessException("Invalid username or password", HttpStatus.UNAUTHORIZED));
@@ -39,7 +42,9 @@ public class AuthServiceImpl implements AuthService {
 
         boolean passwordMatched;
         try {
-            passwordMatched = passwordEncoder.matches(request.getPassword(), user.getPasswordHash());
+            passwordMatched = passwordHasher.matches(request.getPassword(), user.getPasswordHash());
+        } catch (BusinessException ex) {
+            throw ex;
         } catch (Exception ex) {
             passwordMatched = false;
         }
@@ -59,10 +64,17 @@ public class AuthServiceImpl implements AuthService {
         return new AuthResponse(token, userInfo);
     }
 
+    /**
+     * Not transactional, and the password is hashed before the first query: a registration waiting for the
+     * bounded hashing pool must not hold a database connection (open-in-view keeps one until the request ends
+     * once it is taken). The unique constraints on username and email catch a concurrent duplicate.
+     */
     @Override
-    @Transactional
-    public void register(RegisterRequest request) {
+    public void register(RegisterRequest request, String clientIp) {
         log.info("User register attempt: {}", request.getUsername());
+        loginThrottle.acquire(clientIp, null);
+
+        String passwordHash = passwordHasher.encode(request.getPassword());
 
         if (userRepository.findByUsername(request.getUsername()).isPresent()) {
             throw new BusinessException("Username already exists");
@@ -75,11 +87,15 @@ public class AuthServiceImpl implements AuthService {
         User user = new User();
         user.setUsername(request.getUsername());
         user.setEmail(request.getEmail());
-        user.setPasswordHash(passwordEncoder.encode(request.getPassword()));
+        user.setPasswordHash(passwordHash);
         user.setRole("MEMBER");
         user.setEnabled(true);
 
-        userRepository.save(user);
+        try {
+            userRepository.save(user);
+        } catch (DataIntegrityViolationException ex) {
+            throw new BusinessException("Username or email already exists");
+        }
         log.info("User registered: {}", user.getId());
     }
 }
@@ -7,9 +7,11 @@ import com.blog.exception.BusinessException;
 import com.blog.repository.ArticleRepository;
 import com.blog.repository.CategoryRepository;
 import com.blog.service.CategoryService;
+import com.blog.service.article.ArticleChangedEvent;
 import com.blog.util.SlugUtils;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.util.StringUtils;
@@ -27,6 +29,7 @@ public class CategoryServiceImpl implements CategoryService {
 
     private final CategoryRepository categoryRepository;
     private final ArticleRepository articleRepository;
+    private final ApplicationEventPublisher eventPublisher;
 
     @Override
     @Transactional(readOnly = true)
@@ -70,6 +73,7 @@ public class CategoryServiceImpl implements CategoryService {
         }
 
         Category target = createByPath(request.getName(), request.getDescription(), parent);
+        eventPublisher.publishEvent(ArticleChangedEvent.taxonomyChanged());
         return convertToDTO(target);
     }
 
@@ -107,6 +111,7 @@ public class CategoryServiceImpl implements CategoryService {
         Category updated = categoryRepository.save(category);
         // 同步子节点路径
         updateChildPaths(updated);
+        eventPublisher.publishEvent(ArticleChangedEvent.taxonomyChanged());
         return convertToDTO(updated);
     }
 
@@ -126,6 +131,7 @@ public class CategoryServiceImpl implements CategoryService {
         }
 
         categoryRepository.delete(category);
+        eventPublisher.publishEvent(ArticleChangedEvent.taxonomyChanged());
     }
 
     /**
@@ -1,22 +1,39 @@
 package com.blog.service.impl;
 
+import com.blog.dto.comment.CommentBulkRequest;
+import com.blog.dto.comment.CommentBulkResultDTO;
 import com.blog.dto.comment.CommentCreateRequest;
+import com.blog.dto.comment.CommentArticleDTO;
 import com.blog.dto.comment.CommentDTO;
+import com.blog.dto.comment.CommentNodeDTO;
+import com.blog.dto.comment.CommentRowDTO;
+import com.blog.dto.comment.CommentTargetDTO;
+import com.blog.dto.comment.CommentThreadPageDTO;
 import com.blog.entity.Article;
 import com.blog.entity.Comment;
+import com.blog.exception.BusinessException;
 import com.blog.repository.ArticleRepository;
 import com.blog.repository.CommentRepository;
 import com.blog.service.CommentService;
+import com.blog.service.comment.ArticleCommentCounters;
+import com.blog.service.comment.CommentTreeAssembler;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.http.HttpStatus;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.util.StringUtils;
 
 import javax.persistence.EntityNotFoundException;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 import java.util.concurrent.ThreadLocalRandom;
 import java.util.stream.Collectors;
 
@@ -28,16 +45,51 @@ import java.util.stream.Collectors;
 @Slf4j
 public class CommentServiceImpl implements CommentService {
 
+    private static final int MAX_THREAD_PAGE_SIZE = 50;
+    private static final int MAX_THREAD_DEPTH = 5;
+    private static final int MAX_BULK_TARGETS = 5000;
+    private static final int BULK_CHUNK_SIZE = 500;
+
     private final CommentRepository commentRepository;
     private final ArticleRepository articleRepository;
+    private final ArticleCommentCounters articleCommentCounters;
 
     @Override
     @Transactional(readOnly = true)
     public List<CommentDTO> getCommentsByArticleId(Long articleId) {
         log.info("Fetching comments for article {}", articleId);
-        return commentRepository.findByArticleIdOrderByCreatedAtDesc(articleId).stream()
-                .map(this::convertToDTO)
+        return commentRepository.findDtosByArticleId(articleId);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public CommentThreadPageDTO getCommentThreads(Long articleId, int page, int size, int depth) {
+        int pageSize = Math.min(Math.max(size, 1), MAX_THREAD_PAGE_SIZE);
+        int maxDepth = Math.min(Math.max(depth, 0), MAX_THREAD_DEPTH);
+        log.info("Fetching comment threads for article {}, page: {}, size: {}, depth: {}", articleId, page, pageSize, maxDepth);
+
+        CommentArticleDTO article = articleRepository.findCommentArticleById(articleId)
+                .orElseThrow(() -> new EntityNotFoundException("Article not found"));
+
+        Page<CommentRowDTO> roots = commentRepository.findRootRowsByArticleId(
+                articleId, PageRequest.of(Math.max(page, 0), pageSize));
+        List<Long> rootIds = roots.getContent().stream()
+                .map(CommentRowDTO::getId)
                 .collect(Collectors.toList());
+        // One level beyond what is returned, only to flag threads that continue.
+        List<CommentRowDTO> replies = commentRepository.findRepliesUnderRoots(rootIds, maxDepth + 1);
+        List<CommentNodeDTO> items = CommentTreeAssembler.assemble(roots.getContent(), replies, maxDepth);
+
+        return new CommentThreadPageDTO(
+                article.getId(),
+                article.getTitle(),
+                article.getSlug(),
+                items,
+                roots.getNumber(),
+                roots.getSize(),
+                roots.getTotalElements(),
+                roots.hasNext()
+        );
     }
 
     @Override
@@ -75,6 +127,7 @@ public class CommentServiceImpl implements CommentService {
         }
 
         Comment saved = commentRepository.save(comment);
+        articleCommentCounters.commentAdded(articleId, saved.getStatus(), saved.getCreatedAt());
         log.info("Comment created with id {}", saved.getId());
 
         return convertToDTO(saved);
@@ -85,11 +138,13 @@ public class CommentServiceImpl implements CommentService {
     public void deleteComment(Long commentId) {
         log.info("Deleting comment {}", commentId);
 
-        if (!commentRepository.existsById(commentId)) {
-            throw new EntityNotFoundException("Comment not found");
-        }
+        Comment comment = commentRepository.findById(commentId)
+                .orElseThrow(() -> new EntityNotFoundException("Comment not found"));
+        Long articleId = comment.getArticle().getId();
 
-        commentRepository.deleteById(commentId);
+        commentRepository.delete(comment);
+        commentRepository.flush();
+        articleCommentCounters.recount(articleId);
     }
 
     @Override
@@ -100,8 +155,113 @@ public class CommentServiceImpl implements CommentService {
         Comment comment = commentRepository.findById(commentId)
                 .orElseThrow(() -> new EntityNotFoundException("Comment not found"));
 
+        if ("APPROVED".equals(comment.getStatus())) {
+            return;
+        }
         comment.setStatus("APPROVED");
-        commentRepository.save(comment);
+        commentRepository.saveAndFlush(comment);
+        articleCommentCounters.recount(comment.getArticle().getId());
+    }
+
+    @Override
+    @Transactional
+    public CommentBulkResultDTO bulkApprove(CommentBulkRequest request) {
+        return bulkUpdateStatus(request, "APPROVED");
+    }
+
+    @Override
+    @Transactional
+    public CommentBulkResultDTO bulkMarkSpam(CommentBulkRequest request) {
+        return bulkUpdateStatus(request, "SPAM");
+    }
+
+    @Override
+    @Transactional
+    public CommentBulkResultDTO bulkDelete(CommentBulkRequest request) {
+        List<CommentTargetDTO> roots = findBulkTargets(request);
+        boolean hasMore = roots.size() > MAX_BULK_TARGETS;
+        if (hasMore) {
+            roots = roots.subList(0, MAX_BULK_TARGETS);
+        }
+
+        // Replies go with their parents; otherwise the self-referencing foreign key rejects the delete.
+        Map<Long, Long> articleByComment = new LinkedHashMap<>();
+        for (List<Long> chunk : chunks(idsOf(roots))) {
+            for (CommentTargetDTO target : commentRepository.findSubtreeTargets(chunk)) {
+                articleByComment.put(target.getId(), target.getArticleId());
+            }
+        }
+        List<Long> ids = new ArrayList<>(articleByComment.keySet());
+        List<List<Long>> chunks = chunks(ids);
+        // Detach first so parent and reply rows may land in the same DELETE, in any order.
+        for (List<Long> chunk : chunks) {
+            commentRepository.detachParentsByIdIn(chunk);
+        }
+        int affected = 0;
+        for (List<Long> chunk : chunks) {
+            affected += commentRepository.deleteByIdIn(chunk);
+        }
+
+        Set<Long> articleIds = new LinkedHashSet<>(articleByComment.values());
+        articleCommentCounters.recount(articleIds);
+        log.info("Bulk deleted {} comments ({} selected) across {} articles", affected, roots.size(), articleIds.size());
+        return new CommentBulkResultDTO(roots.size(), affected, articleIds.size(), hasMore);
+    }
+
+    private CommentBulkResultDTO bulkUpdateStatus(CommentBulkRequest request, String status) {
+        List<CommentTargetDTO> targets = findBulkTargets(request);
+        boolean hasMore = targets.size() > MAX_BULK_TARGETS;
+        if (hasMore) {
+            targets = targets.subList(0, MAX_BULK_TARGETS);
+        }
+
+        int affected = 0;
+        for (List<Long> chunk : chunks(idsOf(targets))) {
+            affected += commentRepository.updateStatusByIdIn(chunk, status);
+        }
+
+        Set<Long> articleIds = new LinkedHashSet<>();
+        if (affected > 0) {
+            targets.forEach(target -> articleIds.add(target.getArticleId()));
+            articleCommentCounters.recount(articleIds);
+        }
+        log.info("Bulk set {} of {} selected comments to {} across {} articles", affected, targets.size(), status, articleIds.size());
+        return new CommentBulkResultDTO(targets.size(), affected, articleIds.size(), hasMore);
+    }
+
+    /**
+     * Targets of a bulk request, fetching one row past the cap so callers can report {@code hasMore}.
+     */
+    private List<CommentTargetDTO> findBulkTargets(CommentBulkRequest request) {
+        boolean hasIds = request.getIds() != null && !request.getIds().isEmpty();
+        boolean hasFilter = StringUtils.hasText(request.getStatus())
+                || request.getArticleId() != null
+                || StringUtils.hasText(request.getAuthorName())
+                || request.getCreatedFrom() != null
+                || request.getCreatedTo() != null;
+        if (!hasIds && !hasFilter) {
+            throw new BusinessException("Provide comment ids or at least one filter", HttpStatus.BAD_REQUEST);
+        }
+        return commentRepository.findModerationTargets(
+                request.getIds(),
+                request.getStatus(),
+                request.getArticleId(),
+                request.getAuthorName(),
+                request.getCreatedFrom(),
+                request.getCreatedTo(),
+                MAX_BULK_TARGETS + 1);
+    }
+
+    private static List<Long> idsOf(List<CommentTargetDTO> targets) {
+        return targets.stream().map(CommentTargetDTO::getId).collect(Collectors.toList());
+    }
+
+    private static List<List<Long>> chunks(List<Long> ids) {
+        List<List<Long>> chunks = new ArrayList<>();
+        for (int from = 0; from < ids.size(); from += BULK_CHUNK_SIZE) {
+            chunks.add(ids.subList(from, Math.min(from + BULK_CHUNK_SIZE, ids.size())));
+        }
+        return chunks;
     }
 
     private String generateAnonymousName() {
@@ -1,47 +1,71 @@
 package com.blog.service.impl;
 
 import com.blog.dto.travel.CoverMaterialDTO;
+import com.blog.dto.travel.CoverMaterialUploadResultDTO;
+import com.blog.dto.travel.ImageVariantsDTO;
 import com.blog.entity.FootprintPhoto;
 import com.blog.exception.BusinessException;
 import com.blog.repository.ArticleRepository;
 import com.blog.repository.FootprintPhotoRepository;
 import com.blog.service.CoverMaterialService;
+import com.blog.service.cover.CoverMaterialCandidate;
+import com.blog.service.cover.CoverMaterialChangedEvent;
+import com.blog.service.cover.CoverMaterialIndex;
+import com.blog.service.cover.CoverMaterialStorage;
+import com.blog.service.cover.CoverVariantGenerator;
+import com.blog.service.cover.PhotoMetadata;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.http.HttpStatus;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
-import org.springframework.util.StringUtils;
 import org.springframework.web.multipart.MultipartFile;
 
-import java.io.IOException;
-import java.nio.file.Files;
-import java.nio.file.Path;
-import java.nio.file.Paths;
-import java.nio.file.StandardCopyOption;
+import java.time.LocalDateTime;
 import java.util.ArrayList;
-import java.util.Comparator;
+import java.util.Arrays;
+import java.util.HashMap;
 import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
-import java.util.UUID;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
 import java.util.stream.Collectors;
 
 @Service
+@Slf4j
 public class CoverMaterialServiceImpl implements CoverMaterialService {
 
     private static final String COVER_MATERIAL_SOURCE = FootprintPhoto.SOURCE_TYPE_COVER_MATERIAL;
+    private static final int MAX_INSERT_ATTEMPTS = 3;
 
     private final FootprintPhotoRepository footprintPhotoRepository;
     private final ArticleRepository articleRepository;
+    private final CoverMaterialIndex coverMaterialIndex;
+    private final CoverMaterialStorage coverMaterialStorage;
+    private final CoverVariantGenerator coverVariantGenerator;
+    private final ApplicationEventPublisher eventPublisher;
 
     public CoverMaterialServiceImpl(
             FootprintPhotoRepository footprintPhotoRepository,
-            ArticleRepository articleRepository
+            ArticleRepository articleRepository,
+            CoverMaterialIndex coverMaterialIndex,
+            CoverMaterialStorage coverMaterialStorage,
+            CoverVariantGenerator coverVariantGenerator,
+            ApplicationEventPublisher eventPublisher
     ) {
         this.footprintPhotoRepository = footprintPhotoRepository;
         this.articleRepository = articleRepository;
+        this.coverMaterialIndex = coverMaterialIndex;
+        this.coverMaterialStorage = coverMaterialStorage;
+        this.coverVariantGenerator = coverVariantGenerator;
+        this.eventPublisher = eventPublisher;
     }
 
     @Override
@@ -49,64 +73,33 @@ public class CoverMaterialServiceImpl implements CoverMaterialService {
     public Page<CoverMaterialDTO> getCoverMaterials(int page, int size, Long photoId) {
         int pageNumber = Math.max(page, 0);
         int pageSize = Math.min(Math.max(size, 1), 100);
+        PageRequest pageable = PageRequest.of(pageNumber, pageSize);
 
-        List<FootprintPhoto> photos = footprintPhotoRepository.findBySourceTypeOrderByCreatedAtDescIdDesc(COVER_MATERIAL_SOURCE);
         if (photoId != null) {
-            photos = photos.stream()
-                    .filter(photo -> photoId.equals(photo.getId()))
-                    .collect(Collectors.toList());
+            // Direct primary-key lookup: the filtered "list" holds at most this one photo.
+            List<CoverMaterialDTO> match = footprintPhotoRepository.findCoverMaterial(COVER_MATERIAL_SOURCE, photoId)
+                    .map(List::of)
+                    .orElse(List.of());
+            return new PageImpl<>(pageNumber == 0 ? match : List.of(), pageable, match.size());
         }
-
-        int fromIndex = pageNumber * pageSize;
-        if (fromIndex >= photos.size()) {
-            return new PageImpl<>(List.of(), PageRequest.of(pageNumber, pageSize), photos.size());
-        }
-
-        Set<Long> usedPhotoIds = new HashSet<>(articleRepository.findDistinctCoverPhotoIds());
-        int toIndex = Math.min(fromIndex + pageSize, photos.size());
-        List<CoverMaterialDTO> content = photos.subList(fromIndex, toIndex).stream()
-                .map(photo -> toCoverMaterial(photo, usedPhotoIds.contains(photo.getId())))
-                .collect(Collectors.toList());
-
-        return new PageImpl<>(content, PageRequest.of(pageNumber, pageSize), photos.size());
+        return footprintPhotoRepository.findCoverMaterials(COVER_MATERIAL_SOURCE, pageable);
     }
 
     @Override
-    @Transactional(readOnly = true)
     public List<CoverMaterialDTO> recommendCoverMaterials(int size, Long photoId) {
         int limit = Math.max(1, Math.min(size, 100));
-        List<FootprintPhoto> candidates = footprintPhotoRepository.findBySourceTypeOrderByCreatedAtDescIdDesc(COVER_MATERIAL_SOURCE);
-        if (candidates.isEmpty()) {
-            return List.of();
-        }
-
-        Set<Long> usedPhotoIds = new HashSet<>(articleRepository.findDistinctCoverPhotoIds());
-        List<CoverMaterialDTO> result = new ArrayList<>();
-
-        if (photoId != null) {
-            candidates.stream()
-                    .filter(candidate -> photoId.equals(candidate.getId()))
-                    .findFirst()
-                    .map(candidate -> toCoverMaterial(candidate, usedPhotoIds.contains(candidate.getId())))
-                    .ifPresent(result::add);
-        }
-
-        candidates.stream()
-                .filter(candidate -> photoId == null || !photoId.equals(candidate.getId()))
-                .sorted(Comparator
-                        .comparing((FootprintPhoto candidate) -> usedPhotoIds.contains(candidate.getId()))
-                        .thenComparing(FootprintPhoto::getCreatedAt, Comparator.nullsLast(Comparator.reverseOrder()))
-                        .thenComparing(FootprintPhoto::getId, Comparator.reverseOrder()))
-                .limit(Math.max(0, limit - result.size()))
-                .map(candidate -> toCoverMaterial(candidate, usedPhotoIds.contains(candidate.getId())))
-                .forEach(result::add);
-
-        return result;
+        return coverMaterialIndex.top(limit, photoId).stream()
+                .map(this::toCoverMaterial)
+                .collect(Collectors.toList());
     }
 
+    /**
+     * Not transactional on purpose: files are hashed and written on the upload pool without holding a
+     * connection, and only the final batch insert runs in a (short) transaction. A failing file is reported
+     * in its own result and never aborts the others.
+     */
     @Override
-    @Transactional
-    public List<CoverMaterialDTO> uploadCoverMaterials(MultipartFile[] files) {
+    public List<CoverMaterialUploadResultDTO> uploadCoverMaterials(MultipartFile[] files) {
         if (files == null || files.length == 0) {
             throw new IllegalArgumentException("No files uploaded");
         }
@@ -114,18 +107,109 @@ public class CoverMaterialServiceImpl implements CoverMaterialService {
             throw new IllegalArgumentException("At most 50 files are allowed per upload");
         }
 
-        List<CoverMaterialDTO> result = new ArrayList<>();
+        List<Future<CoverMaterialStorage.StoredFile>> pending = new ArrayList<>(files.length);
         for (MultipartFile file : files) {
-            if (file == null || file.isEmpty()) {
+            pending.add(file == null || file.isEmpty() ? null : coverMaterialStorage.storeAsync(file));
+        }
+
+        CoverMaterialUploadResultDTO[] results = new CoverMaterialUploadResultDTO[files.length];
+        Map<Integer, CoverMaterialStorage.StoredFile> stored = new LinkedHashMap<>();
+        for (int i = 0; i < files.length; i++) {
+            String filename = files[i] == null ? null : files[i].getOriginalFilename();
+            Future<CoverMaterialStorage.StoredFile> future = pending.get(i);
+            if (future == null) {
+                results[i] = CoverMaterialUploadResultDTO.failed(filename, "Empty file");
                 continue;
             }
-            FootprintPhoto photo = new FootprintPhoto();
-            photo.setUrl(storeFile(file));
-            photo.setSourceType(COVER_MATERIAL_SOURCE);
-            FootprintPhoto saved = footprintPhotoRepository.save(photo);
-            result.add(toCoverMaterial(saved, false));
+            try {
+                stored.put(i, future.get());
+            } catch (InterruptedException ex) {
+                Thread.currentThread().interrupt();
+                results[i] = CoverMaterialUploadResultDTO.failed(filename, "Upload interrupted");
+            } catch (ExecutionException ex) {
+                Throwable cause = ex.getCause() != null ? ex.getCause() : ex;
+                log.warn("Failed to store cover material {}: {}", filename, cause.getMessage());
+                results[i] = CoverMaterialUploadResultDTO.failed(filename, cause.getMessage());
+            }
+        }
+
+        Map<String, CoverMaterialDTO> existing = new HashMap<>(footprintPhotoRepository.findCoverMaterialsByContentHash(
+                COVER_MATERIAL_SOURCE,
+                stored.values().stream().map(CoverMaterialStorage.StoredFile::getContentHash).collect(Collectors.toSet())));
+
+        // First file per new hash becomes a row; later copies in the same request resolve to it after the insert.
+        Map<String, FootprintPhoto> toInsert = new LinkedHashMap<>();
+        LocalDateTime now = LocalDateTime.now();
+        for (CoverMaterialStorage.StoredFile file : stored.values()) {
+            String hash = file.getContentHash();
+            if (!existing.containsKey(hash) && !toInsert.containsKey(hash)) {
+                FootprintPhoto photo = new FootprintPhoto();
+                photo.setUrl(file.getUrl());
+                photo.setSourceType(COVER_MATERIAL_SOURCE);
+                photo.setCover(false);
+                photo.setCreatedAt(now);
+                photo.setContentHash(hash);
+                applyMetadata(photo, file.getMetadata());
+                toInsert.put(hash, photo);
+            }
+        }
+
+        String insertError = insertNew(toInsert, existing);
+
+        Set<String> reported = new HashSet<>();
+        for (Map.Entry<Integer, CoverMaterialStorage.StoredFile> entry : stored.entrySet()) {
+            CoverMaterialStorage.StoredFile file = entry.getValue();
+            String hash = file.getContentHash();
+            CoverMaterialDTO duplicateOf = existing.get(hash);
+            CoverMaterialUploadResultDTO result;
+            if (duplicateOf != null) {
+                result = CoverMaterialUploadResultDTO.duplicate(file.getOriginalFilename(), duplicateOf);
+            } else if (insertError != null) {
+                result = CoverMaterialUploadResultDTO.failed(file.getOriginalFilename(), insertError);
+            } else if (reported.add(hash)) {
+                result = CoverMaterialUploadResultDTO.created(file.getOriginalFilename(), toCoverMaterial(toInsert.get(hash), false));
+            } else {
+                result = CoverMaterialUploadResultDTO.duplicate(file.getOriginalFilename(), toCoverMaterial(toInsert.get(hash), false));
+            }
+            results[entry.getKey()] = result;
+        }
+
+        if (insertError == null && !toInsert.isEmpty()) {
+            eventPublisher.publishEvent(CoverMaterialChangedEvent.of(
+                    toInsert.values().stream().map(FootprintPhoto::getId).collect(Collectors.toList())));
+            toInsert.values().forEach(photo -> coverVariantGenerator.submit(photo.getId(), photo.getUrl()));
+        }
+        return Arrays.asList(results);
+    }
+
+    /**
+     * Insert the new rows in one batch. The unique {@code (source_type, content_hash)} index rejects the
+     * whole batch when a concurrent upload stored one of the hashes first; those hashes are then re-read
+     * into {@code existing}, dropped from {@code toInsert} and the rest is retried.
+     *
+     * @return the error to report for every new file, or {@code null} when the insert succeeded
+     */
+    private String insertNew(Map<String, FootprintPhoto> toInsert, Map<String, CoverMaterialDTO> existing) {
+        for (int attempt = 1; !toInsert.isEmpty(); attempt++) {
+            try {
+                footprintPhotoRepository.insertAll(new ArrayList<>(toInsert.values()));
+                return null;
+            } catch (DataIntegrityViolationException ex) {
+                Map<String, CoverMaterialDTO> raced = footprintPhotoRepository.findCoverMaterialsByContentHash(
+                        COVER_MATERIAL_SOURCE, new HashSet<>(toInsert.keySet()));
+                if (raced.isEmpty() || attempt >= MAX_INSERT_ATTEMPTS) {
+                    log.error("Failed to insert {} cover materials", toInsert.size(), ex);
+                    return "Failed to save material";
+                }
+                log.debug("{} cover materials were inserted concurrently, retrying the rest", raced.size());
+                existing.putAll(raced);
+                toInsert.keySet().removeAll(raced.keySet());
+            } catch (RuntimeException ex) {
+                log.error("Failed to insert {} cover materials", toInsert.size(), ex);
+                return "Failed to save material";
+            }
         }
-        return result;
+        return null;
     }
 
     @Override
@@ -140,23 +224,31 @@ public class CoverMaterialServiceImpl implements CoverMaterialService {
             throw new BusinessException("Material is referenced by article cover", HttpStatus.CONFLICT);
         }
         footprintPhotoRepository.delete(photo);
+        eventPublisher.publishEvent(CoverMaterialChangedEvent.of(photoId));
     }
 
-    private String storeFile(MultipartFile file) {
-        try {
-            String extension = StringUtils.getFilenameExtension(file.getOriginalFilename());
-            String filename = UUID.randomUUID().toString().replace("-", "");
-            if (StringUtils.hasText(extension)) {
-                filename = filename + "." + extension;
-            }
-            Path uploadDir = Paths.get("uploads/cover-materials");
-            Files.createDirectories(uploadDir);
-            Path target = uploadDir.resolve(filename);
-            Files.copy(file.getInputStream(), target, StandardCopyOption.REPLACE_EXISTING);
-            return "/uploads/cover-materials/" + filename;
-        } catch (IOException ex) {
-            throw new RuntimeException("Upload failed: " + ex.getMessage(), ex);
+    private static void applyMetadata(FootprintPhoto photo, PhotoMetadata metadata) {
+        if (metadata == null) {
+            return;
         }
+        photo.setShotAt(metadata.getShotAt());
+        photo.setWidth(metadata.getWidth());
+        photo.setHeight(metadata.getHeight());
+        photo.setOrientation(metadata.getOrientation());
+        photo.setCameraMake(metadata.getCameraMake());
+        photo.setCameraModel(metadata.getCameraModel());
+    }
+
+    private CoverMaterialDTO toCoverMaterial(CoverMaterialCandidate candidate) {
+        CoverMaterialDTO dto = new CoverMaterialDTO();
+        dto.setPhotoId(candidate.getPhotoId());
+        dto.setUrl(candidate.getUrl());
+        dto.setUploadedAt(candidate.getUploadedAt());
+        dto.setUsedAsCover(candidate.isUsed());
+        dto.setVariants(ImageVariantsDTO.of(candidate.getThumbUrl(), candidate.getCardUrl(), candidate.getHeroUrl()));
+        dto.setWidth(candidate.getWidth());
+        dto.setHeight(candidate.getHeight());
+        return dto;
     }
 
     private CoverMaterialDTO toCoverMaterial(FootprintPhoto photo, boolean usedAsCover) {
@@ -165,6 +257,8 @@ public class CoverMaterialServiceImpl implements CoverMaterialService {
         dto.setUrl(photo.getUrl());
         dto.setUploadedAt(photo.getCreatedAt());
         dto.setUsedAsCover(usedAsCover);
+        dto.setWidth(photo.getWidth());
+        dto.setHeight(photo.getHeight());
         return dto;
     }
 }
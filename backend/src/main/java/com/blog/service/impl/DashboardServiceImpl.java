@@ -1,13 +1,11 @@
 package com.blog.service.impl;
 
 import com.blog.dto.dashboard.DashboardStatsDTO;
-import com.blog.entity.Article;
 import com.blog.repository.ArticleRepository;
-import com.blog.repository.CommentRepository;
 import com.blog.service.DashboardService;
+import com.blog.service.comment.ArticleCommentCounters;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Service;
 
@@ -25,7 +23,7 @@ import java.util.stream.Collectors;
 public class DashboardServiceImpl implements DashboardService {
 
     private final ArticleRepository articleRepository;
-    private final CommentRepository commentRepository;
+    private final ArticleCommentCounters articleCommentCounters;
 
     @Override
     public DashboardStatsDTO getStatistics() {
@@ -42,9 +40,10 @@ public class DashboardServiceImpl implements DashboardService {
         stats.setPublishedArticles(publishedArticles);
         stats.setDraftArticles(draftArticles);
 
-        // 评论统计
-        long totalComments = commentRepository.count();
-        long pendingComments = commentRepository.countByStatus("PENDING");
+        // 评论统计：汇总 article_comment_counters，不扫描 comments 表；只有 PENDING 计为待处理，垃圾评论已处理
+        ArticleCommentCounters.Totals commentTotals = articleCommentCounters.totals();
+        long totalComments = commentTotals.getComments();
+        long pendingComments = commentTotals.getPending();
 
         stats.setTotalComments(totalComments);
         stats.setPendingComments(pendingComments);
@@ -64,14 +63,12 @@ public class DashboardServiceImpl implements DashboardService {
         stats.setCategoryStats(categoryStats);
 
         // 热门文章（前10篇）
-        Page<Article> topArticlesPage = articleRepository.findTopArticlesByViews(
-                PageRequest.of(0, 10));
-
-        List<DashboardStatsDTO.TopArticleDTO> topArticles = topArticlesPage.getContent().stream()
-                .map(article -> new DashboardStatsDTO.TopArticleDTO(
-                        article.getId(),
-                        article.getTitle(),
-                        article.getViews()))
+        List<DashboardStatsDTO.TopArticleDTO> topArticles = articleRepository.findTopArticleStatsByViews(
+                        PageRequest.of(0, 10)).stream()
+                .map(row -> new DashboardStatsDTO.TopArticleDTO(
+                        (Long) row[0],
+                        (String) row[1],
+                        (Long) row[2]))
                 .collect(Collectors.toList());
 
         stats.setTopArticles(topArticles);
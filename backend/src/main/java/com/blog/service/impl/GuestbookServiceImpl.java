@@ -5,8 +5,10 @@ import com.blog.dto.guestbook.GuestbookEntryDTO;
 import com.blog.entity.GuestbookEntry;
 import com.blog.repository.GuestbookEntryRepository;
 import com.blog.service.GuestbookService;
+import com.blog.service.guestbook.GuestbookChangedEvent;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
@@ -28,6 +30,7 @@ public class GuestbookServiceImpl implements GuestbookService {
     );
 
     private final GuestbookEntryRepository guestbookEntryRepository;
+    private final ApplicationEventPublisher eventPublisher;
 
     @Override
     @Transactional(readOnly = true)
@@ -48,6 +51,7 @@ public class GuestbookServiceImpl implements GuestbookService {
 
         GuestbookEntry saved = guestbookEntryRepository.save(entry);
         log.info("Guestbook entry created: id={}", saved.getId());
+        eventPublisher.publishEvent(new GuestbookChangedEvent());
         return convertToDTO(saved);
     }
 
@@ -0,0 +1,318 @@
+package com.blog.service.impl;
+
+import com.blog.dto.article.NotionImportJobRequest;
+import com.blog.dto.article.NotionImportJobResponse;
+import com.blog.dto.article.NotionImportRequest;
+import com.blog.entity.NotionImportJob;
+import com.blog.entity.NotionImportJobItem;
+import com.blog.exception.BusinessException;
+import com.blog.repository.NotionImportJobItemRepository;
+import com.blog.repository.NotionImportJobRepository;
+import com.blog.service.NotionImportJobService;
+import com.blog.service.NotionImportService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Service;
+import org.springframework.util.StringUtils;
+
+import javax.annotation.PostConstruct;
+import javax.annotation.PreDestroy;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+
+/**
+ * 批量 Notion 导入：提交时只落库任务与逐页记录并立即返回任务 id，页面在固定大小的线程池上并发导入。
+ * <p>
+ * 每页开始前以条件更新把状态从 PENDING 改为 RUNNING，抢到的线程才执行导入，重复提交的重试不会让同一页导入两次。
+ * 所有页面共用 {@code NotionBlockTreeLoader} 的全局限流，并发页数不会放大对 Notion 的请求速率。
+ * 进程重启时未完成的页面标记为失败，通过重试继续；重试只重新排队失败的页面，已成功的页面不会重复导入。
+ * 所有任务共用一个有界队列，放不下本次全部页面的提交或重试直接返回 503，不会在内存中无限堆积。
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class NotionImportJobServiceImpl implements NotionImportJobService {
+
+    private static final int MAX_ERROR_LENGTH = 500;
+    private static final String QUEUE_REJECTED_MESSAGE = "导入队列已满，请重试";
+
+    private final NotionImportJobRepository jobRepository;
+    private final NotionImportJobItemRepository itemRepository;
+    private final NotionImportService notionImportService;
+
+    @Value("${notion.import-jobs.workers:3}")
+    private int workers;
+
+    @Value("${notion.import-jobs.max-pages:100}")
+    private int maxPages;
+
+    @Value("${notion.import-jobs.queue-capacity:500}")
+    private int queueCapacity;
+
+    private ThreadPoolExecutor executor;
+
+    @PostConstruct
+    void start() {
+        int poolSize = Math.max(1, workers);
+        AtomicInteger sequence = new AtomicInteger();
+        executor = new ThreadPoolExecutor(
+                poolSize,
+                poolSize,
+                0L,
+                TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(Math.max(1, queueCapacity)),
+                runnable -> {
+                    Thread thread = new Thread(runnable, "notion-import-job-" + sequence.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                });
+
+        int interrupted = itemRepository.updateStatusIn(
+                List.of(NotionImportJobItem.STATUS_PENDING, NotionImportJobItem.STATUS_RUNNING),
+                NotionImportJobItem.STATUS_FAILED,
+                "服务重启，导入已中断，请重试",
+                LocalDateTime.now());
+        if (interrupted > 0) {
+            log.warn("Marked {} unfinished Notion import pages as failed after restart", interrupted);
+        }
+    }
+
+    @PreDestroy
+    void stop() {
+        executor.shutdownNow();
+    }
+
+    @Override
+    public NotionImportJobResponse submit(NotionImportJobRequest request, String username) {
+        List<String> shareUrls = normalizeShareUrls(request.getShareUrls());
+        if (shareUrls.isEmpty()) {
+            throw new BusinessException("Notion 分享链接不能为空");
+        }
+        if (shareUrls.size() > maxPages) {
+            throw new BusinessException("单个导入任务最多包含 " + maxPages + " 个页面");
+        }
+        ensureQueueCapacity(shareUrls.size());
+
+        NotionImportJob job = new NotionImportJob();
+        job.setUsername(username);
+        job.setAuthMode(trimToNull(request.getAuthMode()));
+        job.setCategoryId(request.getCategoryId());
+        job.setTagIds(joinTagIds(request.getTagIds()));
+        job.setPublish(Boolean.TRUE.equals(request.getPublish()));
+        job.setTotalCount(shareUrls.size());
+        job = jobRepository.save(job);
+
+        List<NotionImportJobItem> items = new ArrayList<>(shareUrls.size());
+        for (int i = 0; i < shareUrls.size(); i++) {
+            NotionImportJobItem item = new NotionImportJobItem();
+            item.setJobId(job.getId());
+            item.setPosition(i);
+            item.setShareUrl(shareUrls.get(i));
+            item.setUpdatedAt(LocalDateTime.now());
+            items.add(item);
+        }
+        items = itemRepository.saveAll(items);
+
+        dispatch(job, items, trimToNull(request.getTokenOverride()));
+        return toResponse(job, items);
+    }
+
+    @Override
+    public NotionImportJobResponse getJob(Long jobId, String username) {
+        NotionImportJob job = findJob(jobId, username);
+        return toResponse(job, itemRepository.findByJobIdOrderByPositionAsc(job.getId()));
+    }
+
+    @Override
+    public NotionImportJobResponse retryFailed(Long jobId, String tokenOverride, String username) {
+        NotionImportJob job = findJob(jobId, username);
+        ensureQueueCapacity((int) itemRepository.findByJobIdOrderByPositionAsc(job.getId()).stream()
+                .filter(item -> NotionImportJobItem.STATUS_FAILED.equals(item.getStatus()))
+                .count());
+        itemRepository.updateStatusByJobId(
+                job.getId(),
+                NotionImportJobItem.STATUS_FAILED,
+                NotionImportJobItem.STATUS_PENDING,
+                null,
+                LocalDateTime.now());
+
+        List<NotionImportJobItem> items = itemRepository.findByJobIdOrderByPositionAsc(job.getId());
+        dispatch(job, items, trimToNull(tokenOverride));
+        return toResponse(job, items);
+    }
+
+    /**
+     * Import one page if it is still pending. Package-private for tests.
+     */
+    void runItem(NotionImportJob job, NotionImportJobItem item, String tokenOverride) {
+        if (itemRepository.claim(item.getId(), NotionImportJobItem.STATUS_PENDING,
+                NotionImportJobItem.STATUS_RUNNING, LocalDateTime.now()) == 0) {
+            return;
+        }
+
+        NotionImportRequest request = new NotionImportRequest();
+        request.setShareUrl(item.getShareUrl());
+        request.setAuthMode(job.getAuthMode());
+        request.setTokenOverride(tokenOverride);
+        request.setCategoryId(job.getCategoryId());
+        request.setTagIds(splitTagIds(job.getTagIds()));
+        request.setPublish(job.getPublish());
+
+        try {
+            Long articleId = notionImportService.importFromShareUrl(request, job.getUsername());
+            itemRepository.finish(item.getId(), NotionImportJobItem.STATUS_SUCCEEDED, articleId, null, LocalDateTime.now());
+        } catch (BusinessException ex) {
+            itemRepository.finish(item.getId(), NotionImportJobItem.STATUS_FAILED, null,
+                    truncate(ex.getMessage()), LocalDateTime.now());
+        } catch (RuntimeException ex) {
+            log.warn("Notion import job {} page {} failed unexpectedly", job.getId(), item.getPosition(), ex);
+            itemRepository.finish(item.getId(), NotionImportJobItem.STATUS_FAILED, null,
+                    "Notion 导入失败: " + ex.getClass().getSimpleName(), LocalDateTime.now());
+        }
+    }
+
+    private void ensureQueueCapacity(int pages) {
+        if (pages > executor.getQueue().remainingCapacity()) {
+            throw new BusinessException("导入队列已满，请稍后重试", HttpStatus.SERVICE_UNAVAILABLE);
+        }
+    }
+
+    /**
+     * Queue every pending page. A page the queue rejects (a concurrent submit took the room, or shutdown) is
+     * marked failed along with the rest, so a retry picks them up instead of leaving them pending forever.
+     */
+    private void dispatch(NotionImportJob job, List<NotionImportJobItem> items, String tokenOverride) {
+        boolean rejected = false;
+        for (NotionImportJobItem item : items) {
+            if (!NotionImportJobItem.STATUS_PENDING.equals(item.getStatus())) {
+                continue;
+            }
+            if (!rejected) {
+                try {
+                    executor.execute(() -> runItem(job, item, tokenOverride));
+                    continue;
+                } catch (RejectedExecutionException ex) {
+                    log.warn("Notion import queue rejected job {} from page {}, remaining pages marked failed",
+                            job.getId(), item.getPosition());
+                    rejected = true;
+                }
+            }
+            itemRepository.finish(item.getId(), NotionImportJobItem.STATUS_FAILED, null,
+                    QUEUE_REJECTED_MESSAGE, LocalDateTime.now());
+            item.setStatus(NotionImportJobItem.STATUS_FAILED);
+            item.setErrorMessage(QUEUE_REJECTED_MESSAGE);
+        }
+    }
+
+    private NotionImportJob findJob(Long jobId, String username) {
+        return jobRepository.findByIdAndUsername(jobId, username)
+                .orElseThrow(() -> new BusinessException("导入任务不存在", HttpStatus.NOT_FOUND));
+    }
+
+    private NotionImportJobResponse toResponse(NotionImportJob job, List<NotionImportJobItem> items) {
+        int pending = 0;
+        int running = 0;
+        int succeeded = 0;
+        int failed = 0;
+        List<NotionImportJobResponse.Item> views = new ArrayList<>(items.size());
+        for (NotionImportJobItem item : items) {
+            switch (item.getStatus()) {
+                case NotionImportJobItem.STATUS_RUNNING:
+                    running++;
+                    break;
+                case NotionImportJobItem.STATUS_SUCCEEDED:
+                    succeeded++;
+                    break;
+                case NotionImportJobItem.STATUS_FAILED:
+                    failed++;
+                    break;
+                default:
+                    pending++;
+                    break;
+            }
+            views.add(new NotionImportJobResponse.Item(
+                    item.getId(),
+                    item.getPosition(),
+                    item.getShareUrl(),
+                    item.getStatus(),
+                    item.getArticleId(),
+                    item.getAttempts(),
+                    item.getErrorMessage(),
+                    item.getUpdatedAt()
+            ));
+        }
+        return new NotionImportJobResponse(
+                job.getId(),
+                job.getCreatedAt(),
+                job.getTotalCount(),
+                pending,
+                running,
+                succeeded,
+                failed,
+                pending == 0 && running == 0,
+                views
+        );
+    }
+
+    /**
+     * Trimmed, non-blank, first occurrence of each URL in submission order.
+     */
+    private static List<String> normalizeShareUrls(List<String> shareUrls) {
+        if (shareUrls == null) {
+            return List.of();
+        }
+        Set<String> unique = new LinkedHashSet<>();
+        for (String shareUrl : shareUrls) {
+            String trimmed = trimToNull(shareUrl);
+            if (trimmed != null) {
+                unique.add(trimmed);
+            }
+        }
+        return new ArrayList<>(unique);
+    }
+
+    private static String joinTagIds(Set<Long> tagIds) {
+        if (tagIds == null || tagIds.isEmpty()) {
+            return null;
+        }
+        return tagIds.stream().map(String::valueOf).collect(Collectors.joining(","));
+    }
+
+    private static Set<Long> splitTagIds(String tagIds) {
+        if (!StringUtils.hasText(tagIds)) {
+            return null;
+        }
+        Set<Long> ids = new LinkedHashSet<>();
+        for (String part : tagIds.split(",")) {
+            if (StringUtils.hasText(part)) {
+                ids.add(Long.valueOf(part.trim()));
+            }
+        }
+        return ids;
+    }
+
+    private static String truncate(String message) {
+        if (message == null || message.length() <= MAX_ERROR_LENGTH) {
+            return message;
+        }
+        return message.substring(0, MAX_ERROR_LENGTH);
+    }
+
+    private static String trimToNull(String value) {
+        if (!StringUtils.hasText(value)) {
+            return null;
+        }
+        return value.trim();
+    }
+}
@@ -12,6 +12,7 @@ import com.blog.repository.UserRepository;
 import com.blog.service.ArticleService;
 import com.blog.service.NotionImportService;
 import com.blog.service.notion.NotionAuthMode;
+import com.blog.service.notion.NotionBlockTreeLoader;
 import com.blog.service.notion.NotionHttpClient;
 import com.fasterxml.jackson.databind.JsonNode;
 import lombok.RequiredArgsConstructor;
@@ -31,7 +32,6 @@ import org.springframework.web.client.HttpStatusCodeException;
 import java.net.URLEncoder;
 import java.nio.charset.StandardCharsets;
 import java.security.MessageDigest;
-import java.util.ArrayList;
 import java.util.Base64;
 import java.util.LinkedHashMap;
 import java.util.Iterator;
@@ -60,6 +60,7 @@ public class NotionImportServiceImpl implements NotionImportService {
     private final UserRepository userRepository;
     private final NotionConnectionRepository notionConnectionRepository;
     private final NotionHttpClient notionHttpClient;
+    private final NotionBlockTreeLoader notionBlockTreeLoader;
 
     @Value("${notion.token:}")
     private String notionToken;
@@ -189,8 +190,9 @@ public class NotionImportServiceImpl implements NotionImportService {
 
         JsonNode page = fetchPage(pageIds.uuid, context.token);
         String title = extractTitleFromPage(page);
-        List<JsonNode> blocks = fetchBlocks(pageIds.uuid, context.token);
-        String content = renderBlocks(blocks, 0, context.token).trim();
+        Map<String, List<JsonNode>> blockTree = notionBlockTreeLoader.load(
+                pageIds.uuid, (blockId, cursor) -> fetchBlockChildren(blockId, cursor, context.token));
+        String content = renderBlocks(blockTree.getOrDefault(pageIds.uuid, List.of()), 0, blockTree).trim();
         String summary = generateSummary(content);
         return new NotionImportPreviewResponse(title, summary, content);
     }
@@ -269,32 +271,20 @@ public class NotionImportServiceImpl implements NotionImportService {
         return response.getBody();
     }
 
-    private List<JsonNode> fetchBlocks(String blockId, String token) {
-        List<JsonNode> blocks = new ArrayList<>();
-        String cursor = null;
-
-        do {
-            String url = NOTION_API_BASE + "/blocks/" + blockId + "/children?page_size=100";
-            if (cursor != null) {
-                url += "&start_cursor=" + URLEncoder.encode(cursor, StandardCharsets.UTF_8);
-            }
-
-            ResponseEntity<JsonNode> response = exchangeNotion(url, HttpMethod.GET, null, token);
-            if (!response.getStatusCode().is2xxSuccessful() || response.getBody() == null) {
-                break;
-            }
-
-            JsonNode body = response.getBody();
-            JsonNode results = body.path("results");
-            if (results.isArray()) {
-                results.forEach(blocks::add);
-            }
-
-            boolean hasMore = body.path("has_more").asBoolean(false);
-            cursor = hasMore ? body.path("next_cursor").asText(null) : null;
-        } while (cursor != null);
+    /**
+     * One page of a block's children; {@code null} when Notion returned no body.
+     */
+    private JsonNode fetchBlockChildren(String blockId, String cursor, String token) {
+        String url = NOTION_API_BASE + "/blocks/" + blockId + "/children?page_size=100";
+        if (cursor != null) {
+            url += "&start_cursor=" + URLEncoder.encode(cursor, StandardCharsets.UTF_8);
+        }
 
-        return blocks;
+        ResponseEntity<JsonNode> response = exchangeNotion(url, HttpMethod.GET, null, token);
+        if (!response.getStatusCode().is2xxSuccessful()) {
+            return null;
+        }
+        return response.getBody();
     }
 
     private ResponseEntity<JsonNode> exchangeNotion(String url, HttpMethod method, Object body, String token) {
@@ -400,7 +390,10 @@ public class NotionImportServiceImpl implements NotionImportService {
         return "未命名";
     }
 
-    private String renderBlocks(List<JsonNode> blocks, int indentLevel, String token) {
+    /**
+     * Render blocks in document order; children come from the tree prefetched by {@link NotionBlockTreeLoader}.
+     */
+    private String renderBlocks(List<JsonNode> blocks, int indentLevel, Map<String, List<JsonNode>> childrenById) {
         StringBuilder builder = new StringBuilder();
         String previousType = null;
         for (JsonNode block : blocks) {
@@ -455,8 +448,8 @@ public class NotionImportServiceImpl implements NotionImportService {
             }
 
             if (hasChildren && !blockId.isBlank()) {
-                List<JsonNode> children = fetchBlocks(blockId, token);
-                String childContent = renderBlocks(children, isListType(type) ? indentLevel + 1 : indentLevel, token);
+                List<JsonNode> children = childrenById.getOrDefault(blockId, List.of());
+                String childContent = renderBlocks(children, isListType(type) ? indentLevel + 1 : indentLevel, childrenById);
                 if (!childContent.isBlank()) {
                     builder.append(childContent);
                     if (!childContent.endsWith("\n")) {
@@ -7,15 +7,17 @@ import com.blog.dto.settings.SiteConfigResponse;
 import com.blog.entity.User;
 import com.blog.exception.BusinessException;
 import com.blog.repository.UserRepository;
+import com.blog.security.LoginThrottle;
+import com.blog.security.PasswordHasher;
 import com.blog.service.SettingsService;
+import com.blog.service.account.UserAccountChangedEvent;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.http.HttpStatus;
-import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Transactional;
 import org.yaml.snakeyaml.Yaml;
 
 import javax.validation.ConstraintViolation;
@@ -49,9 +51,11 @@ public class SettingsServiceImpl implements SettingsService {
     private static final DateTimeFormatter BACKUP_TS_FORMAT = DateTimeFormatter.ofPattern("yyyyMMdd-HHmmss");
 
     private final UserRepository userRepository;
-    private final PasswordEncoder passwordEncoder;
+    private final PasswordHasher passwordHasher;
+    private final LoginThrottle loginThrottle;
     private final Validator validator;
     private final ObjectMapper objectMapper;
+    private final ApplicationEventPublisher eventPublisher;
 
     @Value("${app.site-config.path:}")
     private String siteConfigPath;
@@ -62,27 +66,36 @@ public class SettingsServiceImpl implements SettingsService {
     @Value("${app.site-config.max-backups:20}")
     private int maxBackups;
 
+    /**
+     * Not transactional: both hashes run outside any transaction and the single save commits on its own,
+     * so a caller waiting for the hashing pool never holds one open. Throttled like login, since it checks
+     * a credential.
+     */
     @Override
-    @Transactional
-    public void changePassword(String username, ChangePasswordRequest request) {
-        User user = userRepository.findByUsername(username)
-                .orElseThrow(() -> new BusinessException("User not found", HttpStatus.NOT_FOUND));
+    public void changePassword(String username, ChangePasswordRequest request, String clientIp) {
+        loginThrottle.acquire(clientIp, username);
 
-        if (!passwordEncoder.matches(request.getCurrentPassword(), user.getPasswordHash())) {
-            throw new BusinessException("Current password is incorrect", HttpStatus.BAD_REQUEST);
-        }
+        // Cheap checks first so invalid requests never reach the database or the hashing pool.
         if (!Objects.equals(request.getNewPassword(), request.getConfirmPassword())) {
             throw new BusinessException("Confirm password does not match", HttpStatus.BAD_REQUEST);
         }
         if (request.getNewPassword().length() < 8) {
             throw new BusinessException("New password must be at least 8 characters", HttpStatus.BAD_REQUEST);
         }
-        if (passwordEncoder.matches(request.getNewPassword(), user.getPasswordHash())) {
+
+        User user = userRepository.findByUsername(username)
+                .orElseThrow(() -> new BusinessException("User not found", HttpStatus.NOT_FOUND));
+        if (!passwordHasher.matches(request.getCurrentPassword(), user.getPasswordHash())) {
+            throw new BusinessException("Current password is incorrect", HttpStatus.BAD_REQUEST);
+        }
+        // The current password was just verified against the hash, so comparing plaintexts is enough.
+        if (request.getNewPassword().equals(request.getCurrentPassword())) {
             throw new BusinessException("New password must be different from current password", HttpStatus.BAD_REQUEST);
         }
 
-        user.setPasswordHash(passwordEncoder.encode(request.getNewPassword()));
+        user.setPasswordHash(passwordHasher.encode(request.getNewPassword()));
         userRepository.save(user);
+        eventPublisher.publishEvent(new UserAccountChangedEvent(user.getId(), user.getUsername()));
         log.info("Password updated for user: {}", username);
     }
 
@@ -6,8 +6,10 @@ import com.blog.entity.Tag;
 import com.blog.exception.BusinessException;
 import com.blog.repository.TagRepository;
 import com.blog.service.TagService;
+import com.blog.service.article.ArticleChangedEvent;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -24,6 +26,7 @@ import java.util.stream.Collectors;
 public class TagServiceImpl implements TagService {
 
     private final TagRepository tagRepository;
+    private final ApplicationEventPublisher eventPublisher;
 
     @Override
     public List<TagDTO> getAllTags() {
@@ -56,6 +59,7 @@ public class TagServiceImpl implements TagService {
 
         Tag saved = tagRepository.save(tag);
         log.info("Tag created with id {}", saved.getId());
+        eventPublisher.publishEvent(ArticleChangedEvent.taxonomyChanged());
         return convertToDTO(saved);
     }
 
@@ -69,6 +73,7 @@ public class TagServiceImpl implements TagService {
         }
 
         tagRepository.deleteById(id);
+        eventPublisher.publishEvent(ArticleChangedEvent.taxonomyChanged());
     }
 
     private TagDTO convertToDTO(Tag tag) {
@@ -4,16 +4,23 @@ import com.blog.entity.User;
 import com.blog.entity.UserTabPermission;
 import com.blog.repository.UserTabPermissionRepository;
 import com.blog.security.AdminTabCodes;
+import com.blog.security.MemberTabSet;
 import com.blog.service.UserPermissionService;
+import com.blog.service.account.UserAccountChangedEvent;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Locale;
+import java.util.Map;
 import java.util.Set;
 import java.util.stream.Collectors;
 
@@ -23,41 +30,74 @@ public class UserPermissionServiceImpl implements UserPermissionService {
 
     private final UserTabPermissionRepository userTabPermissionRepository;
 
+    /**
+     * Member tab snapshots by user id. Owners and admins never get an entry; their tabs are fixed.
+     */
+    private final Object snapshotLock = new Object();
+    private final Map<Long, MemberTabSet> snapshots = new HashMap<>();
+    private long generation;
+
     @Override
     @Transactional(readOnly = true)
     public List<String> resolveVisibleTabs(User user) {
         if (user == null) {
             return List.of();
         }
-        String role = normalizeRole(user.getRole());
-        if ("OWNER".equals(role) || "ADMIN".equals(role)) {
+        if (isOwnerRole(user)) {
             return AdminTabCodes.OWNER_TABS;
         }
-        return userTabPermissionRepository.findByUserIdOrderByTabCodeAsc(user.getId()).stream()
-                .map(UserTabPermission::getTabCode)
-                .filter(AdminTabCodes.ASSIGNABLE_MEMBER_TABS::contains)
-                .collect(Collectors.toList());
+        return memberTabs(user.getId()).codes();
     }
 
+    @Override
+    @Transactional(readOnly = true)
+    public boolean hasTab(User user, String tabCode) {
+        if (user == null) {
+            return false;
+        }
+        if (isOwnerRole(user)) {
+            return AdminTabCodes.ALL_TABS.contains(tabCode);
+        }
+        return memberTabs(user.getId()).contains(tabCode);
+    }
+
+    /**
+     * Bring the stored tabs in line with the request by deleting and inserting only the codes that
+     * differ; unchanged rows are left alone.
+     */
     @Override
     @Transactional
     public List<String> replaceMemberTabs(User user, Collection<String> requestedTabs) {
         List<String> normalized = normalizeMemberTabs(requestedTabs);
-        userTabPermissionRepository.deleteByUserId(user.getId());
-        // Ensure delete SQL is executed before re-insert to avoid unique key conflicts.
-        userTabPermissionRepository.flush();
-        if (normalized.isEmpty()) {
-            return normalized;
+        invalidate(user.getId());
+
+        Set<String> wanted = new HashSet<>(normalized);
+        Set<String> kept = new HashSet<>();
+        List<UserTabPermission> stale = new ArrayList<>();
+        for (UserTabPermission existing : userTabPermissionRepository.findByUserIdOrderByTabCodeAsc(user.getId())) {
+            // Rows for codes no longer requested, for codes that are not assignable, and duplicates go.
+            if (wanted.contains(existing.getTabCode()) && kept.add(existing.getTabCode())) {
+                continue;
+            }
+            stale.add(existing);
         }
-        List<UserTabPermission> entities = new ArrayList<>();
+        if (!stale.isEmpty()) {
+            userTabPermissionRepository.deleteAllInBatch(stale);
+        }
+
+        // Inserted codes are disjoint from deleted ones, so flush order cannot hit the unique key.
+        List<UserTabPermission> added = new ArrayList<>();
         for (String code : normalized) {
-            UserTabPermission entity = new UserTabPermission();
-            entity.setUser(user);
-            entity.setTabCode(code);
-            entities.add(entity);
+            if (!kept.contains(code)) {
+                UserTabPermission entity = new UserTabPermission();
+                entity.setUser(user);
+                entity.setTabCode(code);
+                added.add(entity);
+            }
+        }
+        if (!added.isEmpty()) {
+            userTabPermissionRepository.saveAll(added);
         }
-        userTabPermissionRepository.saveAll(entities);
-        userTabPermissionRepository.flush();
         return normalized;
     }
 
@@ -79,6 +119,51 @@ public class UserPermissionServiceImpl implements UserPermissionService {
         return List.copyOf(deduplicated);
     }
 
+    /**
+     * Drop the snapshot once the change that triggered the event has committed, so a reader that loaded
+     * the old rows in between cannot leave them cached.
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onUserAccountChanged(UserAccountChangedEvent event) {
+        invalidate(event.getUserId());
+    }
+
+    private MemberTabSet memberTabs(Long userId) {
+        long stamp;
+        synchronized (snapshotLock) {
+            MemberTabSet cached = snapshots.get(userId);
+            if (cached != null) {
+                return cached;
+            }
+            stamp = generation;
+        }
+
+        MemberTabSet loaded = MemberTabSet.of(userTabPermissionRepository.findByUserIdOrderByTabCodeAsc(userId).stream()
+                .map(UserTabPermission::getTabCode)
+                .collect(Collectors.toList()));
+        // Inside a read-write transaction the rows may include uncommitted changes that could roll back.
+        if (TransactionSynchronizationManager.isCurrentTransactionReadOnly()) {
+            synchronized (snapshotLock) {
+                if (stamp == generation) {
+                    snapshots.put(userId, loaded);
+                }
+            }
+        }
+        return loaded;
+    }
+
+    private void invalidate(Long userId) {
+        synchronized (snapshotLock) {
+            generation++;
+            snapshots.remove(userId);
+        }
+    }
+
+    private boolean isOwnerRole(User user) {
+        String role = normalizeRole(user.getRole());
+        return "OWNER".equals(role) || "ADMIN".equals(role);
+    }
+
     private String normalizeRole(String role) {
         return role == null ? "" : role.trim().toUpperCase(Locale.ROOT);
     }
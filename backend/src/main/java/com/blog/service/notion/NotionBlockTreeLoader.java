@@ -0,0 +1,189 @@
+package com.blog.service.notion;
+
+import com.blog.exception.BusinessException;
+import com.fasterxml.jackson.databind.JsonNode;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Component;
+
+import javax.annotation.PostConstruct;
+import javax.annotation.PreDestroy;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.CompletionService;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorCompletionService;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Fetches a Notion block tree with sibling subtrees loaded concurrently.
+ * <p>
+ * The calling thread drives a breadth-first frontier: every finished {@code /blocks/{id}/children} listing
+ * immediately submits the children that have children of their own, so pool threads never wait on each
+ * other and a bounded pool cannot deadlock. Pages of a single listing are still read one cursor at a time.
+ * Every page request first takes a permit from a token bucket shared by all imports, which keeps the
+ * process within Notion's average request rate while allowing a short burst. When the pool's queue is full
+ * the caller fetches the listing itself. The result is keyed by parent id, so rendering can walk it in
+ * document order without any further I/O.
+ */
+@Component
+public class NotionBlockTreeLoader {
+
+    @Value("${notion.block-fetch.parallelism:4}")
+    private int parallelism;
+
+    @Value("${notion.block-fetch.queue-capacity:256}")
+    private int queueCapacity;
+
+    @Value("${notion.block-fetch.requests-per-second:3}")
+    private double requestsPerSecond;
+
+    @Value("${notion.block-fetch.burst:10}")
+    private int burst;
+
+    private final Object permitLock = new Object();
+    private double permits;
+    private long refilledAtNanos;
+
+    private ThreadPoolExecutor executor;
+
+    @PostConstruct
+    void start() {
+        int poolSize = Math.max(1, parallelism);
+        AtomicInteger sequence = new AtomicInteger();
+        executor = new ThreadPoolExecutor(
+                poolSize,
+                poolSize,
+                0L,
+                TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(Math.max(1, queueCapacity)),
+                runnable -> {
+                    Thread thread = new Thread(runnable, "notion-block-fetch-" + sequence.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                },
+                new ThreadPoolExecutor.CallerRunsPolicy());
+        permits = Math.max(1, burst);
+        refilledAtNanos = System.nanoTime();
+    }
+
+    @PreDestroy
+    void stop() {
+        executor.shutdownNow();
+    }
+
+    /**
+     * One page of {@code /blocks/{blockId}/children}.
+     */
+    @FunctionalInterface
+    public interface ChildPageFetcher {
+
+        /**
+         * @param startCursor {@code null} for the first page
+         * @return the response body, or {@code null} to stop paging this listing
+         */
+        JsonNode fetch(String blockId, String startCursor);
+    }
+
+    /**
+     * Load the children of {@code rootId} and, recursively, of every block with {@code has_children}.
+     *
+     * @return child blocks keyed by parent block id, each list in document order; contains {@code rootId}
+     */
+    public Map<String, List<JsonNode>> load(String rootId, ChildPageFetcher fetcher) {
+        Map<String, List<JsonNode>> childrenById = new HashMap<>();
+        Set<String> requested = new HashSet<>();
+        List<Future<Listing>> submitted = new ArrayList<>();
+        CompletionService<Listing> completion = new ExecutorCompletionService<>(executor);
+
+        requested.add(rootId);
+        submitted.add(completion.submit(() -> fetchListing(rootId, fetcher)));
+        int outstanding = 1;
+        try {
+            while (outstanding > 0) {
+                Listing listing = completion.take().get();
+                outstanding--;
+                childrenById.put(listing.blockId, listing.blocks);
+                for (JsonNode block : listing.blocks) {
+                    String blockId = block.path("id").asText("");
+                    if (block.path("has_children").asBoolean(false) && !blockId.isBlank() && requested.add(blockId)) {
+                        submitted.add(completion.submit(() -> fetchListing(blockId, fetcher)));
+                        outstanding++;
+                    }
+                }
+            }
+            return childrenById;
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            throw new BusinessException("Notion 内容获取被中断", HttpStatus.SERVICE_UNAVAILABLE);
+        } catch (ExecutionException ex) {
+            Throwable cause = ex.getCause();
+            if (cause instanceof RuntimeException) {
+                throw (RuntimeException) cause;
+            }
+            throw new BusinessException("Notion 内容获取失败", HttpStatus.BAD_GATEWAY);
+        } finally {
+            for (Future<Listing> future : submitted) {
+                future.cancel(true);
+            }
+        }
+    }
+
+    private Listing fetchListing(String blockId, ChildPageFetcher fetcher) throws InterruptedException {
+        List<JsonNode> blocks = new ArrayList<>();
+        String cursor = null;
+        do {
+            acquirePermit();
+            JsonNode body = fetcher.fetch(blockId, cursor);
+            if (body == null) {
+                break;
+            }
+            JsonNode results = body.path("results");
+            if (results.isArray()) {
+                results.forEach(blocks::add);
+            }
+            boolean hasMore = body.path("has_more").asBoolean(false);
+            cursor = hasMore ? body.path("next_cursor").asText(null) : null;
+        } while (cursor != null);
+        return new Listing(blockId, blocks);
+    }
+
+    /**
+     * Reserve one request from the token bucket and sleep until it is due.
+     */
+    private void acquirePermit() throws InterruptedException {
+        if (requestsPerSecond <= 0) {
+            return;
+        }
+        long waitNanos;
+        synchronized (permitLock) {
+            long now = System.nanoTime();
+            permits = Math.min(Math.max(1, burst), permits + (now - refilledAtNanos) * requestsPerSecond / 1_000_000_000D);
+            refilledAtNanos = now;
+            permits -= 1D;
+            waitNanos = permits >= 0 ? 0L : (long) (-permits * 1_000_000_000D / requestsPerSecond);
+        }
+        if (waitNanos > 0) {
+            TimeUnit.NANOSECONDS.sleep(waitNanos);
+        }
+    }
+
+    private static final class Listing {
+
+        private final String blockId;
+        private final List<JsonNode> blocks;
+
+        private Listing(String blockId, List<JsonNode> blocks) {
+            this.blockId = blockId;
+            this.blocks = blocks;
+        }
+    }
+}
@@ -1,12 +1,20 @@
 package com.blog.service.notion;
 
+import com.blog.dto.runtime.NotionHttpRouteStatsDTO;
 import com.blog.exception.BusinessException;
 import lombok.extern.slf4j.Slf4j;
+import org.apache.http.HttpHost;
+import org.apache.http.client.config.RequestConfig;
+import org.apache.http.impl.client.CloseableHttpClient;
+import org.apache.http.impl.client.HttpClientBuilder;
+import org.apache.http.impl.client.HttpClients;
+import org.apache.http.impl.conn.PoolingHttpClientConnectionManager;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.http.HttpEntity;
 import org.springframework.http.HttpMethod;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
+import org.springframework.http.client.HttpComponentsClientHttpRequestFactory;
 import org.springframework.http.client.SimpleClientHttpRequestFactory;
 import org.springframework.stereotype.Component;
 import org.springframework.util.StringUtils;
@@ -14,6 +22,8 @@ import org.springframework.web.client.HttpStatusCodeException;
 import org.springframework.web.client.ResourceAccessException;
 import org.springframework.web.client.RestTemplate;
 
+import javax.annotation.PreDestroy;
+import java.io.IOException;
 import java.net.InetSocketAddress;
 import java.net.Proxy;
 import java.net.ProxySelector;
@@ -23,7 +33,18 @@ import java.util.List;
 import java.util.Locale;
 import java.util.Map;
 import java.util.Optional;
-
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Notion HTTP access with network route fallback (env proxy, system proxy, direct), retry and backoff.
+ * <p>
+ * Each route gets one long-lived {@link NotionRouteTransport} on first use: a pooled keep-alive Apache
+ * HttpClient behind a {@link RestTemplate}, so repeated calls reuse TCP/TLS connections instead of opening a
+ * new {@code HttpURLConnection} each time. The client's own retries are disabled; retries stay here. SOCKS
+ * proxies are not supported by the pooled client and keep the plain {@code HttpURLConnection} transport.
+ */
 @Component
 @Slf4j
 public class NotionHttpClient {
@@ -48,6 +69,41 @@ public class NotionHttpClient {
     @Value("${notion.proxy.port:0}")
     private int notionProxyPort;
 
+    @Value("${notion.pool.max-connections-per-route:8}")
+    private int notionMaxConnectionsPerRoute;
+
+    @Value("${notion.pool.acquire-timeout-ms:5000}")
+    private int notionPoolAcquireTimeoutMs;
+
+    @Value("${notion.pool.idle-timeout-ms:30000}")
+    private long notionPoolIdleTimeoutMs;
+
+    @Value("${notion.pool.connection-ttl-ms:300000}")
+    private long notionPoolConnectionTtlMs;
+
+    private final ConcurrentMap<String, NotionRouteTransport> transports = new ConcurrentHashMap<>();
+
+    @PreDestroy
+    void close() {
+        transports.values().forEach(transport -> {
+            try {
+                transport.close();
+            } catch (IOException ex) {
+                log.debug("Failed to close Notion transport: {}", ex.getMessage());
+            }
+        });
+        transports.clear();
+    }
+
+    /**
+     * Pool and latency figures of every route used so far.
+     */
+    public List<NotionHttpRouteStatsDTO> stats() {
+        List<NotionHttpRouteStatsDTO> stats = new ArrayList<>();
+        transports.values().forEach(transport -> stats.add(transport.stats()));
+        return stats;
+    }
+
     public <T> ResponseEntity<T> exchange(
             String operationName,
             String url,
@@ -62,22 +118,26 @@ public class NotionHttpClient {
         for (int routeIndex = 0; routeIndex < routes.size(); routeIndex++) {
             NetworkRoute route = routes.get(routeIndex);
             boolean hasNextRoute = routeIndex < routes.size() - 1;
-            RestTemplate restTemplate = createRestTemplate(route.proxy);
+            NotionRouteTransport transport = transportFor(route);
             log.debug("{} using notion network route: {}", operationName, route.name);
 
             for (int attempt = 1; attempt <= maxAttempts; attempt++) {
+                long startedAt = System.nanoTime();
+                boolean succeeded = false;
+                long backoffMs;
                 try {
-                    return restTemplate.exchange(url, method, entity, responseType);
+                    ResponseEntity<T> response = transport.restTemplate().exchange(url, method, entity, responseType);
+                    succeeded = true;
+                    return response;
                 } catch (HttpStatusCodeException ex) {
                     HttpStatus status = ex.getStatusCode();
                     if (attempt < maxAttempts && isRetryableStatus(status)) {
-                        long backoffMs = calculateBackoffMs(attempt);
+                        backoffMs = calculateBackoffMs(attempt);
                         log.warn("{} transient HTTP status {} (attempt {}/{}), retry in {}ms",
                                 operationName, status.value(), attempt, maxAttempts, backoffMs);
-                        sleepQuietly(backoffMs);
-                        continue;
+                    } else {
+                        throw ex;
                     }
-                    throw ex;
                 } catch (ResourceAccessException ex) {
                     if (hasNextRoute) {
                         String message = buildNetworkFailureMessage(ex);
@@ -88,19 +148,21 @@ public class NotionHttpClient {
                     }
 
                     if (attempt < maxAttempts && isRetryableNetworkError(ex)) {
-                        long backoffMs = calculateBackoffMs(attempt);
+                        backoffMs = calculateBackoffMs(attempt);
                         log.warn("{} transient network error on route {} (attempt {}/{}), retry in {}ms: {}",
                                 operationName, route.name, attempt, maxAttempts, backoffMs, ex.getMessage());
-                        sleepQuietly(backoffMs);
-                        continue;
+                    } else {
+                        throw new BusinessException(buildNetworkFailureMessage(ex), HttpStatus.BAD_GATEWAY);
                     }
-                    throw new BusinessException(buildNetworkFailureMessage(ex), HttpStatus.BAD_GATEWAY);
                 } catch (BusinessException ex) {
                     throw ex;
                 } catch (Exception ex) {
                     log.error("{} failed unexpectedly: {} {}", operationName, method, url, ex);
                     throw new BusinessException("Notion request failed, please retry later", HttpStatus.BAD_GATEWAY);
+                } finally {
+                    transport.record(System.nanoTime() - startedAt, succeeded);
                 }
+                sleepQuietly(backoffMs);
             }
         }
 
@@ -110,18 +172,46 @@ public class NotionHttpClient {
         throw new BusinessException("Notion request failed, please retry later", HttpStatus.BAD_GATEWAY);
     }
 
-    RestTemplate createRestTemplate(Proxy proxy) {
-        SimpleClientHttpRequestFactory requestFactory = new SimpleClientHttpRequestFactory();
-        requestFactory.setConnectTimeout(Math.max(1000, notionConnectTimeoutMs));
-        requestFactory.setReadTimeout(Math.max(1000, notionReadTimeoutMs));
+    NotionRouteTransport transportFor(NetworkRoute route) {
+        return transports.computeIfAbsent(proxySignature(route.proxy), key -> createTransport(route));
+    }
 
-        if (proxy == Proxy.NO_PROXY) {
-            requestFactory.setProxy(Proxy.NO_PROXY);
-        } else if (proxy != null) {
+    NotionRouteTransport createTransport(NetworkRoute route) {
+        Proxy proxy = route.proxy;
+        if (proxy != null && proxy.type() == Proxy.Type.SOCKS) {
+            SimpleClientHttpRequestFactory requestFactory = new SimpleClientHttpRequestFactory();
+            requestFactory.setConnectTimeout(Math.max(1000, notionConnectTimeoutMs));
+            requestFactory.setReadTimeout(Math.max(1000, notionReadTimeoutMs));
             requestFactory.setProxy(proxy);
+            return new NotionRouteTransport(route.name, new RestTemplate(requestFactory), null, null);
+        }
+
+        int maxConnections = Math.max(1, notionMaxConnectionsPerRoute);
+        PoolingHttpClientConnectionManager connectionManager = new PoolingHttpClientConnectionManager(
+                Math.max(1000L, notionPoolConnectionTtlMs), TimeUnit.MILLISECONDS);
+        connectionManager.setMaxTotal(maxConnections);
+        connectionManager.setDefaultMaxPerRoute(maxConnections);
+        connectionManager.setValidateAfterInactivity(2000);
+
+        RequestConfig requestConfig = RequestConfig.custom()
+                .setConnectTimeout(Math.max(1000, notionConnectTimeoutMs))
+                .setSocketTimeout(Math.max(1000, notionReadTimeoutMs))
+                .setConnectionRequestTimeout(Math.max(1000, notionPoolAcquireTimeoutMs))
+                .build();
+        HttpClientBuilder builder = HttpClients.custom()
+                .setConnectionManager(connectionManager)
+                .setDefaultRequestConfig(requestConfig)
+                .disableAutomaticRetries()
+                .evictExpiredConnections()
+                .evictIdleConnections(Math.max(1000L, notionPoolIdleTimeoutMs), TimeUnit.MILLISECONDS);
+        if (proxy != null && proxy.type() == Proxy.Type.HTTP && proxy.address() instanceof InetSocketAddress) {
+            InetSocketAddress address = (InetSocketAddress) proxy.address();
+            builder.setProxy(new HttpHost(address.getHostString(), address.getPort()));
         }
+        CloseableHttpClient httpClient = builder.build();
 
-        return new RestTemplate(requestFactory);
+        RestTemplate restTemplate = new RestTemplate(new HttpComponentsClientHttpRequestFactory(httpClient));
+        return new NotionRouteTransport(route.name, restTemplate, httpClient, connectionManager);
     }
 
     List<NetworkRoute> resolveRoutes() {
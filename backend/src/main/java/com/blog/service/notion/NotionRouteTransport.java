@@ -0,0 +1,94 @@
+package com.blog.service.notion;
+
+import com.blog.dto.runtime.NotionHttpRouteStatsDTO;
+import org.apache.http.impl.client.CloseableHttpClient;
+import org.apache.http.impl.conn.PoolingHttpClientConnectionManager;
+import org.apache.http.pool.PoolStats;
+import org.springframework.web.client.RestTemplate;
+
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Long-lived transport for one network route: a {@link RestTemplate} over a pooled keep-alive client, plus
+ * latency bookkeeping for every attempt made through it.
+ * <p>
+ * Latencies of the most recent {@value #LATENCY_WINDOW} attempts are kept in a ring buffer for the
+ * percentile; counts and the maximum cover the transport's whole lifetime.
+ */
+class NotionRouteTransport {
+
+    private static final int LATENCY_WINDOW = 256;
+
+    private final String name;
+    private final RestTemplate restTemplate;
+    private final CloseableHttpClient httpClient;
+    private final PoolingHttpClientConnectionManager connectionManager;
+
+    private final long[] recentMillis = new long[LATENCY_WINDOW];
+    private int recentCount;
+    private int recentNext;
+    private long requests;
+    private long failures;
+    private long totalMillis;
+    private long maxMillis;
+
+    NotionRouteTransport(
+            String name,
+            RestTemplate restTemplate,
+            CloseableHttpClient httpClient,
+            PoolingHttpClientConnectionManager connectionManager
+    ) {
+        this.name = name;
+        this.restTemplate = restTemplate;
+        this.httpClient = httpClient;
+        this.connectionManager = connectionManager;
+    }
+
+    RestTemplate restTemplate() {
+        return restTemplate;
+    }
+
+    /**
+     * @param succeeded {@code false} for network errors and non-2xx responses
+     */
+    synchronized void record(long elapsedNanos, boolean succeeded) {
+        long millis = TimeUnit.NANOSECONDS.toMillis(elapsedNanos);
+        requests++;
+        if (!succeeded) {
+            failures++;
+        }
+        totalMillis += millis;
+        maxMillis = Math.max(maxMillis, millis);
+        recentMillis[recentNext] = millis;
+        recentNext = (recentNext + 1) % LATENCY_WINDOW;
+        recentCount = Math.min(recentCount + 1, LATENCY_WINDOW);
+    }
+
+    NotionHttpRouteStatsDTO stats() {
+        PoolStats pool = connectionManager == null ? null : connectionManager.getTotalStats();
+        synchronized (this) {
+            long[] window = Arrays.copyOf(recentMillis, recentCount);
+            Arrays.sort(window);
+            return new NotionHttpRouteStatsDTO(
+                    name,
+                    pool == null ? 0 : pool.getLeased(),
+                    pool == null ? 0 : pool.getAvailable(),
+                    pool == null ? 0 : pool.getPending(),
+                    pool == null ? 0 : pool.getMax(),
+                    requests,
+                    failures,
+                    requests == 0 ? 0D : (double) totalMillis / requests,
+                    window.length == 0 ? 0L : window[(int) Math.ceil(window.length * 0.95D) - 1],
+                    maxMillis
+            );
+        }
+    }
+
+    void close() throws IOException {
+        if (httpClient != null) {
+            httpClient.close();
+        }
+    }
+}
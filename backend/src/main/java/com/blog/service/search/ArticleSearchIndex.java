@@ -0,0 +1,206 @@
+package com.blog.service.search;
+
+import com.blog.dto.article.ArticleSearchSourceDTO;
+import com.blog.dto.runtime.SearchIndexStatsDTO;
+import com.blog.repository.ArticleRepository;
+import com.blog.service.article.ArticleChangedEvent;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import javax.annotation.PreDestroy;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * In-process full-text index over published articles.
+ * <p>
+ * The index is rebuilt from the database once the application is ready, loading and tokenizing
+ * id chunks in parallel, and is then kept current from {@link ArticleChangedEvent}s. All mutations
+ * run on a single updater thread so they apply in commit order; searches only take the read lock.
+ * Until the first rebuild finishes {@link #isReady()} is false and callers fall back to SQL.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class ArticleSearchIndex {
+
+    private static final int REBUILD_CHUNK_SIZE = 200;
+
+    private final ArticleRepository articleRepository;
+
+    @Value("${app.search.rebuild-parallelism:0}")
+    private int rebuildParallelism;
+
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    private final ExecutorService updater = Executors.newSingleThreadExecutor(
+            daemonThreadFactory("article-search-index-"));
+
+    private InvertedIndex index = new InvertedIndex();
+    private volatile boolean ready;
+    private volatile long lastRebuildMillis;
+    private volatile LocalDateTime lastRebuiltAt;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void onApplicationReady() {
+        updater.execute(this::rebuild);
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onArticleChanged(ArticleChangedEvent event) {
+        if (event.affectsAllArticles()
+                || event.getType() == ArticleChangedEvent.Type.COVER_CHANGED
+                || event.getType() == ArticleChangedEvent.Type.COMMENTS_CHANGED) {
+            // Category, tag, cover and comment changes do not touch indexed text or filter attributes.
+            return;
+        }
+        Long articleId = event.getArticleId();
+        ArticleChangedEvent.Type type = event.getType();
+        updater.execute(() -> refresh(articleId, type));
+    }
+
+    public boolean isReady() {
+        return ready;
+    }
+
+    public SearchHits search(String keyword, SearchFilter filter, int offset, int limit) {
+        lock.readLock().lock();
+        try {
+            return index.search(keyword, filter == null ? SearchFilter.NONE : filter, offset, limit);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public SearchIndexStatsDTO stats() {
+        lock.readLock().lock();
+        try {
+            return new SearchIndexStatsDTO(
+                    ready,
+                    index.documentCount(),
+                    index.termCount(),
+                    lastRebuildMillis,
+                    lastRebuiltAt
+            );
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Rebuild the whole index from the database and swap it in atomically.
+     */
+    void rebuild() {
+        long startedAt = System.nanoTime();
+        List<Long> ids = articleRepository.findPublishedArticleIds();
+        int parallelism = rebuildParallelism > 0
+                ? rebuildParallelism
+                : Math.max(1, Runtime.getRuntime().availableProcessors());
+
+        ExecutorService workers = Executors.newFixedThreadPool(
+                parallelism, daemonThreadFactory("article-search-rebuild-"));
+        try {
+            List<Future<List<InvertedIndex.AnalyzedDocument>>> chunks = new ArrayList<>();
+            for (int from = 0; from < ids.size(); from += REBUILD_CHUNK_SIZE) {
+                List<Long> chunk = ids.subList(from, Math.min(from + REBUILD_CHUNK_SIZE, ids.size()));
+                chunks.add(workers.submit(() -> analyzeChunk(chunk)));
+            }
+
+            InvertedIndex rebuilt = new InvertedIndex();
+            for (Future<List<InvertedIndex.AnalyzedDocument>> chunk : chunks) {
+                for (InvertedIndex.AnalyzedDocument analyzed : chunk.get()) {
+                    rebuilt.put(analyzed);
+                }
+            }
+
+            lock.writeLock().lock();
+            try {
+                index = rebuilt;
+            } finally {
+                lock.writeLock().unlock();
+            }
+            ready = true;
+            lastRebuildMillis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startedAt);
+            lastRebuiltAt = LocalDateTime.now();
+            log.info("Article search index rebuilt: {} documents, {} terms in {}ms",
+                    rebuilt.documentCount(), rebuilt.termCount(), lastRebuildMillis);
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            log.warn("Article search index rebuild interrupted");
+        } catch (ExecutionException | RuntimeException ex) {
+            log.error("Article search index rebuild failed, keyword search stays on SQL", ex);
+        } finally {
+            workers.shutdownNow();
+        }
+    }
+
+    private List<InvertedIndex.AnalyzedDocument> analyzeChunk(List<Long> ids) {
+        List<InvertedIndex.AnalyzedDocument> analyzed = new ArrayList<>(ids.size());
+        for (ArticleSearchSourceDTO source : articleRepository.findPublishedSearchSources(ids)) {
+            analyzed.add(InvertedIndex.analyze(toDocument(source)));
+        }
+        return analyzed;
+    }
+
+    private void refresh(Long articleId, ArticleChangedEvent.Type type) {
+        try {
+            List<ArticleSearchSourceDTO> sources = type == ArticleChangedEvent.Type.DELETED
+                    || type == ArticleChangedEvent.Type.UNPUBLISHED
+                    ? Collections.emptyList()
+                    : articleRepository.findPublishedSearchSources(List.of(articleId));
+            InvertedIndex.AnalyzedDocument analyzed = sources.isEmpty()
+                    ? null
+                    : InvertedIndex.analyze(toDocument(sources.get(0)));
+
+            lock.writeLock().lock();
+            try {
+                if (analyzed == null) {
+                    index.remove(articleId);
+                } else {
+                    index.put(analyzed);
+                }
+            } finally {
+                lock.writeLock().unlock();
+            }
+        } catch (RuntimeException ex) {
+            log.warn("Failed to refresh search index for article {}: {}", articleId, ex.getMessage());
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        updater.shutdownNow();
+    }
+
+    private static SearchDocument toDocument(ArticleSearchSourceDTO source) {
+        return new SearchDocument(
+                source.getId(),
+                source.getCategoryId(),
+                source.getFeaturedLevel(),
+                source.getPublishedAt(),
+                source.getTitle(),
+                source.getSummary(),
+                source.getContent()
+        );
+    }
+
+    private static CustomizableThreadFactory daemonThreadFactory(String prefix) {
+        CustomizableThreadFactory threadFactory = new CustomizableThreadFactory(prefix);
+        threadFactory.setDaemon(true);
+        return threadFactory;
+    }
+}
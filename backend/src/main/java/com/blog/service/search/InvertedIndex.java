@@ -0,0 +1,265 @@
+package com.blog.service.search;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Term-to-document postings with BM25 ranking.
+ * <p>
+ * Not thread-safe; {@link ArticleSearchIndex} guards it with a read/write lock. Title and summary
+ * terms are boosted by counting them several times, a cheap approximation of BM25F field weights.
+ */
+final class InvertedIndex {
+
+    private static final double K1 = 1.2D;
+    private static final double B = 0.75D;
+    private static final int TITLE_BOOST = 3;
+    private static final int SUMMARY_BOOST = 2;
+    private static final int SNIPPET_LENGTH = 120;
+    private static final int SNIPPET_LEAD = 30;
+
+    private static final Comparator<ScoredDocument> RANKING = Comparator
+            .comparingDouble((ScoredDocument scored) -> scored.score).reversed()
+            .thenComparing(scored -> scored.document.getPublishedAt(),
+                    Comparator.nullsLast(Comparator.<LocalDateTime>reverseOrder()))
+            .thenComparing(scored -> scored.document.getId(), Comparator.reverseOrder());
+
+    private final Map<String, Map<Long, Integer>> postings = new HashMap<>();
+    private final Map<Long, AnalyzedDocument> documents = new HashMap<>();
+    private long totalLength;
+
+    /**
+     * Tokenize a document. Pure function, safe to call from rebuild worker threads.
+     */
+    static AnalyzedDocument analyze(SearchDocument document) {
+        Map<String, Integer> frequencies = new HashMap<>();
+        addTokens(frequencies, document.getTitle(), TITLE_BOOST);
+        addTokens(frequencies, document.getSummary(), SUMMARY_BOOST);
+        addTokens(frequencies, document.getPlainContent(), 1);
+
+        int length = 0;
+        for (int frequency : frequencies.values()) {
+            length += frequency;
+        }
+        return new AnalyzedDocument(document, frequencies, length);
+    }
+
+    void put(AnalyzedDocument analyzed) {
+        remove(analyzed.document.getId());
+        documents.put(analyzed.document.getId(), analyzed);
+        totalLength += analyzed.length;
+        for (Map.Entry<String, Integer> entry : analyzed.frequencies.entrySet()) {
+            postings.computeIfAbsent(entry.getKey(), term -> new HashMap<>())
+                    .put(analyzed.document.getId(), entry.getValue());
+        }
+    }
+
+    void remove(Long id) {
+        AnalyzedDocument existing = documents.remove(id);
+        if (existing == null) {
+            return;
+        }
+        totalLength -= existing.length;
+        for (String term : existing.frequencies.keySet()) {
+            Map<Long, Integer> posting = postings.get(term);
+            if (posting == null) {
+                continue;
+            }
+            posting.remove(id);
+            if (posting.isEmpty()) {
+                postings.remove(term);
+            }
+        }
+    }
+
+    int documentCount() {
+        return documents.size();
+    }
+
+    int termCount() {
+        return postings.size();
+    }
+
+    /**
+     * Return documents containing every query term, ranked by BM25 and then by recency.
+     */
+    SearchHits search(String query, SearchFilter filter, int offset, int limit) {
+        Set<String> terms = new LinkedHashSet<>(SearchTokenizer.tokenizeForQuery(query));
+        if (terms.isEmpty() || documents.isEmpty()) {
+            return SearchHits.empty();
+        }
+
+        List<Map<Long, Integer>> termPostings = new ArrayList<>(terms.size());
+        for (String term : terms) {
+            Map<Long, Integer> posting = postings.get(term);
+            if (posting == null) {
+                return SearchHits.empty();
+            }
+            termPostings.add(posting);
+        }
+
+        Map<Long, Integer> rarest = termPostings.get(0);
+        for (Map<Long, Integer> posting : termPostings) {
+            if (posting.size() < rarest.size()) {
+                rarest = posting;
+            }
+        }
+
+        double averageLength = (double) totalLength / documents.size();
+        List<ScoredDocument> matches = new ArrayList<>();
+        candidates:
+        for (Long id : rarest.keySet()) {
+            AnalyzedDocument analyzed = documents.get(id);
+            if (!filter.matches(analyzed.document)) {
+                continue;
+            }
+            double score = 0D;
+            for (Map<Long, Integer> posting : termPostings) {
+                Integer frequency = posting.get(id);
+                if (frequency == null) {
+                    continue candidates;
+                }
+                score += bm25(frequency, posting.size(), analyzed.length, averageLength);
+            }
+            matches.add(new ScoredDocument(analyzed.document, score));
+        }
+
+        matches.sort(RANKING);
+        int from = Math.min(Math.max(offset, 0), matches.size());
+        int to = Math.min(from + Math.max(limit, 0), matches.size());
+        List<SearchHits.Hit> hits = new ArrayList<>(to - from);
+        for (ScoredDocument scored : matches.subList(from, to)) {
+            hits.add(new SearchHits.Hit(scored.document.getId(), scored.score, highlight(scored.document, terms)));
+        }
+        return new SearchHits(matches.size(), hits);
+    }
+
+    private double bm25(int frequency, int documentFrequency, int length, double averageLength) {
+        double idf = Math.log(1D + (documents.size() - documentFrequency + 0.5D) / (documentFrequency + 0.5D));
+        double norm = frequency + K1 * (1D - B + B * length / averageLength);
+        return idf * frequency * (K1 + 1D) / norm;
+    }
+
+    private static void addTokens(Map<String, Integer> frequencies, String text, int weight) {
+        for (String token : SearchTokenizer.tokenizeForIndex(text)) {
+            frequencies.merge(token, weight, Integer::sum);
+        }
+    }
+
+    private static String highlight(SearchDocument document, Set<String> terms) {
+        String snippet = snippet(document.getPlainContent(), terms);
+        if (snippet == null) {
+            snippet = snippet(document.getSummary(), terms);
+        }
+        return snippet;
+    }
+
+    /**
+     * Cut a window around the first match and wrap every match inside it in {@code <mark>}.
+     */
+    static String snippet(String text, Set<String> terms) {
+        if (text == null || text.isEmpty()) {
+            return null;
+        }
+        String lower = text.toLowerCase(Locale.ROOT);
+        if (lower.length() != text.length()) {
+            // Case mapping changed offsets (rare special characters); match case-sensitively instead.
+            lower = text;
+        }
+
+        boolean[] marked = new boolean[text.length()];
+        int first = -1;
+        for (String term : terms) {
+            int from = 0;
+            int index;
+            while ((index = lower.indexOf(term, from)) >= 0) {
+                for (int i = index; i < index + term.length(); i++) {
+                    marked[i] = true;
+                }
+                if (first < 0 || index < first) {
+                    first = index;
+                }
+                from = index + term.length();
+            }
+        }
+        if (first < 0) {
+            return null;
+        }
+
+        int start = Math.max(0, first - SNIPPET_LEAD);
+        int end = Math.min(text.length(), start + SNIPPET_LENGTH);
+        StringBuilder builder = new StringBuilder(SNIPPET_LENGTH + 32);
+        if (start > 0) {
+            builder.append('…');
+        }
+        boolean open = false;
+        for (int i = start; i < end; i++) {
+            if (marked[i] && !open) {
+                builder.append("<mark>");
+                open = true;
+            } else if (!marked[i] && open) {
+                builder.append("</mark>");
+                open = false;
+            }
+            appendEscaped(builder, text.charAt(i));
+        }
+        if (open) {
+            builder.append("</mark>");
+        }
+        if (end < text.length()) {
+            builder.append('…');
+        }
+        return builder.toString();
+    }
+
+    private static void appendEscaped(StringBuilder builder, char c) {
+        switch (c) {
+            case '<':
+                builder.append("&lt;");
+                break;
+            case '>':
+                builder.append("&gt;");
+                break;
+            case '&':
+                builder.append("&amp;");
+                break;
+            case '"':
+                builder.append("&quot;");
+                break;
+            case '\'':
+                builder.append("&#39;");
+                break;
+            default:
+                builder.append(c);
+        }
+    }
+
+    static final class AnalyzedDocument {
+        private final SearchDocument document;
+        private final Map<String, Integer> frequencies;
+        private final int length;
+
+        private AnalyzedDocument(SearchDocument document, Map<String, Integer> frequencies, int length) {
+            this.document = document;
+            this.frequencies = frequencies;
+            this.length = length;
+        }
+    }
+
+    private static final class ScoredDocument {
+        private final SearchDocument document;
+        private final double score;
+
+        private ScoredDocument(SearchDocument document, double score) {
+            this.document = document;
+            this.score = score;
+        }
+    }
+}
@@ -0,0 +1,60 @@
+package com.blog.service.search;
+
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+import java.util.regex.Pattern;
+
+/**
+ * Searchable view of a published article: text fields plus the attributes used for filtering and tie-breaking.
+ */
+@Getter
+public final class SearchDocument {
+
+    private static final Pattern CODE_FENCE = Pattern.compile("(?m)^\\s*(```|~~~).*$");
+    private static final Pattern IMAGE = Pattern.compile("!\\[([^\\]]*)\\]\\([^)]*\\)");
+    private static final Pattern LINK = Pattern.compile("\\[([^\\]]*)\\]\\([^)]*\\)");
+    private static final Pattern HTML_TAG = Pattern.compile("<[^>]+>");
+    private static final Pattern MARKDOWN_SYMBOLS = Pattern.compile("[#>*_`~|]+");
+    private static final Pattern WHITESPACE = Pattern.compile("\\s+");
+
+    private final Long id;
+    private final Long categoryId;
+    private final Integer featuredLevel;
+    private final LocalDateTime publishedAt;
+    private final String title;
+    private final String summary;
+    private final String plainContent;
+
+    public SearchDocument(
+            Long id,
+            Long categoryId,
+            Integer featuredLevel,
+            LocalDateTime publishedAt,
+            String title,
+            String summary,
+            String markdownContent) {
+        this.id = id;
+        this.categoryId = categoryId;
+        this.featuredLevel = featuredLevel == null ? 0 : featuredLevel;
+        this.publishedAt = publishedAt;
+        this.title = title == null ? "" : title;
+        this.summary = summary == null ? "" : summary;
+        this.plainContent = toPlainText(markdownContent);
+    }
+
+    /**
+     * Strip Markdown syntax so snippets read like prose and link targets do not pollute the index.
+     */
+    static String toPlainText(String markdown) {
+        if (markdown == null || markdown.isEmpty()) {
+            return "";
+        }
+        String text = CODE_FENCE.matcher(markdown).replaceAll(" ");
+        text = IMAGE.matcher(text).replaceAll("$1");
+        text = LINK.matcher(text).replaceAll("$1");
+        text = HTML_TAG.matcher(text).replaceAll(" ");
+        text = MARKDOWN_SYMBOLS.matcher(text).replaceAll(" ");
+        return WHITESPACE.matcher(text).replaceAll(" ").trim();
+    }
+}
@@ -0,0 +1,28 @@
+package com.blog.service.search;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * Attribute filters applied to search hits, mirroring the public article list filters.
+ */
+@Getter
+@AllArgsConstructor
+public final class SearchFilter {
+
+    public static final SearchFilter NONE = new SearchFilter(null, null, false);
+
+    private final Long categoryId;
+    private final Integer featuredLevel;
+    private final boolean excludeFeatured;
+
+    boolean matches(SearchDocument document) {
+        if (categoryId != null && !categoryId.equals(document.getCategoryId())) {
+            return false;
+        }
+        if (featuredLevel != null && !featuredLevel.equals(document.getFeaturedLevel())) {
+            return false;
+        }
+        return !excludeFeatured || document.getFeaturedLevel() == 0;
+    }
+}
@@ -0,0 +1,33 @@
+package com.blog.service.search;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * One page of ranked search hits plus the total number of matching documents.
+ */
+@Getter
+@AllArgsConstructor
+public final class SearchHits {
+
+    private final long total;
+    private final List<Hit> hits;
+
+    static SearchHits empty() {
+        return new SearchHits(0L, Collections.emptyList());
+    }
+
+    @Getter
+    @AllArgsConstructor
+    public static final class Hit {
+        private final Long articleId;
+        private final double score;
+        /**
+         * HTML-escaped excerpt with matched terms wrapped in {@code <mark>}, or {@code null}.
+         */
+        private final String highlight;
+    }
+}
@@ -0,0 +1,74 @@
+package com.blog.web;
+
+import com.blog.common.ApiResponse;
+import com.blog.dto.article.ArticleDetailDTO;
+import lombok.RequiredArgsConstructor;
+import org.springframework.core.MethodParameter;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.HttpMessageConverter;
+import org.springframework.http.server.ServerHttpRequest;
+import org.springframework.http.server.ServerHttpResponse;
+import org.springframework.http.server.ServletServerHttpRequest;
+import org.springframework.http.server.ServletServerHttpResponse;
+import org.springframework.web.bind.annotation.RestControllerAdvice;
+import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyAdvice;
+
+import javax.servlet.http.HttpServletRequest;
+
+/**
+ * Adds validators to article detail responses that missed the detail cache, using the article's own
+ * timestamps from the payload and the taxonomy version {@link ConditionalGetInterceptor} read before the call.
+ */
+@RestControllerAdvice
+@RequiredArgsConstructor
+public class ArticleDetailEtagAdvice implements ResponseBodyAdvice<Object> {
+
+    private final ContentVersions contentVersions;
+
+    @Override
+    public boolean supports(MethodParameter returnType, Class<? extends HttpMessageConverter<?>> converterType) {
+        return true;
+    }
+
+    @Override
+    public Object beforeBodyWrite(
+            Object body,
+            MethodParameter returnType,
+            MediaType selectedContentType,
+            Class<? extends HttpMessageConverter<?>> selectedConverterType,
+            ServerHttpRequest request,
+            ServerHttpResponse response) {
+        if (!(body instanceof ApiResponse)
+                || !(((ApiResponse<?>) body).getData() instanceof ArticleDetailDTO)
+                || !(request instanceof ServletServerHttpRequest)
+                || !(response instanceof ServletServerHttpResponse)) {
+            return body;
+        }
+        HttpServletRequest servletRequest = ((ServletServerHttpRequest) request).getServletRequest();
+        Object taxonomyVersion = servletRequest.getAttribute(ConditionalGetInterceptor.DETAIL_TAXONOMY_VERSION_ATTRIBUTE);
+        Object taxonomyModified = servletRequest.getAttribute(ConditionalGetInterceptor.DETAIL_TAXONOMY_MODIFIED_ATTRIBUTE);
+        if (taxonomyVersion == null || taxonomyModified == null
+                || ((ServletServerHttpResponse) response).getServletResponse().containsHeader(HttpHeaders.ETAG)) {
+            return body;
+        }
+
+        ArticleDetailDTO detail = (ArticleDetailDTO) ((ApiResponse<?>) body).getData();
+        if (!"PUBLISHED".equalsIgnoreCase(detail.getStatus())) {
+            return body;
+        }
+        response.getHeaders().setETag(ConditionalGetInterceptor.articleEtag(
+                contentVersions.epoch(),
+                detail.getId(),
+                detail.getUpdatedAt(),
+                detail.getPublishedAt(),
+                (Long) taxonomyVersion
+        ));
+        response.getHeaders().setLastModified(ConditionalGetInterceptor.articleLastModified(
+                detail.getUpdatedAt(),
+                detail.getPublishedAt(),
+                (Long) taxonomyModified
+        ));
+        return body;
+    }
+}
@@ -0,0 +1,197 @@
+package com.blog.web;
+
+import com.blog.service.article.ArticleDetailCache;
+import com.blog.service.article.ArticleGroupSnapshot;
+import com.blog.service.article.ArticleViewCounter;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
+import org.springframework.stereotype.Component;
+import org.springframework.util.StringUtils;
+import org.springframework.web.context.request.ServletWebRequest;
+import org.springframework.web.servlet.HandlerInterceptor;
+import org.springframework.web.servlet.HandlerMapping;
+
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Conditional GET and {@code Cache-Control} for public read APIs.
+ * <p>
+ * Validators are derived from {@link ContentVersions} counters, the grouped snapshot version and cached
+ * article detail timestamps, so a matching {@code If-None-Match} / {@code If-Modified-Since} is answered
+ * with 304 before the controller runs. A validator must never be newer than the body it labels; counters
+ * are therefore read before the service call, and keyword searches (served by an asynchronously updated
+ * index) get no validator at all. Article detail misses are labelled afterwards by
+ * {@link ArticleDetailEtagAdvice} using the taxonomy version captured here.
+ * <p>
+ * View counts are not part of any validator; they refresh whenever the content itself changes.
+ */
+@Component
+@RequiredArgsConstructor
+public class ConditionalGetInterceptor implements HandlerInterceptor {
+
+    /**
+     * Request attribute holding the taxonomy version read before an article detail call.
+     */
+    static final String DETAIL_TAXONOMY_VERSION_ATTRIBUTE = ConditionalGetInterceptor.class.getName() + ".taxonomyVersion";
+    static final String DETAIL_TAXONOMY_MODIFIED_ATTRIBUTE = ConditionalGetInterceptor.class.getName() + ".taxonomyModified";
+
+    private static final int DEFAULT_GROUP_LIMIT = 6;
+
+    private final ContentVersions contentVersions;
+    private final ArticleDetailCache articleDetailCache;
+    private final ArticleViewCounter articleViewCounter;
+    private final ArticleGroupSnapshot articleGroupSnapshot;
+
+    @Value("${app.http.cache.article-list-max-age-seconds:30}")
+    private long articleListMaxAgeSeconds;
+
+    @Value("${app.http.cache.taxonomy-max-age-seconds:300}")
+    private long taxonomyMaxAgeSeconds;
+
+    @Value("${app.http.cache.guestbook-max-age-seconds:30}")
+    private long guestbookMaxAgeSeconds;
+
+    @Override
+    public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) {
+        if (!"GET".equals(request.getMethod()) && !"HEAD".equals(request.getMethod())) {
+            return true;
+        }
+        Object pattern = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+        if (pattern == null) {
+            return true;
+        }
+
+        ServletWebRequest webRequest = new ServletWebRequest(request, response);
+        switch (pattern.toString()) {
+            case "/api/articles":
+            case "/api/articles/feed":
+                applyCacheControl(request, response, CacheControl.maxAge(articleListMaxAgeSeconds, TimeUnit.SECONDS));
+                if (StringUtils.hasText(request.getParameter("keyword"))) {
+                    return true;
+                }
+                return !checkNotModified(webRequest, "articles",
+                        ContentVersions.Domain.ARTICLES, ContentVersions.Domain.TAXONOMY);
+            case "/api/articles/grouped":
+                applyCacheControl(request, response, CacheControl.maxAge(articleListMaxAgeSeconds, TimeUnit.SECONDS));
+                return !checkGroupedNotModified(webRequest, request);
+            case "/api/articles/{id}":
+                return handleDetail(webRequest, request, response, articleDetailCache.peekVersionById(parseId(request)));
+            case "/api/articles/slug/{slug}":
+                return handleDetail(webRequest, request, response,
+                        articleDetailCache.peekVersionBySlug(pathVariable(request, "slug")));
+            case "/api/categories":
+            case "/api/categories/{id}":
+            case "/api/tags":
+            case "/api/tags/{id}":
+                applyCacheControl(request, response, CacheControl.maxAge(taxonomyMaxAgeSeconds, TimeUnit.SECONDS));
+                return !checkNotModified(webRequest, "taxonomy", ContentVersions.Domain.TAXONOMY);
+            case "/api/guestbook":
+                applyCacheControl(request, response, CacheControl.maxAge(guestbookMaxAgeSeconds, TimeUnit.SECONDS));
+                return !checkNotModified(webRequest, "guestbook", ContentVersions.Domain.GUESTBOOK);
+            default:
+                return true;
+        }
+    }
+
+    private boolean checkNotModified(ServletWebRequest webRequest, String prefix, ContentVersions.Domain... domains) {
+        StringBuilder etag = new StringBuilder("\"").append(prefix).append('-')
+                .append(Long.toString(contentVersions.epoch(), 36));
+        long lastModified = 0L;
+        for (ContentVersions.Domain domain : domains) {
+            etag.append('-').append(contentVersions.version(domain));
+            lastModified = Math.max(lastModified, contentVersions.lastModified(domain));
+        }
+        return webRequest.checkNotModified(etag.append('"').toString(), lastModified);
+    }
+
+    private boolean checkGroupedNotModified(ServletWebRequest webRequest, HttpServletRequest request) {
+        int limit = DEFAULT_GROUP_LIMIT;
+        String rawLimit = request.getParameter("perCategoryLimit");
+        if (StringUtils.hasText(rawLimit)) {
+            try {
+                limit = Integer.parseInt(rawLimit.trim());
+            } catch (NumberFormatException ex) {
+                return false;
+            }
+        }
+        long version = articleGroupSnapshot.version(limit);
+        if (version < 0) {
+            return false;
+        }
+        String etag = "\"grouped-" + Long.toString(contentVersions.epoch(), 36) + "-" + version + "\"";
+        return webRequest.checkNotModified(etag);
+    }
+
+    private boolean handleDetail(
+            ServletWebRequest webRequest,
+            HttpServletRequest request,
+            HttpServletResponse response,
+            Optional<ArticleDetailCache.CachedVersion> cached) {
+        // Revalidate on every visit so each page view still reaches the view counter.
+        applyCacheControl(request, response, CacheControl.noCache());
+        long taxonomyVersion = contentVersions.version(ContentVersions.Domain.TAXONOMY);
+        long taxonomyModified = contentVersions.lastModified(ContentVersions.Domain.TAXONOMY);
+        request.setAttribute(DETAIL_TAXONOMY_VERSION_ATTRIBUTE, taxonomyVersion);
+        request.setAttribute(DETAIL_TAXONOMY_MODIFIED_ATTRIBUTE, taxonomyModified);
+        if (cached.isEmpty()) {
+            return true;
+        }
+
+        ArticleDetailCache.CachedVersion version = cached.get();
+        String etag = articleEtag(contentVersions.epoch(), version.getId(), version.getUpdatedAt(),
+                version.getPublishedAt(), taxonomyVersion);
+        long lastModified = articleLastModified(version.getUpdatedAt(), version.getPublishedAt(), taxonomyModified);
+        if (webRequest.checkNotModified(etag, lastModified)) {
+            articleViewCounter.increment(version.getId());
+            return false;
+        }
+        return true;
+    }
+
+    static String articleEtag(long epoch, Long id, LocalDateTime updatedAt, LocalDateTime publishedAt, long taxonomyVersion) {
+        return "\"article-" + id
+                + "-" + toEpochMillis(updatedAt)
+                + "-" + toEpochMillis(publishedAt)
+                + "-" + taxonomyVersion
+                + "-" + Long.toString(epoch, 36) + "\"";
+    }
+
+    static long articleLastModified(LocalDateTime updatedAt, LocalDateTime publishedAt, long taxonomyModified) {
+        return Math.max(taxonomyModified, Math.max(toEpochMillis(updatedAt), toEpochMillis(publishedAt)));
+    }
+
+    private static long toEpochMillis(LocalDateTime value) {
+        return value == null ? 0L : value.atZone(ZoneId.systemDefault()).toInstant().toEpochMilli();
+    }
+
+    private static void applyCacheControl(HttpServletRequest request, HttpServletResponse response, CacheControl policy) {
+        // Responses to authenticated requests must not land in shared caches such as nginx.
+        CacheControl scoped = request.getHeader(HttpHeaders.AUTHORIZATION) == null
+                ? policy.cachePublic()
+                : policy.cachePrivate();
+        response.setHeader(HttpHeaders.CACHE_CONTROL, scoped.getHeaderValue());
+    }
+
+    private static Long parseId(HttpServletRequest request) {
+        String raw = pathVariable(request, "id");
+        try {
+            return raw == null ? null : Long.valueOf(raw);
+        } catch (NumberFormatException ex) {
+            return null;
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private static String pathVariable(HttpServletRequest request, String name) {
+        Object variables = request.getAttribute(HandlerMapping.URI_TEMPLATE_VARIABLES_ATTRIBUTE);
+        return variables instanceof Map ? ((Map<String, String>) variables).get(name) : null;
+    }
+}
@@ -0,0 +1,78 @@
+package com.blog.web;
+
+import com.blog.service.article.ArticleChangedEvent;
+import com.blog.service.guestbook.GuestbookChangedEvent;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Monotonic change counters for public read models, used to derive HTTP validators without
+ * rendering a response body.
+ * <p>
+ * Counters live in memory and restart at zero, so every validator also carries {@link #epoch()},
+ * the process start time; a restart therefore invalidates all previously issued ETags.
+ */
+@Component
+public class ContentVersions {
+
+    public enum Domain {
+        ARTICLES,
+        TAXONOMY,
+        GUESTBOOK
+    }
+
+    private final long epoch = System.currentTimeMillis();
+    private final Counter[] counters = new Counter[Domain.values().length];
+
+    public ContentVersions() {
+        for (int i = 0; i < counters.length; i++) {
+            counters[i] = new Counter(epoch);
+        }
+    }
+
+    public long epoch() {
+        return epoch;
+    }
+
+    public long version(Domain domain) {
+        return counters[domain.ordinal()].version.get();
+    }
+
+    /**
+     * Epoch millis of the last change, or the process start time if nothing changed since.
+     */
+    public long lastModified(Domain domain) {
+        return counters[domain.ordinal()].changedAt;
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onArticleChanged(ArticleChangedEvent event) {
+        bump(Domain.ARTICLES);
+        if (event.getType() == ArticleChangedEvent.Type.TAXONOMY_CHANGED) {
+            bump(Domain.TAXONOMY);
+        }
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onGuestbookChanged(GuestbookChangedEvent event) {
+        bump(Domain.GUESTBOOK);
+    }
+
+    void bump(Domain domain) {
+        Counter counter = counters[domain.ordinal()];
+        // Publish the timestamp before the version so a reader seeing the new version never sees an older time.
+        counter.changedAt = Math.max(counter.changedAt, System.currentTimeMillis());
+        counter.version.incrementAndGet();
+    }
+
+    private static final class Counter {
+        private final AtomicLong version = new AtomicLong();
+        private volatile long changedAt;
+
+        private Counter(long changedAt) {
+            this.changedAt = changedAt;
+        }
+    }
+}
@@ -0,0 +1,393 @@
+package com.blog.web;
+
+import com.blog.dto.runtime.CacheStatsDTO;
+import com.blog.dto.runtime.UploadServingStatsDTO;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.MediaTypeFactory;
+import org.springframework.stereotype.Component;
+import org.springframework.web.context.request.ServletWebRequest;
+
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+import java.io.IOException;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.channels.WritableByteChannel;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.regex.Pattern;
+
+/**
+ * Serves files under {@code uploads/} with long-lived caching, byte ranges and zero-copy transfers.
+ * <p>
+ * Upload file names are write-once: originals are {@code <sha256>.<ext>} (or a random 32-hex name from
+ * before content hashing) and variants are {@code <base>-<variant>-<hash16>.<ext>}. Such names are served
+ * as {@code immutable} for a year with the name itself as strong ETag; anything else only gets a short
+ * max-age plus size/mtime validators. Because content-addressed files never change, small ones are kept
+ * in a byte-bounded LRU and repeat requests are answered without a single filesystem call. Larger bodies
+ * are handed to Tomcat's sendfile when the connector supports it, otherwise copied with
+ * {@link FileChannel#transferTo}. A single {@code Range} (honouring {@code If-Range}) yields 206;
+ * multi-range requests get the full body.
+ */
+@Component
+public class UploadFileServer {
+
+    public static final String URL_PREFIX = "/uploads/";
+
+    private static final Path ROOT = Paths.get("uploads").toAbsolutePath().normalize();
+    private static final Pattern CONTENT_ADDRESSED_NAME =
+            Pattern.compile("(?:[0-9a-f]{32}|[0-9a-f]{64})(?:-[a-z]+-[0-9a-f]{16})?\\.[a-z0-9]{1,10}");
+    private static final long CACHE_ENTRY_OVERHEAD_BYTES = 128L;
+
+    private static final String SENDFILE_SUPPORT_ATTRIBUTE = "org.apache.tomcat.sendfile.support";
+    private static final String SENDFILE_FILENAME_ATTRIBUTE = "org.apache.tomcat.sendfile.filename";
+    private static final String SENDFILE_START_ATTRIBUTE = "org.apache.tomcat.sendfile.start";
+    private static final String SENDFILE_END_ATTRIBUTE = "org.apache.tomcat.sendfile.end";
+
+    @Value("${app.uploads.immutable-max-age-seconds:31536000}")
+    private long immutableMaxAgeSeconds;
+
+    @Value("${app.uploads.mutable-max-age-seconds:300}")
+    private long mutableMaxAgeSeconds;
+
+    @Value("${app.uploads.memory-cache.max-file-bytes:262144}")
+    private long maxCachedFileBytes;
+
+    @Value("${app.uploads.memory-cache.max-bytes:33554432}")
+    private long maxCacheBytes;
+
+    @Value("${app.uploads.zero-copy-min-bytes:65536}")
+    private long zeroCopyMinBytes;
+
+    private final Object lock = new Object();
+    private final LinkedHashMap<String, CachedFile> cache = new LinkedHashMap<>(64, 0.75f, true);
+
+    private long cacheWeightBytes;
+    private long cacheHits;
+    private long cacheMisses;
+    private long cacheEvictions;
+    private long cacheInvalidations;
+
+    private final AtomicLong notModified = new AtomicLong();
+    private final AtomicLong partial = new AtomicLong();
+    private final AtomicLong sendfile = new AtomicLong();
+    private final AtomicLong transferred = new AtomicLong();
+
+    /**
+     * Answer a GET or HEAD for {@code /uploads/<relativePath>}.
+     */
+    public void serve(String relativePath, HttpServletRequest request, HttpServletResponse response) throws IOException {
+        Path file = resolve(relativePath);
+        if (file == null) {
+            response.sendError(HttpServletResponse.SC_NOT_FOUND);
+            return;
+        }
+        String key = ROOT.relativize(file).toString();
+        String filename = file.getFileName().toString();
+        boolean immutable = isContentAddressed(filename);
+
+        CachedFile cached = immutable ? cached(key) : null;
+        long size;
+        long lastModified;
+        if (cached != null) {
+            size = cached.bytes.length;
+            lastModified = cached.lastModified;
+        } else {
+            BasicFileAttributes attributes;
+            try {
+                attributes = Files.readAttributes(file, BasicFileAttributes.class);
+            } catch (NoSuchFileException ex) {
+                response.sendError(HttpServletResponse.SC_NOT_FOUND);
+                return;
+            }
+            if (!attributes.isRegularFile()) {
+                response.sendError(HttpServletResponse.SC_NOT_FOUND);
+                return;
+            }
+            size = attributes.size();
+            lastModified = attributes.lastModifiedTime().toMillis();
+        }
+
+        String etag = immutable
+                ? "\"" + filename.substring(0, filename.lastIndexOf('.')) + "\""
+                : "\"" + Long.toString(size, 36) + "-" + Long.toString(lastModified, 36) + "\"";
+        response.setHeader(HttpHeaders.CACHE_CONTROL, immutable
+                ? CacheControl.maxAge(immutableMaxAgeSeconds, TimeUnit.SECONDS).cachePublic().getHeaderValue() + ", immutable"
+                : CacheControl.maxAge(mutableMaxAgeSeconds, TimeUnit.SECONDS).cachePublic().getHeaderValue());
+        response.setHeader(HttpHeaders.ACCEPT_RANGES, "bytes");
+        if (new ServletWebRequest(request, response).checkNotModified(etag, lastModified)) {
+            notModified.incrementAndGet();
+            return;
+        }
+
+        response.setContentType(MediaTypeFactory.getMediaType(filename)
+                .orElse(MediaType.APPLICATION_OCTET_STREAM).toString());
+        response.setHeader("X-Content-Type-Options", "nosniff");
+
+        ByteRange range = ifRangeMatches(request, etag, lastModified)
+                ? ByteRange.parse(request.getHeader(HttpHeaders.RANGE), size)
+                : null;
+        if (range == ByteRange.UNSATISFIABLE) {
+            response.setStatus(HttpServletResponse.SC_REQUESTED_RANGE_NOT_SATISFIABLE);
+            response.setHeader(HttpHeaders.CONTENT_RANGE, "bytes */" + size);
+            response.setContentLength(0);
+            return;
+        }
+        long start = range == null ? 0L : range.start;
+        long length = range == null ? size : range.length();
+        if (range != null) {
+            partial.incrementAndGet();
+            response.setStatus(HttpServletResponse.SC_PARTIAL_CONTENT);
+            response.setHeader(HttpHeaders.CONTENT_RANGE, "bytes " + range.start + "-" + range.end + "/" + size);
+        }
+        response.setContentLengthLong(length);
+        if ("HEAD".equals(request.getMethod())) {
+            return;
+        }
+
+        if (cached == null && immutable && size <= maxCachedFileBytes) {
+            cached = load(key, file, lastModified);
+        }
+        if (cached != null) {
+            response.getOutputStream().write(cached.bytes, (int) start, (int) length);
+        } else if (length >= zeroCopyMinBytes && Boolean.TRUE.equals(request.getAttribute(SENDFILE_SUPPORT_ATTRIBUTE))) {
+            sendfile.incrementAndGet();
+            request.setAttribute(SENDFILE_FILENAME_ATTRIBUTE, file.toString());
+            request.setAttribute(SENDFILE_START_ATTRIBUTE, start);
+            request.setAttribute(SENDFILE_END_ATTRIBUTE, start + length);
+        } else {
+            transferred.incrementAndGet();
+            transfer(file, start, length, response);
+        }
+    }
+
+    /**
+     * Drop a cached file, e.g. after it was deleted from disk.
+     */
+    public void evict(String relativePath) {
+        Path file = resolve(relativePath);
+        if (file == null) {
+            return;
+        }
+        synchronized (lock) {
+            CachedFile removed = cache.remove(ROOT.relativize(file).toString());
+            if (removed != null) {
+                cacheWeightBytes -= weigh(removed);
+                cacheInvalidations++;
+            }
+        }
+    }
+
+    public UploadServingStatsDTO stats() {
+        CacheStatsDTO memoryCache;
+        synchronized (lock) {
+            long lookups = cacheHits + cacheMisses;
+            memoryCache = new CacheStatsDTO(
+                    cacheHits,
+                    cacheMisses,
+                    cacheEvictions,
+                    cacheInvalidations,
+                    cache.size(),
+                    cacheWeightBytes,
+                    maxCacheBytes,
+                    lookups == 0 ? 0D : (double) cacheHits / lookups
+            );
+        }
+        return new UploadServingStatsDTO(
+                memoryCache,
+                notModified.get(),
+                partial.get(),
+                sendfile.get(),
+                transferred.get()
+        );
+    }
+
+    /**
+     * Absolute file for a path below {@code uploads/}, or {@code null} when it escapes the root or names a
+     * hidden entry such as an in-progress {@code .upload-*} temp file.
+     */
+    static Path resolve(String relativePath) {
+        if (relativePath == null || relativePath.isEmpty() || relativePath.indexOf('\0') >= 0) {
+            return null;
+        }
+        Path path;
+        try {
+            path = ROOT.resolve(relativePath).normalize();
+        } catch (RuntimeException ex) {
+            return null;
+        }
+        if (!path.startsWith(ROOT) || path.equals(ROOT)) {
+            return null;
+        }
+        for (Path segment : ROOT.relativize(path)) {
+            if (segment.toString().startsWith(".")) {
+                return null;
+            }
+        }
+        return path;
+    }
+
+    static boolean isContentAddressed(String filename) {
+        return CONTENT_ADDRESSED_NAME.matcher(filename).matches();
+    }
+
+    private CachedFile cached(String key) {
+        synchronized (lock) {
+            CachedFile cached = cache.get(key);
+            if (cached == null) {
+                cacheMisses++;
+            } else {
+                cacheHits++;
+            }
+            return cached;
+        }
+    }
+
+    /**
+     * Read a small content-addressed file into the cache; {@code null} if it changed size under us.
+     */
+    private CachedFile load(String key, Path file, long lastModified) throws IOException {
+        byte[] bytes;
+        try {
+            bytes = Files.readAllBytes(file);
+        } catch (NoSuchFileException ex) {
+            return null;
+        }
+        if (bytes.length > maxCachedFileBytes) {
+            return null;
+        }
+        CachedFile loaded = new CachedFile(bytes, lastModified);
+        synchronized (lock) {
+            CachedFile previous = cache.put(key, loaded);
+            if (previous != null) {
+                cacheWeightBytes -= weigh(previous);
+            }
+            cacheWeightBytes += weigh(loaded);
+            Iterator<Map.Entry<String, CachedFile>> eldest = cache.entrySet().iterator();
+            while (cacheWeightBytes > maxCacheBytes && eldest.hasNext()) {
+                cacheWeightBytes -= weigh(eldest.next().getValue());
+                eldest.remove();
+                cacheEvictions++;
+            }
+        }
+        return loaded;
+    }
+
+    private static void transfer(Path file, long start, long length, HttpServletResponse response) throws IOException {
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            WritableByteChannel out = Channels.newChannel(response.getOutputStream());
+            long position = start;
+            long remaining = length;
+            while (remaining > 0) {
+                long written = channel.transferTo(position, remaining, out);
+                if (written <= 0) {
+                    break;
+                }
+                position += written;
+                remaining -= written;
+            }
+        }
+    }
+
+    private static boolean ifRangeMatches(HttpServletRequest request, String etag, long lastModified) {
+        String ifRange = request.getHeader(HttpHeaders.IF_RANGE);
+        if (ifRange == null) {
+            return true;
+        }
+        if (ifRange.startsWith("\"") || ifRange.startsWith("W/")) {
+            return ifRange.equals(etag);
+        }
+        try {
+            return request.getDateHeader(HttpHeaders.IF_RANGE) / 1000 == lastModified / 1000;
+        } catch (IllegalArgumentException ex) {
+            return false;
+        }
+    }
+
+    private static long weigh(CachedFile cached) {
+        return cached.bytes.length + CACHE_ENTRY_OVERHEAD_BYTES;
+    }
+
+    private static final class CachedFile {
+
+        private final byte[] bytes;
+        private final long lastModified;
+
+        private CachedFile(byte[] bytes, long lastModified) {
+            this.bytes = bytes;
+            this.lastModified = lastModified;
+        }
+    }
+
+    /**
+     * Inclusive byte range of a single-range {@code Range} header.
+     */
+    static final class ByteRange {
+
+        static final ByteRange UNSATISFIABLE = new ByteRange(-1L, -1L);
+
+        final long start;
+        final long end;
+
+        private ByteRange(long start, long end) {
+            this.start = start;
+            this.end = end;
+        }
+
+        long length() {
+            return end - start + 1;
+        }
+
+        /**
+         * @return the range, {@link #UNSATISFIABLE}, or {@code null} to serve the whole body (no header,
+         * malformed header or several ranges)
+         */
+        static ByteRange parse(String header, long size) {
+            if (header == null || !header.startsWith("bytes=") || header.indexOf(',') >= 0) {
+                return null;
+            }
+            String spec = header.substring("bytes=".length()).trim();
+            int dash = spec.indexOf('-');
+            if (dash < 0) {
+                return null;
+            }
+            try {
+                String first = spec.substring(0, dash).trim();
+                String last = spec.substring(dash + 1).trim();
+                if (first.isEmpty()) {
+                    if (last.isEmpty()) {
+                        return null;
+                    }
+                    long suffix = Long.parseLong(last);
+                    if (suffix <= 0 || size == 0) {
+                        return UNSATISFIABLE;
+                    }
+                    return new ByteRange(Math.max(0L, size - suffix), size - 1);
+                }
+                long start = Long.parseLong(first);
+                long end = last.isEmpty() ? Long.MAX_VALUE : Long.parseLong(last);
+                if (end < start) {
+                    return null;
+                }
+                if (start >= size) {
+                    return UNSATISFIABLE;
+                }
+                return new ByteRange(start, Math.min(end, size - 1));
+            } catch (NumberFormatException ex) {
+                return null;
+            }
+        }
+    }
+}
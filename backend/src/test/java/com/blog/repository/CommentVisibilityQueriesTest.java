@@ -0,0 +1,37 @@
+package com.blog.repository;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * The threaded comment endpoint is public, so every query behind it must only see approved comments.
+ */
+class CommentVisibilityQueriesTest {
+
+    private static final String APPROVED = "c.status = 'APPROVED'";
+
+    @Test
+    void rootPageAndCount_shouldOnlySeeApprovedComments() throws Exception {
+        Query query = CommentRepository.class
+                .getMethod("findRootRowsByArticleId", Long.class, Pageable.class)
+                .getAnnotation(Query.class);
+
+        assertTrue(query.value().contains(APPROVED));
+        assertTrue(query.countQuery().contains(APPROVED));
+    }
+
+    @Test
+    void replyTree_shouldFilterBothBranchesOfTheRecursiveQuery() {
+        String sql = (String) ReflectionTestUtils.getField(CommentThreadRepositoryImpl.class, "REPLIES_SQL");
+        String[] branches = sql.split("UNION ALL");
+
+        assertEquals(2, branches.length);
+        assertTrue(branches[0].contains(APPROVED));
+        assertTrue(branches[1].contains(APPROVED));
+    }
+}
@@ -0,0 +1,45 @@
+package com.blog.security;
+
+import com.blog.exception.BusinessException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpStatus;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class LoginThrottleTest {
+
+    private LoginThrottle throttle;
+
+    @BeforeEach
+    void setUp() {
+        throttle = new LoginThrottle();
+        ReflectionTestUtils.setField(throttle, "ipCapacity", 3);
+        ReflectionTestUtils.setField(throttle, "ipRefillPerMinute", 1);
+        ReflectionTestUtils.setField(throttle, "usernameCapacity", 2);
+        ReflectionTestUtils.setField(throttle, "usernameRefillPerMinute", 1);
+    }
+
+    @Test
+    void acquire_shouldRejectOnceUsernameBucketIsEmpty() {
+        throttle.acquire("10.0.0.1", "Alice");
+        throttle.acquire("10.0.0.2", "alice");
+
+        BusinessException ex = assertThrows(BusinessException.class, () -> throttle.acquire("10.0.0.3", "ALICE"));
+        assertEquals(HttpStatus.TOO_MANY_REQUESTS, ex.getStatus());
+        assertDoesNotThrow(() -> throttle.acquire("10.0.0.3", "bob"));
+    }
+
+    @Test
+    void acquire_shouldRejectOnceIpBucketIsEmpty() {
+        throttle.acquire("10.0.0.1", "a");
+        throttle.acquire("10.0.0.1", "b");
+        throttle.acquire("10.0.0.1", null);
+
+        assertThrows(BusinessException.class, () -> throttle.acquire("10.0.0.1", "c"));
+        assertEquals(1L, throttle.stats().getThrottled());
+    }
+}
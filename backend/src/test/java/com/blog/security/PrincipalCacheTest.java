@@ -0,0 +1,76 @@
+package com.blog.security;
+
+import com.blog.service.account.UserAccountChangedEvent;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.security.core.userdetails.User;
+import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.security.core.userdetails.UserDetailsService;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class PrincipalCacheTest {
+
+    @Mock
+    private UserDetailsService userDetailsService;
+
+    private PrincipalCache cache;
+
+    @BeforeEach
+    void setUp() {
+        cache = new PrincipalCache(userDetailsService);
+        ReflectionTestUtils.setField(cache, "ttlSeconds", 60L);
+        ReflectionTestUtils.setField(cache, "maxEntries", 2);
+    }
+
+    @Test
+    void load_shouldServeRepeatedLookupsFromMemory() {
+        UserDetails alice = principal("alice", true);
+        when(userDetailsService.loadUserByUsername("alice")).thenReturn(alice);
+
+        assertSame(alice, cache.load("alice"));
+        assertSame(alice, cache.load("alice"));
+
+        verify(userDetailsService, times(1)).loadUserByUsername("alice");
+    }
+
+    @Test
+    void onUserAccountChanged_shouldReloadTheChangedUser() {
+        when(userDetailsService.loadUserByUsername("alice"))
+                .thenReturn(principal("alice", true), principal("alice", false));
+
+        cache.load("alice");
+        cache.onUserAccountChanged(new UserAccountChangedEvent(1L, "alice"));
+
+        assertFalse(cache.load("alice").isEnabled());
+        verify(userDetailsService, times(2)).loadUserByUsername("alice");
+    }
+
+    @Test
+    void load_shouldReloadAfterTtlExpires() {
+        ReflectionTestUtils.setField(cache, "ttlSeconds", 0L);
+        when(userDetailsService.loadUserByUsername("alice")).thenReturn(principal("alice", true));
+
+        cache.load("alice");
+        cache.load("alice");
+
+        verify(userDetailsService, times(2)).loadUserByUsername("alice");
+    }
+
+    private static UserDetails principal(String username, boolean enabled) {
+        return new User(username, "hash", enabled, true, true, true,
+                List.of(new SimpleGrantedAuthority("ROLE_MEMBER")));
+    }
+}
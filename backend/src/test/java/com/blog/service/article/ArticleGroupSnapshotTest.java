@@ -0,0 +1,86 @@
+package com.blog.service.article;
+
+import com.blog.dto.article.ArticleSummaryRowDTO;
+import com.blog.dto.article.CategoryArticleGroupDTO;
+import com.blog.dto.article.CategoryTopArticleRowDTO;
+import com.blog.repository.ArticleRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class ArticleGroupSnapshotTest {
+
+    @Mock
+    private ArticleRepository articleRepository;
+
+    private ArticleGroupSnapshot snapshot;
+
+    @BeforeEach
+    void setUp() {
+        snapshot = new ArticleGroupSnapshot(articleRepository, new ArticleSummaryAssembler(articleRepository));
+        ReflectionTestUtils.setField(snapshot, "maxPerCategory", 3);
+    }
+
+    @Test
+    void get_shouldGroupWindowedRowsAndServeTruncatedViewsFromMemory() {
+        when(articleRepository.findPublishedTopPerCategory(3)).thenReturn(List.of(
+                row(103L, 21L, "engineering", 9L),
+                row(102L, 21L, "engineering", 9L),
+                row(101L, 21L, "engineering", 9L),
+                row(201L, 22L, "travel", 1L)
+        ));
+
+        List<CategoryArticleGroupDTO> groups = snapshot.get(2);
+
+        assertEquals(2, groups.size());
+        assertEquals("engineering", groups.get(0).getCategory().getName());
+        assertEquals(9L, groups.get(0).getTotalCount());
+        assertEquals(2, groups.get(0).getArticles().size());
+        assertEquals(103L, groups.get(0).getArticles().get(0).getId());
+        assertEquals(102L, groups.get(0).getArticles().get(1).getId());
+        assertEquals("travel", groups.get(1).getCategory().getName());
+        assertEquals(1, groups.get(1).getArticles().size());
+
+        assertSame(groups, snapshot.get(2));
+        assertEquals(3, snapshot.get(3).get(0).getArticles().size());
+        verify(articleRepository, times(1)).findPublishedTopPerCategory(3);
+    }
+
+    @Test
+    void get_shouldQueryDirectlyAboveSnapshotLimit() {
+        when(articleRepository.findPublishedTopPerCategory(10)).thenReturn(List.of(row(101L, 21L, "engineering", 1L)));
+
+        List<CategoryArticleGroupDTO> groups = snapshot.get(10);
+
+        assertEquals(1, groups.size());
+        verify(articleRepository, times(0)).findPublishedTopPerCategory(3);
+    }
+
+    private static CategoryTopArticleRowDTO row(Long id, Long categoryId, String categoryName, long categoryTotal) {
+        ArticleSummaryRowDTO summary = new ArticleSummaryRowDTO();
+        summary.setId(id);
+        summary.setTitle("title-" + id);
+        summary.setSlug("article-" + id);
+        summary.setStatus("PUBLISHED");
+        summary.setFeaturedLevel(0);
+        summary.setViews(0L);
+        summary.setPublishedAt(LocalDateTime.of(2026, 3, 7, 8, 0).minusMinutes(id));
+        summary.setCategoryId(categoryId);
+        summary.setCategoryName(categoryName);
+        summary.setCategorySlugPath(categoryName);
+        return new CategoryTopArticleRowDTO(summary, categoryTotal);
+    }
+}
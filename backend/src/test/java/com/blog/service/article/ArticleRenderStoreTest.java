@@ -0,0 +1,94 @@
+package com.blog.service.article;
+
+import com.blog.dto.article.ArticleHtmlDTO;
+import com.blog.entity.Article;
+import com.blog.repository.ArticleRenderRepository;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.Optional;
+import java.util.function.Supplier;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class ArticleRenderStoreTest {
+
+    private final Supplier<Article> unused = () -> {
+        throw new AssertionError("render should not be rebuilt");
+    };
+
+    private ArticleRenderRepository repository;
+    private ArticleRenderCache cache;
+    private ArticleRenderStore store;
+
+    @BeforeEach
+    void setUp() {
+        repository = mock(ArticleRenderRepository.class);
+        cache = new ArticleRenderCache();
+        ReflectionTestUtils.setField(cache, "maxWeightBytes", 1L << 20);
+        store = new ArticleRenderStore(repository, mock(ArticleRenderer.class), new ObjectMapper(), cache);
+    }
+
+    @Test
+    void findOrRenderHash_shouldNeverLoadBodiesAndCacheTheHash() {
+        when(repository.findHashByArticleId(1L)).thenReturn(Optional.of("abc"));
+
+        assertEquals("abc", store.findOrRenderHash(1L, unused));
+        assertEquals("abc", store.findOrRenderHash(1L, unused));
+
+        verify(repository, times(1)).findHashByArticleId(1L);
+        verify(repository, never()).findById(anyLong());
+        verify(repository, never()).findHtmlByArticleId(anyLong());
+        verify(repository, never()).findGzipByArticleId(anyLong());
+    }
+
+    @Test
+    void findOrRenderBody_shouldLoadOnlyTheRequestedEncodingOnce() {
+        byte[] gzip = {1, 2, 3};
+        when(repository.findGzipByArticleId(1L)).thenReturn(Optional.of(gzipBody("abc", gzip)));
+
+        ArticleHtmlDTO first = store.findOrRenderBody(1L, true, unused);
+        ArticleHtmlDTO second = store.findOrRenderBody(1L, true, unused);
+
+        assertEquals("abc", first.getHash());
+        assertArrayEquals(gzip, first.getBody());
+        assertSame(first.getBody(), second.getBody());
+        verify(repository, times(1)).findGzipByArticleId(1L);
+        verify(repository, never()).findHtmlByArticleId(anyLong());
+    }
+
+    @Test
+    void remove_shouldDropCachedRender() {
+        when(repository.findHashByArticleId(1L)).thenReturn(Optional.of("abc"), Optional.of("def"));
+        store.findOrRenderHash(1L, unused);
+
+        store.remove(1L);
+
+        assertEquals("def", store.findOrRenderHash(1L, unused));
+        verify(repository, times(2)).findHashByArticleId(1L);
+    }
+
+    private static ArticleRenderRepository.GzipBody gzipBody(String hash, byte[] gzip) {
+        return new ArticleRenderRepository.GzipBody() {
+            @Override
+            public String getHtmlHash() {
+                return hash;
+            }
+
+            @Override
+            public byte[] getHtmlGzip() {
+                return gzip;
+            }
+        };
+    }
+}
@@ -0,0 +1,53 @@
+package com.blog.service.article;
+
+import com.blog.dto.article.ArticleTocEntryDTO;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class ArticleRendererTest {
+
+    private final ArticleRenderer renderer = new ArticleRenderer();
+
+    @Test
+    void render_shouldAnchorHeadingsAndBuildToc() {
+        ArticleRenderer.Rendered rendered = renderer.render(
+                "# Getting Started\n\n正文\n\n## 安装 `mvn`\n\n## Getting Started\n\n| a | b |\n|---|---|\n| 1 | 2 |\n");
+
+        List<ArticleTocEntryDTO> toc = rendered.getToc();
+        assertEquals(3, toc.size());
+        assertEquals(new ArticleTocEntryDTO(1, "getting-started", "Getting Started"), toc.get(0));
+        assertEquals(new ArticleTocEntryDTO(2, "安装-mvn", "安装 mvn"), toc.get(1));
+        assertEquals("getting-started-1", toc.get(2).getAnchor());
+        assertTrue(rendered.getHtml().contains("<h1 id=\"getting-started\">Getting Started</h1>"));
+        assertTrue(rendered.getHtml().contains("<table>"));
+    }
+
+    @Test
+    void render_shouldCountCjkCharactersAndLatinWords() {
+        ArticleRenderer.Rendered rendered = renderer.render("你好世界 hello **brave** new-world");
+
+        assertEquals(4 + 4, rendered.getWordCount());
+        assertEquals(1, rendered.getReadingMinutes());
+        assertEquals(0, renderer.render("").getReadingMinutes());
+    }
+
+    @Test
+    void render_shouldDropUnsafeLinkSchemes() {
+        String html = renderer.render("[x](javascript:alert(1))").getHtml();
+
+        assertTrue(!html.contains("javascript:"));
+    }
+
+    @Test
+    void render_shouldEscapeRawHtml() {
+        String html = renderer.render("<script>alert(1)</script>\n\ntext <img src=x onerror=alert(1)>").getHtml();
+
+        assertTrue(!html.contains("<script>"));
+        assertTrue(!html.contains("<img"));
+        assertTrue(html.contains("&lt;script&gt;"));
+    }
+}
@@ -0,0 +1,95 @@
+package com.blog.service.article;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.fail;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class ArticleViewCounterTest {
+
+    @Test
+    void flush_shouldNeverLoseViewsRacingWithIdlePruning() throws Exception {
+        JdbcTemplate jdbcTemplate = mock(JdbcTemplate.class);
+        AtomicLong written = new AtomicLong();
+        when(jdbcTemplate.batchUpdate(anyString(), anyList())).thenAnswer(invocation -> {
+            List<Object[]> batch = invocation.getArgument(1);
+            batch.forEach(row -> written.addAndGet((Long) row[0]));
+            return new int[batch.size()];
+        });
+        ArticleViewCounter counter = new ArticleViewCounter(jdbcTemplate);
+
+        int threads = 4;
+        int viewsPerThread = 20_000;
+        ExecutorService pool = Executors.newFixedThreadPool(threads);
+        CountDownLatch done = new CountDownLatch(threads);
+        for (int t = 0; t < threads; t++) {
+            pool.execute(() -> {
+                for (int i = 0; i < viewsPerThread; i++) {
+                    counter.increment(1L);
+                    if (i % 500 == 0) {
+                        Thread.yield();
+                    }
+                }
+                done.countDown();
+            });
+        }
+        while (!done.await(1, TimeUnit.MILLISECONDS)) {
+            counter.flush();
+        }
+        counter.flush();
+        counter.flush();
+        pool.shutdown();
+
+        long expected = (long) threads * viewsPerThread;
+        assertEquals(expected, written.get());
+        assertEquals(expected, counter.flushedViews(1L));
+        assertEquals(0L, counter.pendingViews(1L));
+        assertEquals(expected, counter.recordedViews(1L));
+    }
+
+    @Test
+    void baseline_shouldRereadUnderFlushLockWhenAFlushLandsAfterTheRowRead() {
+        JdbcTemplate jdbcTemplate = mock(JdbcTemplate.class);
+        when(jdbcTemplate.batchUpdate(anyString(), anyList())).thenReturn(new int[1]);
+        ArticleViewCounter counter = new ArticleViewCounter(jdbcTemplate);
+        counter.increment(1L);
+        counter.increment(1L);
+
+        long stamp = counter.stamp();
+        long persistedViews = 100L;
+        // The row was read with 100 views; the flush writes 2 more before flushedViews is consulted.
+        counter.flush();
+
+        long baseline = counter.baseline(1L, persistedViews, stamp, () -> 102L);
+
+        assertEquals(100L, baseline);
+        assertEquals(102L, baseline + counter.recordedViews(1L));
+    }
+
+    @Test
+    void baseline_shouldSkipRereadWhenNoFlushOverlapped() {
+        JdbcTemplate jdbcTemplate = mock(JdbcTemplate.class);
+        when(jdbcTemplate.batchUpdate(anyString(), anyList())).thenReturn(new int[1]);
+        ArticleViewCounter counter = new ArticleViewCounter(jdbcTemplate);
+        counter.increment(1L);
+        counter.flush();
+
+        long stamp = counter.stamp();
+        assertEquals(100L, counter.baseline(1L, 101L, stamp, () -> {
+            fail("no flush overlapped, the row must not be reread");
+            return 0L;
+        }));
+    }
+}
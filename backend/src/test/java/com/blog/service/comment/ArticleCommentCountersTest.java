@@ -0,0 +1,37 @@
+package com.blog.service.comment;
+
+import com.blog.service.article.ArticleChangedEvent;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+class ArticleCommentCountersTest {
+
+    private final JdbcTemplate jdbcTemplate = mock(JdbcTemplate.class);
+    private final ApplicationEventPublisher eventPublisher = mock(ApplicationEventPublisher.class);
+    private final ArticleCommentCounters counters = new ArticleCommentCounters(jdbcTemplate, eventPublisher);
+
+    @Test
+    void counterWrites_shouldPublishCommentsChangedPerArticle() {
+        counters.commentAdded(1L, "PENDING", LocalDateTime.now());
+        counters.recount(2L);
+        counters.recount(List.of(3L, 4L, 3L));
+
+        ArgumentCaptor<ArticleChangedEvent> events = ArgumentCaptor.forClass(ArticleChangedEvent.class);
+        verify(eventPublisher, times(4)).publishEvent(events.capture());
+        assertEquals(List.of(1L, 2L, 3L, 4L),
+                events.getAllValues().stream().map(ArticleChangedEvent::getArticleId).collect(Collectors.toList()));
+        events.getAllValues().forEach(event ->
+                assertEquals(ArticleChangedEvent.Type.COMMENTS_CHANGED, event.getType()));
+    }
+}
@@ -0,0 +1,49 @@
+package com.blog.service.comment;
+
+import com.blog.dto.comment.CommentNodeDTO;
+import com.blog.dto.comment.CommentRowDTO;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class CommentTreeAssemblerTest {
+
+    @Test
+    void assemble_shouldNestRepliesInOrderAndFlagTruncatedThreads() {
+        List<CommentRowDTO> roots = List.of(row(2L, null, 0), row(1L, null, 0));
+        List<CommentRowDTO> replies = List.of(
+                row(10L, 1L, 1),
+                row(11L, 10L, 2),
+                row(12L, 1L, 1),
+                row(13L, 11L, 3),
+                row(20L, 2L, 1)
+        );
+
+        List<CommentNodeDTO> tree = CommentTreeAssembler.assemble(roots, replies, 2);
+
+        assertEquals(2, tree.size());
+        assertEquals(2L, tree.get(0).getId());
+        assertEquals(20L, tree.get(0).getReplies().get(0).getId());
+
+        CommentNodeDTO first = tree.get(1);
+        assertEquals(2, first.getReplies().size());
+        assertEquals(10L, first.getReplies().get(0).getId());
+        assertEquals(12L, first.getReplies().get(1).getId());
+
+        CommentNodeDTO deepest = first.getReplies().get(0).getReplies().get(0);
+        assertEquals(11L, deepest.getId());
+        assertTrue(deepest.getReplies().isEmpty());
+        assertTrue(deepest.isHasMoreReplies());
+        assertFalse(first.isHasMoreReplies());
+    }
+
+    private static CommentRowDTO row(Long id, Long parentId, int depth) {
+        return new CommentRowDTO(id, "comment " + id, "Visitor", "APPROVED",
+                LocalDateTime.of(2026, 1, 1, 0, 0).plusMinutes(id), parentId, depth);
+    }
+}
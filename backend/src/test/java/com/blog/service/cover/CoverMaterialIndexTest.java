@@ -0,0 +1,109 @@
+package com.blog.service.cover;
+
+import com.blog.dto.travel.CoverPhotoRowDTO;
+import com.blog.dto.travel.CoverUsageRowDTO;
+import com.blog.entity.FootprintPhoto;
+import com.blog.repository.ArticleRepository;
+import com.blog.repository.FootprintPhotoRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class CoverMaterialIndexTest {
+
+    private static final String SOURCE = FootprintPhoto.SOURCE_TYPE_COVER_MATERIAL;
+    private static final LocalDateTime BASE = LocalDateTime.of(2026, 10, 1, 8, 0);
+
+    @Mock
+    private FootprintPhotoRepository footprintPhotoRepository;
+
+    @Mock
+    private ArticleRepository articleRepository;
+
+    private CoverMaterialIndex index;
+
+    @BeforeEach
+    void setUp() {
+        index = new CoverMaterialIndex(footprintPhotoRepository, articleRepository);
+        when(footprintPhotoRepository.findCoverPhotoRows(SOURCE)).thenReturn(List.of(
+                photo(1L, 1), photo(2L, 2), photo(3L, 3), photo(4L, 4)));
+        when(articleRepository.findCoverUsage()).thenReturn(List.of(
+                new CoverUsageRowDTO(4L, 2L, BASE.plusDays(9)),
+                new CoverUsageRowDTO(2L, 1L, BASE.plusDays(5))));
+    }
+
+    @AfterEach
+    void tearDown() {
+        index.shutdown();
+    }
+
+    @Test
+    void top_shouldRankUnusedNewestFirstByDefault() {
+        assertEquals(List.of(3L, 1L, 4L, 2L), ids(index.top(10, null)));
+        assertEquals(List.of(3L, 1L), ids(index.top(2, null)));
+    }
+
+    @Test
+    void top_shouldPutPinnedPhotoFirstWithoutDuplicatingIt() {
+        assertEquals(List.of(2L, 3L, 1L), ids(index.top(3, 2L)));
+    }
+
+    @Test
+    void top_shouldHonourConfiguredRanking() {
+        ReflectionTestUtils.setField(index, "ranking", CoverMaterialRanking.LEAST_RECENTLY_USED);
+        assertEquals(List.of(3L, 1L, 2L, 4L), ids(index.top(10, null)));
+
+        ReflectionTestUtils.setField(index, "ranking", CoverMaterialRanking.RECENCY);
+        index.rebuild();
+        assertEquals(List.of(4L, 3L, 2L, 1L), ids(index.top(10, null)));
+    }
+
+    @Test
+    void refresh_shouldReRankChangedPhotosAndDropDeletedOnes() {
+        index.rebuild();
+        when(articleRepository.findCoverUsageByPhotoIds(List.of(3L, 1L)))
+                .thenReturn(List.of(new CoverUsageRowDTO(3L, 1L, BASE.plusDays(10))));
+        when(footprintPhotoRepository.findCoverPhotoRowsByIds(SOURCE, List.of(3L, 1L)))
+                .thenReturn(List.of(photo(3L, 3)));
+
+        index.refresh(List.of(3L, 1L));
+
+        assertEquals(List.of(4L, 3L, 2L), ids(index.top(10, null)));
+        assertEquals(3, index.stats().getEntries());
+        assertEquals(0, index.stats().getUnusedEntries());
+    }
+
+    @Test
+    void stats_shouldReportSizeAndRebuild() {
+        assertFalse(index.stats().isReady());
+
+        index.rebuild();
+
+        assertTrue(index.stats().isReady());
+        assertEquals(4, index.stats().getEntries());
+        assertEquals(2, index.stats().getUnusedEntries());
+        assertEquals("NEVER_USED", index.stats().getRanking());
+    }
+
+    private static CoverPhotoRowDTO photo(long id, int dayOffset) {
+        return new CoverPhotoRowDTO(id, "/uploads/cover-materials/" + id + ".jpg", BASE.plusDays(dayOffset), null, null, null, 1600, 1200);
+    }
+
+    private static List<Long> ids(List<CoverMaterialCandidate> candidates) {
+        return candidates.stream().map(CoverMaterialCandidate::getPhotoId).collect(Collectors.toList());
+    }
+}
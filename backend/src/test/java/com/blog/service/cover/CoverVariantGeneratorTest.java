@@ -0,0 +1,69 @@
+package com.blog.service.cover;
+
+import org.junit.jupiter.api.Test;
+
+import java.awt.image.BufferedImage;
+import java.nio.file.Paths;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class CoverVariantGeneratorTest {
+
+    @Test
+    void scale_shouldFitLongestEdgeAndKeepAspectRatio() {
+        BufferedImage landscape = new BufferedImage(4000, 3000, BufferedImage.TYPE_INT_RGB);
+
+        BufferedImage card = CoverVariantGenerator.scale(landscape, CoverVariant.CARD.getMaxEdge(), false);
+        BufferedImage thumb = CoverVariantGenerator.scale(card, CoverVariant.THUMB.getMaxEdge(), false);
+
+        assertEquals(800, card.getWidth());
+        assertEquals(600, card.getHeight());
+        assertEquals(320, thumb.getWidth());
+        assertEquals(240, thumb.getHeight());
+        assertEquals(BufferedImage.TYPE_INT_RGB, thumb.getType());
+    }
+
+    @Test
+    void scale_shouldKeepAlphaForPngAndFitPortraitByHeight() {
+        BufferedImage portrait = new BufferedImage(900, 2000, BufferedImage.TYPE_INT_ARGB);
+
+        BufferedImage hero = CoverVariantGenerator.scale(portrait, CoverVariant.HERO.getMaxEdge(), true);
+
+        assertEquals(720, hero.getWidth());
+        assertEquals(1600, hero.getHeight());
+        assertEquals(BufferedImage.TYPE_INT_ARGB, hero.getType());
+    }
+
+    @Test
+    void orient_shouldRotateClockwiseForOrientationSix() {
+        BufferedImage stored = new BufferedImage(2, 1, BufferedImage.TYPE_INT_RGB);
+        stored.setRGB(0, 0, 0xFF0000);
+        stored.setRGB(1, 0, 0x00FF00);
+
+        BufferedImage upright = CoverVariantGenerator.orient(stored, 6);
+
+        assertEquals(1, upright.getWidth());
+        assertEquals(2, upright.getHeight());
+        assertEquals(0xFF0000, upright.getRGB(0, 0) & 0xFFFFFF);
+        assertEquals(0x00FF00, upright.getRGB(0, 1) & 0xFFFFFF);
+        assertSame(stored, CoverVariantGenerator.orient(stored, 1));
+    }
+
+    @Test
+    void localPath_shouldOnlyResolveFilesInsideUploads() {
+        assertTrue(CoverVariantGenerator.localPath("/uploads/cover-materials/abc.jpg")
+                .endsWith(Paths.get("uploads", "cover-materials", "abc.jpg")));
+        assertNull(CoverVariantGenerator.localPath("/uploads/../application.yml"));
+        assertNull(CoverVariantGenerator.localPath("https://cdn.example.com/abc.jpg"));
+        assertNull(CoverVariantGenerator.localPath(null));
+    }
+
+    @Test
+    void variants_shouldRunLargestFirst() {
+        assertSame(CoverVariant.HERO, CoverVariant.values()[0]);
+        assertSame(CoverVariant.THUMB, CoverVariant.values()[CoverVariant.values().length - 1]);
+    }
+}
@@ -0,0 +1,77 @@
+package com.blog.service.cover;
+
+import com.drew.metadata.Metadata;
+import com.drew.metadata.exif.ExifIFD0Directory;
+import com.drew.metadata.exif.ExifSubIFDDirectory;
+import com.drew.metadata.jpeg.JpegDirectory;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import javax.imageio.ImageIO;
+import java.awt.image.BufferedImage;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDate;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class PhotoMetadataExtractorTest {
+
+    private final PhotoMetadataExtractor extractor = new PhotoMetadataExtractor();
+
+    @Test
+    void extract_shouldReadExifAndSwapDimensionsForRotatedPhotos() {
+        Metadata metadata = new Metadata();
+        JpegDirectory jpeg = new JpegDirectory();
+        jpeg.setInt(JpegDirectory.TAG_IMAGE_WIDTH, 4032);
+        jpeg.setInt(JpegDirectory.TAG_IMAGE_HEIGHT, 3024);
+        metadata.addDirectory(jpeg);
+        ExifIFD0Directory ifd0 = new ExifIFD0Directory();
+        ifd0.setInt(ExifIFD0Directory.TAG_ORIENTATION, 6);
+        ifd0.setString(ExifIFD0Directory.TAG_MAKE, "Apple\u0000 ");
+        ifd0.setString(ExifIFD0Directory.TAG_MODEL, "iPhone 15 Pro");
+        metadata.addDirectory(ifd0);
+        ExifSubIFDDirectory subIfd = new ExifSubIFDDirectory();
+        subIfd.setString(ExifSubIFDDirectory.TAG_DATETIME_ORIGINAL, "2026:05:01 18:42:07");
+        metadata.addDirectory(subIfd);
+
+        PhotoMetadata result = extractor.extract(metadata);
+
+        assertEquals(3024, result.getWidth());
+        assertEquals(4032, result.getHeight());
+        assertEquals(6, result.getOrientation());
+        assertEquals(LocalDate.of(2026, 5, 1), result.getShotAt());
+        assertEquals("Apple", result.getCameraMake());
+        assertEquals("iPhone 15 Pro", result.getCameraModel());
+    }
+
+    @Test
+    void extract_shouldReadPngHeaderWithoutExif(@TempDir Path dir) throws Exception {
+        Path file = dir.resolve("cover.png");
+        assertTrue(ImageIO.write(new BufferedImage(640, 360, BufferedImage.TYPE_INT_ARGB), "png", file.toFile()));
+
+        PhotoMetadata result = extractor.extract(file);
+
+        assertEquals(640, result.getWidth());
+        assertEquals(360, result.getHeight());
+        assertNull(result.getOrientation());
+        assertNull(result.getShotAt());
+    }
+
+    @Test
+    void extract_shouldReturnEmptyForNonImages(@TempDir Path dir) throws Exception {
+        Path file = Files.writeString(dir.resolve("notes.txt"), "not an image");
+
+        assertSame(PhotoMetadata.EMPTY, extractor.extract(file));
+    }
+
+    @Test
+    void parseExifDate_shouldIgnoreBlankAndZeroDates() {
+        assertNull(PhotoMetadataExtractor.parseExifDate("0000:00:00 00:00:00"));
+        assertNull(PhotoMetadataExtractor.parseExifDate("    :  :     :  :  "));
+        assertNull(PhotoMetadataExtractor.parseExifDate(null));
+    }
+}
@@ -0,0 +1,24 @@
+package com.blog.service.cover;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.HashSet;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class UploadGarbageCollectorTest {
+
+    @Test
+    void addLinkedFilenames_shouldCollectOriginalsAndVariantsFromMarkdown() {
+        String content = "![a](/uploads/cover-materials/ab12.jpg)\n"
+                + "<img src=\"https://example.com/uploads/cover-materials/variants/ab12-card-0f3e.jpg\">\n"
+                + "See /uploads/cover-materials/cd34.png. And /uploads/other/ef56.jpg";
+        Set<String> filenames = new HashSet<>();
+
+        UploadGarbageCollector.addLinkedFilenames(content, filenames);
+        UploadGarbageCollector.addLinkedFilenames(null, filenames);
+
+        assertEquals(Set.of("ab12.jpg", "ab12-card-0f3e.jpg", "cd34.png"), filenames);
+    }
+}
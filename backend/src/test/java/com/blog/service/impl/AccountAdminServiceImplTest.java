@@ -0,0 +1,76 @@
+package com.blog.service.impl;
+
+import com.blog.dto.account.AccountCreateRequest;
+import com.blog.entity.User;
+import com.blog.repository.UserRepository;
+import com.blog.repository.UserTabPermissionRepository;
+import com.blog.security.PasswordHasher;
+import com.blog.service.UserPermissionService;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InOrder;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.transaction.support.TransactionCallback;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class AccountAdminServiceImplTest {
+
+    @Mock
+    private UserRepository userRepository;
+
+    @Mock
+    private PasswordHasher passwordHasher;
+
+    @Mock
+    private UserPermissionService userPermissionService;
+
+    @Mock
+    private UserTabPermissionRepository userTabPermissionRepository;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    @Mock
+    private TransactionTemplate transactionTemplate;
+
+    @InjectMocks
+    private AccountAdminServiceImpl service;
+
+    @Test
+    void createAccount_shouldHashBeforeOpeningTheTransaction() {
+        User owner = new User();
+        owner.setUsername("shyl");
+        owner.setRole("OWNER");
+        when(passwordHasher.encode("secret123")).thenReturn("{bcrypt}hash");
+        when(transactionTemplate.execute(any())).thenAnswer(invocation ->
+                invocation.<TransactionCallback<?>>getArgument(0).doInTransaction(null));
+        when(userRepository.findByUsername("shyl")).thenReturn(Optional.of(owner));
+        when(userRepository.save(any(User.class))).thenAnswer(invocation -> invocation.getArgument(0));
+
+        AccountCreateRequest request = new AccountCreateRequest();
+        request.setUsername("alice");
+        request.setEmail("alice@example.com");
+        request.setPassword("secret123");
+        service.createAccount("shyl", request);
+
+        InOrder order = inOrder(passwordHasher, transactionTemplate, userRepository);
+        order.verify(passwordHasher).encode("secret123");
+        order.verify(transactionTemplate).execute(any());
+        order.verify(userRepository).findByUsername("shyl");
+        ArgumentCaptor<User> saved = ArgumentCaptor.forClass(User.class);
+        order.verify(userRepository).save(saved.capture());
+        assertEquals("{bcrypt}hash", saved.getValue().getPasswordHash());
+    }
+}
@@ -1,8 +1,11 @@
 package com.blog.service.impl;
 
+import com.blog.common.CursorPage;
+import com.blog.dto.article.ArticleDetailDTO;
 import com.blog.dto.article.ArticleSummaryDTO;
+import com.blog.dto.article.ArticleSummaryRowDTO;
+import com.blog.dto.article.ArticleTagRowDTO;
 import com.blog.dto.article.CategoryArticleGroupDTO;
-import com.blog.dto.article.CategoryArticleGroupMetaDTO;
 import com.blog.entity.Article;
 import com.blog.entity.Category;
 import com.blog.exception.BusinessException;
@@ -12,27 +15,38 @@ import com.blog.repository.CommentRepository;
 import com.blog.repository.FootprintPhotoRepository;
 import com.blog.repository.TagRepository;
 import com.blog.repository.UserRepository;
+import com.blog.service.article.ArticleChangedEvent;
+import com.blog.service.article.ArticleCursor;
+import com.blog.service.article.ArticleDetailCache;
+import com.blog.service.article.ArticleGroupSnapshot;
+import com.blog.service.article.ArticleRenderStore;
+import com.blog.service.article.ArticleSummaryAssembler;
+import com.blog.service.article.ArticleViewCounter;
+import com.blog.service.comment.ArticleCommentCounters;
+import com.blog.service.search.ArticleSearchIndex;
+import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.ArgumentCaptor;
-import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
-import org.springframework.data.jpa.domain.Specification;
 
 import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
-import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyBoolean;
+import static org.mockito.ArgumentMatchers.anyLong;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
@@ -59,9 +73,49 @@ class ArticleServiceImplTest {
     @Mock
     private FootprintPhotoRepository footprintPhotoRepository;
 
-    @InjectMocks
+    @Mock
+    private ArticleViewCounter articleViewCounter;
+
+    @Mock
+    private ArticleDetailCache articleDetailCache;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    @Mock
+    private ArticleSearchIndex articleSearchIndex;
+
+    @Mock
+    private ArticleGroupSnapshot articleGroupSnapshot;
+
+    @Mock
+    private ArticleRenderStore articleRenderStore;
+
+    @Mock
+    private ArticleCommentCounters articleCommentCounters;
+
     private ArticleServiceImpl service;
 
+    @BeforeEach
+    void setUp() {
+        service = new ArticleServiceImpl(
+                articleRepository,
+                userRepository,
+                categoryRepository,
+                tagRepository,
+                commentRepository,
+                footprintPhotoRepository,
+                articleViewCounter,
+                articleDetailCache,
+                eventPublisher,
+                articleSearchIndex,
+                new ArticleSummaryAssembler(articleRepository),
+                articleGroupSnapshot,
+                articleRenderStore,
+                articleCommentCounters
+        );
+    }
+
     @Test
     void updateFeaturedLevel_shouldPersistRequestedLevel() {
         Article article = buildArticle(7L, "featured-article", 0, buildCategory(3L, "weekly"));
@@ -73,6 +127,7 @@ class ArticleServiceImplTest {
         assertEquals(2, article.getFeaturedLevel());
         assertEquals(2, result.getFeaturedLevel());
         verify(articleRepository).save(article);
+        verify(eventPublisher).publishEvent(any(ArticleChangedEvent.class));
     }
 
     @Test
@@ -82,14 +137,47 @@ class ArticleServiceImplTest {
         verify(articleRepository, never()).findById(any());
     }
 
+    @Test
+    void getArticleBySlug_shouldCountViewInMemoryWithoutSavingArticle() {
+        Article article = buildArticle(17L, "viral-article", 0, buildCategory(3L, "weekly"));
+        article.setViews(40L);
+        when(articleRepository.findWithDetailsBySlug("article-17")).thenReturn(Optional.of(article));
+        when(articleViewCounter.baseline(eq(17L), eq(40L), anyLong(), any())).thenReturn(40L);
+        when(articleViewCounter.increment(17L)).thenReturn(3L);
+
+        ArticleDetailDTO result = service.getArticleBySlug("article-17");
+
+        assertEquals(43L, result.getViews());
+        assertEquals(40L, article.getViews());
+        verify(articleViewCounter).increment(17L);
+        verify(articleRepository, never()).save(any(Article.class));
+    }
+
+    @Test
+    void getArticleBySlug_shouldServeCachedDetailWithLiveViews() {
+        ArticleDetailDTO cached = new ArticleDetailDTO();
+        cached.setId(17L);
+        cached.setSlug("article-17");
+        cached.setStatus("PUBLISHED");
+        cached.setViews(40L);
+        when(articleDetailCache.getBySlug("article-17")).thenReturn(Optional.of(cached));
+        when(articleViewCounter.increment(17L)).thenReturn(5L);
+
+        ArticleDetailDTO result = service.getArticleBySlug("article-17");
+
+        assertEquals(45L, result.getViews());
+        verify(articleRepository, never()).findWithDetailsBySlug(any());
+    }
+
     @Test
     void getPublishedArticles_shouldUseFixedSortAndCombinedFilters() {
-        Article article = buildArticle(11L, "filtered-article", 2, buildCategory(9L, "architecture"));
-        Page<Article> page = new PageImpl<>(List.of(article));
+        ArticleSummaryRowDTO row = buildRow(11L, 2, 9L);
         ArgumentCaptor<Pageable> pageableCaptor = ArgumentCaptor.forClass(Pageable.class);
-        ArgumentCaptor<Specification<Article>> specificationCaptor = ArgumentCaptor.forClass(Specification.class);
 
-        when(articleRepository.findAll(any(Specification.class), any(Pageable.class))).thenReturn(page);
+        when(articleRepository.findPublishedSummaries(eq("group"), eq(9L), eq(2), eq(false), any(Pageable.class)))
+                .thenReturn(new PageImpl<>(List.of(row)));
+        when(articleRepository.findTagRowsByArticleIds(List.of(11L)))
+                .thenReturn(List.of(new ArticleTagRowDTO(11L, 4L, "jvm")));
 
         Page<ArticleSummaryDTO> result = service.getPublishedArticles(
                 "group",
@@ -101,67 +189,101 @@ class ArticleServiceImplTest {
 
         assertEquals(1, result.getContent().size());
         assertEquals(11L, result.getContent().get(0).getId());
+        assertEquals("category-9", result.getContent().get(0).getCategory().getName());
+        assertEquals(1, result.getContent().get(0).getTags().size());
 
-        verify(articleRepository).findAll(specificationCaptor.capture(), pageableCaptor.capture());
+        verify(articleRepository).findPublishedSummaries(
+                eq("group"), eq(9L), eq(2), eq(false), pageableCaptor.capture());
         Pageable pageable = pageableCaptor.getValue();
         assertEquals(3, pageable.getPageNumber());
         assertEquals(12, pageable.getPageSize());
         assertEquals(Sort.Direction.DESC, pageable.getSort().getOrderFor("publishedAt").getDirection());
         assertEquals(Sort.Direction.DESC, pageable.getSort().getOrderFor("id").getDirection());
-        assertNotNull(specificationCaptor.getValue());
     }
 
     @Test
-    void getPublishedArticleGroups_shouldBuildCategoryGroupsWithRequestedLimit() {
-        Category category = buildCategory(21L, "engineering");
-        Article first = buildArticle(101L, "first", 2, category);
-        Article second = buildArticle(102L, "second", 1, category);
-        ArgumentCaptor<Pageable> pageableCaptor = ArgumentCaptor.forClass(Pageable.class);
+    void getPublishedArticles_shouldExposeCommentCountersFromSummaryRow() {
+        ArticleSummaryRowDTO counted = buildRow(12L, 0, 9L);
+        counted.setCommentCount(5);
+        counted.setApprovedCommentCount(4);
+        counted.setLastCommentAt(LocalDateTime.of(2026, 3, 8, 9, 30));
+        ArticleSummaryRowDTO uncounted = buildRow(13L, 0, 9L);
+
+        when(articleRepository.findPublishedSummaries(any(), any(), any(), anyBoolean(), any(Pageable.class)))
+                .thenReturn(new PageImpl<>(List.of(counted, uncounted)));
+        when(articleRepository.findTagRowsByArticleIds(List.of(12L, 13L))).thenReturn(List.of());
+
+        List<ArticleSummaryDTO> result = service.getPublishedArticles(PageRequest.of(0, 10)).getContent();
+
+        assertEquals(5, result.get(0).getCommentCount());
+        assertEquals(4, result.get(0).getApprovedCommentCount());
+        assertEquals(LocalDateTime.of(2026, 3, 8, 9, 30), result.get(0).getLastCommentAt());
+        assertEquals(0, result.get(1).getCommentCount());
+        assertEquals(0, result.get(1).getApprovedCommentCount());
+    }
 
-        when(articleRepository.findPublishedCategoryGroupMetas()).thenReturn(List.of(
-                new CategoryArticleGroupMetaDTO(
-                        21L,
-                        "engineering",
-                        "Reusable methods for long-term maintenance.",
-                        "engineering",
-                        null,
-                        9L,
-                        LocalDateTime.of(2026, 3, 7, 9, 0)
-                )
-        ));
-        when(articleRepository.findPublishedArticlesByCategory(eq(21L), any(Pageable.class)))
-                .thenReturn(new PageImpl<>(List.of(first, second)));
-
-        List<CategoryArticleGroupDTO> result = service.getPublishedArticleGroups(6);
-
-        assertEquals(1, result.size());
-        assertEquals("engineering", result.get(0).getCategory().getName());
-        assertEquals(9L, result.get(0).getTotalCount());
-        assertEquals(2, result.get(0).getArticles().size());
-        assertEquals(2, result.get(0).getArticles().get(0).getFeaturedLevel());
-        assertEquals(1, result.get(0).getArticles().get(1).getFeaturedLevel());
-
-        verify(articleRepository).findPublishedArticlesByCategory(eq(21L), pageableCaptor.capture());
-        Pageable pageable = pageableCaptor.getValue();
-        assertEquals(0, pageable.getPageNumber());
-        assertEquals(6, pageable.getPageSize());
+    @Test
+    void deleteArticle_shouldDropCommentCounters() {
+        Article article = buildArticle(8L, "draft-article", 0, buildCategory(3L, "weekly"));
+        article.setStatus("DRAFT");
+        when(articleRepository.findById(8L)).thenReturn(Optional.of(article));
+
+        service.deleteArticle(8L);
+
+        verify(commentRepository).deleteByArticleId(8L);
+        verify(articleCommentCounters).remove(8L);
+        verify(articleRepository).delete(article);
+    }
+
+    @Test
+    void getPublishedArticlesByCursor_shouldSeekFromCursorAndSkipCount() {
+        ArticleSummaryRowDTO first = buildRow(42L, 0, 9L);
+        ArticleSummaryRowDTO second = buildRow(41L, 0, 9L);
+        LocalDateTime cursorTime = LocalDateTime.of(2026, 3, 8, 8, 0);
+        String cursor = new ArticleCursor(cursorTime, 50L).encode();
+        when(articleRepository.findPublishedIdsAfter(9L, null, false, cursorTime, 50L, 3))
+                .thenReturn(List.of(42L, 41L, 40L));
+        when(articleRepository.findSummariesByIds(List.of(42L, 41L))).thenReturn(List.of(second, first));
+
+        CursorPage<ArticleSummaryDTO> result = service.getPublishedArticlesByCursor(cursor, 2, 9L, null, false);
+
+        assertEquals(2, result.getItems().size());
+        assertEquals(42L, result.getItems().get(0).getId());
+        assertEquals(41L, result.getItems().get(1).getId());
+        assertTrue(result.isHasMore());
+        ArticleCursor next = ArticleCursor.decode(result.getNextCursor());
+        assertEquals(41L, next.getId());
+        assertEquals(second.getPublishedAt(), next.getPublishedAt());
+        verify(articleRepository, never()).findPublishedSummaries(any(), any(), any(), anyBoolean(), any());
+    }
+
+    @Test
+    void getPublishedArticlesByCursor_shouldRejectMalformedCursor() {
+        assertThrows(BusinessException.class,
+                () -> service.getPublishedArticlesByCursor("not-a-cursor", 10, null, null, false));
+    }
+
+    @Test
+    void getPublishedArticleGroups_shouldServeSnapshot() {
+        List<CategoryArticleGroupDTO> groups = List.of(new CategoryArticleGroupDTO());
+        when(articleGroupSnapshot.get(6)).thenReturn(groups);
+
+        assertEquals(groups, service.getPublishedArticleGroups(6));
+        assertThrows(BusinessException.class, () -> service.getPublishedArticleGroups(0));
     }
 
     @Test
-    void getAllArticles_withKeyword_shouldUseAdminSearchSpecification() {
-        Article article = buildArticle(31L, "admin-search-article", 0, buildCategory(5L, "weekly"));
+    void getAllArticles_withKeyword_shouldUseAdminSummaryQuery() {
         ArgumentCaptor<Pageable> pageableCaptor = ArgumentCaptor.forClass(Pageable.class);
-        ArgumentCaptor<Specification<Article>> specificationCaptor = ArgumentCaptor.forClass(Specification.class);
 
-        when(articleRepository.findAll(any(Specification.class), any(Pageable.class)))
-                .thenReturn(new PageImpl<>(List.of(article)));
+        when(articleRepository.findAdminSummaries(eq("admin"), any(Pageable.class)))
+                .thenReturn(new PageImpl<>(List.of(buildRow(31L, 0, 5L))));
 
         Page<ArticleSummaryDTO> result = service.getAllArticles("admin", PageRequest.of(1, 24));
 
         assertEquals(1, result.getContent().size());
         assertEquals(31L, result.getContent().get(0).getId());
-        verify(articleRepository).findAll(specificationCaptor.capture(), pageableCaptor.capture());
-        assertNotNull(specificationCaptor.getValue());
+        verify(articleRepository).findAdminSummaries(eq("admin"), pageableCaptor.capture());
         assertEquals(1, pageableCaptor.getValue().getPageNumber());
         assertEquals(24, pageableCaptor.getValue().getPageSize());
     }
@@ -182,6 +304,23 @@ class ArticleServiceImplTest {
         return article;
     }
 
+    private static ArticleSummaryRowDTO buildRow(Long id, int featuredLevel, Long categoryId) {
+        ArticleSummaryRowDTO row = new ArticleSummaryRowDTO();
+        row.setId(id);
+        row.setTitle("title-" + id);
+        row.setSlug("article-" + id);
+        row.setSummary("summary-" + id);
+        row.setStatus("PUBLISHED");
+        row.setFeaturedLevel(featuredLevel);
+        row.setViews(0L);
+        row.setPublishedAt(LocalDateTime.of(2026, 3, 7, 8, 0).minusMinutes(id));
+        row.setCreatedAt(LocalDateTime.of(2026, 3, 6, 8, 0));
+        row.setCategoryId(categoryId);
+        row.setCategoryName("category-" + categoryId);
+        row.setCategorySlugPath("category-" + categoryId);
+        return row;
+    }
+
     private static Category buildCategory(Long id, String name) {
         Category category = new Category();
         category.setId(id);
@@ -0,0 +1,90 @@
+package com.blog.service.impl;
+
+import com.blog.dto.auth.RegisterRequest;
+import com.blog.entity.User;
+import com.blog.exception.BusinessException;
+import com.blog.repository.UserRepository;
+import com.blog.security.LoginThrottle;
+import com.blog.security.PasswordHasher;
+import com.blog.service.UserPermissionService;
+import com.blog.util.JwtUtil;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InOrder;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class AuthServiceImplTest {
+
+    @Mock
+    private UserRepository userRepository;
+
+    @Mock
+    private PasswordHasher passwordHasher;
+
+    @Mock
+    private LoginThrottle loginThrottle;
+
+    @Mock
+    private JwtUtil jwtUtil;
+
+    @Mock
+    private UserPermissionService userPermissionService;
+
+    @InjectMocks
+    private AuthServiceImpl service;
+
+    @Test
+    void register_shouldHashBeforeTouchingTheDatabase() throws Exception {
+        when(passwordHasher.encode("secret123")).thenReturn("{bcrypt}hash");
+        when(userRepository.findByUsername("alice")).thenReturn(Optional.empty());
+        when(userRepository.findByEmail("alice@example.com")).thenReturn(Optional.empty());
+
+        service.register(request(), "10.0.0.1");
+
+        InOrder order = inOrder(loginThrottle, passwordHasher, userRepository);
+        order.verify(loginThrottle).acquire("10.0.0.1", null);
+        order.verify(passwordHasher).encode("secret123");
+        order.verify(userRepository).findByUsername("alice");
+        ArgumentCaptor<User> saved = ArgumentCaptor.forClass(User.class);
+        order.verify(userRepository).save(saved.capture());
+        assertEquals("{bcrypt}hash", saved.getValue().getPasswordHash());
+        assertFalse(AuthServiceImpl.class
+                .getMethod("register", RegisterRequest.class, String.class)
+                .isAnnotationPresent(Transactional.class));
+    }
+
+    @Test
+    void register_shouldReportConcurrentDuplicateAsBusinessError() {
+        when(passwordHasher.encode("secret123")).thenReturn("{bcrypt}hash");
+        when(userRepository.findByUsername("alice")).thenReturn(Optional.empty());
+        when(userRepository.findByEmail("alice@example.com")).thenReturn(Optional.empty());
+        when(userRepository.save(any(User.class))).thenThrow(new DataIntegrityViolationException("duplicate"));
+
+        assertThrows(BusinessException.class, () -> service.register(request(), "10.0.0.1"));
+        verify(passwordHasher).encode("secret123");
+    }
+
+    private static RegisterRequest request() {
+        RegisterRequest request = new RegisterRequest();
+        request.setUsername("alice");
+        request.setEmail("alice@example.com");
+        request.setPassword("secret123");
+        return request;
+    }
+}
@@ -0,0 +1,109 @@
+package com.blog.service.impl;
+
+import com.blog.dto.comment.CommentBulkRequest;
+import com.blog.dto.comment.CommentBulkResultDTO;
+import com.blog.dto.comment.CommentTargetDTO;
+import com.blog.exception.BusinessException;
+import com.blog.repository.ArticleRepository;
+import com.blog.repository.CommentRepository;
+import com.blog.service.comment.ArticleCommentCounters;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InOrder;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.List;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class CommentServiceImplTest {
+
+    @Mock
+    private CommentRepository commentRepository;
+
+    @Mock
+    private ArticleRepository articleRepository;
+
+    @Mock
+    private ArticleCommentCounters articleCommentCounters;
+
+    private CommentServiceImpl service;
+
+    @BeforeEach
+    void setUp() {
+        service = new CommentServiceImpl(commentRepository, articleRepository, articleCommentCounters);
+    }
+
+    @Test
+    void bulkMarkSpam_shouldUpdateMatchedIdsAndRecountTheirArticles() {
+        CommentBulkRequest request = new CommentBulkRequest();
+        request.setAuthorName("spammer");
+        when(commentRepository.findModerationTargets(isNull(), isNull(), isNull(), eq("spammer"), isNull(), isNull(), anyInt()))
+                .thenReturn(List.of(new CommentTargetDTO(3L, 10L), new CommentTargetDTO(4L, 11L), new CommentTargetDTO(5L, 10L)));
+        when(commentRepository.updateStatusByIdIn(List.of(3L, 4L, 5L), "SPAM")).thenReturn(2);
+
+        CommentBulkResultDTO result = service.bulkMarkSpam(request);
+
+        assertEquals(3, result.getMatched());
+        assertEquals(2, result.getAffected());
+        assertEquals(2, result.getArticles());
+        assertFalse(result.isHasMore());
+        verify(articleCommentCounters).recount(Set.of(10L, 11L));
+    }
+
+    @Test
+    void bulkApprove_shouldSkipCountersWhenNothingChanged() {
+        CommentBulkRequest request = new CommentBulkRequest();
+        request.setIds(List.of(7L));
+        when(commentRepository.findModerationTargets(eq(List.of(7L)), isNull(), isNull(), isNull(), isNull(), isNull(), anyInt()))
+                .thenReturn(List.of(new CommentTargetDTO(7L, 10L)));
+        when(commentRepository.updateStatusByIdIn(List.of(7L), "APPROVED")).thenReturn(0);
+
+        CommentBulkResultDTO result = service.bulkApprove(request);
+
+        assertEquals(0, result.getAffected());
+        verify(articleCommentCounters, never()).recount(any(Set.class));
+    }
+
+    @Test
+    void bulkDelete_shouldRemoveRepliesAndDetachBeforeDeleting() {
+        CommentBulkRequest request = new CommentBulkRequest();
+        request.setIds(List.of(3L));
+        when(commentRepository.findModerationTargets(eq(List.of(3L)), isNull(), isNull(), isNull(), isNull(), isNull(), anyInt()))
+                .thenReturn(List.of(new CommentTargetDTO(3L, 10L)));
+        when(commentRepository.findSubtreeTargets(List.of(3L)))
+                .thenReturn(List.of(new CommentTargetDTO(3L, 10L), new CommentTargetDTO(8L, 10L), new CommentTargetDTO(9L, 10L)));
+        when(commentRepository.deleteByIdIn(List.of(3L, 8L, 9L))).thenReturn(3);
+
+        CommentBulkResultDTO result = service.bulkDelete(request);
+
+        assertEquals(1, result.getMatched());
+        assertEquals(3, result.getAffected());
+        assertEquals(1, result.getArticles());
+        InOrder order = inOrder(commentRepository, articleCommentCounters);
+        order.verify(commentRepository).detachParentsByIdIn(List.of(3L, 8L, 9L));
+        order.verify(commentRepository).deleteByIdIn(List.of(3L, 8L, 9L));
+        order.verify(articleCommentCounters).recount(Set.of(10L));
+    }
+
+    @Test
+    void bulkDelete_shouldRejectRequestWithoutIdsOrFilters() {
+        assertThrows(BusinessException.class, () -> service.bulkDelete(new CommentBulkRequest()));
+        verifyNoInteractions(commentRepository, articleCommentCounters);
+    }
+}
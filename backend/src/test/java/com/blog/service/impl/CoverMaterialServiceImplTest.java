@@ -0,0 +1,200 @@
+package com.blog.service.impl;
+
+import com.blog.dto.travel.CoverMaterialDTO;
+import com.blog.dto.travel.CoverMaterialUploadResultDTO;
+import com.blog.entity.FootprintPhoto;
+import com.blog.repository.ArticleRepository;
+import com.blog.repository.FootprintPhotoRepository;
+import com.blog.service.cover.CoverMaterialChangedEvent;
+import com.blog.service.cover.CoverMaterialIndex;
+import com.blog.service.cover.CoverMaterialStorage;
+import com.blog.service.cover.CoverVariantGenerator;
+import com.blog.service.cover.PhotoMetadata;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.mock.web.MockMultipartFile;
+import org.springframework.web.multipart.MultipartFile;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class CoverMaterialServiceImplTest {
+
+    @Mock
+    private FootprintPhotoRepository footprintPhotoRepository;
+
+    @Mock
+    private ArticleRepository articleRepository;
+
+    @Mock
+    private CoverMaterialIndex coverMaterialIndex;
+
+    @Mock
+    private CoverMaterialStorage coverMaterialStorage;
+
+    @Mock
+    private CoverVariantGenerator coverVariantGenerator;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    private CoverMaterialServiceImpl service;
+
+    @BeforeEach
+    void setUp() {
+        service = new CoverMaterialServiceImpl(
+                footprintPhotoRepository,
+                articleRepository,
+                coverMaterialIndex,
+                coverMaterialStorage,
+                coverVariantGenerator,
+                eventPublisher);
+    }
+
+    @Test
+    void uploadCoverMaterials_shouldReportEachFileAndInsertOnlyNewContent() {
+        MultipartFile fresh = file("fresh.jpg");
+        MultipartFile known = file("known.jpg");
+        MultipartFile freshAgain = file("fresh-copy.jpg");
+        MultipartFile broken = file("broken.jpg");
+        when(coverMaterialStorage.storeAsync(fresh)).thenReturn(stored("aaa", "fresh.jpg"));
+        when(coverMaterialStorage.storeAsync(known)).thenReturn(stored("bbb", "known.jpg"));
+        when(coverMaterialStorage.storeAsync(freshAgain)).thenReturn(stored("aaa", "fresh-copy.jpg"));
+        when(coverMaterialStorage.storeAsync(broken)).thenReturn(CompletableFuture.failedFuture(
+                new UncheckedIOException("Upload failed: disk full", new IOException("disk full"))));
+        CoverMaterialDTO existing = new CoverMaterialDTO();
+        existing.setPhotoId(7L);
+        existing.setUrl("/uploads/cover-materials/bbb.jpg");
+        when(footprintPhotoRepository.findCoverMaterialsByContentHash(eq(FootprintPhoto.SOURCE_TYPE_COVER_MATERIAL), anyCollection()))
+                .thenReturn(Map.of("bbb", existing));
+        doAnswer(invocation -> {
+            List<FootprintPhoto> photos = invocation.getArgument(0);
+            long id = 100L;
+            for (FootprintPhoto photo : photos) {
+                photo.setId(id++);
+            }
+            return null;
+        }).when(footprintPhotoRepository).insertAll(anyList());
+
+        List<CoverMaterialUploadResultDTO> results = service.uploadCoverMaterials(
+                new MultipartFile[]{fresh, known, freshAgain, broken, file("empty.jpg", new byte[0])});
+
+        assertEquals(List.of("CREATED", "DUPLICATE", "DUPLICATE", "FAILED", "FAILED"),
+                results.stream().map(CoverMaterialUploadResultDTO::getStatus).collect(Collectors.toList()));
+        assertEquals(100L, results.get(0).getMaterial().getPhotoId());
+        assertEquals(7L, results.get(1).getMaterial().getPhotoId());
+        assertEquals(100L, results.get(2).getMaterial().getPhotoId());
+        assertEquals("Upload failed: disk full", results.get(3).getError());
+
+        @SuppressWarnings("unchecked")
+        ArgumentCaptor<List<FootprintPhoto>> inserted = ArgumentCaptor.forClass(List.class);
+        verify(footprintPhotoRepository).insertAll(inserted.capture());
+        assertEquals(1, inserted.getValue().size());
+        assertEquals("aaa", inserted.getValue().get(0).getContentHash());
+        assertEquals("/uploads/cover-materials/aaa.jpg", inserted.getValue().get(0).getUrl());
+        assertEquals(1600, inserted.getValue().get(0).getWidth());
+        assertEquals(LocalDate.of(2026, 5, 1), inserted.getValue().get(0).getShotAt());
+        assertEquals("ILCE-7M4", inserted.getValue().get(0).getCameraModel());
+        assertEquals(900, results.get(0).getMaterial().getHeight());
+
+        ArgumentCaptor<CoverMaterialChangedEvent> event = ArgumentCaptor.forClass(CoverMaterialChangedEvent.class);
+        verify(eventPublisher).publishEvent(event.capture());
+        assertEquals(List.of(100L), event.getValue().getPhotoIds());
+        verify(coverVariantGenerator).submit(100L, "/uploads/cover-materials/aaa.jpg");
+    }
+
+    @Test
+    void uploadCoverMaterials_shouldFailNewFilesButKeepDuplicatesWhenBatchInsertFails() {
+        MultipartFile fresh = file("fresh.jpg");
+        MultipartFile known = file("known.jpg");
+        when(coverMaterialStorage.storeAsync(fresh)).thenReturn(stored("aaa", "fresh.jpg"));
+        when(coverMaterialStorage.storeAsync(known)).thenReturn(stored("bbb", "known.jpg"));
+        CoverMaterialDTO existing = new CoverMaterialDTO();
+        existing.setPhotoId(7L);
+        when(footprintPhotoRepository.findCoverMaterialsByContentHash(eq(FootprintPhoto.SOURCE_TYPE_COVER_MATERIAL), anyCollection()))
+                .thenReturn(Map.of("bbb", existing));
+        doThrow(new IllegalStateException("connection reset")).when(footprintPhotoRepository).insertAll(anyList());
+
+        List<CoverMaterialUploadResultDTO> results = service.uploadCoverMaterials(new MultipartFile[]{fresh, known});
+
+        assertEquals("FAILED", results.get(0).getStatus());
+        assertNull(results.get(0).getMaterial());
+        assertEquals("DUPLICATE", results.get(1).getStatus());
+        assertEquals(7L, results.get(1).getMaterial().getPhotoId());
+        verify(eventPublisher, never()).publishEvent(any(Object.class));
+        verifyNoInteractions(coverVariantGenerator);
+    }
+
+    @Test
+    void uploadCoverMaterials_shouldResolveHashesInsertedConcurrentlyToTheExistingRow() {
+        MultipartFile raced = file("raced.jpg");
+        MultipartFile fresh = file("fresh.jpg");
+        when(coverMaterialStorage.storeAsync(raced)).thenReturn(stored("aaa", "raced.jpg"));
+        when(coverMaterialStorage.storeAsync(fresh)).thenReturn(stored("ccc", "fresh.jpg"));
+        CoverMaterialDTO winner = new CoverMaterialDTO();
+        winner.setPhotoId(9L);
+        when(footprintPhotoRepository.findCoverMaterialsByContentHash(eq(FootprintPhoto.SOURCE_TYPE_COVER_MATERIAL), anyCollection()))
+                .thenReturn(Map.of(), Map.of("aaa", winner));
+        doThrow(new DataIntegrityViolationException("Duplicate entry for idx_footprint_photo_source_hash"))
+                .doAnswer(invocation -> {
+                    List<FootprintPhoto> photos = invocation.getArgument(0);
+                    photos.get(0).setId(100L);
+                    return null;
+                })
+                .when(footprintPhotoRepository).insertAll(anyList());
+
+        List<CoverMaterialUploadResultDTO> results = service.uploadCoverMaterials(new MultipartFile[]{raced, fresh});
+
+        assertEquals("DUPLICATE", results.get(0).getStatus());
+        assertEquals(9L, results.get(0).getMaterial().getPhotoId());
+        assertEquals("CREATED", results.get(1).getStatus());
+        assertEquals(100L, results.get(1).getMaterial().getPhotoId());
+
+        @SuppressWarnings("unchecked")
+        ArgumentCaptor<List<FootprintPhoto>> inserted = ArgumentCaptor.forClass(List.class);
+        verify(footprintPhotoRepository, times(2)).insertAll(inserted.capture());
+        assertEquals(List.of("ccc"), inserted.getAllValues().get(1).stream()
+                .map(FootprintPhoto::getContentHash).collect(Collectors.toList()));
+        verify(coverVariantGenerator).submit(100L, "/uploads/cover-materials/ccc.jpg");
+    }
+
+    private static MultipartFile file(String name) {
+        return file(name, name.getBytes());
+    }
+
+    private static MultipartFile file(String name, byte[] content) {
+        return new MockMultipartFile("files", name, "image/jpeg", content);
+    }
+
+    private static CompletableFuture<CoverMaterialStorage.StoredFile> stored(String hash, String originalFilename) {
+        return CompletableFuture.completedFuture(new CoverMaterialStorage.StoredFile(
+                hash, CoverMaterialStorage.URL_PREFIX + hash + ".jpg", 10L, originalFilename,
+                new PhotoMetadata(1600, 900, 1, LocalDate.of(2026, 5, 1), "SONY", "ILCE-7M4")));
+    }
+}
@@ -0,0 +1,235 @@
+package com.blog.service.impl;
+
+import com.blog.dto.article.NotionImportJobRequest;
+import com.blog.dto.article.NotionImportJobResponse;
+import com.blog.dto.article.NotionImportRequest;
+import com.blog.entity.NotionImportJob;
+import com.blog.entity.NotionImportJobItem;
+import com.blog.exception.BusinessException;
+import com.blog.repository.NotionImportJobItemRepository;
+import com.blog.repository.NotionImportJobRepository;
+import com.blog.service.NotionImportService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.http.HttpStatus;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class NotionImportJobServiceImplTest {
+
+    @Mock
+    private NotionImportJobRepository jobRepository;
+
+    @Mock
+    private NotionImportJobItemRepository itemRepository;
+
+    @Mock
+    private NotionImportService notionImportService;
+
+    @Mock
+    private ThreadPoolExecutor executor;
+
+    private final BlockingQueue<Runnable> queue = new ArrayBlockingQueue<>(4);
+
+    @InjectMocks
+    private NotionImportJobServiceImpl service;
+
+    @BeforeEach
+    void setUp() {
+        ReflectionTestUtils.setField(service, "maxPages", 3);
+        ReflectionTestUtils.setField(service, "executor", executor);
+        lenient().when(executor.getQueue()).thenReturn(queue);
+    }
+
+    @Test
+    void submit_shouldPersistDistinctUrlsAndQueueEachPage() {
+        when(jobRepository.save(any(NotionImportJob.class))).thenAnswer(invocation -> {
+            NotionImportJob job = invocation.getArgument(0);
+            job.setId(7L);
+            return job;
+        });
+        when(itemRepository.saveAll(anyList())).thenAnswer(invocation -> {
+            List<NotionImportJobItem> items = invocation.getArgument(0);
+            for (NotionImportJobItem item : items) {
+                item.setId(100L + item.getPosition());
+            }
+            return items;
+        });
+
+        NotionImportJobRequest request = new NotionImportJobRequest();
+        request.setShareUrls(List.of(" https://www.notion.so/a ", "https://www.notion.so/b", "https://www.notion.so/a", ""));
+        request.setTagIds(Set.of(5L));
+        request.setPublish(true);
+
+        NotionImportJobResponse response = service.submit(request, "admin");
+
+        assertEquals(7L, response.getId());
+        assertEquals(2, response.getTotal());
+        assertEquals(2, response.getPending());
+        assertFalse(response.isFinished());
+        assertEquals("https://www.notion.so/a", response.getItems().get(0).getShareUrl());
+        assertEquals("https://www.notion.so/b", response.getItems().get(1).getShareUrl());
+        verify(executor, times(2)).execute(any(Runnable.class));
+
+        ArgumentCaptor<NotionImportJob> job = ArgumentCaptor.forClass(NotionImportJob.class);
+        verify(jobRepository).save(job.capture());
+        assertEquals("admin", job.getValue().getUsername());
+        assertEquals("5", job.getValue().getTagIds());
+    }
+
+    @Test
+    void submit_shouldRejectTooManyPages() {
+        NotionImportJobRequest request = new NotionImportJobRequest();
+        request.setShareUrls(List.of("https://www.notion.so/a", "https://www.notion.so/b",
+                "https://www.notion.so/c", "https://www.notion.so/d"));
+
+        assertThrows(BusinessException.class, () -> service.submit(request, "admin"));
+        verify(jobRepository, never()).save(any());
+    }
+
+    @Test
+    void submit_shouldRejectWhenQueueCannotHoldEveryPage() {
+        queue.add(() -> { });
+        queue.add(() -> { });
+        queue.add(() -> { });
+        NotionImportJobRequest request = new NotionImportJobRequest();
+        request.setShareUrls(List.of("https://www.notion.so/a", "https://www.notion.so/b"));
+
+        BusinessException ex = assertThrows(BusinessException.class, () -> service.submit(request, "admin"));
+        assertEquals(HttpStatus.SERVICE_UNAVAILABLE, ex.getStatus());
+        verify(jobRepository, never()).save(any());
+    }
+
+    @Test
+    void submit_shouldFailPagesTheQueueRejects() {
+        when(jobRepository.save(any(NotionImportJob.class))).thenAnswer(invocation -> invocation.getArgument(0));
+        when(itemRepository.saveAll(anyList())).thenAnswer(invocation -> {
+            List<NotionImportJobItem> items = invocation.getArgument(0);
+            for (NotionImportJobItem item : items) {
+                item.setId(100L + item.getPosition());
+            }
+            return items;
+        });
+        doThrow(new RejectedExecutionException("full")).when(executor).execute(any(Runnable.class));
+        NotionImportJobRequest request = new NotionImportJobRequest();
+        request.setShareUrls(List.of("https://www.notion.so/a", "https://www.notion.so/b"));
+
+        NotionImportJobResponse response = service.submit(request, "admin");
+
+        assertEquals(2, response.getFailed());
+        verify(executor, times(1)).execute(any(Runnable.class));
+        verify(itemRepository, times(2)).finish(any(), eq(NotionImportJobItem.STATUS_FAILED), isNull(), any(), any());
+    }
+
+    @Test
+    void runItem_shouldRecordArticleIdOnSuccess() {
+        NotionImportJob job = job();
+        NotionImportJobItem item = item(101L, "https://www.notion.so/a");
+        when(itemRepository.claim(eq(101L), eq(NotionImportJobItem.STATUS_PENDING),
+                eq(NotionImportJobItem.STATUS_RUNNING), any())).thenReturn(1);
+        when(notionImportService.importFromShareUrl(any(NotionImportRequest.class), eq("admin"))).thenReturn(42L);
+
+        service.runItem(job, item, "secret");
+
+        ArgumentCaptor<NotionImportRequest> request = ArgumentCaptor.forClass(NotionImportRequest.class);
+        verify(notionImportService).importFromShareUrl(request.capture(), eq("admin"));
+        assertEquals("https://www.notion.so/a", request.getValue().getShareUrl());
+        assertEquals("secret", request.getValue().getTokenOverride());
+        assertEquals(Set.of(5L, 6L), request.getValue().getTagIds());
+        verify(itemRepository).finish(eq(101L), eq(NotionImportJobItem.STATUS_SUCCEEDED), eq(42L), isNull(), any());
+    }
+
+    @Test
+    void runItem_shouldRecordFailureMessage() {
+        NotionImportJob job = job();
+        NotionImportJobItem item = item(101L, "https://www.notion.so/a");
+        when(itemRepository.claim(eq(101L), any(), any(), any())).thenReturn(1);
+        doThrow(new BusinessException("页面未共享给集成"))
+                .when(notionImportService).importFromShareUrl(any(NotionImportRequest.class), eq("admin"));
+
+        service.runItem(job, item, null);
+
+        verify(itemRepository).finish(eq(101L), eq(NotionImportJobItem.STATUS_FAILED), isNull(),
+                eq("页面未共享给集成"), any());
+    }
+
+    @Test
+    void runItem_shouldSkipPageClaimedElsewhere() {
+        when(itemRepository.claim(eq(101L), any(), any(), any())).thenReturn(0);
+
+        service.runItem(job(), item(101L, "https://www.notion.so/a"), null);
+
+        verify(notionImportService, never()).importFromShareUrl(any(), any());
+    }
+
+    @Test
+    void retryFailed_shouldQueueOnlyResetPages() {
+        NotionImportJob job = job();
+        NotionImportJobItem succeeded = item(101L, "https://www.notion.so/a");
+        succeeded.setStatus(NotionImportJobItem.STATUS_SUCCEEDED);
+        NotionImportJobItem retried = item(102L, "https://www.notion.so/b");
+        when(jobRepository.findByIdAndUsername(7L, "admin")).thenReturn(Optional.of(job));
+        when(itemRepository.findByJobIdOrderByPositionAsc(7L)).thenReturn(List.of(succeeded, retried));
+
+        NotionImportJobResponse response = service.retryFailed(7L, null, "admin");
+
+        verify(itemRepository).updateStatusByJobId(eq(7L), eq(NotionImportJobItem.STATUS_FAILED),
+                eq(NotionImportJobItem.STATUS_PENDING), isNull(), any());
+        verify(executor, times(1)).execute(any(Runnable.class));
+        assertEquals(1, response.getSucceeded());
+        assertEquals(1, response.getPending());
+    }
+
+    @Test
+    void getJob_shouldHideOtherUsersJobs() {
+        when(jobRepository.findByIdAndUsername(7L, "someone-else")).thenReturn(Optional.empty());
+
+        assertThrows(BusinessException.class, () -> service.getJob(7L, "someone-else"));
+    }
+
+    private static NotionImportJob job() {
+        NotionImportJob job = new NotionImportJob();
+        job.setId(7L);
+        job.setUsername("admin");
+        job.setTagIds("5,6");
+        job.setPublish(false);
+        job.setTotalCount(2);
+        return job;
+    }
+
+    private static NotionImportJobItem item(Long id, String shareUrl) {
+        NotionImportJobItem item = new NotionImportJobItem();
+        item.setId(id);
+        item.setJobId(7L);
+        item.setPosition((int) (id - 101L));
+        item.setShareUrl(shareUrl);
+        return item;
+    }
+}
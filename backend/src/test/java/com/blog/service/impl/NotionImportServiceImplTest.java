@@ -7,14 +7,17 @@ import com.blog.repository.ArticleRepository;
 import com.blog.repository.NotionConnectionRepository;
 import com.blog.repository.UserRepository;
 import com.blog.service.ArticleService;
+import com.blog.service.notion.NotionBlockTreeLoader;
 import com.blog.service.notion.NotionHttpClient;
 import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.http.HttpEntity;
 import org.springframework.http.HttpMethod;
@@ -55,6 +58,9 @@ class NotionImportServiceImplTest {
     @Mock
     private NotionHttpClient notionHttpClient;
 
+    @Spy
+    private NotionBlockTreeLoader notionBlockTreeLoader = new NotionBlockTreeLoader();
+
     @InjectMocks
     private NotionImportServiceImpl service;
 
@@ -64,6 +70,10 @@ class NotionImportServiceImplTest {
         ReflectionTestUtils.setField(service, "publicImportEnabled", false);
         ReflectionTestUtils.setField(service, "notionPreviewCacheTtlSeconds", 600L);
         ReflectionTestUtils.setField(service, "notionPreviewCacheMaxEntries", 200);
+        ReflectionTestUtils.setField(notionBlockTreeLoader, "parallelism", 3);
+        ReflectionTestUtils.setField(notionBlockTreeLoader, "queueCapacity", 16);
+        ReflectionTestUtils.setField(notionBlockTreeLoader, "requestsPerSecond", 0D);
+        ReflectionTestUtils.invokeMethod(notionBlockTreeLoader, "start");
 
         JsonNode pageResponse = new ObjectMapper().readTree("{\"properties\":{\"title\":{\"type\":\"title\",\"title\":[{\"plain_text\":\"Cached Title\"}]}}}");
         JsonNode blocksResponse = new ObjectMapper().readTree("{\"results\":[{\"id\":\"child-1\",\"type\":\"paragraph\",\"paragraph\":{\"rich_text\":[{\"plain_text\":\"Hello cache\"}]},\"has_children\":false}],\"has_more\":false}");
@@ -74,6 +84,11 @@ class NotionImportServiceImplTest {
                 .thenReturn(ResponseEntity.ok(blocksResponse));
     }
 
+    @AfterEach
+    void tearDown() {
+        ReflectionTestUtils.invokeMethod(notionBlockTreeLoader, "stop");
+    }
+
     @Test
     void importFromShareUrl_shouldReusePreviewCache() {
         NotionImportRequest request = buildIntegrationRequest("token-a");
@@ -151,6 +166,43 @@ class NotionImportServiceImplTest {
         assertTrue(preview.getContent().contains("上一行中文结尾  \n4.3 验证2：这是同段换行"));
     }
 
+    @Test
+    void preview_shouldFetchNestedChildrenConcurrentlyAndKeepDocumentOrder() throws Exception {
+        ObjectMapper mapper = new ObjectMapper();
+        stubChildren(mapper, "/blocks/aaaaaaaa", listItem("item-a", "Alpha", true), paragraph("p-b", "Bravo"),
+                listItem("item-c", "Charlie", true));
+        stubChildren(mapper, "/blocks/item-a/", listItem("item-a1", "Alpha one", false));
+        stubChildren(mapper, "/blocks/item-c/", listItem("item-c1", "Charlie one", true));
+        stubChildren(mapper, "/blocks/item-c1/", paragraph("p-c1x", "Charlie deep"));
+
+        String content = service.preview(buildIntegrationRequest("token-a"), "alice").getContent();
+
+        int previous = -1;
+        for (String text : new String[]{"Alpha", "Alpha one", "Bravo", "Charlie", "Charlie one", "Charlie deep"}) {
+            int index = content.indexOf(text, previous + 1);
+            assertTrue(index > previous, text + " out of order in:\n" + content);
+            previous = index;
+        }
+        verify(notionHttpClient, times(4))
+                .exchange(anyString(), contains("/blocks/"), eq(HttpMethod.GET), any(HttpEntity.class), eq(JsonNode.class));
+    }
+
+    private void stubChildren(ObjectMapper mapper, String urlFragment, String... blocks) throws Exception {
+        JsonNode body = mapper.readTree("{\"results\":[" + String.join(",", blocks) + "],\"has_more\":false}");
+        when(notionHttpClient.exchange(anyString(), contains(urlFragment), eq(HttpMethod.GET), any(HttpEntity.class), eq(JsonNode.class)))
+                .thenReturn(ResponseEntity.ok(body));
+    }
+
+    private static String listItem(String id, String text, boolean hasChildren) {
+        return "{\"id\":\"" + id + "\",\"type\":\"bulleted_list_item\",\"bulleted_list_item\":{\"rich_text\":[{\"plain_text\":\""
+                + text + "\"}]},\"has_children\":" + hasChildren + "}";
+    }
+
+    private static String paragraph(String id, String text) {
+        return "{\"id\":\"" + id + "\",\"type\":\"paragraph\",\"paragraph\":{\"rich_text\":[{\"plain_text\":\""
+                + text + "\"}]},\"has_children\":false}";
+    }
+
     private NotionImportRequest buildIntegrationRequest(String token) {
         NotionImportRequest request = new NotionImportRequest();
         request.setShareUrl(SHARE_URL);
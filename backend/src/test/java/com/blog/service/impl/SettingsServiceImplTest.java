@@ -0,0 +1,90 @@
+package com.blog.service.impl;
+
+import com.blog.dto.settings.ChangePasswordRequest;
+import com.blog.entity.User;
+import com.blog.exception.BusinessException;
+import com.blog.repository.UserRepository;
+import com.blog.security.LoginThrottle;
+import com.blog.security.PasswordHasher;
+import com.blog.service.account.UserAccountChangedEvent;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InOrder;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.http.HttpStatus;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class SettingsServiceImplTest {
+
+    @Mock
+    private UserRepository userRepository;
+
+    @Mock
+    private PasswordHasher passwordHasher;
+
+    @Mock
+    private LoginThrottle loginThrottle;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    @InjectMocks
+    private SettingsServiceImpl service;
+
+    @Test
+    void changePassword_shouldThrottleThenHashOutsideATransaction() throws Exception {
+        User user = new User();
+        user.setId(1L);
+        user.setUsername("shyl");
+        user.setPasswordHash("{bcrypt}old");
+        when(userRepository.findByUsername("shyl")).thenReturn(Optional.of(user));
+        when(passwordHasher.matches("current-pass", "{bcrypt}old")).thenReturn(true);
+        when(passwordHasher.encode("new-password")).thenReturn("{bcrypt}new");
+
+        service.changePassword("shyl", request(), "10.0.0.1");
+
+        InOrder order = inOrder(loginThrottle, userRepository, passwordHasher, eventPublisher);
+        order.verify(loginThrottle).acquire("10.0.0.1", "shyl");
+        order.verify(userRepository).findByUsername("shyl");
+        order.verify(passwordHasher).matches("current-pass", "{bcrypt}old");
+        order.verify(passwordHasher).encode("new-password");
+        order.verify(userRepository).save(user);
+        order.verify(eventPublisher).publishEvent(any(UserAccountChangedEvent.class));
+        assertEquals("{bcrypt}new", user.getPasswordHash());
+        assertFalse(SettingsServiceImpl.class
+                .getMethod("changePassword", String.class, ChangePasswordRequest.class, String.class)
+                .isAnnotationPresent(Transactional.class));
+    }
+
+    @Test
+    void changePassword_shouldRejectThrottledCallerBeforeAnyLookup() {
+        doThrow(new BusinessException("Too many attempts, please retry later", HttpStatus.TOO_MANY_REQUESTS))
+                .when(loginThrottle).acquire("10.0.0.1", "shyl");
+
+        assertThrows(BusinessException.class, () -> service.changePassword("shyl", request(), "10.0.0.1"));
+        verifyNoInteractions(userRepository, passwordHasher);
+    }
+
+    private static ChangePasswordRequest request() {
+        ChangePasswordRequest request = new ChangePasswordRequest();
+        request.setCurrentPassword("current-pass");
+        request.setNewPassword("new-password");
+        request.setConfirmPassword("new-password");
+        return request;
+    }
+}
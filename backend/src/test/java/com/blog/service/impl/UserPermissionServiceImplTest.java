@@ -0,0 +1,98 @@
+package com.blog.service.impl;
+
+import com.blog.entity.User;
+import com.blog.entity.UserTabPermission;
+import com.blog.repository.UserTabPermissionRepository;
+import com.blog.security.AdminTabCodes;
+import com.blog.service.account.UserAccountChangedEvent;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.List;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class UserPermissionServiceImplTest {
+
+    @Mock
+    private UserTabPermissionRepository userTabPermissionRepository;
+
+    @InjectMocks
+    private UserPermissionServiceImpl service;
+
+    @BeforeEach
+    void setUp() {
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(true);
+    }
+
+    @AfterEach
+    void tearDown() {
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(false);
+    }
+
+    @Test
+    void resolveVisibleTabs_shouldServeMemberTabsFromSnapshotUntilInvalidated() {
+        User member = member(7L);
+        when(userTabPermissionRepository.findByUserIdOrderByTabCodeAsc(7L)).thenReturn(List.of(
+                row(member, AdminTabCodes.WRITE),
+                row(member, AdminTabCodes.ARTICLES)
+        ));
+
+        assertEquals(List.of(AdminTabCodes.ARTICLES, AdminTabCodes.WRITE), service.resolveVisibleTabs(member));
+        assertTrue(service.hasTab(member, AdminTabCodes.WRITE));
+        assertFalse(service.hasTab(member, AdminTabCodes.SETTINGS));
+        verify(userTabPermissionRepository, times(1)).findByUserIdOrderByTabCodeAsc(7L);
+
+        service.onUserAccountChanged(new UserAccountChangedEvent(7L, "member"));
+        service.resolveVisibleTabs(member);
+        verify(userTabPermissionRepository, times(2)).findByUserIdOrderByTabCodeAsc(7L);
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void replaceMemberTabs_shouldOnlyWriteChangedCodes() {
+        User member = member(7L);
+        UserTabPermission articles = row(member, AdminTabCodes.ARTICLES);
+        UserTabPermission tags = row(member, AdminTabCodes.TAGS);
+        when(userTabPermissionRepository.findByUserIdOrderByTabCodeAsc(7L)).thenReturn(List.of(articles, tags));
+
+        List<String> result = service.replaceMemberTabs(member, List.of("articles", "write"));
+
+        assertEquals(List.of(AdminTabCodes.ARTICLES, AdminTabCodes.WRITE), result);
+        verify(userTabPermissionRepository).deleteAllInBatch(List.of(tags));
+        ArgumentCaptor<List<UserTabPermission>> saved = ArgumentCaptor.forClass(List.class);
+        verify(userTabPermissionRepository).saveAll(saved.capture());
+        assertEquals(List.of(AdminTabCodes.WRITE), saved.getValue().stream()
+                .map(UserTabPermission::getTabCode)
+                .collect(Collectors.toList()));
+    }
+
+    private static User member(Long id) {
+        User user = new User();
+        user.setId(id);
+        user.setUsername("member");
+        user.setRole("MEMBER");
+        return user;
+    }
+
+    private static UserTabPermission row(User user, String code) {
+        UserTabPermission permission = new UserTabPermission();
+        permission.setUser(user);
+        permission.setTabCode(code);
+        return permission;
+    }
+}
@@ -1,12 +1,25 @@
 package com.blog.service.notion;
 
+import com.blog.dto.runtime.NotionHttpRouteStatsDTO;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
 import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpEntity;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.ResponseEntity;
+import org.springframework.test.util.ReflectionTestUtils;
 
+import java.io.OutputStream;
 import java.net.InetSocketAddress;
 import java.net.Proxy;
+import java.nio.charset.StandardCharsets;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
 
 import static org.junit.jupiter.api.Assertions.*;
 
@@ -92,4 +105,82 @@ class NotionHttpClientTest {
         assertEquals("env-proxy:10.0.0.2:8443", routes.get(0).name);
         assertSame(Proxy.NO_PROXY, routes.get(1).proxy);
     }
+
+    @Test
+    void exchange_shouldReuseOneConnectionAcrossSequentialCalls() throws Exception {
+        Set<Integer> clientPorts = ConcurrentHashMap.newKeySet();
+        HttpServer server = startServer(exchange -> clientPorts.add(exchange.getRemoteAddress().getPort()), 200);
+        NotionHttpClient pooled = directClient(0);
+        try {
+            String url = "http://127.0.0.1:" + server.getAddress().getPort() + "/v1/blocks";
+            for (int i = 0; i < 5; i++) {
+                ResponseEntity<String> response = pooled.exchange("test", url, HttpMethod.GET, HttpEntity.EMPTY, String.class);
+                assertEquals("{}", response.getBody());
+            }
+
+            assertEquals(1, clientPorts.size());
+            NotionHttpRouteStatsDTO stats = pooled.stats().get(0);
+            assertEquals("direct", stats.getRoute());
+            assertEquals(5, stats.getRequests());
+            assertEquals(0, stats.getFailures());
+            assertEquals(0, stats.getLeased());
+            assertEquals(1, stats.getAvailable());
+        } finally {
+            pooled.close();
+            server.stop(0);
+        }
+    }
+
+    @Test
+    void exchange_shouldRetryTransientStatusAndCountFailedAttempt() throws Exception {
+        AtomicInteger calls = new AtomicInteger();
+        HttpServer server = startServer(exchange -> calls.incrementAndGet(), 503);
+        NotionHttpClient pooled = directClient(1);
+        try {
+            String url = "http://127.0.0.1:" + server.getAddress().getPort() + "/v1/blocks";
+            ResponseEntity<String> response = pooled.exchange("test", url, HttpMethod.GET, HttpEntity.EMPTY, String.class);
+
+            assertEquals("{}", response.getBody());
+            assertEquals(2, calls.get());
+            NotionHttpRouteStatsDTO stats = pooled.stats().get(0);
+            assertEquals(2, stats.getRequests());
+            assertEquals(1, stats.getFailures());
+        } finally {
+            pooled.close();
+            server.stop(0);
+        }
+    }
+
+    private static NotionHttpClient directClient(int maxRetries) {
+        NotionHttpClient pooled = new NotionHttpClient();
+        ReflectionTestUtils.setField(pooled, "notionNetworkMode", "DIRECT");
+        ReflectionTestUtils.setField(pooled, "notionConnectTimeoutMs", 2000);
+        ReflectionTestUtils.setField(pooled, "notionReadTimeoutMs", 5000);
+        ReflectionTestUtils.setField(pooled, "notionMaxRetries", maxRetries);
+        ReflectionTestUtils.setField(pooled, "notionMaxConnectionsPerRoute", 4);
+        ReflectionTestUtils.setField(pooled, "notionPoolAcquireTimeoutMs", 2000);
+        ReflectionTestUtils.setField(pooled, "notionPoolIdleTimeoutMs", 30000L);
+        ReflectionTestUtils.setField(pooled, "notionPoolConnectionTtlMs", 300000L);
+        return pooled;
+    }
+
+    /**
+     * Answers {@code firstStatus} to the first request and 200 to the rest, always with a {@code {}} body.
+     */
+    private static HttpServer startServer(Consumer<HttpExchange> onRequest, int firstStatus) throws Exception {
+        AtomicInteger served = new AtomicInteger();
+        HttpServer server = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+        server.createContext("/", exchange -> {
+            onRequest.accept(exchange);
+            byte[] body = "{}".getBytes(StandardCharsets.UTF_8);
+            int status = served.getAndIncrement() == 0 ? firstStatus : 200;
+            exchange.getResponseHeaders().add("Content-Type", "application/json");
+            exchange.sendResponseHeaders(status, body.length);
+            try (OutputStream out = exchange.getResponseBody()) {
+                out.write(body);
+            }
+        });
+        server.start();
+        return server;
+    }
 }
@@ -0,0 +1,85 @@
+package com.blog.service.search;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class InvertedIndexTest {
+
+    @Test
+    void tokenizer_shouldSplitLatinWordsAndCjkBigrams() {
+        List<String> query = SearchTokenizer.tokenizeForQuery("Spring Boot 缓存设计");
+
+        assertEquals(List.of("spring", "boot", "缓存", "存设", "设计"), query);
+        assertTrue(SearchTokenizer.tokenizeForIndex("缓存").contains("缓"));
+    }
+
+    @Test
+    void search_shouldRequireAllTermsAndRankByBm25() {
+        InvertedIndex index = new InvertedIndex();
+        index.put(InvertedIndex.analyze(document(1L, 3L, 0, "缓存设计", "本地缓存与一致性")));
+        index.put(InvertedIndex.analyze(document(2L, 3L, 0, "Spring 入门", "顺带提到缓存")));
+        index.put(InvertedIndex.analyze(document(3L, 4L, 0, "数据库索引", "与缓存无关的设计")));
+
+        SearchHits hits = index.search("缓存", SearchFilter.NONE, 0, 10);
+
+        assertEquals(3L, hits.getTotal());
+        assertEquals(1L, hits.getHits().get(0).getArticleId());
+
+        SearchHits phrase = index.search("缓存设计", SearchFilter.NONE, 0, 10);
+        assertEquals(1L, phrase.getTotal());
+    }
+
+    @Test
+    void search_shouldApplyFiltersAndPaging() {
+        InvertedIndex index = new InvertedIndex();
+        index.put(InvertedIndex.analyze(document(1L, 3L, 2, "jvm tuning", "gc notes")));
+        index.put(InvertedIndex.analyze(document(2L, 3L, 0, "jvm memory", "heap notes")));
+        index.put(InvertedIndex.analyze(document(3L, 4L, 0, "jvm threads", "lock notes")));
+
+        SearchHits category = index.search("jvm", new SearchFilter(3L, null, true), 0, 10);
+        assertEquals(1L, category.getTotal());
+        assertEquals(2L, category.getHits().get(0).getArticleId());
+
+        SearchHits secondPage = index.search("jvm", SearchFilter.NONE, 2, 2);
+        assertEquals(3L, secondPage.getTotal());
+        assertEquals(1, secondPage.getHits().size());
+    }
+
+    @Test
+    void remove_shouldDropDocumentFromPostings() {
+        InvertedIndex index = new InvertedIndex();
+        index.put(InvertedIndex.analyze(document(1L, null, 0, "kafka", "stream")));
+
+        index.remove(1L);
+
+        assertEquals(0L, index.search("kafka", SearchFilter.NONE, 0, 10).getTotal());
+        assertEquals(0, index.termCount());
+    }
+
+    @Test
+    void snippet_shouldEscapeHtmlAndMarkMatches() {
+        String snippet = InvertedIndex.snippet("use <b>Redis</b> as cache", Set.of("redis"));
+
+        assertEquals("use &lt;b&gt;<mark>Redis</mark>&lt;/b&gt; as cache", snippet);
+        assertNull(InvertedIndex.snippet("nothing here", Set.of("redis")));
+    }
+
+    private static SearchDocument document(Long id, Long categoryId, int featuredLevel, String title, String content) {
+        return new SearchDocument(
+                id,
+                categoryId,
+                featuredLevel,
+                LocalDateTime.of(2026, 3, 1, 8, 0).plusDays(id),
+                title,
+                null,
+                content
+        );
+    }
+}
@@ -0,0 +1,53 @@
+package com.blog.web;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class UploadFileServerTest {
+
+    private static final String SHA256 = "9f86d081884c7d659a2feaa0c55ad015a3bf4f1b2b0b822cd15d6c15b0f00a08";
+
+    @Test
+    void isContentAddressed_shouldAcceptHashedOriginalsAndVariantsOnly() {
+        assertTrue(UploadFileServer.isContentAddressed(SHA256 + ".jpg"));
+        assertTrue(UploadFileServer.isContentAddressed(SHA256 + "-thumb-0123456789abcdef.jpg"));
+        assertTrue(UploadFileServer.isContentAddressed("0123456789abcdef0123456789abcdef.png"));
+        assertFalse(UploadFileServer.isContentAddressed(SHA256 + "-thumb.jpg"));
+        assertFalse(UploadFileServer.isContentAddressed("avatar.jpg"));
+    }
+
+    @Test
+    void resolve_shouldRejectEscapingAndHiddenPaths() {
+        assertTrue(UploadFileServer.resolve("cover-materials/" + SHA256 + ".jpg").endsWith(SHA256 + ".jpg"));
+        assertNull(UploadFileServer.resolve("../application.yml"));
+        assertNull(UploadFileServer.resolve("cover-materials/.upload-abc"));
+        assertNull(UploadFileServer.resolve(""));
+    }
+
+    @Test
+    void parseRange_shouldHandleSingleRangesOnly() {
+        UploadFileServer.ByteRange head = UploadFileServer.ByteRange.parse("bytes=0-99", 1000);
+        assertEquals(0L, head.start);
+        assertEquals(100L, head.length());
+
+        UploadFileServer.ByteRange open = UploadFileServer.ByteRange.parse("bytes=900-", 1000);
+        assertEquals(900L, open.start);
+        assertEquals(999L, open.end);
+
+        UploadFileServer.ByteRange suffix = UploadFileServer.ByteRange.parse("bytes=-5000", 1000);
+        assertEquals(0L, suffix.start);
+        assertEquals(999L, suffix.end);
+
+        assertEquals(999L, UploadFileServer.ByteRange.parse("bytes=10-5000", 1000).end);
+        assertSame(UploadFileServer.ByteRange.UNSATISFIABLE, UploadFileServer.ByteRange.parse("bytes=1000-", 1000));
+        assertNull(UploadFileServer.ByteRange.parse("bytes=0-1,5-9", 1000));
+        assertNull(UploadFileServer.ByteRange.parse("bytes=9-1", 1000));
+        assertNull(UploadFileServer.ByteRange.parse("items=0-1", 1000));
+        assertNull(UploadFileServer.ByteRange.parse(null, 1000));
+    }
+}